@@ -0,0 +1,365 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.cache.PublishingCaches;
+import io.github.agnistack.publishing.concurrent.PublishingExecutors;
+import io.github.agnistack.publishing.engine.ProjectFailedException;
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.parser.CachingPomParser;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import io.github.agnistack.publishing.parser.DocumentBuilderPool;
+import io.github.agnistack.publishing.parser.PomParser;
+import io.github.agnistack.publishing.parser.ResolvingPomParser;
+import io.github.agnistack.publishing.processor.CachingFileProcessor;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Base class for goals that work on the custom artifact projects in {@code bomProjectsDirectory}.
+ *
+ * <p>Holds the parameters shared by these goals, the skip rules and the executor setup. Goals are thread-safe:
+ * all state lives in the mojo instance of an execution or in concurrent caches, and files an execution writes
+ * while working go to a directory of its own.
+ *
+ * @since 0.3.0
+ */
+public abstract class AbstractCustomArtifactMojo extends AbstractMojo {
+
+  @Parameter(defaultValue = "${session}", readonly = true)
+  protected MavenSession mavenSession;
+
+  @Parameter(defaultValue = "${project}", readonly = true)
+  protected MavenProject project;
+
+  @Parameter(defaultValue = "${project.artifactId}", readonly = true)
+  protected String currentArtifactId;
+
+  @Parameter(property = "bomProjectsDirectory", required = true)
+  protected File bomProjectsDirectory;
+
+  @Parameter(property = "bomProjects", required = true)
+  protected List<String> bomProjects;
+
+  @Parameter(property = "skipBomPublishing", defaultValue = "false")
+  protected boolean skip;
+
+  @Parameter(property = "includeJar", defaultValue = "false")
+  protected boolean includeJar;
+
+  @Parameter(property = "includeSources", defaultValue = "false")
+  protected boolean includeSources;
+
+  @Parameter(property = "includeJavadoc", defaultValue = "false")
+  protected boolean includeJavadoc;
+
+  @Parameter(property = "publishingThreads", defaultValue = "0")
+  protected int publishingThreads;
+
+  @Parameter(property = "virtualThreads", defaultValue = "true")
+  protected boolean virtualThreads;
+
+  @Parameter(property = "resolvePomProperties", defaultValue = "false")
+  protected boolean resolvePomProperties;
+
+  @Parameter(property = "sessionCaches", defaultValue = "true")
+  protected boolean sessionCaches;
+
+  @Parameter(property = "parallelDigestThreshold", defaultValue = "67108864")
+  protected long parallelDigestThreshold;
+
+  @Parameter(property = "preparedDirectory", defaultValue = "${project.build.directory}/custom-publishing/prepared")
+  protected File preparedDirectory;
+
+  @Component
+  private PublishingCaches publishingCaches;
+
+  private PublishingCaches.Snapshot cacheBaseline;
+
+  /**
+   * Maximum number of concurrent tasks, set by {@link #createExecutor()}.
+   */
+  protected int concurrency;
+
+  /**
+   * Applies the skip rules and validates the project list.
+   *
+   * @return true if the goal should do nothing
+   * @throws MojoExecutionException if no projects are configured
+   */
+  protected boolean shouldSkip() throws MojoExecutionException {
+    if (skip) {
+      getLog().info("Skipping custom artifact publishing (skip=true)");
+      return true;
+    }
+
+    if (bomProjects != null && bomProjects.contains(currentArtifactId)) {
+      getLog().debug("Skipping publishing - running on generated artifact: " + currentArtifactId);
+      return true;
+    }
+
+    if (!bomProjectsDirectory.exists() || !bomProjectsDirectory.isDirectory()) {
+      getLog().debug("Skipping publishing - directory does not exist: " + bomProjectsDirectory);
+      return true;
+    }
+
+    // Validate inputs
+    if (bomProjects == null || bomProjects.isEmpty()) {
+      throw new MojoExecutionException("No artifacts specified. Please provide bomProjects list.");
+    }
+    return false;
+  }
+
+  /**
+   * Creates the executor for blocking work and sets {@link #concurrency}.
+   *
+   * @return the executor, to be shut down by the caller
+   */
+  protected ExecutorService createExecutor() {
+    boolean useVirtualThreads = virtualThreads && PublishingExecutors.supportsVirtualThreads();
+    concurrency = publishingThreads > 0
+        ? publishingThreads
+        : PublishingExecutors.defaultConcurrency(useVirtualThreads);
+    getLog().info("Using up to " + concurrency + " concurrent task(s) on "
+        + (useVirtualThreads ? "virtual" : "platform") + " threads");
+
+    return PublishingExecutors.newIoExecutor("custom-publishing", concurrency, useVirtualThreads);
+  }
+
+  /**
+   * Creates the POM parser selected by {@code resolvePomProperties}, backed by the session caches
+   * unless {@code sessionCaches} is disabled.
+   *
+   * @return a parser that interpolates properties and follows local parents, or the literal parser
+   * @throws IOException if the cache key of the parser cannot be computed
+   */
+  protected PomParser createPomParser() throws IOException {
+    DocumentBuilderPool documentBuilders = sessionCaches ? publishingCaches.getDocumentBuilders() : null;
+    PomParser parser;
+    String namespace;
+    if (resolvePomProperties) {
+      ResolvingPomParser resolvingParser = new ResolvingPomParser(mavenSession.getUserProperties(), documentBuilders);
+      parser = resolvingParser;
+      namespace = resolvingParser.getCacheNamespace();
+    } else {
+      parser = new DefaultPomParser(documentBuilders);
+      namespace = "literal";
+    }
+    return sessionCaches ? new CachingPomParser(parser, publishingCaches.getPomCoordinates(), namespace) : parser;
+  }
+
+  /**
+   * Backs a file processor with the session checksum cache unless {@code sessionCaches} is disabled.
+   *
+   * @param fileProcessor the file processor
+   * @return the possibly caching file processor
+   */
+  protected FileProcessor withSessionCaches(FileProcessor fileProcessor) {
+    return sessionCaches ? new CachingFileProcessor(fileProcessor, publishingCaches.getDigests()) : fileProcessor;
+  }
+
+  /**
+   * Starts counting session cache lookups for {@link #logCacheStatistics()}.
+   */
+  protected void startCacheStatistics() {
+    if (sessionCaches) {
+      cacheBaseline = publishingCaches.snapshot();
+    }
+  }
+
+  /**
+   * Logs the session cache hit rates since {@link #startCacheStatistics()}.
+   */
+  protected void logCacheStatistics() {
+    if (cacheBaseline == null) {
+      return;
+    }
+    PublishingCaches.Snapshot run = publishingCaches.snapshot().since(cacheBaseline);
+    getLog().info("Session caches: POM coordinates " + run.getPomCoordinates());
+    getLog().info("Session caches: checksums " + run.getDigests());
+    getLog().debug("Session caches: " + publishingCaches.getDocumentBuilders().describe());
+  }
+
+  /**
+   * Returns the log of this goal for the engine, services and file processors.
+   */
+  protected PublishingLog getPublishingLog() {
+    return new MavenPublishingLog(getLog());
+  }
+
+  /**
+   * Returns the {@code pom.xml} of every configured project.
+   *
+   * @return the POM files, in {@code bomProjects} order
+   * @throws MojoExecutionException if a project directory or its POM is missing
+   */
+  protected List<File> resolvePomFiles() throws MojoExecutionException {
+    return resolvePomFiles(null);
+  }
+
+  /**
+   * Returns the {@code pom.xml} of every configured project, leaving out and recording the projects whose
+   * directory or POM is missing if {@code failures} is given.
+   *
+   * @param failures the list to add missing projects to, or {@code null} to fail on the first one
+   * @return the POM files found, in {@code bomProjects} order
+   * @throws MojoExecutionException if a project directory or its POM is missing and {@code failures} is null
+   */
+  protected List<File> resolvePomFiles(List<ProjectFailedException> failures) throws MojoExecutionException {
+    return resolvePomFiles(bomProjects, failures);
+  }
+
+  /**
+   * Returns the {@code pom.xml} of each of the given projects, leaving out and recording the projects whose
+   * directory or POM is missing if {@code failures} is given.
+   *
+   * @param projects the project directories, relative to {@code bomProjectsDirectory}
+   * @param failures the list to add missing projects to, or {@code null} to fail on the first one
+   * @return the POM files found, in the order of {@code projects}
+   * @throws MojoExecutionException if a project directory or its POM is missing and {@code failures} is null
+   */
+  protected List<File> resolvePomFiles(List<String> projects, List<ProjectFailedException> failures)
+      throws MojoExecutionException {
+    List<File> pomFiles = new ArrayList<>(projects.size());
+    for (String bomProject : projects) {
+      File artifactDir = new File(bomProjectsDirectory, bomProject);
+      String missing = null;
+      File pomFile = new File(artifactDir, "pom.xml");
+      if (!artifactDir.exists() || !artifactDir.isDirectory()) {
+        missing = "Artifact directory not found: " + artifactDir;
+      } else if (!pomFile.exists()) {
+        missing = "pom.xml not found in: " + artifactDir;
+      }
+
+      if (missing == null) {
+        pomFiles.add(pomFile);
+      } else if (failures != null) {
+        failures.add(new ProjectFailedException(bomProject, ProjectFailedException.Phase.RESOLVE, missing));
+      } else {
+        throw new MojoExecutionException(missing);
+      }
+    }
+    return pomFiles;
+  }
+
+  /**
+   * Returns the working directory of the plugin under the build directory of the current project.
+   *
+   * @return the {@code custom-publishing} directory
+   */
+  protected File getCustomPublishingDirectory() {
+    File buildDir = new File(project.getBuild().getDirectory());
+    return new File(buildDir, "custom-publishing");
+  }
+
+  /**
+   * Creates a directory under {@link #getCustomPublishingDirectory()} that belongs to this execution only.
+   *
+   * @return the new, empty directory, to be removed with {@link #deleteWorkDirectory(File)}
+   * @throws IOException if the directory cannot be created
+   */
+  protected File createWorkDirectory() throws IOException {
+    return createWorkDirectory(getCustomPublishingDirectory());
+  }
+
+  /**
+   * Creates a directory under the given parent that belongs to this execution only.
+   *
+   * @param parent the directory holding the final files, so that they can be moved into place atomically
+   * @return the new, empty directory, to be removed with {@link #deleteWorkDirectory(File, Log)}
+   * @throws IOException if the directory cannot be created
+   */
+  static File createWorkDirectory(File parent) throws IOException {
+    Files.createDirectories(parent.toPath());
+    return Files.createTempDirectory(parent.toPath(), "work-").toFile();
+  }
+
+  /**
+   * Moves a file finished in the work directory to its final location, replacing an earlier file so that
+   * readers see either the old or the new file.
+   *
+   * @param source the finished file
+   * @param target the final location
+   * @throws IOException if the file cannot be moved
+   */
+  protected static void moveIntoPlace(File source, File target) throws IOException {
+    try {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Deletes a work directory and everything left in it.
+   *
+   * @param workDirectory the directory created by {@link #createWorkDirectory()}
+   */
+  protected void deleteWorkDirectory(File workDirectory) {
+    deleteWorkDirectory(workDirectory, getLog());
+  }
+
+  /**
+   * Deletes a work directory and everything left in it, warning on the given log if that fails.
+   */
+  static void deleteWorkDirectory(File workDirectory, Log log) {
+    try (Stream<Path> paths = Files.walk(workDirectory.toPath())) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      log.warn("Failed to delete work directory: " + workDirectory, e);
+    }
+  }
+
+  /**
+   * Moves a bundle left behind by a failed run to its final name, so it can be inspected.
+   *
+   * @param workBundle the bundle in the work directory, ignored if it does not exist
+   * @param bundleFile the final location
+   * @param log        the log to warn if the bundle cannot be moved
+   */
+  static void keepFailedBundle(File workBundle, File bundleFile, Log log) {
+    if (!workBundle.isFile()) {
+      return;
+    }
+    try {
+      moveIntoPlace(workBundle, bundleFile);
+    } catch (IOException e) {
+      log.warn("Failed to keep bundle of failed run at " + bundleFile, e);
+    }
+  }
+}
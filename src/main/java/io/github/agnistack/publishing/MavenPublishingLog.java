@@ -0,0 +1,68 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.log.PublishingLog;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Adapts the log of a goal to the {@link PublishingLog} of the engine, services and file processors.
+ */
+final class MavenPublishingLog implements PublishingLog {
+
+  private final Log log;
+
+  MavenPublishingLog(Log log) {
+    this.log = log;
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return log.isDebugEnabled();
+  }
+
+  @Override
+  public void debug(CharSequence message) {
+    log.debug(message);
+  }
+
+  @Override
+  public void info(CharSequence message) {
+    log.info(message);
+  }
+
+  @Override
+  public void warn(CharSequence message, Throwable error) {
+    if (error == null) {
+      log.warn(message);
+    } else {
+      log.warn(message, error);
+    }
+  }
+
+  @Override
+  public void error(CharSequence message, Throwable error) {
+    if (error == null) {
+      log.error(message);
+    } else {
+      log.error(message, error);
+    }
+  }
+}
@@ -0,0 +1,274 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.bundle.BundleMerger;
+import io.github.agnistack.publishing.concurrent.PublishingExecutors;
+import io.github.agnistack.publishing.service.CentralUploadService;
+import io.github.agnistack.publishing.validation.BundleValidator;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
+import io.github.agnistack.publishing.validation.ValidationReport;
+import io.github.agnistack.publishing.validation.Violation;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.settings.Server;
+import org.sonatype.central.publisher.plugin.config.PlexusContextConfig;
+import org.sonatype.central.publisher.plugin.model.WaitUntilRequest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.sonatype.central.publisher.plugin.Constants.*;
+
+/**
+ * Merges the partial bundles written by sharded {@code publish-custom} executions into one deployment
+ * bundle and uploads it to Maven Central.
+ *
+ * <p>Compressed entries are copied as-is, so merging does not inflate or re-deflate any artifact.
+ * Duplicate entry paths across partial bundles fail the merge. The merged bundle gets the same pre-flight
+ * validation as a bundle written by {@code publish-custom} before it is uploaded.
+ *
+ * @since 0.3.0
+ */
+@Mojo(name = "merge-bundles", defaultPhase = LifecyclePhase.DEPLOY, threadSafe = true)
+public class MergeBundlesMojo extends AbstractMojo {
+
+  private static final Pattern SHARD_BUNDLE_NAME =
+      Pattern.compile("custom-deployment-bundle-shard-(\\d+)-of-(\\d+)\\.zip");
+
+  @Parameter(defaultValue = "${session}", readonly = true)
+  private MavenSession mavenSession;
+
+  @Parameter(property = "skipBomPublishing", defaultValue = "false")
+  private boolean skip;
+
+  /**
+   * Partial bundles to merge, in order. When empty, all shard bundles in {@code partialBundlesDirectory}
+   * are merged.
+   */
+  @Parameter(property = "partialBundles")
+  private List<File> partialBundles;
+
+  @Parameter(property = "partialBundlesDirectory",
+      defaultValue = "${project.build.directory}/custom-publishing")
+  private File partialBundlesDirectory;
+
+  @Parameter(property = "mergedBundle",
+      defaultValue = "${project.build.directory}/custom-publishing/custom-deployment-bundle.zip")
+  private File mergedBundle;
+
+  @Parameter(property = "skipUpload", defaultValue = "false")
+  private boolean skipUpload;
+
+  @Parameter(property = "skipPreflightValidation", defaultValue = "false")
+  private boolean skipPreflightValidation;
+
+  @Parameter(property = "skipGpgSign", defaultValue = "false")
+  private boolean skipGpgSign;
+
+  @Parameter(property = "gpgExecutable", defaultValue = "gpg")
+  private String gpgExecutable;
+
+  @Parameter(property = "publishingThreads", defaultValue = "0")
+  private int publishingThreads;
+
+  @Parameter(defaultValue = PUBLISHING_SERVER_ID_DEFAULT_VALUE)
+  private String publishingServerId;
+
+  @Parameter(property = "centralBaseUrl", defaultValue = CENTRAL_BASE_URL_DEFAULT_VALUE)
+  private String centralBaseUrl;
+
+  @Parameter(defaultValue = AUTO_PUBLISH_DEFAULT_VALUE)
+  private boolean autoPublish;
+
+  @Parameter(defaultValue = "${project.groupId}:${project.artifactId}:${project.version}")
+  private String deploymentName;
+
+  @Parameter(defaultValue = "true")
+  private boolean tokenAuth;
+
+  @Parameter(defaultValue = "VALIDATED")
+  private String waitUntil;
+
+  @Parameter(defaultValue = WAIT_MAX_TIME_DEFAULT_VALUE)
+  private int waitMaxTime;
+
+  @Parameter(defaultValue = WAIT_POLLING_INTERVAL_DEFAULT_VALUE)
+  private int waitPollingInterval;
+
+  @Component
+  private PlexusContextConfig plexusContextConfig;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (skip) {
+      getLog().info("Skipping custom artifact publishing (skip=true)");
+      return;
+    }
+
+    CentralUploadService uploadService = null;
+    WaitUntilRequest waitUntilRequest = null;
+    if (!skipUpload) {
+      Server server = mavenSession.getSettings().getServer(publishingServerId);
+      if (server == null) {
+        throw new MojoExecutionException("Server configuration not found for id: " + publishingServerId);
+      }
+      try {
+        waitUntilRequest = CentralUploadService.parseWaitUntil(waitUntil, autoPublish);
+      } catch (IllegalArgumentException e) {
+        throw new MojoExecutionException(e.getMessage(), e);
+      }
+      uploadService = new CentralUploadService(new MavenPublishingLog(getLog()));
+      uploadService.configure(centralBaseUrl, server.getUsername(), server.getPassword(), tokenAuth);
+    }
+
+    List<File> parts = partialBundles == null || partialBundles.isEmpty()
+        ? findShardBundles()
+        : partialBundles;
+    for (File part : parts) {
+      if (!part.isFile()) {
+        throw new MojoExecutionException("Partial bundle not found: " + part);
+      }
+    }
+
+    getLog().info("Merging " + parts.size() + " partial bundle(s) into " + mergedBundle);
+    // Merged, validated and uploaded in a work directory next to the merged bundle, then moved into place
+    File workDirectory;
+    try {
+      workDirectory = AbstractCustomArtifactMojo.createWorkDirectory(mergedBundle.getAbsoluteFile().getParentFile());
+    } catch (IOException e) {
+      throw new MojoExecutionException("Failed to create work directory: " + e.getMessage(), e);
+    }
+    File workBundle = new File(workDirectory, mergedBundle.getName());
+    try {
+      long start = System.currentTimeMillis();
+      try {
+        int entries = new BundleMerger().merge(parts, workBundle);
+        getLog().info("Merged " + entries + " entries (" + workBundle.length() + " bytes) in "
+            + (System.currentTimeMillis() - start) + " ms");
+      } catch (IOException e) {
+        throw new MojoExecutionException("Failed to merge partial bundles: " + e.getMessage(), e);
+      }
+      validateMergedBundle(workBundle);
+
+      if (uploadService != null) {
+        uploadService.upload(workBundle, deploymentName, autoPublish, centralBaseUrl, waitUntilRequest,
+            waitMaxTime, waitPollingInterval);
+      }
+      try {
+        AbstractCustomArtifactMojo.moveIntoPlace(workBundle, mergedBundle);
+      } catch (IOException e) {
+        throw new MojoExecutionException("Failed to move merged bundle to " + mergedBundle + ": " + e.getMessage(),
+            e);
+      }
+    } finally {
+      AbstractCustomArtifactMojo.keepFailedBundle(workBundle, mergedBundle, getLog());
+      AbstractCustomArtifactMojo.deleteWorkDirectory(workDirectory, getLog());
+    }
+
+    if (uploadService == null) {
+      getLog().info("Skipping upload (skipUpload=true), merged bundle is at: " + mergedBundle.getAbsolutePath());
+      return;
+    }
+    getLog().info("All " + parts.size() + " partial bundle(s) uploaded in a single deployment");
+  }
+
+  /**
+   * Validates the merged bundle, which no shard has seen as a whole, unless {@code skipPreflightValidation} is set.
+   */
+  private void validateMergedBundle(File bundle) throws MojoExecutionException {
+    if (skipPreflightValidation) {
+      getLog().info("Skipping pre-flight validation (skipPreflightValidation=true)");
+      return;
+    }
+
+    int concurrency = publishingThreads > 0 ? publishingThreads : PublishingExecutors.defaultConcurrency(false);
+    ExecutorService executor = PublishingExecutors.newIoExecutor("merge-bundles", concurrency, false);
+    long start = System.currentTimeMillis();
+    ValidationReport report;
+    try {
+      GpgSignatureVerifier signatureVerifier = skipGpgSign ? null : new GpgSignatureVerifier(gpgExecutable);
+      report = new BundleValidator(!skipGpgSign, signatureVerifier, executor, concurrency).validate(bundle);
+    } catch (IOException e) {
+      throw new MojoExecutionException("Failed to validate merged bundle: " + e.getMessage(), e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (Violation warning : report.getWarnings()) {
+      getLog().warn("Pre-flight validation: " + warning);
+    }
+    if (!report.isValid()) {
+      throw new MojoExecutionException("Pre-flight validation failed, merged bundle was not uploaded: " + report);
+    }
+    getLog().info("Pre-flight validation of " + report.getComponentCount() + " component(s) passed in "
+        + (System.currentTimeMillis() - start) + " ms");
+  }
+
+  /**
+   * Finds the shard bundles in {@code partialBundlesDirectory} and checks that every shard is present.
+   */
+  private List<File> findShardBundles() throws MojoExecutionException {
+    File[] files = partialBundlesDirectory.listFiles();
+    TreeMap<Integer, File> shards = new TreeMap<>();
+    int shardCount = -1;
+    if (files != null) {
+      for (File file : files) {
+        Matcher matcher = SHARD_BUNDLE_NAME.matcher(file.getName());
+        if (!matcher.matches()) {
+          continue;
+        }
+        int count = Integer.parseInt(matcher.group(2));
+        if (shardCount != -1 && shardCount != count) {
+          throw new MojoExecutionException("Shard bundles with different shard counts found in "
+              + partialBundlesDirectory + ": " + shardCount + " and " + count);
+        }
+        shardCount = count;
+        shards.put(Integer.parseInt(matcher.group(1)), file);
+      }
+    }
+
+    if (shards.isEmpty()) {
+      throw new MojoExecutionException("No shard bundles found in " + partialBundlesDirectory);
+    }
+    List<Integer> missing = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++) {
+      if (!shards.containsKey(i)) {
+        missing.add(i);
+      }
+    }
+    if (!missing.isEmpty()) {
+      throw new MojoExecutionException("Missing shard bundle(s) " + missing + " of " + shardCount
+          + " in " + partialBundlesDirectory);
+    }
+    return new ArrayList<>(shards.values());
+  }
+}
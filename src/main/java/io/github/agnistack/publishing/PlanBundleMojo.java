@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.plan.BundlePlan;
+import io.github.agnistack.publishing.plan.BundlePlanner;
+import io.github.agnistack.publishing.plan.PlannedEntry;
+import io.github.agnistack.publishing.plan.PlannedProject;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Mojo to plan a deployment bundle without building it.
+ *
+ * <p>Parses and collects all projects in parallel and writes a JSON manifest of every bundle entry with
+ * its size and whether its source file is missing. Nothing is written to a bundle, signed, hashed or uploaded.
+ *
+ * @since 0.3.0
+ */
+@Mojo(name = "plan", threadSafe = true)
+public class PlanBundleMojo extends AbstractCustomArtifactMojo {
+
+  @Parameter(property = "planOutputFile", defaultValue = "${project.build.directory}/custom-publishing/bundle-plan.json")
+  private File planOutputFile;
+
+  @Parameter(property = "skipGpgSign", defaultValue = "false")
+  private boolean skipGpgSign;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (shouldSkip()) {
+      return;
+    }
+
+    long start = System.currentTimeMillis();
+    List<File> projectDirs = new ArrayList<>(bomProjects.size());
+    for (String bomProject : bomProjects) {
+      projectDirs.add(new File(bomProjectsDirectory, bomProject));
+    }
+
+    startCacheStatistics();
+    BundlePlan plan;
+    ExecutorService executor = createExecutor();
+    try {
+      BundlePlanner planner = new BundlePlanner(createPomParser(),
+          new ArtifactCollector(includeJar, includeSources, includeJavadoc), !skipGpgSign);
+      plan = planner.plan(projectDirs, executor, concurrency);
+    } catch (IOException e) {
+      throw new MojoExecutionException("Failed to plan deployment bundle", e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    report(plan);
+    writePlan(plan);
+    logCacheStatistics();
+
+    getLog().info("Planned " + plan.getEntryCount() + " bundle entries (" + plan.getKnownSize()
+        + " bytes excluding signatures) for " + plan.getProjects().size() + " project(s) in "
+        + (System.currentTimeMillis() - start) + " ms");
+  }
+
+  private void report(BundlePlan plan) {
+    for (PlannedProject project : plan.getProjects()) {
+      if (project.getError() != null) {
+        getLog().warn(project.getName() + ": " + project.getError());
+        continue;
+      }
+
+      getLog().info(project.getName() + ": " + project.getCoordinates() + " (" + project.getEntries().size()
+          + " entries)");
+      for (PlannedEntry entry : project.getEntries()) {
+        if (entry.isMissing()) {
+          getLog().warn("  Missing " + entry.getType() + ": " + entry.getPath());
+        } else {
+          getLog().debug("  " + entry);
+        }
+      }
+    }
+
+    if (plan.getMissingCount() > 0 || plan.getFailedCount() > 0) {
+      getLog().warn(plan.getMissingCount() + " missing file(s), " + plan.getFailedCount()
+          + " project(s) that could not be planned");
+    }
+  }
+
+  private void writePlan(BundlePlan plan) throws MojoExecutionException {
+    try {
+      File parentDir = planOutputFile.getParentFile();
+      if (parentDir != null) {
+        Files.createDirectories(parentDir.toPath());
+      }
+      try (Writer writer = Files.newBufferedWriter(planOutputFile.toPath(), StandardCharsets.UTF_8)) {
+        plan.writeJson(writer);
+      }
+    } catch (IOException e) {
+      throw new MojoExecutionException("Failed to write bundle plan: " + planOutputFile, e);
+    }
+    getLog().info("Bundle plan written to: " + planOutputFile.getAbsolutePath());
+  }
+}
@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.processor.DefaultFileProcessor;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import io.github.agnistack.publishing.service.PreparationService;
+import io.github.agnistack.publishing.sidecar.SidecarStore;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Computes checksums and signatures of the custom artifacts as soon as they are packaged and stores them in
+ * {@code preparedDirectory}, so that {@code publish-custom} only has to assemble the bundle.
+ *
+ * <p>Bound to {@code package}, the work runs while the rest of a parallel reactor is still building.
+ * {@code publish-custom} uses a prepared checksum or signature only while the size and modification time of
+ * its file are unchanged.
+ *
+ * @since 0.3.0
+ */
+@Mojo(name = "prepare-custom", defaultPhase = LifecyclePhase.PACKAGE, threadSafe = true)
+public class PrepareCustomArtifactMojo extends AbstractCustomArtifactMojo {
+
+  @Parameter(property = "gpgExecutable", defaultValue = "gpg")
+  private String gpgExecutable;
+
+  @Parameter(property = "gpg.passphrase")
+  private String gpgPassphrase;
+
+  @Parameter(property = "skipGpgSign", defaultValue = "false")
+  private boolean skipGpgSign;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (shouldSkip()) {
+      return;
+    }
+
+    List<File> pomFiles = resolvePomFiles();
+    getLog().info("Preparing checksums and signatures for " + pomFiles.size() + " project(s) in " + preparedDirectory);
+
+    long start = System.currentTimeMillis();
+    startCacheStatistics();
+    ExecutorService executor = createExecutor();
+    File workDirectory = null;
+    try {
+      workDirectory = createWorkDirectory();
+      DefaultFileProcessor signer = new DefaultFileProcessor(gpgExecutable, gpgPassphrase, skipGpgSign,
+          workDirectory, getPublishingLog());
+      signer.setParallelDigestThreshold(parallelDigestThreshold);
+      signer.setDigestExecutor(executor);
+      FileProcessor fileProcessor = withSessionCaches(signer);
+      PreparationService preparationService = new PreparationService(createPomParser(),
+          new ArtifactCollector(includeJar, includeSources, includeJavadoc), fileProcessor,
+          new SidecarStore(preparedDirectory, bomProjectsDirectory), getPublishingLog());
+
+      int prepared = preparationService.prepareArtifacts(pomFiles, executor, concurrency);
+      logCacheStatistics();
+      getLog().info("Prepared checksums and signatures of " + prepared + " new or changed file(s) in "
+          + (System.currentTimeMillis() - start) + " ms");
+    } catch (IOException e) {
+      throw new MojoExecutionException("Failed to prepare checksums and signatures", e);
+    } finally {
+      executor.shutdownNow();
+      if (workDirectory != null) {
+        deleteWorkDirectory(workDirectory);
+      }
+    }
+  }
+}
@@ -20,15 +20,33 @@
 package io.github.agnistack.publishing;
 
 import io.github.agnistack.publishing.bundle.BundleBuilder;
+import io.github.agnistack.publishing.bundle.BundleSegmentCache;
+import io.github.agnistack.publishing.bundle.InMemoryBundleBuilder;
+import io.github.agnistack.publishing.bundle.SegmentedBundleBuilder;
 import io.github.agnistack.publishing.bundle.ZipBundleBuilder;
 import io.github.agnistack.publishing.collector.ArtifactCollector;
-import io.github.agnistack.publishing.parser.DefaultPomParser;
+import io.github.agnistack.publishing.engine.BuiltBundle;
+import io.github.agnistack.publishing.engine.BundleBuilderFactory;
+import io.github.agnistack.publishing.engine.BundleValidationException;
+import io.github.agnistack.publishing.engine.FailureMode;
+import io.github.agnistack.publishing.engine.LogVerbosity;
+import io.github.agnistack.publishing.engine.ProjectFailedException;
+import io.github.agnistack.publishing.engine.ProgressReporter;
+import io.github.agnistack.publishing.engine.PublishingConfig;
+import io.github.agnistack.publishing.engine.PublishingEngine;
+import io.github.agnistack.publishing.engine.PublishingFailuresException;
 import io.github.agnistack.publishing.parser.PomParser;
+import io.github.agnistack.publishing.processor.AgentFileProcessor;
 import io.github.agnistack.publishing.processor.DefaultFileProcessor;
 import io.github.agnistack.publishing.processor.FileProcessor;
+import io.github.agnistack.publishing.processor.SidecarFileProcessor;
+import io.github.agnistack.publishing.service.CentralUploadService;
 import io.github.agnistack.publishing.service.DeploymentService;
-import org.apache.maven.execution.MavenSession;
-import org.apache.maven.plugin.AbstractMojo;
+import io.github.agnistack.publishing.sidecar.SidecarStore;
+import io.github.agnistack.publishing.transform.PomTransformer;
+import io.github.agnistack.publishing.validation.BundleValidator;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
+import io.github.agnistack.publishing.validation.ValidationReport;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
@@ -36,23 +54,18 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.settings.Server;
-import org.sonatype.central.publisher.client.PublisherClient;
-import org.sonatype.central.publisher.client.model.PublishingType;
 import org.sonatype.central.publisher.plugin.config.PlexusContextConfig;
-import org.sonatype.central.publisher.plugin.model.UploadArtifactRequest;
-import org.sonatype.central.publisher.plugin.model.WaitForDeploymentStateRequest;
 import org.sonatype.central.publisher.plugin.model.WaitUntilRequest;
-import org.sonatype.central.publisher.plugin.uploader.ArtifactUploader;
-import org.sonatype.central.publisher.plugin.watcher.DeploymentPublishedWatcher;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
-import static org.sonatype.central.publisher.client.PublisherConstants.DEFAULT_ORGANIZATION_ID;
-import static org.sonatype.central.publisher.client.httpclient.auth.AuthProviderType.BASIC;
-import static org.sonatype.central.publisher.client.httpclient.auth.AuthProviderType.USERTOKEN;
 import static org.sonatype.central.publisher.plugin.Constants.*;
 
 /**
@@ -66,16 +79,32 @@ import static org.sonatype.central.publisher.plugin.Constants.*;
  *   <li>Bundle building ({@link BundleBuilder})</li>
  *   <li>Deployment orchestration ({@link DeploymentService})</li>
  * </ul>
+ * The stages run on a {@link PublishingEngine}, which is independent of Maven; this goal only resolves the
+ * parameters, the work directory and the credentials and adapts its results to the build.
+ *
+ * <p>With {@code shardCount} greater than one, only every {@code shardCount}-th project starting at
+ * {@code shardIndex} is bundled and the partial bundle is left for the {@code merge-bundles} goal
+ * instead of being uploaded.
+ *
+ * <p>The goal is thread-safe for parallel builds ({@code -T}): the bundle and signatures are written to a work
+ * directory of the execution, the bundle is moved to its final name when done, and each execution uses a
+ * publisher client of its own.
+ *
+ * <p>Deployments whose estimated bundle size is below {@code inMemoryBundleThreshold} are built, checksummed,
+ * signed, validated and uploaded entirely in memory, without a bundle or signature file on disk.
+ *
+ * <p>With {@code failureMode} set to {@code COLLECT} or {@code FAIL_AT_END}, every project is processed and all
+ * failed projects are reported together, either instead of uploading or after uploading the healthy ones.
  *
  * @since 0.1.0
  */
-@Mojo(name = "publish-custom", defaultPhase = LifecyclePhase.DEPLOY)
-public class PublishCustomArtifactMojo extends AbstractMojo {
+@Mojo(name = "publish-custom", defaultPhase = LifecyclePhase.DEPLOY, threadSafe = true)
+public class PublishCustomArtifactMojo extends AbstractCustomArtifactMojo {
 
   @Parameter(defaultValue = PUBLISHING_SERVER_ID_DEFAULT_VALUE)
   private String publishingServerId;
 
-  @Parameter(defaultValue = CENTRAL_BASE_URL_DEFAULT_VALUE)
+  @Parameter(property = "centralBaseUrl", defaultValue = CENTRAL_BASE_URL_DEFAULT_VALUE)
   private String centralBaseUrl;
 
   @Parameter(defaultValue = AUTO_PUBLISH_DEFAULT_VALUE)
@@ -96,30 +125,9 @@ public class PublishCustomArtifactMojo extends AbstractMojo {
   @Parameter(defaultValue = WAIT_POLLING_INTERVAL_DEFAULT_VALUE)
   private int waitPollingInterval;
 
-  @Parameter(defaultValue = "${session}", readonly = true)
-  private MavenSession mavenSession;
-
-  @Parameter(defaultValue = "${project.artifactId}", readonly = true)
-  private String currentArtifactId;
-
   @Component
   private PlexusContextConfig plexusContextConfig;
 
-  @Component
-  private ArtifactUploader artifactUploader;
-
-  @Component
-  private DeploymentPublishedWatcher deploymentPublishedWatcher;
-
-  @Component
-  private PublisherClient publisherClient;
-
-  @Parameter(property = "bomProjectsDirectory", required = true)
-  private File bomProjectsDirectory;
-
-  @Parameter(property = "bomProjects", required = true)
-  private List<String> bomProjects;
-
   @Parameter(property = "gpgExecutable", defaultValue = "gpg")
   private String gpgExecutable;
 
@@ -129,154 +137,412 @@ public class PublishCustomArtifactMojo extends AbstractMojo {
   @Parameter(property = "skipGpgSign", defaultValue = "false")
   private boolean skipGpgSign;
 
-  @Parameter(property = "skipBomPublishing", defaultValue = "false")
-  private boolean skip;
+  @Parameter(property = "gpgAgentSigning", defaultValue = "false")
+  private boolean gpgAgentSigning;
+
+  @Parameter(property = "gpgKeyName")
+  private String gpgKeyName;
+
+  @Parameter(property = "skipPreflightValidation", defaultValue = "false")
+  private boolean skipPreflightValidation;
+
+  @Parameter(property = "reuseExistingSidecars", defaultValue = "false")
+  private boolean reuseExistingSidecars;
+
+  @Parameter(property = "stripPomSections")
+  private List<String> stripPomSections;
+
+  @Parameter(property = "inlinePomVersions", defaultValue = "false")
+  private boolean inlinePomVersions;
+
+  @Parameter(property = "shardIndex", defaultValue = "0")
+  private int shardIndex;
+
+  @Parameter(property = "shardCount", defaultValue = "1")
+  private int shardCount;
+
+  @Parameter(property = "inMemoryBundleThreshold", defaultValue = "8388608")
+  private long inMemoryBundleThreshold;
+
+  @Parameter(property = "segmentCache", defaultValue = "false")
+  private boolean segmentCache;
+
+  @Parameter(property = "segmentDirectory", defaultValue = "${project.build.directory}/custom-publishing/segments")
+  private File segmentDirectory;
 
-  @Parameter(property = "includeJar", defaultValue = "false")
-  private boolean includeJar;
+  @Parameter(property = "warmUpConnection", defaultValue = "true")
+  private boolean warmUpConnection;
 
-  @Parameter(property = "includeSources", defaultValue = "false")
-  private boolean includeSources;
+  @Parameter(property = "failureMode", defaultValue = "FAIL_FAST")
+  private FailureMode failureMode;
 
-  @Parameter(property = "includeJavadoc", defaultValue = "false")
-  private boolean includeJavadoc;
+  @Parameter(property = "extraChecksums")
+  private List<String> extraChecksums;
+
+  @Parameter(property = "largestFilesFirst", defaultValue = "true")
+  private boolean largestFilesFirst;
+
+  @Parameter(property = "logVerbosity", defaultValue = "PROJECTS")
+  private LogVerbosity logVerbosity;
+
+  /**
+   * Estimated bundle bytes per entry on top of the file sizes: ZIP headers, checksums and signatures.
+   */
+  private static final long ESTIMATED_ENTRY_OVERHEAD = 1024;
+
+  private static final int ENTRIES_PER_FILE = 6;
+
+  /**
+   * Largest {@code inMemoryBundleThreshold}: the size of the largest byte array the JVM reliably allocates.
+   */
+  private static final long MAX_IN_MEMORY_BUNDLE_THRESHOLD = Integer.MAX_VALUE - 8;
 
   private WaitUntilRequest waitUntilRequest;
 
+  private Server server;
+
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
-    // Skip checks
-    if (skip) {
-      getLog().info("Skipping custom artifact publishing (skip=true)");
+    if (shouldSkip()) {
       return;
     }
 
-    if (bomProjects != null && bomProjects.contains(currentArtifactId)) {
-      getLog().debug("Skipping publishing - running on generated artifact: " + currentArtifactId);
-      return;
+    if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+      throw new MojoExecutionException("Invalid shard " + shardIndex + " of " + shardCount
+          + ": shardCount must be at least 1 and shardIndex between 0 and shardCount - 1");
     }
-
-    if (!bomProjectsDirectory.exists() || !bomProjectsDirectory.isDirectory()) {
-      getLog().debug("Skipping publishing - directory does not exist: " + bomProjectsDirectory);
-      return;
+    if (inMemoryBundleThreshold > MAX_IN_MEMORY_BUNDLE_THRESHOLD) {
+      throw new MojoExecutionException("Invalid inMemoryBundleThreshold " + inMemoryBundleThreshold
+          + ": an in-memory bundle is held in a single array, so it must be at most "
+          + MAX_IN_MEMORY_BUNDLE_THRESHOLD + " bytes");
     }
-
-    // Validate inputs
-    if (bomProjects == null || bomProjects.isEmpty()) {
-      throw new MojoExecutionException("No artifacts specified. Please provide bomProjects list.");
+    boolean sharded = shardCount > 1;
+    List<String> extraChecksumAlgorithms;
+    try {
+      extraChecksumAlgorithms = DeploymentService.parseExtraChecksums(extraChecksums);
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
     }
 
-    getLog().info("Starting custom artifact deployment to Maven Central");
+    if (sharded) {
+      getLog().info("Building partial bundle for shard " + shardIndex + " of " + shardCount);
+    } else {
+      getLog().info("Starting custom artifact deployment to Maven Central");
 
-    // Initialize publisher client
-    initializePublisherClient();
+      // Resolve upload settings
+      initializePublisherClient();
+    }
 
-    // Create and upload bundle
+    String bundleName = sharded
+        ? "custom-deployment-bundle-shard-" + shardIndex + "-of-" + shardCount + ".zip"
+        : "custom-deployment-bundle.zip";
+    File bundleFile = new File(getCustomPublishingDirectory(), bundleName);
+
+    // Create, validate and upload bundle
+    startCacheStatistics();
+    ExecutorService executor = createExecutor();
+    File workDirectory = null;
+    BuiltBundle bundle = null;
+    AgentFileProcessor agentProcessor = null;
+    ProgressReporter progressReporter = new ProgressReporter(getPublishingLog(), logVerbosity);
+    boolean completed = false;
+    List<ProjectFailedException> failures = new ArrayList<>();
+    int projectCount;
     try {
-      File bundleFile = createDeploymentBundle();
-      uploadBundle(bundleFile);
-      getLog().info("Deployment bundle created at: " + bundleFile.getAbsolutePath());
+      // Shard the configured projects before resolving them, so missing projects never shift shard membership
+      List<File> pomFiles = resolvePomFiles(selectShard(bomProjects),
+          failureMode == FailureMode.FAIL_FAST ? null : failures);
+      projectCount = pomFiles.size() + failures.size();
+      failures.forEach(failure -> getLog().warn("Leaving out " + failure.getMessage()));
+      if (pomFiles.isEmpty() && !failures.isEmpty()) {
+        throw projectFailures(failures, projectCount, "nothing was bundled");
+      }
+      workDirectory = createWorkDirectory();
+      File workBundle = new File(workDirectory, bundleName);
+      DefaultFileProcessor signer;
+      boolean agentSigning = gpgAgentSigning && !skipGpgSign;
+      if (agentSigning && !AgentFileProcessor.isSupported()) {
+        getLog().warn("gpgAgentSigning needs Java 16 or later to connect to gpg-agent, running gpg for each file"
+            + " instead on Java " + Runtime.version().feature());
+        agentSigning = false;
+      }
+      if (agentSigning) {
+        agentProcessor = new AgentFileProcessor(gpgExecutable, gpgPassphrase, gpgKeyName, workDirectory,
+            logVerbosity.detailLog(getPublishingLog()));
+        signer = agentProcessor;
+      } else {
+        signer = new DefaultFileProcessor(gpgExecutable, gpgPassphrase, skipGpgSign, workDirectory,
+            logVerbosity.detailLog(getPublishingLog()));
+        signer.setKeyName(gpgKeyName);
+      }
+      signer.setParallelDigestThreshold(parallelDigestThreshold);
+      signer.setDigestExecutor(executor);
+      BundleSegmentCache segments = segmentCache
+          ? new BundleSegmentCache(segmentDirectory, segmentSalt(signer, extraChecksumAlgorithms)) : null;
+      long estimatedSize = sharded || segments != null ? -1 : estimateInMemoryBundleSize(pomFiles);
+      BundleBuilderFactory bundleBuilderFactory;
+      if (estimatedSize >= 0) {
+        getLog().info("Estimated bundle size " + estimatedSize + " bytes is below " + inMemoryBundleThreshold
+            + " bytes, building bundle in memory");
+        bundleBuilderFactory = () -> new InMemoryBundleBuilder((int) estimatedSize);
+      } else if (segments != null) {
+        bundleBuilderFactory = () -> new SegmentedBundleBuilder(workBundle, segments);
+      } else {
+        bundleBuilderFactory = () -> new ZipBundleBuilder(workBundle);
+      }
+
+      FileProcessor fileProcessor = withSessionCaches(signer);
+      SidecarFileProcessor sidecarProcessor = null;
+      if (preparedDirectory != null && preparedDirectory.isDirectory()) {
+        sidecarProcessor = new SidecarFileProcessor(fileProcessor,
+            new SidecarStore(preparedDirectory, bomProjectsDirectory), workDirectory);
+        fileProcessor = sidecarProcessor;
+      }
+
+      PublishingConfig config = createPublishingConfig(pomFiles, bundleName, estimatedSize >= 0, sharded, executor)
+          .withListener(progressReporter)
+          .withSegmentCache(segments)
+          .withExtraChecksums(extraChecksumAlgorithms);
+      try (PublishingEngine engine = new PublishingEngine(config, createPomParser(), fileProcessor,
+          bundleBuilderFactory)) {
+        getLog().info("Creating combined deployment bundle for " + pomFiles.size() + " project(s)");
+        // Checks the credentials and connects to the portal while the bundle is built, stopping it on failure
+        CompletableFuture<Void> warmUp = sharded || !warmUpConnection || pomFiles.isEmpty()
+            ? CompletableFuture.completedFuture(null)
+            : engine.parse(pomFiles.get(0)).thenCompose(engine::warmUp);
+        try {
+          bundle = PublishingEngine.await(engine.bundle(engine.prepareAll(pomFiles, warmUp)));
+        } catch (PublishingFailuresException e) {
+          failures.addAll(e.getFailures());
+          throw projectFailures(failures, projectCount, "nothing was uploaded");
+        } finally {
+          progressReporter.close();
+        }
+        failures.addAll(bundle.getFailures());
+        logCacheStatistics();
+        if (sidecarProcessor != null) {
+          getLog().info("Used " + sidecarProcessor.getReusedCount() + " prepared checksum(s) and signature(s) from "
+              + preparedDirectory + ", computed " + sidecarProcessor.getComputedCount());
+        }
+        if (segments != null) {
+          int pruned = segments.prune();
+          getLog().info("Reused " + segments.getHitCount() + " of " + pomFiles.size() + " project segment(s) from "
+              + segmentDirectory + (pruned > 0 ? ", pruned " + pruned + " unused segment(s)" : ""));
+        }
+
+        if (!failures.isEmpty() && failureMode == FailureMode.COLLECT) {
+          throw projectFailures(failures, projectCount, "nothing was uploaded");
+        }
+
+        validateBundle(engine, bundle);
+        if (!sharded) {
+          PublishingEngine.await(warmUp);
+          PublishingEngine.await(engine.upload(bundle).thenCompose(engine::waitFor));
+          getLog().info("All " + (projectCount - failures.size()) + " healthy artifact(s) uploaded in a single "
+              + "deployment");
+        }
+      }
+      completed = true;
+
+      if (bundle.isInMemory()) {
+        getLog().info("Deployment bundle of " + bundle.getSize() + " bytes was built and uploaded from memory");
+      } else {
+        moveIntoPlace(workBundle, bundleFile);
+        if (sharded) {
+          getLog().info("Partial bundle created at: " + bundleFile.getAbsolutePath());
+          getLog().info("Upload skipped for shard, combine all shards with the merge-bundles goal");
+        } else {
+          getLog().info("Deployment bundle created at: " + bundleFile.getAbsolutePath());
+        }
+      }
     } catch (IOException e) {
       throw new MojoExecutionException("Failed to create deployment bundle", e);
+    } finally {
+      progressReporter.close();
+      executor.shutdownNow();
+      if (agentProcessor != null) {
+        try {
+          agentProcessor.close();
+        } catch (IOException e) {
+          getLog().warn("Failed to close gpg-agent connections: " + e.getMessage());
+        }
+      }
+      if (!completed && bundle != null && bundle.isInMemory()) {
+        keepFailedBundle(bundle.getContent(), bundleFile);
+      }
+      if (workDirectory != null) {
+        keepFailedBundle(new File(workDirectory, bundleName), bundleFile, getLog());
+        deleteWorkDirectory(workDirectory);
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      throw projectFailures(failures, projectCount, sharded ? "the other projects were bundled"
+          : "the other projects were uploaded");
+    }
+    if (!sharded) {
+      getLog().info("Custom artifact deployment completed successfully");
     }
+  }
 
-    getLog().info("Custom artifact deployment completed successfully");
+  /**
+   * Reports every failed project at once, with what happened to the others.
+   */
+  private MojoExecutionException projectFailures(List<ProjectFailedException> failures, int projectCount,
+                                                 String outcome) {
+    PublishingFailuresException aggregated = new PublishingFailuresException(failures, projectCount);
+    return new MojoExecutionException(aggregated.getMessage() + System.lineSeparator() + "In " + failureMode
+        + " mode " + outcome, aggregated);
   }
 
   private void initializePublisherClient() throws MojoExecutionException {
-    publisherClient.setCentralBaseUrl(centralBaseUrl);
+    try {
+      waitUntilRequest = CentralUploadService.parseWaitUntil(waitUntil, autoPublish);
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
 
-    Server server = mavenSession.getSettings().getServer(publishingServerId);
+    server = mavenSession.getSettings().getServer(publishingServerId);
     if (server == null) {
       throw new MojoExecutionException("Server configuration not found for id: " + publishingServerId);
     }
+  }
 
-    if (tokenAuth) {
-      publisherClient.setAuthProvider(USERTOKEN, DEFAULT_ORGANIZATION_ID, server.getUsername(), server.getPassword());
-    } else {
-      publisherClient.setAuthProvider(BASIC, DEFAULT_ORGANIZATION_ID, server.getUsername(), server.getPassword());
+  private PublishingConfig createPublishingConfig(List<File> pomFiles, String bundleName, boolean inMemory,
+                                                  boolean sharded, ExecutorService executor) {
+    PublishingConfig config = new PublishingConfig()
+        .withPomFiles(pomFiles)
+        .withArtifacts(includeJar, includeSources, includeJavadoc)
+        .withReusedSidecars(reuseExistingSidecars, createSidecarVerifier())
+        .withPomTransformer(new PomTransformer(
+            stripPomSections != null ? stripPomSections : Collections.emptyList(), isInlinePomVersions()))
+        .withInMemory(inMemory)
+        .withBundleName(bundleName)
+        .withValidator(createValidator(executor))
+        .withFailureMode(failureMode)
+        .withLargestFilesFirst(largestFilesFirst)
+        .withConcurrency(concurrency)
+        .withPreparationExecutor(executor)
+        .withLog(getPublishingLog())
+        .withLogVerbosity(logVerbosity);
+    if (!sharded) {
+      config.withCentral(centralBaseUrl, server.getUsername(), server.getPassword(), tokenAuth)
+          .withDeployment(deploymentName, autoPublish)
+          .withWait(waitUntilRequest, waitMaxTime, waitPollingInterval);
     }
+    return config;
   }
 
-  private File createDeploymentBundle() throws IOException, MojoExecutionException {
-    getLog().info("Creating combined deployment bundle for " + bomProjects.size() + " project(s)");
-
-    // Create bundle directory
-    File buildDir = new File(mavenSession.getCurrentProject().getBuild().getDirectory());
-    File customPublishingDir = new File(buildDir, "custom-publishing");
-    File bundleFile = new File(customPublishingDir, "custom-deployment-bundle.zip");
-
-    // Initialize components
-    PomParser pomParser = new DefaultPomParser();
-    ArtifactCollector collector = new ArtifactCollector(includeJar, includeSources, includeJavadoc);
-    FileProcessor fileProcessor = new DefaultFileProcessor(gpgExecutable, gpgPassphrase, skipGpgSign, getLog());
-    DeploymentService deploymentService = new DeploymentService(pomParser, collector, fileProcessor, getLog());
+  /**
+   * Returns whether expressions in bundled POMs are replaced with their values. Always the case with
+   * {@code resolvePomProperties}: Central does not interpolate POMs, so a bundled {@code ${revision}} would be
+   * published as it is.
+   */
+  private boolean isInlinePomVersions() {
+    return inlinePomVersions || resolvePomProperties;
+  }
 
-    // Create bundle
-    try (BundleBuilder bundleBuilder = new ZipBundleBuilder(bundleFile)) {
-      for (String bomProject : bomProjects) {
-        getLog().info("Processing artifact: " + bomProject);
+  /**
+   * Describes what bundle segments depend on besides the project files: the signing key and the POM rewrite.
+   */
+  private String segmentSalt(DefaultFileProcessor signer, List<String> extraChecksumAlgorithms) throws IOException {
+    return "signingKey=" + signer.getSigningKeyFingerprint()
+        + ";stripPomSections=" + stripPomSections + ";inlinePomVersions=" + isInlinePomVersions()
+        + (extraChecksumAlgorithms.isEmpty() ? "" : ";extraChecksums=" + extraChecksumAlgorithms);
+  }
 
-        File artifactDir = new File(bomProjectsDirectory, bomProject);
-        if (!artifactDir.exists() || !artifactDir.isDirectory()) {
-          throw new MojoExecutionException("Artifact directory not found: " + artifactDir);
-        }
+  /**
+   * Returns the estimated bundle size if the deployment is small enough to be published from memory,
+   * otherwise {@code -1}. The estimate adds up the files of the project directories, so it never parses a POM
+   * and errs on the large side.
+   */
+  private long estimateInMemoryBundleSize(List<File> pomFiles) {
+    if (inMemoryBundleThreshold <= 0) {
+      return -1;
+    }
+    if (preparedDirectory != null && preparedDirectory.isDirectory()) {
+      getLog().debug("Building bundle on disk to use prepared checksums and signatures from " + preparedDirectory);
+      return -1;
+    }
 
-        File pomFile = new File(artifactDir, "pom.xml");
-        if (!pomFile.exists()) {
-          throw new MojoExecutionException("pom.xml not found in: " + artifactDir);
+    long estimatedSize = 0;
+    for (File pomFile : pomFiles) {
+      File[] files = pomFile.getParentFile().listFiles(File::isFile);
+      if (files == null) {
+        // Leave reporting the missing directory to the regular path
+        return -1;
+      }
+      for (File file : files) {
+        // Each file is bundled with its checksums, signature and signature checksums
+        estimatedSize += file.length() + ENTRIES_PER_FILE * ESTIMATED_ENTRY_OVERHEAD;
+        if (estimatedSize >= inMemoryBundleThreshold) {
+          return -1;
         }
-
-        deploymentService.processArtifact(pomFile, bundleBuilder);
       }
     }
-
-    getLog().info("Created combined bundle: " + bundleFile.getAbsolutePath());
-    return bundleFile;
+    getLog().debug("Estimated bundle size: " + estimatedSize + " bytes, in-memory threshold: "
+        + inMemoryBundleThreshold + " bytes");
+    return estimatedSize;
   }
 
-  private void uploadBundle(File bundleFile) {
-    getLog().info("Uploading combined bundle to Maven Central: " + bundleFile.getName());
-
-    PublishingType publishingType = autoPublish ? PublishingType.AUTOMATIC : PublishingType.USER_MANAGED;
-
-    UploadArtifactRequest uploadRequest = new UploadArtifactRequest(
-        deploymentName,
-        bundleFile.toPath(),
-        publishingType
-    );
-
-    String deploymentId = artifactUploader.upload(uploadRequest);
-
-    getLog().info("Deployed to Central with deployment ID: " + deploymentId);
-    getLog().info("All " + bomProjects.size() + " artifact(s) uploaded in a single deployment");
-
-    if (getWaitUntil() == WaitUntilRequest.UPLOADED) {
+  private void validateBundle(PublishingEngine engine, BuiltBundle bundle) throws IOException, MojoExecutionException {
+    if (skipPreflightValidation) {
+      getLog().info("Skipping pre-flight validation (skipPreflightValidation=true)");
       return;
     }
 
-    getLog().info("Waiting for deployment state to be " + getWaitUntil());
-
-    WaitForDeploymentStateRequest waitRequest = new WaitForDeploymentStateRequest(
-        centralBaseUrl,
-        deploymentId,
-        waitUntilRequest,
-        waitMaxTime,
-        waitPollingInterval
-    );
+    long start = System.currentTimeMillis();
+    ValidationReport report;
+    try {
+      report = PublishingEngine.await(engine.validate(bundle));
+    } catch (BundleValidationException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+    getLog().info("Pre-flight validation of " + report.getComponentCount() + " component(s) passed in "
+        + (System.currentTimeMillis() - start) + " ms");
+  }
 
-    deploymentPublishedWatcher.waitForDeploymentState(waitRequest);
+  private BundleValidator createValidator(ExecutorService executor) {
+    if (skipPreflightValidation) {
+      return null;
+    }
+    GpgSignatureVerifier signatureVerifier = skipGpgSign ? null : new GpgSignatureVerifier(gpgExecutable);
+    return new BundleValidator(!skipGpgSign, signatureVerifier, executor, concurrency);
   }
 
-  private WaitUntilRequest getWaitUntil() {
-    return Objects.requireNonNullElseGet(waitUntilRequest, () -> {
-      waitUntilRequest = WaitUntilRequest.valueOf(waitUntil.toUpperCase());
+  /**
+   * Returns the verifier for reused signatures, which are otherwise verified by pre-flight validation.
+   */
+  private GpgSignatureVerifier createSidecarVerifier() {
+    return reuseExistingSidecars && skipPreflightValidation && !skipGpgSign
+        ? new GpgSignatureVerifier(gpgExecutable) : null;
+  }
 
-      if (waitUntilRequest == WaitUntilRequest.PUBLISHED && !autoPublish) {
-        throw new RuntimeException("Cannot wait until PUBLISHED when autoPublish is disabled");
-      }
+  /**
+   * Returns the projects of this shard: every {@code shardCount}-th project starting at {@code shardIndex},
+   * which spreads neighbouring (often similarly sized) projects across shards.
+   */
+  private List<String> selectShard(List<String> projects) {
+    if (shardCount == 1) {
+      return projects;
+    }
+    List<String> selected = new ArrayList<>();
+    for (int i = shardIndex; i < projects.size(); i += shardCount) {
+      selected.add(projects.get(i));
+    }
+    return selected;
+  }
 
-      return waitUntilRequest;
-    });
+  /**
+   * Writes a bundle built in memory by a failed run to its final name, so it can be inspected.
+   */
+  private void keepFailedBundle(byte[] bundle, File bundleFile) {
+    try {
+      Files.createDirectories(bundleFile.getParentFile().toPath());
+      Files.write(bundleFile.toPath(), bundle);
+      getLog().info("Bundle of failed deployment written to: " + bundleFile.getAbsolutePath());
+    } catch (IOException e) {
+      getLog().warn("Failed to keep bundle of failed run at " + bundleFile, e);
+    }
   }
 }
@@ -0,0 +1,267 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import io.github.agnistack.publishing.io.BufferPool;
+import io.github.agnistack.publishing.io.ChunkReader;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.log.PublishingLog;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Makes armored detached signatures with a key held by gpg-agent, without starting gpg for each file.
+ *
+ * <p>Data is hashed with SHA-512 in the JVM, only the digest is sent to the agent over the Assuan protocol,
+ * and the signature packet and its armor are built here. Agent connections are pooled: each signing thread
+ * borrows one and returns it when done, so at most one connection per concurrent signature is opened. The
+ * agent is reached over its Unix domain socket, which needs Java 16 or later; see {@link #isSupported()}.
+ *
+ * @since 0.3.0
+ */
+public class AgentSigner implements Closeable {
+
+  private final SigningKey key;
+  private final Path socket;
+  private final byte[] passphrase;
+  private final Queue<AssuanConnection> idleConnections = new ConcurrentLinkedQueue<>();
+
+  AgentSigner(SigningKey key, Path socket, byte[] passphrase) {
+    this.key = key;
+    this.socket = socket;
+    this.passphrase = passphrase;
+  }
+
+  /**
+   * Returns whether this runtime can connect to gpg-agent, which needs Unix domain sockets from Java 16.
+   */
+  public static boolean isSupported() {
+    return AssuanConnection.isSocketSupported();
+  }
+
+  /**
+   * Finds the signing key and the agent socket, starting the agent if needed.
+   *
+   * @param gpgExecutable the gpg executable; {@code gpgconf} is taken from the same directory
+   * @param keyName       a user ID or fingerprint of the key, or {@code null} for the key gpg signs with by
+   *                      default
+   * @param passphrase    the passphrase of the key for loopback pinentry, or {@code null} to leave it to the
+   *                      agent
+   * @param log           the log
+   * @throws IOException if gpg fails, no usable key is found or this runtime is older than Java 16
+   */
+  public static AgentSigner open(String gpgExecutable, String keyName, String passphrase, PublishingLog log)
+      throws IOException {
+    if (!isSupported()) {
+      throw new IOException("Signing through gpg-agent needs Java 16 or later");
+    }
+    SigningKey key = SigningKey.find(gpgExecutable, keyName);
+    if (!key.isAgentSigningSupported()) {
+      throw new IOException("Public key algorithm " + key.getAlgorithm() + " of key " + key.getFingerprint()
+          + " is not supported for gpg-agent signing");
+    }
+    String gpgconf = sibling(gpgExecutable, "gpgconf");
+    run(gpgconf, "--launch", "gpg-agent");
+    Path socket = Paths.get(run(gpgconf, "--list-dirs", "agent-socket").trim());
+    log.info("Signing with key " + key.getFingerprint() + " through gpg-agent at " + socket);
+    return new AgentSigner(key, socket,
+        passphrase != null && !passphrase.isEmpty() ? passphrase.getBytes(StandardCharsets.UTF_8) : null);
+  }
+
+  public SigningKey getKey() {
+    return key;
+  }
+
+  /**
+   * Signs a file, reading it once.
+   *
+   * @return the ASCII-armored detached signature
+   */
+  public byte[] sign(File file) throws IOException {
+    MessageDigest digest = newDigest();
+    ChunkReader.read(file, BufferPool.shared(), digest::update);
+    return finish(digest);
+  }
+
+  /**
+   * Signs content held in memory.
+   *
+   * @return the ASCII-armored detached signature
+   */
+  public byte[] sign(byte[] content) throws IOException {
+    MessageDigest digest = newDigest();
+    digest.update(content);
+    return finish(digest);
+  }
+
+  private byte[] finish(MessageDigest digest) throws IOException {
+    byte[] hashedPart = OpenPgpSignature.hashedPart(key, OpenPgpSignature.SHA512,
+        System.currentTimeMillis() / 1000);
+    digest.update(hashedPart);
+    digest.update(OpenPgpSignature.trailer(hashedPart));
+    byte[] hash = digest.digest();
+
+    Map<String, byte[]> values = parseSignatureValues(pksign(hash));
+    byte[][] mpis = key.getAlgorithm() == SigningKey.RSA
+        ? new byte[][] {require(values, "s")}
+        : new byte[][] {require(values, "r"), require(values, "s")};
+    return OpenPgpSignature.armor(OpenPgpSignature.packet(key, hashedPart, hash, mpis));
+  }
+
+  /**
+   * Has the agent sign a digest and returns its {@code sig-val} S-expression.
+   */
+  private byte[] pksign(byte[] hash) throws IOException {
+    String[] commands = {
+        "SIGKEY " + key.getKeygrip(),
+        "SETHASH " + OpenPgpSignature.SHA512 + ' ' + Hex.encode(hash),
+        "PKSIGN"
+    };
+
+    AssuanConnection connection = idleConnections.poll();
+    if (connection == null) {
+      connection = AssuanConnection.connect(socket, passphrase);
+    }
+    boolean reusable = false;
+    try {
+      List<byte[]> responses = connection.exchange(commands);
+      reusable = true;
+      return responses.get(responses.size() - 1);
+    } finally {
+      if (reusable) {
+        idleConnections.add(connection);
+      } else {
+        connection.close();
+      }
+    }
+  }
+
+  /**
+   * Closes the pooled agent connections.
+   */
+  @Override
+  public void close() throws IOException {
+    AssuanConnection connection;
+    while ((connection = idleConnections.poll()) != null) {
+      connection.close();
+    }
+  }
+
+  /**
+   * Collects the values of the {@code (name value)} lists of a canonical S-expression, such as {@code r} and
+   * {@code s} of {@code (sig-val (ecdsa (r ...) (s ...)))}.
+   */
+  static Map<String, byte[]> parseSignatureValues(byte[] sexp) throws IOException {
+    Map<String, byte[]> values = new HashMap<>();
+    String name = null;
+    boolean listStart = false;
+    int i = 0;
+    while (i < sexp.length) {
+      byte b = sexp[i];
+      if (b == '(' || b == ')') {
+        listStart = b == '(';
+        name = null;
+        i++;
+        continue;
+      }
+      int colon = i;
+      while (colon < sexp.length && sexp[colon] >= '0' && sexp[colon] <= '9') {
+        colon++;
+      }
+      if (colon == i || colon >= sexp.length || sexp[colon] != ':') {
+        throw new IOException("Malformed signature from gpg-agent at offset " + i);
+      }
+      int length = Integer.parseInt(new String(sexp, i, colon - i, StandardCharsets.US_ASCII));
+      if (colon + 1 + length > sexp.length) {
+        throw new IOException("Truncated signature from gpg-agent");
+      }
+      byte[] atom = Arrays.copyOfRange(sexp, colon + 1, colon + 1 + length);
+      if (listStart) {
+        name = new String(atom, StandardCharsets.US_ASCII);
+      } else if (name != null) {
+        values.putIfAbsent(name, atom);
+        name = null;
+      }
+      listStart = false;
+      i = colon + 1 + length;
+    }
+    return values;
+  }
+
+  private static byte[] require(Map<String, byte[]> values, String name) throws IOException {
+    byte[] value = values.get(name);
+    if (value == null || value.length == 0) {
+      throw new IOException("Signature from gpg-agent has no value " + name + ": " + values.keySet());
+    }
+    return value;
+  }
+
+  private static MessageDigest newDigest() throws IOException {
+    try {
+      return MessageDigest.getInstance("SHA-512");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("SHA-512 is not available", e);
+    }
+  }
+
+  /**
+   * Returns a GnuPG tool from the directory of the gpg executable, or from the path if gpg is.
+   */
+  private static String sibling(String gpgExecutable, String tool) {
+    File parent = new File(gpgExecutable).getParentFile();
+    return parent != null ? new File(parent, tool).getPath() : tool;
+  }
+
+  private static String run(String... command) throws IOException {
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+    Process process = pb.start();
+    try {
+      String output;
+      try (InputStream out = process.getInputStream()) {
+        output = new String(out.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      int exitCode = process.waitFor();
+      if (exitCode != 0) {
+        throw new IOException(String.join(" ", command) + " failed with exit code: " + exitCode);
+      }
+      return output;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(String.join(" ", command) + " was interrupted", e);
+    } finally {
+      process.destroyForcibly();
+    }
+  }
+}
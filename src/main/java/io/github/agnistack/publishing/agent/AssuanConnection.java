@@ -0,0 +1,239 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client side of the Assuan protocol spoken by gpg-agent.
+ *
+ * <p>A connection is a Unix domain socket to the agent, kept open for any number of exchanges. Unix domain
+ * sockets need Java 16 or later and are looked up reflectively, since the plugin is compiled for Java 11; on
+ * older runtimes {@link #isSocketSupported()} is false and agent signing is not available.
+ *
+ * @since 0.3.0
+ */
+public class AssuanConnection implements Closeable {
+
+  private static final int MAX_LINE_LENGTH = 1000;
+
+  private static final Method ADDRESS_OF;
+  private static final Method OPEN_CHANNEL;
+  private static final ProtocolFamily UNIX;
+
+  static {
+    Method addressOf = null;
+    Method openChannel = null;
+    ProtocolFamily unix = null;
+    try {
+      addressOf = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+      openChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+      unix = StandardProtocolFamily.valueOf("UNIX");
+    } catch (ReflectiveOperationException | IllegalArgumentException e) {
+      // Java 15 or earlier
+    }
+    ADDRESS_OF = addressOf;
+    OPEN_CHANNEL = openChannel;
+    UNIX = unix;
+  }
+
+  private final InputStream in;
+  private final OutputStream out;
+  private final Closeable resource;
+  private final byte[] passphrase;
+  private int pendingResponses;
+
+  private AssuanConnection(InputStream in, OutputStream out, Closeable resource, byte[] passphrase) {
+    this.in = new BufferedInputStream(in);
+    this.out = new BufferedOutputStream(out);
+    this.resource = resource;
+    this.passphrase = passphrase;
+  }
+
+  /**
+   * Returns whether this runtime supports Unix domain sockets and {@link #connect} can be used.
+   */
+  public static boolean isSocketSupported() {
+    return UNIX != null;
+  }
+
+  /**
+   * Connects to the agent socket and reads its greeting.
+   *
+   * @param socket     the agent socket, as listed by {@code gpgconf --list-dirs agent-socket}
+   * @param passphrase the passphrase of the signing key for loopback pinentry, or {@code null}
+   * @throws IOException if the connection fails or this runtime has no Unix domain sockets
+   */
+  public static AssuanConnection connect(Path socket, byte[] passphrase) throws IOException {
+    if (!isSocketSupported()) {
+      throw new IOException("Unix domain sockets need Java 16 or later");
+    }
+    SocketChannel channel;
+    try {
+      channel = (SocketChannel) OPEN_CHANNEL.invoke(null, UNIX);
+      channel.connect((SocketAddress) ADDRESS_OF.invoke(null, socket));
+    } catch (InvocationTargetException e) {
+      throw new IOException("Cannot connect to gpg-agent at " + socket + ": " + e.getCause(), e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IOException("Cannot connect to gpg-agent at " + socket, e);
+    } catch (IOException e) {
+      throw new IOException("Cannot connect to gpg-agent at " + socket + ": " + e.getMessage(), e);
+    }
+
+    AssuanConnection connection = new AssuanConnection(Channels.newInputStream(channel),
+        Channels.newOutputStream(channel), channel, passphrase);
+    try {
+      connection.pendingResponses = 1;
+      connection.readResponse();
+      if (passphrase != null) {
+        connection.exchange("OPTION pinentry-mode=loopback");
+      }
+      return connection;
+    } catch (IOException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Sends commands and returns the data of each response, in order, including those of commands sent
+   * before and not read yet.
+   *
+   * @throws IOException if the agent answers {@code ERR} or the connection fails
+   */
+  public List<byte[]> exchange(String... commands) throws IOException {
+    for (String command : commands) {
+      send(command);
+    }
+    out.flush();
+
+    List<byte[]> responses = new ArrayList<>(pendingResponses);
+    while (pendingResponses > 0) {
+      responses.add(readResponse());
+    }
+    return responses;
+  }
+
+  private void send(String command) throws IOException {
+    byte[] line = (command + '\n').getBytes(StandardCharsets.UTF_8);
+    if (line.length > MAX_LINE_LENGTH) {
+      throw new IOException("Assuan command too long: " + command);
+    }
+    out.write(line);
+    pendingResponses++;
+  }
+
+  /**
+   * Reads the response to the oldest command sent, answering inquiries.
+   */
+  private byte[] readResponse() throws IOException {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    while (true) {
+      String line = readLine();
+      if (line.equals("OK") || line.startsWith("OK ")) {
+        pendingResponses--;
+        return data.toByteArray();
+      } else if (line.startsWith("ERR ")) {
+        pendingResponses--;
+        throw new IOException("gpg-agent error: " + line.substring(4));
+      } else if (line.startsWith("D ")) {
+        unescape(line.substring(2), data);
+      } else if (line.startsWith("INQUIRE ")) {
+        answer(line.substring(8));
+      }
+      // Status and comment lines carry nothing needed here
+    }
+  }
+
+  private void answer(String inquiry) throws IOException {
+    String keyword = inquiry.split(" ", 2)[0];
+    if ("PASSPHRASE".equals(keyword) && passphrase != null) {
+      out.write("D ".getBytes(StandardCharsets.US_ASCII));
+      out.write(escape(passphrase));
+      out.write("\nEND\n".getBytes(StandardCharsets.US_ASCII));
+    } else if ("PINENTRY_LAUNCHED".equals(keyword)) {
+      out.write("END\n".getBytes(StandardCharsets.US_ASCII));
+    } else {
+      out.write("CAN\n".getBytes(StandardCharsets.US_ASCII));
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a line, keeping the bytes of data lines as ISO-8859-1 characters.
+   */
+  private String readLine() throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b < 0) {
+        throw new IOException("gpg-agent closed the connection");
+      }
+      line.write(b);
+    }
+    return new String(line.toByteArray(), StandardCharsets.ISO_8859_1);
+  }
+
+  static void unescape(String escaped, ByteArrayOutputStream data) {
+    for (int i = 0; i < escaped.length(); i++) {
+      char c = escaped.charAt(i);
+      if (c == '%' && i + 2 < escaped.length()) {
+        data.write(Integer.parseInt(escaped.substring(i + 1, i + 3), 16));
+        i += 2;
+      } else {
+        data.write(c);
+      }
+    }
+  }
+
+  static byte[] escape(byte[] value) {
+    ByteArrayOutputStream escaped = new ByteArrayOutputStream(value.length + 8);
+    for (byte b : value) {
+      if (b == '%' || b == '\r' || b == '\n') {
+        escaped.writeBytes(String.format("%%%02X", b).getBytes(StandardCharsets.US_ASCII));
+      } else {
+        escaped.write(b);
+      }
+    }
+    return escaped.toByteArray();
+  }
+
+  @Override
+  public void close() throws IOException {
+    resource.close();
+  }
+}
@@ -0,0 +1,188 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Builds version 4 detached binary signature packets (RFC 4880, section 5.2) and their ASCII armor, laid out
+ * like the ones gpg writes: issuer fingerprint and creation time hashed, issuer key ID unhashed.
+ *
+ * <p>A signature is made in three steps: hash the data, then {@link #hashedPart} and {@link #trailer}, sign the
+ * digest, and pass the signature values to {@link #packet}.
+ *
+ * @since 0.3.0
+ */
+public final class OpenPgpSignature {
+
+  /**
+   * OpenPGP hash algorithm ID of SHA-512.
+   */
+  public static final int SHA512 = 10;
+
+  private static final int SIGNATURE_PACKET_TAG = 2;
+  private static final int BINARY_DOCUMENT = 0x00;
+  private static final int SUBPACKET_CREATION_TIME = 2;
+  private static final int SUBPACKET_ISSUER = 16;
+  private static final int SUBPACKET_ISSUER_FINGERPRINT = 33;
+
+  private static final int ARMOR_LINE_LENGTH = 64;
+  private static final int CRC24_INIT = 0xB704CE;
+  private static final int CRC24_POLY = 0x1864CFB;
+
+  private OpenPgpSignature() {
+  }
+
+  /**
+   * Returns the hashed part of the packet body: version, type, algorithms and hashed subpackets.
+   *
+   * @param key                  the signing key
+   * @param hashAlgorithm        the OpenPGP hash algorithm ID
+   * @param creationTimeSeconds  the signature creation time in seconds since the epoch
+   */
+  public static byte[] hashedPart(SigningKey key, int hashAlgorithm, long creationTimeSeconds) {
+    byte[] fingerprint = key.getFingerprintBytes();
+    ByteArrayOutputStream subpackets = new ByteArrayOutputStream();
+    subpackets.write(fingerprint.length + 2);
+    subpackets.write(SUBPACKET_ISSUER_FINGERPRINT);
+    subpackets.write(4);
+    subpackets.writeBytes(fingerprint);
+    subpackets.write(5);
+    subpackets.write(SUBPACKET_CREATION_TIME);
+    writeInt(subpackets, creationTimeSeconds);
+
+    ByteArrayOutputStream hashed = new ByteArrayOutputStream();
+    hashed.write(4);
+    hashed.write(BINARY_DOCUMENT);
+    hashed.write(key.getAlgorithm());
+    hashed.write(hashAlgorithm);
+    writeShort(hashed, subpackets.size());
+    hashed.writeBytes(subpackets.toByteArray());
+    return hashed.toByteArray();
+  }
+
+  /**
+   * Returns the trailer hashed after the hashed part.
+   */
+  public static byte[] trailer(byte[] hashedPart) {
+    ByteArrayOutputStream trailer = new ByteArrayOutputStream(6);
+    trailer.write(4);
+    trailer.write(0xFF);
+    writeInt(trailer, hashedPart.length);
+    return trailer.toByteArray();
+  }
+
+  /**
+   * Returns the complete signature packet.
+   *
+   * @param key        the signing key
+   * @param hashedPart the hashed part, as returned by {@link #hashedPart}
+   * @param digest     the digest that was signed
+   * @param values     the signature values as unsigned big-endian integers: {@code s} for RSA, {@code r} and
+   *                   {@code s} otherwise
+   */
+  public static byte[] packet(SigningKey key, byte[] hashedPart, byte[] digest, byte[]... values) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(hashedPart.length + 32 + 512);
+    body.writeBytes(hashedPart);
+    byte[] keyId = key.getKeyId();
+    writeShort(body, keyId.length + 2);
+    body.write(keyId.length + 1);
+    body.write(SUBPACKET_ISSUER);
+    body.writeBytes(keyId);
+    body.write(digest[0]);
+    body.write(digest[1]);
+    for (byte[] value : values) {
+      writeMpi(body, value);
+    }
+
+    // Old format header with a one or two octet length, as gpg writes it
+    ByteArrayOutputStream packet = new ByteArrayOutputStream(body.size() + 3);
+    if (body.size() < 0x100) {
+      packet.write(0x80 | SIGNATURE_PACKET_TAG << 2);
+      packet.write(body.size());
+    } else {
+      packet.write(0x80 | SIGNATURE_PACKET_TAG << 2 | 1);
+      writeShort(packet, body.size());
+    }
+    packet.writeBytes(body.toByteArray());
+    return packet.toByteArray();
+  }
+
+  /**
+   * Returns the ASCII armor of a signature packet, with its CRC-24 checksum.
+   */
+  public static byte[] armor(byte[] packet) {
+    String base64 = Base64.getEncoder().encodeToString(packet);
+    StringBuilder armor = new StringBuilder(base64.length() + 128);
+    armor.append("-----BEGIN PGP SIGNATURE-----\n\n");
+    for (int i = 0; i < base64.length(); i += ARMOR_LINE_LENGTH) {
+      armor.append(base64, i, Math.min(base64.length(), i + ARMOR_LINE_LENGTH)).append('\n');
+    }
+    int crc = crc24(packet);
+    byte[] crcBytes = {(byte) (crc >>> 16), (byte) (crc >>> 8), (byte) crc};
+    armor.append('=').append(Base64.getEncoder().encodeToString(crcBytes)).append('\n');
+    armor.append("-----END PGP SIGNATURE-----\n");
+    return armor.toString().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Computes the CRC-24 of the armor checksum line (RFC 4880, section 6.1).
+   */
+  static int crc24(byte[] data) {
+    int crc = CRC24_INIT;
+    for (byte b : data) {
+      crc ^= (b & 0xFF) << 16;
+      for (int i = 0; i < 8; i++) {
+        crc <<= 1;
+        if ((crc & 0x1000000) != 0) {
+          crc ^= CRC24_POLY;
+        }
+      }
+    }
+    return crc & 0xFFFFFF;
+  }
+
+  /**
+   * Writes an unsigned big-endian integer as an MPI: its bit count and its bytes without leading zeros.
+   */
+  private static void writeMpi(ByteArrayOutputStream out, byte[] value) {
+    int start = 0;
+    while (start < value.length - 1 && value[start] == 0) {
+      start++;
+    }
+    int bits = (value.length - start - 1) * 8 + (32 - Integer.numberOfLeadingZeros(value[start] & 0xFF));
+    writeShort(out, bits);
+    out.write(value, start, value.length - start);
+  }
+
+  private static void writeShort(ByteArrayOutputStream out, int value) {
+    out.write(value >>> 8);
+    out.write(value);
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, long value) {
+    out.write((int) (value >>> 24));
+    out.write((int) (value >>> 16));
+    out.write((int) (value >>> 8));
+    out.write((int) value);
+  }
+}
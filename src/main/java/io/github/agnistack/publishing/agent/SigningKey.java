@@ -0,0 +1,267 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import io.github.agnistack.publishing.io.Hex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The key gpg would sign with, as needed to have gpg-agent sign a digest, to build the signature packet and to
+ * tell signatures of different keys apart: its public key algorithm, v4 fingerprint and keygrip.
+ *
+ * @since 0.3.0
+ */
+public class SigningKey {
+
+  /**
+   * OpenPGP public key algorithms gpg-agent can sign with that the signature packet supports.
+   */
+  static final int RSA = 1;
+  static final int DSA = 17;
+  static final int ECDSA = 19;
+  static final int EDDSA = 22;
+
+  private final int algorithm;
+  private final byte[] fingerprint;
+  private final String keygrip;
+
+  SigningKey(int algorithm, byte[] fingerprint, String keygrip) {
+    this.algorithm = algorithm;
+    this.fingerprint = fingerprint.clone();
+    this.keygrip = keygrip;
+  }
+
+  /**
+   * Looks up the key gpg signs with, as {@code gpg --detach-sign} selects it: the key named by
+   * {@code --local-user}, otherwise the last {@code default-key} of {@code gpg.conf} that has a secret key,
+   * otherwise the first secret key.
+   *
+   * @param gpgExecutable the gpg executable
+   * @param keyName       a user ID or fingerprint, as for {@code --local-user}, or {@code null} for the default key
+   * @return the key, or its newest signing subkey if it has one
+   * @throws IOException if gpg fails or no usable key is found
+   */
+  public static SigningKey find(String gpgExecutable, String keyName) throws IOException {
+    if (keyName != null && !keyName.isEmpty()) {
+      return parse(listSecretKeys(gpgExecutable, keyName, true));
+    }
+
+    List<String> defaultKeys = readDefaultKeys(gpgExecutable);
+    for (int i = defaultKeys.size() - 1; i >= 0; i--) {
+      String listing = listSecretKeys(gpgExecutable, defaultKeys.get(i), false);
+      if (listing != null) {
+        return parse(listing);
+      }
+    }
+    return parse(listSecretKeys(gpgExecutable, null, true));
+  }
+
+  /**
+   * Lists the secret keys matching a name, or all of them, in a {@code --with-colons --with-keygrip} listing.
+   *
+   * @param required whether to fail if gpg does, rather than return {@code null}
+   */
+  private static String listSecretKeys(String gpgExecutable, String keyName, boolean required)
+      throws IOException {
+    List<String> command = new ArrayList<>(Arrays.asList(gpgExecutable, "--batch", "--with-colons",
+        "--with-keygrip", "--fixed-list-mode", "--list-secret-keys"));
+    if (keyName != null) {
+      command.add(keyName);
+    }
+    return run(command, "Listing GPG secret keys" + (keyName != null ? " for key " + keyName : ""), required);
+  }
+
+  /**
+   * Returns the {@code default-key} values of the {@code gpg.conf} in the home directory of the given gpg.
+   */
+  private static List<String> readDefaultKeys(String gpgExecutable) throws IOException {
+    String home = parseHome(run(Arrays.asList(gpgExecutable, "--batch", "--version"), "Running gpg --version",
+        true));
+    if (home == null) {
+      return Collections.emptyList();
+    }
+    Path gpgConf = Paths.get(home, "gpg.conf");
+    return Files.isRegularFile(gpgConf)
+        ? parseDefaultKeys(new String(Files.readAllBytes(gpgConf), StandardCharsets.UTF_8))
+        : Collections.emptyList();
+  }
+
+  /**
+   * Returns the home directory from the {@code Home:} line of {@code gpg --version}, or {@code null}.
+   */
+  static String parseHome(String version) {
+    for (String line : version.split("\\R")) {
+      if (line.startsWith("Home:")) {
+        return line.substring("Home:".length()).trim();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the values of the {@code default-key} options of a {@code gpg.conf}, in order.
+   */
+  static List<String> parseDefaultKeys(String gpgConf) {
+    List<String> keys = new ArrayList<>();
+    for (String line : gpgConf.split("\\R")) {
+      String[] option = line.trim().split("\\s+", 2);
+      if (option.length == 2 && "default-key".equals(option[0])) {
+        keys.add(option[1].trim());
+      }
+    }
+    return keys;
+  }
+
+  private static String run(List<String> command, String description, boolean required) throws IOException {
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+    Process process = pb.start();
+    try {
+      String output;
+      try (InputStream out = process.getInputStream()) {
+        output = new String(out.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      int exitCode = process.waitFor();
+      if (exitCode != 0) {
+        if (!required) {
+          return null;
+        }
+        throw new IOException(description + " failed with exit code: " + exitCode);
+      }
+      return output;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(description + " was interrupted", e);
+    } finally {
+      process.destroyForcibly();
+    }
+  }
+
+  /**
+   * Picks the signing key of the first secret key in a {@code --with-colons --with-keygrip} listing: its newest
+   * valid signing subkey, or the primary key itself.
+   */
+  static SigningKey parse(String listing) throws IOException {
+    SigningKey primary = null;
+    SigningKey subkey = null;
+    long subkeyCreated = -1;
+    boolean inFirstKey = false;
+    String[] current = null;
+
+    for (String line : listing.split("\\R")) {
+      String[] fields = line.split(":", -1);
+      switch (fields[0]) {
+        case "sec":
+          if (inFirstKey) {
+            return choose(primary, subkey);
+          }
+          inFirstKey = true;
+          current = usable(fields) ? fields : null;
+          break;
+        case "ssb":
+          current = usable(fields) ? fields : null;
+          break;
+        case "fpr":
+          if (current != null && fields.length > 9) {
+            // Remember the fingerprint until the keygrip of the same key follows
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = fields[9];
+          }
+          break;
+        case "grp":
+          if (current != null && fields.length > 9) {
+            SigningKey key = new SigningKey(Integer.parseInt(current[3]), Hex.decode(current[current.length - 1]),
+                fields[9]);
+            if ("sec".equals(current[0])) {
+              primary = key;
+            } else if (Long.parseLong(current[5]) > subkeyCreated) {
+              subkey = key;
+              subkeyCreated = Long.parseLong(current[5]);
+            }
+            current = null;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return choose(primary, subkey);
+  }
+
+  private static SigningKey choose(SigningKey primary, SigningKey subkey) throws IOException {
+    SigningKey key = subkey != null ? subkey : primary;
+    if (key == null) {
+      throw new IOException("No secret key that can sign was found");
+    }
+    return key;
+  }
+
+  /**
+   * Whether gpg-agent signing supports the public key algorithm of this key.
+   */
+  boolean isAgentSigningSupported() {
+    return algorithm == RSA || algorithm == DSA || algorithm == ECDSA || algorithm == EDDSA;
+  }
+
+  /**
+   * Whether a key can sign: not revoked, expired or disabled, with the sign capability of the key itself.
+   */
+  private static boolean usable(String[] fields) {
+    return fields.length > 11 && !fields[1].matches(".*[redni].*") && fields[11].contains("s");
+  }
+
+  int getAlgorithm() {
+    return algorithm;
+  }
+
+  byte[] getFingerprintBytes() {
+    return fingerprint.clone();
+  }
+
+  /**
+   * Returns the key ID, the low 64 bits of the v4 fingerprint.
+   */
+  byte[] getKeyId() {
+    return Arrays.copyOfRange(fingerprint, fingerprint.length - 8, fingerprint.length);
+  }
+
+  public String getFingerprint() {
+    return Hex.encode(fingerprint).toUpperCase();
+  }
+
+  public String getKeygrip() {
+    return keygrip;
+  }
+
+  @Override
+  public String toString() {
+    return getFingerprint() + " (algorithm " + algorithm + ", keygrip " + keygrip + ")";
+  }
+}
@@ -42,6 +42,16 @@ public interface BundleBuilder extends Closeable {
    */
   void addFile(File file, MavenCoordinates coordinates, String fileName) throws IOException;
 
+  /**
+   * Adds in-memory content to the bundle.
+   *
+   * @param content     the entry content
+   * @param coordinates the Maven coordinates for the artifact
+   * @param fileName    the target file name in the bundle
+   * @throws IOException if adding the content fails
+   */
+  void addContent(byte[] content, MavenCoordinates coordinates, String fileName) throws IOException;
+
   /**
    * Returns the bundle file.
    *
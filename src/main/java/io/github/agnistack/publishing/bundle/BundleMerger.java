@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines partial deployment bundles into a single bundle.
+ *
+ * <p>Entries are copied with their compressed bytes unchanged, so merging costs little more than the
+ * file copy itself. All inputs are checked for duplicate entry paths before anything is written.
+ *
+ * @since 0.3.0
+ */
+public class BundleMerger {
+
+  /**
+   * Merges the given bundles, in order, into the target file.
+   *
+   * @param parts  the partial bundles
+   * @param target the merged bundle to write
+   * @return the number of entries in the merged bundle
+   * @throws IOException if an input cannot be read, entry paths collide, or writing fails
+   */
+  public int merge(List<File> parts, File target) throws IOException {
+    if (parts.isEmpty()) {
+      throw new IOException("No partial bundles to merge");
+    }
+
+    List<RawZipReader> readers = new ArrayList<>(parts.size());
+    try {
+      for (File part : parts) {
+        readers.add(new RawZipReader(part));
+      }
+      checkDuplicates(readers);
+
+      boolean written = false;
+      try (RawZipWriter writer = new RawZipWriter(target)) {
+        for (RawZipReader reader : readers) {
+          for (RawZipEntry entry : reader.getEntries()) {
+            writer.copyEntry(reader, entry);
+          }
+        }
+        writer.finish();
+        written = true;
+        return writer.getEntryCount();
+      } finally {
+        if (!written) {
+          target.delete();
+        }
+      }
+    } finally {
+      for (RawZipReader reader : readers) {
+        reader.close();
+      }
+    }
+  }
+
+  private static void checkDuplicates(List<RawZipReader> readers) throws IOException {
+    Map<String, File> owners = new LinkedHashMap<>();
+    List<String> duplicates = new ArrayList<>();
+    for (RawZipReader reader : readers) {
+      for (RawZipEntry entry : reader.getEntries()) {
+        File owner = owners.putIfAbsent(entry.getName(), reader.getFile());
+        if (owner != null) {
+          duplicates.add(entry.getName() + " (in " + owner.getName() + " and " + reader.getFile().getName() + ")");
+        }
+      }
+    }
+
+    if (!duplicates.isEmpty()) {
+      throw new IOException("Partial bundles contain " + duplicates.size() + " duplicate entry path(s):\n  "
+          + String.join("\n  ", duplicates));
+    }
+  }
+}
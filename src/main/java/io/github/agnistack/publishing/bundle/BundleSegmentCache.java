@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import io.github.agnistack.publishing.cache.FileStamp;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Directory of bundle segments: the finished, compressed bundle entries of one project each, stored as a
+ * ZIP file named after a fingerprint of everything the entries are made from.
+ *
+ * <p>The fingerprint covers the coordinates, the size and modification time of the artifact files, their
+ * sidecars and the POM files the coordinates are read from, and a salt describing the signing key and the
+ * options that change the bundled content. A segment stays valid until any of them changes, and is copied
+ * into later bundles without being rebuilt or recompressed.
+ *
+ * @since 0.3.0
+ */
+public class BundleSegmentCache {
+
+  private static final String SEGMENT_EXTENSION = ".zip";
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+  private static final String FORMAT_VERSION = "1";
+  private static final long MAX_UNUSED_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+  private final File directory;
+  private final String salt;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  /**
+   * Creates a segment cache.
+   *
+   * @param directory the segment directory
+   * @param salt      describes the signing key and the options that change bundled content
+   */
+  public BundleSegmentCache(File directory, String salt) {
+    this.directory = directory;
+    this.salt = salt;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Computes the key of the segment of a project.
+   *
+   * @param coordinates the coordinates of the project
+   * @param artifacts   the collected artifact files
+   * @param sourceFiles the POM files the coordinates are read from
+   * @return the key
+   * @throws IOException if the file attributes cannot be read
+   */
+  public String key(MavenCoordinates coordinates, List<ArtifactFile> artifacts, List<File> sourceFiles)
+      throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("SHA-256 is not supported", e);
+    }
+
+    update(digest, FORMAT_VERSION);
+    update(digest, salt);
+    update(digest, coordinates.toString());
+    for (File sourceFile : sourceFiles) {
+      update(digest, stamp(sourceFile));
+    }
+    for (ArtifactFile artifact : artifacts) {
+      update(digest, artifact.getType() + " " + artifact.getFileName());
+      update(digest, stamp(artifact.getFile()));
+      for (Map.Entry<String, File> sidecar : artifact.getSidecars().entrySet()) {
+        update(digest, sidecar.getKey() + " " + stamp(sidecar.getValue()));
+      }
+    }
+    return Hex.encode(digest.digest());
+  }
+
+  /**
+   * Returns the segment stored under a key and marks it as used, or returns {@code null} if there is none.
+   */
+  public File find(String key) {
+    File segment = segmentFile(key);
+    if (!segment.isFile()) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    // Keeps segments in use from being pruned
+    segment.setLastModified(System.currentTimeMillis());
+    return segment;
+  }
+
+  /**
+   * Deletes segments that have not been used for a week, and temporary files left behind by failed builds.
+   *
+   * @return the number of files deleted
+   */
+  public int prune() {
+    File[] files = directory.listFiles(File::isFile);
+    if (files == null) {
+      return 0;
+    }
+    long unusedSince = System.currentTimeMillis() - MAX_UNUSED_MILLIS;
+    int deleted = 0;
+    for (File file : files) {
+      boolean stale = file.lastModified() < unusedSince
+          && (file.getName().endsWith(SEGMENT_EXTENSION) || file.getName().endsWith(TEMPORARY_EXTENSION));
+      if (stale && file.delete()) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * Returns the number of projects whose segment was found.
+   */
+  public int getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of projects whose segment had to be built.
+   */
+  public int getMissCount() {
+    return misses.get();
+  }
+
+  File segmentFile(String key) {
+    return new File(directory, key + SEGMENT_EXTENSION);
+  }
+
+  File createTemporaryFile(String key) throws IOException {
+    if (!directory.exists() && !directory.mkdirs() && !directory.isDirectory()) {
+      throw new IOException("Failed to create directory: " + directory);
+    }
+    return Files.createTempFile(directory.toPath(), key, TEMPORARY_EXTENSION).toFile();
+  }
+
+  /**
+   * Moves a finished segment into place, replacing a segment written concurrently under the same key.
+   */
+  File store(String key, File temporaryFile) throws IOException {
+    File segment = segmentFile(key);
+    try {
+      Files.move(temporaryFile.toPath(), segment.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporaryFile.toPath(), segment.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    return segment;
+  }
+
+  private static String stamp(File file) throws IOException {
+    return file.exists() ? FileStamp.of(file).toString() : file.getAbsolutePath() + " (absent)";
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+}
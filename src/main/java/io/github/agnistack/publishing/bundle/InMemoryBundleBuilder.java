@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * BundleBuilder that builds the whole bundle in a byte buffer, for bundles small enough that writing
+ * and re-reading a ZIP file costs more than producing it.
+ *
+ * @since 0.3.0
+ */
+public class InMemoryBundleBuilder implements BundleBuilder {
+
+  private final ByteArrayOutputStream buffer;
+  private final ZipOutputStream zos;
+
+  /**
+   * Creates a builder.
+   *
+   * @param expectedSize the expected bundle size in bytes, used to size the buffer
+   */
+  public InMemoryBundleBuilder(int expectedSize) {
+    this.buffer = new ByteArrayOutputStream(Math.max(expectedSize, 8192));
+    this.zos = new ZipOutputStream(buffer);
+  }
+
+  @Override
+  public void addFile(File file, MavenCoordinates coordinates, String fileName) throws IOException {
+    addContent(Files.readAllBytes(file.toPath()), coordinates, fileName);
+  }
+
+  @Override
+  public void addContent(byte[] content, MavenCoordinates coordinates, String fileName) throws IOException {
+    ZipEntry zipEntry = new ZipEntry(coordinates.getRepositoryPath() + fileName);
+    zos.putNextEntry(zipEntry);
+    zos.write(content);
+    zos.closeEntry();
+  }
+
+  /**
+   * Returns {@code null}, the bundle is never written to disk.
+   */
+  @Override
+  public File getBundleFile() {
+    return null;
+  }
+
+  /**
+   * Returns the bundle content; only complete after the builder has been closed.
+   *
+   * @return the bundle ZIP content
+   */
+  public byte[] toByteArray() {
+    return buffer.toByteArray();
+  }
+
+  @Override
+  public void close() throws IOException {
+    zos.close();
+  }
+}
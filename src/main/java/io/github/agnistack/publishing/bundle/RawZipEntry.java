@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Central directory record of a ZIP entry, with everything needed to copy its compressed data as-is.
+ *
+ * @since 0.3.0
+ */
+public class RawZipEntry {
+
+  private final byte[] nameBytes;
+  private final String name;
+  private final int versionNeeded;
+  private final int flags;
+  private final int method;
+  private final int dosTime;
+  private final int dosDate;
+  private final long crc;
+  private final long compressedSize;
+  private final long uncompressedSize;
+  private final long localHeaderOffset;
+
+  RawZipEntry(byte[] nameBytes, int versionNeeded, int flags, int method, int dosTime, int dosDate,
+              long crc, long compressedSize, long uncompressedSize, long localHeaderOffset) {
+    this.nameBytes = nameBytes;
+    this.name = new String(nameBytes, StandardCharsets.UTF_8);
+    this.versionNeeded = versionNeeded;
+    this.flags = flags;
+    this.method = method;
+    this.dosTime = dosTime;
+    this.dosDate = dosDate;
+    this.crc = crc;
+    this.compressedSize = compressedSize;
+    this.uncompressedSize = uncompressedSize;
+    this.localHeaderOffset = localHeaderOffset;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  byte[] getNameBytes() {
+    return nameBytes;
+  }
+
+  int getVersionNeeded() {
+    return versionNeeded;
+  }
+
+  int getFlags() {
+    return flags;
+  }
+
+  int getMethod() {
+    return method;
+  }
+
+  int getDosTime() {
+    return dosTime;
+  }
+
+  int getDosDate() {
+    return dosDate;
+  }
+
+  long getCrc() {
+    return crc;
+  }
+
+  public long getCompressedSize() {
+    return compressedSize;
+  }
+
+  public long getUncompressedSize() {
+    return uncompressedSize;
+  }
+
+  long getLocalHeaderOffset() {
+    return localHeaderOffset;
+  }
+
+  @Override
+  public String toString() {
+    return name + " (" + compressedSize + '/' + uncompressedSize + " bytes)";
+  }
+}
@@ -0,0 +1,239 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the central directory of a ZIP file and copies the compressed data of its entries without inflating it.
+ *
+ * <p>Only the subset of the ZIP format produced by {@link java.util.zip.ZipOutputStream} for bundles is
+ * supported: a single disk, with ZIP64 records for large sizes, offsets and entry counts.
+ *
+ * @since 0.3.0
+ */
+public class RawZipReader implements Closeable {
+
+  static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  static final int LOCAL_HEADER_SIZE = 30;
+  static final int CENTRAL_HEADER_SIZE = 46;
+  static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  static final long ZIP64_MARKER = 0xFFFFFFFFL;
+  static final int ZIP64_ENTRY_COUNT_MARKER = 0xFFFF;
+  static final int ZIP64_EXTRA_ID = 0x0001;
+  static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+  static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+  static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+
+  private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+  private final File file;
+  private final FileChannel channel;
+  private final List<RawZipEntry> entries;
+
+  public RawZipReader(File file) throws IOException {
+    this.file = file;
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      this.entries = Collections.unmodifiableList(readCentralDirectory());
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Returns the entries in central directory order.
+   */
+  public List<RawZipEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Copies the compressed data of an entry, without its local header, to the target.
+   *
+   * @param entry  an entry of this file
+   * @param target the target channel
+   * @throws IOException if reading or writing fails
+   */
+  public void transferRawData(RawZipEntry entry, WritableByteChannel target) throws IOException {
+    ByteBuffer header = readFully(entry.getLocalHeaderOffset(), LOCAL_HEADER_SIZE);
+    if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+      throw new IOException("Invalid local header for " + entry.getName() + " in " + file);
+    }
+    int nameLength = header.getShort(26) & 0xFFFF;
+    int extraLength = header.getShort(28) & 0xFFFF;
+
+    long position = entry.getLocalHeaderOffset() + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    long remaining = entry.getCompressedSize();
+    while (remaining > 0) {
+      long transferred = channel.transferTo(position, remaining, target);
+      if (transferred <= 0) {
+        throw new IOException("Unexpected end of data for " + entry.getName() + " in " + file);
+      }
+      position += transferred;
+      remaining -= transferred;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private List<RawZipEntry> readCentralDirectory() throws IOException {
+    long eocdOffset = findEndOfCentralDirectory();
+    ByteBuffer eocd = readFully(eocdOffset, END_OF_CENTRAL_DIRECTORY_SIZE);
+    long entryCount = eocd.getShort(10) & 0xFFFF;
+    long directorySize = eocd.getInt(12) & ZIP64_MARKER;
+    long directoryOffset = eocd.getInt(16) & ZIP64_MARKER;
+
+    // ZipOutputStream writes the ZIP64 end records whenever one of the values does not fit, and may even if all do
+    long locatorOffset = eocdOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+    if (locatorOffset >= 0) {
+      ByteBuffer locator = readFully(locatorOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE);
+      if (locator.getInt(0) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+        ByteBuffer record = readFully(locator.getLong(8), 56);
+        if (record.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+          throw new IOException("Invalid ZIP64 end of central directory record in " + file);
+        }
+        entryCount = record.getLong(32);
+        directorySize = record.getLong(40);
+        directoryOffset = record.getLong(48);
+      }
+    }
+    if (entryCount == ZIP64_ENTRY_COUNT_MARKER && directorySize < entryCount * CENTRAL_HEADER_SIZE) {
+      throw new IOException("Missing ZIP64 end of central directory record in " + file);
+    }
+    if (directorySize > Integer.MAX_VALUE) {
+      throw new IOException("Central directory of " + directorySize + " bytes is too large in " + file);
+    }
+
+    ByteBuffer directory = readFully(directoryOffset, (int) directorySize);
+    List<RawZipEntry> result = new ArrayList<>((int) Math.min(entryCount, directorySize / CENTRAL_HEADER_SIZE));
+    int position = 0;
+    for (long i = 0; i < entryCount; i++) {
+      if (position + CENTRAL_HEADER_SIZE > directory.limit()
+          || directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+        throw new IOException("Invalid central directory in " + file);
+      }
+      int versionNeeded = directory.getShort(position + 6) & 0xFFFF;
+      int flags = directory.getShort(position + 8) & 0xFFFF;
+      int method = directory.getShort(position + 10) & 0xFFFF;
+      int dosTime = directory.getShort(position + 12) & 0xFFFF;
+      int dosDate = directory.getShort(position + 14) & 0xFFFF;
+      long crc = directory.getInt(position + 16) & ZIP64_MARKER;
+      long compressedSize = directory.getInt(position + 20) & ZIP64_MARKER;
+      long uncompressedSize = directory.getInt(position + 24) & ZIP64_MARKER;
+      int nameLength = directory.getShort(position + 28) & 0xFFFF;
+      int extraLength = directory.getShort(position + 30) & 0xFFFF;
+      int commentLength = directory.getShort(position + 32) & 0xFFFF;
+      long localHeaderOffset = directory.getInt(position + 42) & ZIP64_MARKER;
+
+      byte[] name = new byte[nameLength];
+      directory.position(position + CENTRAL_HEADER_SIZE);
+      directory.get(name);
+
+      if (compressedSize == ZIP64_MARKER || uncompressedSize == ZIP64_MARKER || localHeaderOffset == ZIP64_MARKER) {
+        // The ZIP64 field holds only the values whose header field is the marker, in this order
+        ByteBuffer extra = findZip64Extra(directory, position + CENTRAL_HEADER_SIZE + nameLength, extraLength);
+        if (extra == null) {
+          throw new IOException("Missing ZIP64 extra field for " + new String(name, StandardCharsets.UTF_8)
+              + " in " + file);
+        }
+        if (uncompressedSize == ZIP64_MARKER) {
+          uncompressedSize = extra.getLong();
+        }
+        if (compressedSize == ZIP64_MARKER) {
+          compressedSize = extra.getLong();
+        }
+        if (localHeaderOffset == ZIP64_MARKER) {
+          localHeaderOffset = extra.getLong();
+        }
+      }
+
+      result.add(new RawZipEntry(name, versionNeeded, flags, method, dosTime, dosDate, crc,
+          compressedSize, uncompressedSize, localHeaderOffset));
+      position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the data of the ZIP64 extended information field among the extra fields, or {@code null}.
+   */
+  private static ByteBuffer findZip64Extra(ByteBuffer directory, int start, int length) {
+    int position = start;
+    while (position + 4 <= start + length) {
+      int id = directory.getShort(position) & 0xFFFF;
+      int size = directory.getShort(position + 2) & 0xFFFF;
+      if (id == ZIP64_EXTRA_ID) {
+        ByteBuffer extra = directory.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        extra.limit(Math.min(position + 4 + size, start + length)).position(position + 4);
+        return extra.slice().order(ByteOrder.LITTLE_ENDIAN);
+      }
+      position += 4 + size;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the offset of the end of central directory record.
+   */
+  private long findEndOfCentralDirectory() throws IOException {
+    long size = channel.size();
+    int tailSize = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+    ByteBuffer tail = readFully(size - tailSize, tailSize);
+    for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+      if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        return size - tailSize + i;
+      }
+    }
+    throw new IOException("Not a ZIP file (no end of central directory record): " + file);
+  }
+
+  private ByteBuffer readFully(long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of file: " + file);
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+}
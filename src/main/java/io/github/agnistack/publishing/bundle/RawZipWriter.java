@@ -0,0 +1,251 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.github.agnistack.publishing.bundle.RawZipReader.CENTRAL_HEADER_SIGNATURE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.CENTRAL_HEADER_SIZE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.END_OF_CENTRAL_DIRECTORY_SIGNATURE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.END_OF_CENTRAL_DIRECTORY_SIZE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.LOCAL_HEADER_SIGNATURE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.LOCAL_HEADER_SIZE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_ENTRY_COUNT_MARKER;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_EXTRA_ID;
+import static io.github.agnistack.publishing.bundle.RawZipReader.ZIP64_MARKER;
+
+/**
+ * Writes a ZIP file from entries of other ZIP files, copying their compressed data unchanged.
+ *
+ * <p>Local headers are rewritten with the CRC and sizes from the source central directory, so the
+ * data descriptor flag is cleared and no descriptors are written. Extra fields and comments are dropped.
+ * Sizes and offsets from 4 GiB on and more than 65,534 entries are written as ZIP64 records, as
+ * {@link java.util.zip.ZipOutputStream} does.
+ *
+ * @since 0.3.0
+ */
+public class RawZipWriter implements Closeable {
+
+  private static final int DATA_DESCRIPTOR_FLAG = 0x08;
+  private static final int VERSION_MADE_BY = 20;
+  private static final int VERSION_ZIP64 = 45;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_SIZE = 44;
+
+  private final File file;
+  private final FileChannel channel;
+  private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+  private final Set<String> names = new HashSet<>();
+  private int entryCount;
+  private boolean finished;
+
+  public RawZipWriter(File file) throws IOException {
+    File parent = file.getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs()) {
+      throw new IOException("Failed to create directory: " + parent);
+    }
+    this.file = file;
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Copies an entry of the source reader into this file.
+   *
+   * @param source the reader the entry belongs to
+   * @param entry  the entry to copy
+   * @throws IOException if the entry name was already written or copying fails
+   */
+  public void copyEntry(RawZipReader source, RawZipEntry entry) throws IOException {
+    if (!names.add(entry.getName())) {
+      throw new IOException("Duplicate entry " + entry.getName() + " (from " + source.getFile() + ")");
+    }
+
+    long offset = channel.position();
+    byte[] name = entry.getNameBytes();
+    int flags = entry.getFlags() & ~DATA_DESCRIPTOR_FLAG;
+    boolean zip64Sizes = entry.getCompressedSize() >= ZIP64_MARKER || entry.getUncompressedSize() >= ZIP64_MARKER;
+    boolean zip64Offset = offset >= ZIP64_MARKER;
+    int versionNeeded = zip64Sizes || zip64Offset ? Math.max(VERSION_ZIP64, entry.getVersionNeeded())
+        : entry.getVersionNeeded();
+
+    // A local header holds both sizes in its ZIP64 field, or neither
+    byte[] localExtra = zip64Sizes ? zip64Extra(entry.getUncompressedSize(), entry.getCompressedSize()) : new byte[0];
+    ByteBuffer local = ByteBuffer.allocate(LOCAL_HEADER_SIZE + name.length + localExtra.length)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    local.putInt(LOCAL_HEADER_SIGNATURE)
+        .putShort((short) versionNeeded)
+        .putShort((short) flags)
+        .putShort((short) entry.getMethod())
+        .putShort((short) entry.getDosTime())
+        .putShort((short) entry.getDosDate())
+        .putInt((int) entry.getCrc())
+        .putInt((int) (zip64Sizes ? ZIP64_MARKER : entry.getCompressedSize()))
+        .putInt((int) (zip64Sizes ? ZIP64_MARKER : entry.getUncompressedSize()))
+        .putShort((short) name.length)
+        .putShort((short) localExtra.length)
+        .put(name)
+        .put(localExtra)
+        .flip();
+    writeFully(local);
+    source.transferRawData(entry, channel);
+
+    // A central header holds only the values that do not fit, in this order
+    List<Long> overflowing = new ArrayList<>(3);
+    if (zip64Sizes) {
+      overflowing.add(entry.getUncompressedSize());
+      overflowing.add(entry.getCompressedSize());
+    }
+    if (zip64Offset) {
+      overflowing.add(offset);
+    }
+    byte[] centralExtra = overflowing.isEmpty() ? new byte[0]
+        : zip64Extra(overflowing.stream().mapToLong(Long::longValue).toArray());
+    ByteBuffer central = ByteBuffer.allocate(CENTRAL_HEADER_SIZE + name.length + centralExtra.length)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    central.putInt(CENTRAL_HEADER_SIGNATURE)
+        .putShort((short) Math.max(VERSION_MADE_BY, versionNeeded))
+        .putShort((short) versionNeeded)
+        .putShort((short) flags)
+        .putShort((short) entry.getMethod())
+        .putShort((short) entry.getDosTime())
+        .putShort((short) entry.getDosDate())
+        .putInt((int) entry.getCrc())
+        .putInt((int) (zip64Sizes ? ZIP64_MARKER : entry.getCompressedSize()))
+        .putInt((int) (zip64Sizes ? ZIP64_MARKER : entry.getUncompressedSize()))
+        .putShort((short) name.length)
+        .putShort((short) centralExtra.length)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putInt(0)
+        .putInt((int) (zip64Offset ? ZIP64_MARKER : offset))
+        .put(name)
+        .put(centralExtra);
+    centralDirectory.write(central.array(), 0, central.position());
+    entryCount++;
+  }
+
+  /**
+   * Returns the number of entries written so far.
+   */
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * Writes the central directory, with ZIP64 end records if the entry count, its size or its offset need them.
+   * Called by {@link #close()} if not done before.
+   *
+   * @throws IOException if writing fails
+   */
+  public void finish() throws IOException {
+    if (finished) {
+      return;
+    }
+    finished = true;
+
+    long directoryOffset = channel.position();
+    long directorySize = centralDirectory.size();
+    writeFully(ByteBuffer.wrap(centralDirectory.toByteArray()));
+
+    boolean zip64 = entryCount >= ZIP64_ENTRY_COUNT_MARKER || directorySize >= ZIP64_MARKER
+        || directoryOffset >= ZIP64_MARKER;
+    if (zip64) {
+      long recordOffset = channel.position();
+      ByteBuffer record = ByteBuffer.allocate(ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_SIZE + 12)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      record.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+          .putLong(ZIP64_END_OF_CENTRAL_DIRECTORY_RECORD_SIZE)
+          .putShort((short) VERSION_ZIP64)
+          .putShort((short) VERSION_ZIP64)
+          .putInt(0)
+          .putInt(0)
+          .putLong(entryCount)
+          .putLong(entryCount)
+          .putLong(directorySize)
+          .putLong(directoryOffset)
+          .flip();
+      writeFully(record);
+
+      ByteBuffer locator = ByteBuffer.allocate(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      locator.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE)
+          .putInt(0)
+          .putLong(recordOffset)
+          .putInt(1)
+          .flip();
+      writeFully(locator);
+    }
+
+    int count = (int) Math.min(entryCount, ZIP64_ENTRY_COUNT_MARKER);
+    ByteBuffer end = ByteBuffer.allocate(END_OF_CENTRAL_DIRECTORY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    end.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) count)
+        .putShort((short) count)
+        .putInt((int) Math.min(directorySize, ZIP64_MARKER))
+        .putInt((int) Math.min(directoryOffset, ZIP64_MARKER))
+        .putShort((short) 0)
+        .flip();
+    writeFully(end);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Returns a ZIP64 extended information extra field holding the given values.
+   */
+  private static byte[] zip64Extra(long... values) {
+    ByteBuffer extra = ByteBuffer.allocate(4 + 8 * values.length).order(ByteOrder.LITTLE_ENDIAN);
+    extra.putShort((short) ZIP64_EXTRA_ID).putShort((short) (8 * values.length));
+    for (long value : values) {
+      extra.putLong(value);
+    }
+    return extra.array();
+  }
+
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
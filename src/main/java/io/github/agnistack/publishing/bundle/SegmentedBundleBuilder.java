@@ -0,0 +1,132 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bundle builder that writes the entries of each project to a segment of a {@link BundleSegmentCache}, and
+ * stitches all segments into the bundle when closed by copying their compressed entries unchanged.
+ *
+ * <p>Segments of unchanged projects are added from the cache with {@link #addSegment(String)}; the entries of
+ * other projects are written between {@link #startSegment(String)} and {@link #finishSegment()}.
+ *
+ * @since 0.3.0
+ */
+public class SegmentedBundleBuilder implements BundleBuilder {
+
+  private final File bundleFile;
+  private final BundleSegmentCache cache;
+  private final List<File> segments = new ArrayList<>();
+  private String segmentKey;
+  private File segmentFile;
+  private ZipBundleBuilder segmentBuilder;
+
+  public SegmentedBundleBuilder(File bundleFile, BundleSegmentCache cache) {
+    this.bundleFile = bundleFile;
+    this.cache = cache;
+  }
+
+  /**
+   * Adds a cached segment to the bundle.
+   *
+   * @param key the key of the segment
+   * @throws IOException if the segment no longer exists
+   */
+  public void addSegment(String key) throws IOException {
+    File segment = cache.segmentFile(key);
+    if (!segment.isFile()) {
+      throw new IOException("Cached bundle segment disappeared: " + segment);
+    }
+    segments.add(segment);
+  }
+
+  /**
+   * Starts a new segment, to which all entries are written until {@link #finishSegment()}.
+   *
+   * @param key the key to store the segment under
+   * @throws IOException if the segment cannot be created
+   */
+  public void startSegment(String key) throws IOException {
+    if (segmentBuilder != null) {
+      throw new IllegalStateException("Segment " + segmentKey + " was not finished");
+    }
+    segmentFile = cache.createTemporaryFile(key);
+    segmentBuilder = new ZipBundleBuilder(segmentFile);
+    segmentKey = key;
+  }
+
+  /**
+   * Finishes the current segment, stores it in the cache and adds it to the bundle.
+   *
+   * @throws IOException if the segment cannot be written
+   */
+  public void finishSegment() throws IOException {
+    requireSegment().close();
+    segments.add(cache.store(segmentKey, segmentFile));
+    segmentBuilder = null;
+    segmentFile = null;
+    segmentKey = null;
+  }
+
+  @Override
+  public void addFile(File file, MavenCoordinates coordinates, String fileName) throws IOException {
+    requireSegment().addFile(file, coordinates, fileName);
+  }
+
+  @Override
+  public void addContent(byte[] content, MavenCoordinates coordinates, String fileName) throws IOException {
+    requireSegment().addContent(content, coordinates, fileName);
+  }
+
+  @Override
+  public File getBundleFile() {
+    return bundleFile;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (segmentBuilder != null) {
+      // Never store a segment left unfinished by a failure
+      segmentBuilder.close();
+      Files.deleteIfExists(segmentFile.toPath());
+      segmentBuilder = null;
+    }
+
+    if (segments.isEmpty()) {
+      new RawZipWriter(bundleFile).close();
+    } else {
+      new BundleMerger().merge(segments, bundleFile);
+    }
+  }
+
+  private ZipBundleBuilder requireSegment() {
+    if (segmentBuilder == null) {
+      throw new IllegalStateException("No segment started");
+    }
+    return segmentBuilder;
+  }
+}
@@ -19,10 +19,11 @@
  */
 package io.github.agnistack.publishing.bundle;
 
+import io.github.agnistack.publishing.io.BufferPool;
+import io.github.agnistack.publishing.io.ChunkReader;
 import io.github.agnistack.publishing.model.MavenCoordinates;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.zip.ZipEntry;
@@ -59,14 +60,19 @@ public class ZipBundleBuilder implements BundleBuilder {
     ZipEntry zipEntry = new ZipEntry(entryPath);
     zos.putNextEntry(zipEntry);
 
-    try (FileInputStream fis = new FileInputStream(file)) {
-      byte[] buffer = new byte[8192];
-      int length;
-      while ((length = fis.read(buffer)) > 0) {
-        zos.write(buffer, 0, length);
-      }
-    }
+    ChunkReader.read(file, BufferPool.shared(),
+        chunk -> zos.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining()));
+
+    zos.closeEntry();
+  }
 
+  @Override
+  public void addContent(byte[] content, MavenCoordinates coordinates, String fileName) throws IOException {
+    String entryPath = coordinates.getRepositoryPath() + fileName;
+
+    ZipEntry zipEntry = new ZipEntry(entryPath);
+    zos.putNextEntry(zipEntry);
+    zos.write(content);
     zos.closeEntry();
   }
 
@@ -0,0 +1,74 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cache;
+
+/**
+ * Hit and miss counts of a cache.
+ *
+ * @since 0.3.0
+ */
+public final class CacheStatistics {
+
+  private final long hits;
+  private final long misses;
+  private final int size;
+
+  public CacheStatistics(long hits, long misses, int size) {
+    this.hits = hits;
+    this.misses = misses;
+    this.size = size;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public long getMisses() {
+    return misses;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the fraction of lookups that were hits, or 0 if there were no lookups.
+   */
+  public double getHitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * Returns the lookups made since an earlier snapshot of the same cache.
+   *
+   * @param earlier the earlier snapshot
+   * @return the difference, with the current size
+   */
+  public CacheStatistics since(CacheStatistics earlier) {
+    return new CacheStatistics(hits - earlier.hits, misses - earlier.misses, size);
+  }
+
+  @Override
+  public String toString() {
+    return hits + " hit(s), " + misses + " miss(es) (" + Math.round(getHitRate() * 100) + "% hit rate), "
+        + size + " cached";
+  }
+}
@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * Path, size and modification time of a file, used to detect that a cached result is stale.
+ *
+ * @since 0.3.0
+ */
+public final class FileStamp {
+
+  private final File file;
+  private final long size;
+  private final FileTime lastModified;
+
+  private FileStamp(File file, long size, FileTime lastModified) {
+    this.file = file;
+    this.size = size;
+    this.lastModified = lastModified;
+  }
+
+  /**
+   * Reads the current stamp of a file.
+   *
+   * @param file the file
+   * @return the stamp
+   * @throws IOException if the file attributes cannot be read
+   */
+  public static FileStamp of(File file) throws IOException {
+    File absoluteFile = file.getAbsoluteFile();
+    BasicFileAttributes attributes = Files.readAttributes(absoluteFile.toPath(), BasicFileAttributes.class);
+    return new FileStamp(absoluteFile, attributes.size(), attributes.lastModifiedTime());
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public FileTime getLastModified() {
+    return lastModified;
+  }
+
+  /**
+   * Checks whether the file still has this size and modification time.
+   *
+   * @return false if the file changed or can no longer be read
+   */
+  public boolean isCurrent() {
+    try {
+      return equals(of(file));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FileStamp that = (FileStamp) o;
+    return size == that.size && file.equals(that.file) && lastModified.equals(that.lastModified);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(file, size, lastModified);
+  }
+
+  @Override
+  public String toString() {
+    return file + " (" + size + " bytes, modified " + lastModified + ")";
+  }
+}
@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cache;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.parser.DocumentBuilderPool;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+/**
+ * Caches kept for the lifetime of the plugin class realm.
+ *
+ * <p>In a regular build they span all executions of the session; in a persistent Maven daemon such as
+ * {@code mvnd} they also survive between builds, so repeated publishes skip parsing unchanged POMs and
+ * hashing unchanged files. All caches are bounded and entries are invalidated when their files change.
+ *
+ * @since 0.3.0
+ */
+@Named
+@Singleton
+public class PublishingCaches {
+
+  static final int MAX_POM_ENTRIES = 10_000;
+  static final int MAX_DIGEST_ENTRIES = 50_000;
+  static final int MAX_IDLE_DOCUMENT_BUILDERS = 64;
+
+  private final StampedCache<MavenCoordinates> pomCoordinates = new StampedCache<>(MAX_POM_ENTRIES);
+  private final StampedCache<String> digests = new StampedCache<>(MAX_DIGEST_ENTRIES);
+  private final DocumentBuilderPool documentBuilders = new DocumentBuilderPool(MAX_IDLE_DOCUMENT_BUILDERS);
+
+  /**
+   * Returns the POM coordinates cache, keyed by parser mode and POM path.
+   */
+  public StampedCache<MavenCoordinates> getPomCoordinates() {
+    return pomCoordinates;
+  }
+
+  /**
+   * Returns the checksum cache, keyed by algorithm and file path.
+   */
+  public StampedCache<String> getDigests() {
+    return digests;
+  }
+
+  public DocumentBuilderPool getDocumentBuilders() {
+    return documentBuilders;
+  }
+
+  /**
+   * Captures the current statistics, to report the lookups of a single run.
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(pomCoordinates.getStatistics(), digests.getStatistics());
+  }
+
+  /**
+   * Statistics of the caches at one point in time.
+   */
+  public static final class Snapshot {
+
+    private final CacheStatistics pomCoordinates;
+    private final CacheStatistics digests;
+
+    private Snapshot(CacheStatistics pomCoordinates, CacheStatistics digests) {
+      this.pomCoordinates = pomCoordinates;
+      this.digests = digests;
+    }
+
+    public CacheStatistics getPomCoordinates() {
+      return pomCoordinates;
+    }
+
+    public CacheStatistics getDigests() {
+      return digests;
+    }
+
+    /**
+     * Returns the lookups made since an earlier snapshot.
+     */
+    public Snapshot since(Snapshot earlier) {
+      return new Snapshot(pomCoordinates.since(earlier.pomCoordinates), digests.since(earlier.digests));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least recently used cache of values derived from files.
+ *
+ * <p>Every value is stored with the {@link FileStamp stamps} of the files it was computed from and is
+ * dropped on lookup as soon as one of them changed. File attributes are read outside the cache lock, so
+ * lookups from concurrent tasks do not serialize on file system calls.
+ *
+ * @param <V> the value type
+ * @since 0.3.0
+ */
+public final class StampedCache<V> {
+
+  private final Map<String, CachedValue<V>> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxEntries the number of entries above which the least recently used ones are evicted
+   */
+  public StampedCache(int maxEntries) {
+    this.entries = new LinkedHashMap<String, CachedValue<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedValue<V>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value if all files it was computed from are unchanged.
+   *
+   * @param key the key
+   * @return the value, or {@code null} on a miss
+   */
+  public V get(String key) {
+    CachedValue<V> entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+
+    if (entry != null && entry.isCurrent()) {
+      hits.incrementAndGet();
+      return entry.value;
+    }
+
+    if (entry != null) {
+      synchronized (entries) {
+        entries.remove(key, entry);
+      }
+    }
+    misses.incrementAndGet();
+    return null;
+  }
+
+  /**
+   * Caches a value.
+   *
+   * @param key    the key
+   * @param stamps the stamps of the files the value was computed from, read before computing it
+   * @param value  the value
+   */
+  public void put(String key, List<FileStamp> stamps, V value) {
+    CachedValue<V> entry = new CachedValue<>(stamps, value);
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  /**
+   * Removes all entries. Statistics are kept.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public CacheStatistics getStatistics() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new CacheStatistics(hits.get(), misses.get(), size);
+  }
+
+  private static final class CachedValue<V> {
+
+    private final List<FileStamp> stamps;
+    private final V value;
+
+    private CachedValue(List<FileStamp> stamps, V value) {
+      this.stamps = stamps;
+      this.value = value;
+    }
+
+    private boolean isCurrent() {
+      for (FileStamp stamp : stamps) {
+        if (!stamp.isCurrent()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
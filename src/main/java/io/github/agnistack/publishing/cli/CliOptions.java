@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cli;
+
+import io.github.agnistack.publishing.parser.Interpolator;
+import io.github.agnistack.publishing.parser.PomDocuments;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Options of the {@link PublishCli}.
+ *
+ * <p>Every option is read from the command line ({@code --name value} or {@code --name=value}), then from the
+ * environment variable {@code CENTRAL_PUBLISHING_NAME} (upper case, dashes as underscores). Credentials not
+ * given either way are read from the {@code <server>} with the {@code server-id} of a Maven settings.xml,
+ * where {@code ${env.NAME}} expressions are resolved like Maven does.
+ *
+ * @since 0.3.0
+ */
+public class CliOptions {
+
+  static final String ENV_PREFIX = "CENTRAL_PUBLISHING_";
+
+  private static final Map<String, String> OPTIONS = new LinkedHashMap<>();
+
+  static {
+    OPTIONS.put("directory", "Directory containing the project directories (required)");
+    OPTIONS.put("projects", "Comma-separated project directories to publish (required)");
+    OPTIONS.put("output", "Bundle file to write (default: custom-deployment-bundle.zip)");
+    OPTIONS.put("central-url", "Central Portal base URL (default: https://central.sonatype.com)");
+    OPTIONS.put("username", "User token name");
+    OPTIONS.put("password", "User token");
+    OPTIONS.put("settings", "Maven settings.xml to read credentials from (default: ~/.m2/settings.xml)");
+    OPTIONS.put("server-id", "Server id of the credentials in settings.xml (default: central)");
+    OPTIONS.put("basic-auth", "Use basic authentication instead of user token authentication");
+    OPTIONS.put("deployment-name", "Deployment name shown in the Central Portal (default: Deployment)");
+    OPTIONS.put("auto-publish", "Publish the deployment once it is validated");
+    OPTIONS.put("wait-until", "UPLOADED, VALIDATED or PUBLISHED (default: VALIDATED)");
+    OPTIONS.put("wait-max-time", "Maximum seconds to wait (default: 1800)");
+    OPTIONS.put("wait-polling-interval", "Seconds between status requests (default: 5)");
+    OPTIONS.put("gpg", "gpg executable (default: gpg)");
+    OPTIONS.put("gpg-passphrase", "Passphrase of the signing key, also read from MAVEN_GPG_PASSPHRASE");
+    OPTIONS.put("gpg-agent", "Sign through gpg-agent directly instead of running gpg for each file");
+    OPTIONS.put("gpg-key", "User ID or fingerprint of the key to sign with (default: gpg's default key)");
+    OPTIONS.put("skip-sign", "Do not sign (not accepted by Central)");
+    OPTIONS.put("skip-validation", "Skip pre-flight validation of the bundle");
+    OPTIONS.put("include-jar", "Bundle the main JAR of each project");
+    OPTIONS.put("include-sources", "Bundle the sources JAR of each project");
+    OPTIONS.put("include-javadoc", "Bundle the javadoc JAR of each project");
+    OPTIONS.put("reuse-sidecars", "Bundle verified .asc, .md5 and .sha1 files found next to the artifacts");
+    OPTIONS.put("extra-checksums", "Comma-separated SHA-256 and SHA-512 checksums to bundle next to MD5 and SHA-1");
+    OPTIONS.put("threads", "Maximum number of projects signed and checksummed at once (default: CPU count)");
+    OPTIONS.put("failure-mode", "FAIL_FAST, COLLECT (report all failed projects) or FAIL_AT_END (also publish the "
+        + "healthy ones) (default: FAIL_FAST)");
+    OPTIONS.put("project-order", "Prepare project by project in the given order instead of largest files first");
+    OPTIONS.put("no-upload", "Build and validate the bundle without uploading it");
+    OPTIONS.put("log-verbosity", "PROGRESS (progress line only), PROJECTS (also each project) or FILES (also each "
+        + "file) (default: PROJECTS)");
+    OPTIONS.put("verbose", "Print debug output");
+    OPTIONS.put("help", "Print this help");
+  }
+
+  private static final List<String> SWITCHES = Arrays.asList("basic-auth", "auto-publish", "gpg-agent",
+      "skip-sign", "skip-validation", "include-jar", "include-sources", "include-javadoc", "reuse-sidecars",
+      "project-order", "no-upload", "verbose", "help");
+
+  private final Map<String, String> values;
+  private final Map<String, String> environment;
+
+  private CliOptions(Map<String, String> values, Map<String, String> environment) {
+    this.values = values;
+    this.environment = environment;
+  }
+
+  /**
+   * Parses the command line.
+   *
+   * @param args        the arguments
+   * @param environment the environment variables
+   * @return the options
+   * @throws IllegalArgumentException if an option is unknown or misses its value
+   */
+  public static CliOptions parse(String[] args, Map<String, String> environment) {
+    Map<String, String> values = new HashMap<>();
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("Unexpected argument: " + arg);
+      }
+      String name = arg.substring(2);
+      String value = null;
+      int separator = name.indexOf('=');
+      if (separator >= 0) {
+        value = name.substring(separator + 1);
+        name = name.substring(0, separator);
+      }
+      if (!OPTIONS.containsKey(name)) {
+        throw new IllegalArgumentException("Unknown option: --" + name);
+      }
+      if (value == null) {
+        if (SWITCHES.contains(name)) {
+          value = "true";
+        } else if (i + 1 < args.length) {
+          value = args[++i];
+        } else {
+          throw new IllegalArgumentException("Missing value for --" + name);
+        }
+      }
+      values.put(name, value);
+    }
+    return new CliOptions(values, environment);
+  }
+
+  /**
+   * Returns the value of an option from the command line or the environment.
+   */
+  public String get(String name, String defaultValue) {
+    String value = values.get(name);
+    if (value == null) {
+      value = environment.get(ENV_PREFIX + name.toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+    return value != null && !value.isEmpty() ? value : defaultValue;
+  }
+
+  public String require(String name) {
+    String value = get(name, null);
+    if (value == null) {
+      throw new IllegalArgumentException("Missing required option --" + name + " (or " + ENV_PREFIX
+          + name.toUpperCase(Locale.ROOT).replace('-', '_') + ")");
+    }
+    return value;
+  }
+
+  public boolean is(String name) {
+    return Boolean.parseBoolean(get(name, "false"));
+  }
+
+  public int getInt(String name, int defaultValue) {
+    String value = get(name, null);
+    try {
+      return value != null ? Integer.parseInt(value) : defaultValue;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("--" + name + " must be a number: " + value, e);
+    }
+  }
+
+  public List<String> getList(String name) {
+    List<String> list = new ArrayList<>();
+    for (String item : require(name).split(",")) {
+      if (!item.trim().isEmpty()) {
+        list.add(item.trim());
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Returns the passphrase from the options or {@code MAVEN_GPG_PASSPHRASE}.
+   */
+  public String getGpgPassphrase() {
+    return get("gpg-passphrase", environment.get("MAVEN_GPG_PASSPHRASE"));
+  }
+
+  /**
+   * Returns the user name and password from the options, falling back to the settings.xml server.
+   *
+   * @return the user name and password, either of which may be {@code null}
+   * @throws IOException if the settings file cannot be read
+   */
+  public String[] getCredentials() throws IOException {
+    String username = get("username", null);
+    String password = get("password", null);
+    if (username == null || password == null) {
+      String settings = get("settings", null);
+      File settingsFile = settings != null ? new File(settings)
+          : new File(System.getProperty("user.home"), ".m2/settings.xml");
+      if (settings != null || settingsFile.isFile()) {
+        String[] server = readServer(settingsFile, get("server-id", "central"), environment);
+        if (server != null) {
+          username = username != null ? username : server[0];
+          password = password != null ? password : server[1];
+        }
+      }
+    }
+    return new String[] {username, password};
+  }
+
+  /**
+   * Reads the user name and password of a server from a Maven settings file.
+   *
+   * @return the user name and password, or {@code null} if the server is not configured
+   */
+  static String[] readServer(File settingsFile, String serverId, Map<String, String> environment)
+      throws IOException {
+    Document document;
+    try (InputStream in = Files.newInputStream(settingsFile.toPath())) {
+      document = PomDocuments.parse(in, settingsFile.getPath());
+    }
+
+    Map<String, String> env = new HashMap<>();
+    environment.forEach((key, value) -> env.put("env." + key, value));
+    for (Element servers : PomDocuments.getChildren(document.getDocumentElement(), "servers")) {
+      for (Element server : PomDocuments.getChildren(servers, "server")) {
+        if (serverId.equals(PomDocuments.getChildText(server, "id"))) {
+          return new String[] {
+              Interpolator.interpolate(PomDocuments.getChildText(server, "username"), env),
+              Interpolator.interpolate(PomDocuments.getChildText(server, "password"), env)
+          };
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the usage text.
+   */
+  static String usage() {
+    StringBuilder usage = new StringBuilder("Usage: java -jar custom-central-publishing-cli.jar [options]\n\n");
+    for (Map.Entry<String, String> option : OPTIONS.entrySet()) {
+      String flag = "  --" + option.getKey() + (SWITCHES.contains(option.getKey()) ? "" : " <value>");
+      usage.append(String.format("%-36s %s%n", flag, option.getValue()));
+    }
+    usage.append("\nEvery option can also be set as ").append(ENV_PREFIX).append("<OPTION>, e.g. ")
+        .append(ENV_PREFIX).append("PASSWORD.\n");
+    return usage.toString();
+  }
+}
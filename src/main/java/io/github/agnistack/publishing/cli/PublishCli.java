@@ -0,0 +1,234 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cli;
+
+import io.github.agnistack.publishing.bundle.ZipBundleBuilder;
+import io.github.agnistack.publishing.engine.BuiltBundle;
+import io.github.agnistack.publishing.engine.FailureMode;
+import io.github.agnistack.publishing.engine.LogVerbosity;
+import io.github.agnistack.publishing.engine.ProgressReporter;
+import io.github.agnistack.publishing.engine.ProjectFailedException;
+import io.github.agnistack.publishing.engine.PublishingConfig;
+import io.github.agnistack.publishing.engine.PublishingEngine;
+import io.github.agnistack.publishing.engine.PublishingFailuresException;
+import io.github.agnistack.publishing.log.ConsoleLog;
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import io.github.agnistack.publishing.processor.AgentFileProcessor;
+import io.github.agnistack.publishing.processor.DefaultFileProcessor;
+import io.github.agnistack.publishing.service.CentralUploadService;
+import io.github.agnistack.publishing.validation.BundleValidator;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
+import io.github.agnistack.publishing.validation.ValidationReport;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Command line entry point publishing already built project directories without starting Maven.
+ *
+ * <p>Runs the same {@link PublishingEngine} stages as the {@code publish-custom} goal with
+ * {@link DefaultPomParser}, {@code ArtifactCollector}, {@code DeploymentService} and {@link ZipBundleBuilder}.
+ * Exits with {@code 0} on success, {@code 1} if publishing fails and {@code 2} on invalid options.
+ *
+ * @since 0.3.0
+ */
+public final class PublishCli {
+
+  private PublishCli() {
+  }
+
+  public static void main(String[] args) {
+    int status;
+    try {
+      CliOptions options = CliOptions.parse(args, System.getenv());
+      status = run(options, new ConsoleLog(options.is("verbose")));
+    } catch (IllegalArgumentException e) {
+      new ConsoleLog(false).error(e.getMessage());
+      System.err.print(CliOptions.usage());
+      status = 2;
+    }
+    System.exit(status);
+  }
+
+  /**
+   * Publishes with the given options.
+   *
+   * @param options the options
+   * @param log     the log
+   * @return the exit status
+   */
+  public static int run(CliOptions options, PublishingLog log) {
+    if (options.is("help")) {
+      System.out.print(CliOptions.usage());
+      return 0;
+    }
+
+    FailureMode failureMode = FailureMode.valueOf(options.get("failure-mode", "FAIL_FAST").toUpperCase());
+    LogVerbosity verbosity = LogVerbosity.valueOf(options.get("log-verbosity", "PROJECTS").toUpperCase());
+    File directory = new File(options.require("directory"));
+    List<File> pomFiles = new ArrayList<>();
+    List<ProjectFailedException> failures = new ArrayList<>();
+    for (String project : options.getList("projects")) {
+      File pomFile = new File(new File(directory, project), "pom.xml");
+      if (pomFile.isFile()) {
+        pomFiles.add(pomFile);
+      } else if (failureMode != FailureMode.FAIL_FAST) {
+        failures.add(new ProjectFailedException(project, ProjectFailedException.Phase.RESOLVE,
+            "POM file not found: " + pomFile));
+        log.warn("Leaving out " + failures.get(failures.size() - 1).getMessage());
+      } else {
+        log.error("POM file not found: " + pomFile);
+        return 1;
+      }
+    }
+    int projectCount = pomFiles.size() + failures.size();
+
+    boolean upload = !options.is("no-upload");
+    boolean skipSign = options.is("skip-sign");
+    int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+    File bundleFile = new File(options.get("output", "custom-deployment-bundle.zip")).getAbsoluteFile();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "publishing-cli");
+      thread.setDaemon(true);
+      return thread;
+    });
+    Path workDirectory = null;
+    AgentFileProcessor agentProcessor = null;
+    ProgressReporter progressReporter = new ProgressReporter(log, verbosity);
+    try {
+      workDirectory = Files.createTempDirectory("custom-publishing-");
+      PublishingConfig config = new PublishingConfig()
+          .withPomFiles(pomFiles)
+          .withArtifacts(options.is("include-jar"), options.is("include-sources"), options.is("include-javadoc"))
+          .withReusedSidecars(options.is("reuse-sidecars"),
+              options.is("skip-validation") && !skipSign ? new GpgSignatureVerifier(options.get("gpg", "gpg")) : null)
+          .withBundleName(bundleFile.getName())
+          .withExtraChecksums(options.get("extra-checksums", null) != null ? options.getList("extra-checksums") : null)
+          .withFailureMode(failureMode)
+          .withLargestFilesFirst(!options.is("project-order"))
+          .withConcurrency(threads)
+          .withPreparationExecutor(executor)
+          .withListener(progressReporter)
+          .withLog(log)
+          .withLogVerbosity(verbosity);
+      if (!options.is("skip-validation")) {
+        config.withValidator(new BundleValidator(!skipSign,
+            skipSign ? null : new GpgSignatureVerifier(options.get("gpg", "gpg")), executor, threads));
+      }
+      if (upload) {
+        boolean autoPublish = options.is("auto-publish");
+        String[] credentials = options.getCredentials();
+        if (credentials[0] == null || credentials[1] == null) {
+          log.error("No credentials: set --username and --password, " + CliOptions.ENV_PREFIX
+              + "USERNAME and " + CliOptions.ENV_PREFIX + "PASSWORD, or a server in settings.xml");
+          return 2;
+        }
+        config.withCentral(options.get("central-url", "https://central.sonatype.com"), credentials[0],
+                credentials[1], !options.is("basic-auth"))
+            .withDeployment(options.get("deployment-name", "Deployment"), autoPublish)
+            .withWait(CentralUploadService.parseWaitUntil(options.get("wait-until", "VALIDATED"), autoPublish),
+                options.getInt("wait-max-time", 1800), options.getInt("wait-polling-interval", 5));
+      }
+
+      boolean agentSigning = options.is("gpg-agent") && !skipSign;
+      if (agentSigning && !AgentFileProcessor.isSupported()) {
+        log.warn("--gpg-agent needs Java 16 or later to connect to gpg-agent, running gpg for each file"
+            + " instead on Java " + Runtime.version().feature());
+        agentSigning = false;
+      }
+      if (agentSigning) {
+        agentProcessor = new AgentFileProcessor(options.get("gpg", "gpg"), options.getGpgPassphrase(),
+            options.get("gpg-key", null), workDirectory.toFile(), verbosity.detailLog(log));
+      }
+      DefaultFileProcessor fileProcessor = agentProcessor != null ? agentProcessor
+          : new DefaultFileProcessor(options.get("gpg", "gpg"), options.getGpgPassphrase(), skipSign,
+              workDirectory.toFile(), verbosity.detailLog(log));
+      fileProcessor.setKeyName(options.get("gpg-key", null));
+      fileProcessor.setDigestExecutor(executor);
+      try (PublishingEngine engine = new PublishingEngine(config, new DefaultPomParser(), fileProcessor,
+          () -> new ZipBundleBuilder(bundleFile))) {
+        log.info("Creating combined deployment bundle for " + pomFiles.size() + " project(s)");
+        CompletableFuture<Void> warmUp = upload && !pomFiles.isEmpty()
+            ? engine.parse(pomFiles.get(0)).thenCompose(engine::warmUp) : CompletableFuture.completedFuture(null);
+        BuiltBundle bundle;
+        try {
+          bundle = PublishingEngine.await(engine.bundle(engine.prepareAll(pomFiles, warmUp)));
+        } catch (PublishingFailuresException e) {
+          failures.addAll(e.getFailures());
+          throw new PublishingFailuresException(failures, projectCount);
+        } finally {
+          progressReporter.close();
+        }
+        failures.addAll(bundle.getFailures());
+        if (!failures.isEmpty() && (failureMode == FailureMode.COLLECT || pomFiles.isEmpty())) {
+          throw new PublishingFailuresException(failures, projectCount);
+        }
+        ValidationReport report = PublishingEngine.await(engine.validate(bundle));
+        if (report != null) {
+          log.info("Pre-flight validation of " + report.getComponentCount() + " component(s) passed");
+        }
+        log.info("Deployment bundle created at: " + bundle.getFile());
+        if (upload) {
+          PublishingEngine.await(warmUp);
+          PublishingEngine.await(engine.upload(bundle).thenCompose(engine::waitFor));
+        }
+      }
+      if (!failures.isEmpty()) {
+        throw new PublishingFailuresException(failures, projectCount);
+      }
+      return 0;
+    } catch (IOException | RuntimeException e) {
+      log.error(e.getMessage() != null ? e.getMessage() : e.toString(), log.isDebugEnabled() ? e : null);
+      return 1;
+    } finally {
+      progressReporter.close();
+      executor.shutdownNow();
+      if (agentProcessor != null) {
+        try {
+          agentProcessor.close();
+        } catch (IOException e) {
+          log.warn("Failed to close gpg-agent connections: " + e.getMessage());
+        }
+      }
+      if (workDirectory != null) {
+        deleteRecursively(workDirectory, log);
+      }
+    }
+  }
+
+  private static void deleteRecursively(Path directory, PublishingLog log) {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      log.warn("Failed to delete work directory: " + directory, e);
+    }
+  }
+}
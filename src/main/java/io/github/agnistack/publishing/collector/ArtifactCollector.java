@@ -23,23 +23,46 @@ import io.github.agnistack.publishing.model.ArtifactFile;
 import io.github.agnistack.publishing.model.MavenCoordinates;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Collects artifact files from a directory based on Maven coordinates.
  *
+ * <p>When reusing sidecars, checksums and signatures already placed next to an artifact by an upstream build
+ * (e.g. {@code pom.xml.asc} or {@code my-lib-1.0.pom.asc}) are collected along with it.
+ *
  * @since 0.1.0
  */
 public class ArtifactCollector {
 
+  /**
+   * Extensions of the sidecar files that are reused.
+   */
+  private static final String[] SIDECAR_EXTENSIONS = {"asc", "md5", "sha1"};
+
   private final boolean includeJar;
   private final boolean includeSources;
   private final boolean includeJavadoc;
+  private final boolean reuseSidecars;
 
   public ArtifactCollector(boolean includeJar, boolean includeSources, boolean includeJavadoc) {
+    this(includeJar, includeSources, includeJavadoc, false);
+  }
+
+  /**
+   * Creates a collector that optionally collects existing checksums and signatures.
+   *
+   * @param reuseSidecars whether existing {@code .asc}, {@code .md5} and {@code .sha1} files are collected
+   * @since 0.3.0
+   */
+  public ArtifactCollector(boolean includeJar, boolean includeSources, boolean includeJavadoc,
+                           boolean reuseSidecars) {
     this.includeJar = includeJar;
     this.includeSources = includeSources;
     this.includeJavadoc = includeJavadoc;
+    this.reuseSidecars = reuseSidecars;
   }
 
   /**
@@ -55,26 +78,45 @@ public class ArtifactCollector {
 
     // Always include POM
     File pomFile = new File(artifactDir, "pom.xml");
-    artifacts.add(new ArtifactFile(pomFile, baseFileName + ".pom", ArtifactFile.ArtifactType.POM));
+    artifacts.add(artifact(pomFile, baseFileName + ".pom", ArtifactFile.ArtifactType.POM));
 
     // Optionally include JAR
     if (includeJar) {
       File jarFile = new File(artifactDir, baseFileName + ".jar");
-      artifacts.add(new ArtifactFile(jarFile, baseFileName + ".jar", ArtifactFile.ArtifactType.JAR));
+      artifacts.add(artifact(jarFile, baseFileName + ".jar", ArtifactFile.ArtifactType.JAR));
     }
 
     // Optionally include sources
     if (includeSources) {
       File sourcesFile = new File(artifactDir, baseFileName + "-sources.jar");
-      artifacts.add(new ArtifactFile(sourcesFile, baseFileName + "-sources.jar", ArtifactFile.ArtifactType.SOURCES));
+      artifacts.add(artifact(sourcesFile, baseFileName + "-sources.jar", ArtifactFile.ArtifactType.SOURCES));
     }
 
     // Optionally include javadoc
     if (includeJavadoc) {
       File javadocFile = new File(artifactDir, baseFileName + "-javadoc.jar");
-      artifacts.add(new ArtifactFile(javadocFile, baseFileName + "-javadoc.jar", ArtifactFile.ArtifactType.JAVADOC));
+      artifacts.add(artifact(javadocFile, baseFileName + "-javadoc.jar", ArtifactFile.ArtifactType.JAVADOC));
     }
 
     return artifacts;
   }
+
+  private ArtifactFile artifact(File file, String fileName, ArtifactFile.ArtifactType type) {
+    if (!reuseSidecars) {
+      return new ArtifactFile(file, fileName, type);
+    }
+
+    Map<String, File> sidecars = new HashMap<>();
+    for (String extension : SIDECAR_EXTENSIONS) {
+      // Next to the file itself, or under the name it is published with
+      File sidecar = new File(file.getPath() + '.' + extension);
+      if (!sidecar.isFile()) {
+        sidecar = new File(file.getParentFile(), fileName + '.' + extension);
+      }
+      if (sidecar.isFile()) {
+        sidecars.put(extension, sidecar);
+      }
+    }
+    return new ArtifactFile(file, fileName, type, sidecars);
+  }
 }
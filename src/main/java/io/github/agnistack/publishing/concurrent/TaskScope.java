@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.concurrent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fail-fast scope for a group of related tasks.
+ *
+ * <p>At most {@code maxConcurrency} forked tasks run at the same time. When a task fails, every other
+ * task of the scope is cancelled, and closing the scope cancels whatever is still running. This mirrors
+ * the shutdown-on-failure policy of structured concurrency without requiring preview APIs.
+ *
+ * @param <T> the result type of the tasks
+ * @since 0.3.0
+ */
+public final class TaskScope<T> implements AutoCloseable {
+
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final List<Future<T>> futures = new ArrayList<>();
+
+  public TaskScope(ExecutorService executor, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    this.executor = executor;
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  /**
+   * Submits a task to the scope.
+   *
+   * @param task the task
+   * @return the future of the task
+   */
+  public Future<T> fork(Callable<T> task) {
+    FutureTask<T> future = new FutureTask<>(() -> {
+      permits.acquire();
+      try {
+        return task.call();
+      } finally {
+        permits.release();
+      }
+    }) {
+      @Override
+      protected void setException(Throwable t) {
+        super.setException(t);
+        cancelAll();
+      }
+    };
+    synchronized (futures) {
+      futures.add(future);
+    }
+    executor.execute(future);
+    return future;
+  }
+
+  /**
+   * Waits for a forked task and returns its result, unwrapping its failure.
+   *
+   * @param future a future returned by {@link #fork(Callable)}
+   * @return the task result
+   * @throws IOException if the task failed, was cancelled or the wait was interrupted
+   */
+  public static <T> T await(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for task", e);
+    } catch (CancellationException e) {
+      throw new IOException("Task was cancelled", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * Cancels every task of the scope that has not completed yet.
+   */
+  public void cancelAll() {
+    synchronized (futures) {
+      for (Future<T> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    cancelAll();
+  }
+}
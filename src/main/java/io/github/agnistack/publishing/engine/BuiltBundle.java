@@ -0,0 +1,107 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A finished deployment bundle, written to a file or held in memory.
+ *
+ * @since 0.3.0
+ */
+public class BuiltBundle {
+
+  private final String name;
+  private final File file;
+  private final byte[] content;
+  private final List<ProjectFailedException> failures;
+
+  private BuiltBundle(String name, File file, byte[] content, List<ProjectFailedException> failures) {
+    this.name = Objects.requireNonNull(name, "name cannot be null");
+    this.file = file;
+    this.content = content;
+    this.failures = failures;
+  }
+
+  /**
+   * Creates a bundle written to a file.
+   */
+  public static BuiltBundle ofFile(File file) {
+    Objects.requireNonNull(file, "file cannot be null");
+    return new BuiltBundle(file.getName(), file, null, Collections.emptyList());
+  }
+
+  /**
+   * Creates a bundle held in memory.
+   */
+  public static BuiltBundle ofContent(String name, byte[] content) {
+    return new BuiltBundle(name, null, Objects.requireNonNull(content, "content cannot be null"),
+        Collections.emptyList());
+  }
+
+  /**
+   * Returns this bundle with the projects that failed and were left out of it.
+   */
+  public BuiltBundle withFailures(List<ProjectFailedException> failures) {
+    return new BuiltBundle(name, file, content, Collections.unmodifiableList(new ArrayList<>(failures)));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the bundle file, or {@code null} if the bundle is held in memory.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Returns the bundle content, or {@code null} if the bundle was written to a file.
+   */
+  public byte[] getContent() {
+    return content;
+  }
+
+  /**
+   * Returns the projects left out of the bundle in {@link FailureMode#FAIL_AT_END} mode, in the order given.
+   */
+  public List<ProjectFailedException> getFailures() {
+    return failures;
+  }
+
+  public boolean isInMemory() {
+    return content != null;
+  }
+
+  public long getSize() {
+    return content != null ? content.length : file.length();
+  }
+
+  @Override
+  public String toString() {
+    return name + " (" + getSize() + " bytes" + (isInMemory() ? ", in memory)" : ")");
+  }
+}
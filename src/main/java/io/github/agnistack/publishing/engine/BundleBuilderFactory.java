@@ -0,0 +1,41 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.bundle.BundleBuilder;
+
+import java.io.IOException;
+
+/**
+ * Creates the {@link BundleBuilder} a {@link PublishingEngine} writes its bundle with.
+ *
+ * @since 0.3.0
+ */
+@FunctionalInterface
+public interface BundleBuilderFactory {
+
+  /**
+   * Creates a new bundle builder.
+   *
+   * @return the bundle builder, closed by the engine
+   * @throws IOException if the builder cannot be created
+   */
+  BundleBuilder create() throws IOException;
+}
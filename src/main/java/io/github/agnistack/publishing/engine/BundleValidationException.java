@@ -0,0 +1,45 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.validation.ValidationReport;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a bundle fails pre-flight validation and is therefore not uploaded.
+ *
+ * @since 0.3.0
+ */
+public class BundleValidationException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient ValidationReport report;
+
+  public BundleValidationException(ValidationReport report) {
+    super("Pre-flight validation failed, bundle was not uploaded: " + report);
+    this.report = report;
+  }
+
+  public ValidationReport getReport() {
+    return report;
+  }
+}
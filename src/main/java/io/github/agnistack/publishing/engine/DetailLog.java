@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.log.PublishingLog;
+
+/**
+ * Log writing debug output at info level, for {@link LogVerbosity#FILES}.
+ */
+final class DetailLog implements PublishingLog {
+
+  private final PublishingLog delegate;
+
+  DetailLog(PublishingLog delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return true;
+  }
+
+  @Override
+  public void debug(CharSequence message) {
+    delegate.info(message);
+  }
+
+  @Override
+  public void info(CharSequence message) {
+    delegate.info(message);
+  }
+
+  @Override
+  public void warn(CharSequence message, Throwable error) {
+    delegate.warn(message, error);
+  }
+
+  @Override
+  public void error(CharSequence message, Throwable error) {
+    delegate.error(message, error);
+  }
+}
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+/**
+ * How a {@link PublishingEngine} run reacts to a project that cannot be prepared.
+ *
+ * <p>Failures while writing, validating or uploading the bundle itself always stop the run.
+ *
+ * @since 0.3.0
+ */
+public enum FailureMode {
+
+  /**
+   * The first failing project fails all projects not prepared yet.
+   */
+  FAIL_FAST,
+
+  /**
+   * Every project is prepared, and the run fails with all failures before anything is uploaded.
+   */
+  COLLECT,
+
+  /**
+   * Every project is prepared, the healthy ones are bundled and uploaded, and the run fails with all failures
+   * afterwards.
+   */
+  FAIL_AT_END
+}
@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.log.PublishingLog;
+
+/**
+ * How much a {@link ProgressReporter} logs at info level while artifacts are prepared.
+ *
+ * <p>Warnings and errors are logged at every verbosity; the per-file details of signing and checksumming are
+ * logged at debug level unless the verbosity is {@link #FILES}.
+ *
+ * @since 0.3.0
+ */
+public enum LogVerbosity {
+
+  /**
+   * Only a progress line with the files and bytes prepared, the throughput and the estimated time left, at most
+   * once per reporting interval.
+   */
+  PROGRESS,
+
+  /**
+   * The progress line and one line per prepared project.
+   */
+  PROJECTS,
+
+  /**
+   * The progress line, one line per prepared project and the details of every file as it is signed and
+   * checksummed.
+   */
+  FILES;
+
+  /**
+   * Returns the log for per-file details: the given log, or one that writes its debug output at info level when
+   * the verbosity is {@link #FILES}.
+   *
+   * @param log the log
+   * @return the log to give the services and file processors
+   */
+  public PublishingLog detailLog(PublishingLog log) {
+    return this == FILES ? new DetailLog(log) : log;
+  }
+}
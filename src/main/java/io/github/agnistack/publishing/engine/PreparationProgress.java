@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import java.util.Locale;
+
+/**
+ * Progress of the file by file preparation: files and bytes done, the throughput observed so far and the
+ * estimated time to finish the remaining bytes at that throughput.
+ *
+ * @since 0.3.0
+ */
+public final class PreparationProgress {
+
+  private final int filesPrepared;
+  private final int fileCount;
+  private final long bytesPrepared;
+  private final long totalBytes;
+  private final long elapsedMillis;
+
+  public PreparationProgress(int filesPrepared, int fileCount, long bytesPrepared, long totalBytes,
+                             long elapsedMillis) {
+    this.filesPrepared = filesPrepared;
+    this.fileCount = fileCount;
+    this.bytesPrepared = bytesPrepared;
+    this.totalBytes = totalBytes;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  public int getFilesPrepared() {
+    return filesPrepared;
+  }
+
+  public int getFileCount() {
+    return fileCount;
+  }
+
+  public long getBytesPrepared() {
+    return bytesPrepared;
+  }
+
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Returns the observed throughput in bytes per second, or {@code 0} before any time has passed.
+   */
+  public double getThroughput() {
+    return elapsedMillis > 0 ? bytesPrepared * 1000d / elapsedMillis : 0;
+  }
+
+  /**
+   * Returns the estimated milliseconds until all bytes are prepared, or {@code -1} while no throughput has been
+   * observed.
+   */
+  public long getRemainingMillis() {
+    if (bytesPrepared >= totalBytes) {
+      return 0;
+    }
+    double throughput = getThroughput();
+    return throughput > 0 ? (long) ((totalBytes - bytesPrepared) * 1000d / throughput) : -1;
+  }
+
+  @Override
+  public String toString() {
+    long remaining = getRemainingMillis();
+    return filesPrepared + " of " + fileCount + " files, " + formatBytes(bytesPrepared) + " of "
+        + formatBytes(totalBytes) + ", " + formatBytes((long) getThroughput()) + "/s, ETA "
+        + (remaining < 0 ? "unknown" : formatDuration(remaining));
+  }
+
+  /**
+   * Formats a byte count with a binary unit, such as {@code 1.5 GB}.
+   */
+  static String formatBytes(long bytes) {
+    if (bytes < 1024) {
+      return bytes + " B";
+    }
+    String units = "KMGTPE";
+    int unit = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+    return String.format(Locale.ROOT, "%.1f %sB", bytes / (double) (1L << (unit * 10)), units.charAt(unit - 1));
+  }
+
+  private static String formatDuration(long millis) {
+    long seconds = (millis + 999) / 1000;
+    return seconds < 60 ? seconds + " s" : seconds / 60 + " min " + seconds % 60 + " s";
+  }
+}
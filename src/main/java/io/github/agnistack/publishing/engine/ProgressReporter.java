@@ -0,0 +1,133 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener logging the progress of a {@link PublishingEngine} run at the configured {@link LogVerbosity}.
+ *
+ * <p>Messages are handed to a single logging thread, so the preparation threads never wait for the log; their
+ * order is kept. The progress line counts files and bytes when the engine prepares files largest first, and
+ * projects otherwise. It is logged at most once per interval, and once more when the last one is prepared.
+ * {@link #close()} logs the messages still pending; messages reported afterwards are logged directly.
+ *
+ * @since 0.3.0
+ */
+public class ProgressReporter implements PublishingListener, Closeable {
+
+  /**
+   * The default interval between two progress lines.
+   */
+  public static final long DEFAULT_INTERVAL_MILLIS = 10_000;
+
+  private final PublishingLog log;
+  private final LogVerbosity verbosity;
+  private final long intervalMillis;
+  private final AtomicLong lastProgress = new AtomicLong(System.currentTimeMillis());
+  private volatile boolean fileProgress;
+  private final ExecutorService logger = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "publishing-progress");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public ProgressReporter(PublishingLog log, LogVerbosity verbosity) {
+    this(log, verbosity, DEFAULT_INTERVAL_MILLIS);
+  }
+
+  public ProgressReporter(PublishingLog log, LogVerbosity verbosity, long intervalMillis) {
+    this.log = Objects.requireNonNull(log, "log cannot be null");
+    this.verbosity = Objects.requireNonNull(verbosity, "verbosity cannot be null");
+    if (intervalMillis < 0) {
+      throw new IllegalArgumentException("intervalMillis cannot be negative: " + intervalMillis);
+    }
+    this.intervalMillis = intervalMillis;
+  }
+
+  @Override
+  public void stageCompleted(PublishingStage stage, long elapsedMillis) {
+    if (log.isDebugEnabled()) {
+      emit(() -> log.debug("Publishing stage " + stage + " completed in " + elapsedMillis + " ms"));
+    }
+  }
+
+  @Override
+  public void artifactPrepared(MavenCoordinates coordinates, int prepared, int total) {
+    if (verbosity != LogVerbosity.PROGRESS) {
+      emit(() -> log.info("  Prepared " + coordinates + " (" + prepared + " of " + total + ")"));
+    } else if (!fileProgress && (prepared == total || due())) {
+      emit(() -> log.info("Prepared " + prepared + " of " + total + " project(s)"));
+    }
+  }
+
+  @Override
+  public void filePrepared(PreparationProgress progress) {
+    fileProgress = true;
+    if (progress.getFilesPrepared() == progress.getFileCount() || due()) {
+      emit(() -> log.info("Prepared " + progress));
+    }
+  }
+
+  @Override
+  public void artifactFailed(ProjectFailedException failure, int failed, int total) {
+    emit(() -> log.warn("Leaving out " + failure.getMessage() + " (" + failed + " of " + total
+        + " failed so far)"));
+  }
+
+  /**
+   * Logs the pending messages and stops the logging thread.
+   */
+  @Override
+  public void close() {
+    logger.shutdown();
+    try {
+      logger.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns whether the interval has passed since the last progress line, claiming the next one if so.
+   */
+  private boolean due() {
+    long now = System.currentTimeMillis();
+    long last = lastProgress.get();
+    return now - last >= intervalMillis && lastProgress.compareAndSet(last, now);
+  }
+
+  private void emit(Runnable message) {
+    try {
+      logger.execute(message);
+    } catch (RejectedExecutionException e) {
+      message.run();
+    }
+  }
+}
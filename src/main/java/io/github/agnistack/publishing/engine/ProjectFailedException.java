@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a single project cannot be published, naming the project and the phase that failed.
+ *
+ * @since 0.3.0
+ */
+public class ProjectFailedException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Phases in which a project can fail, in the order they run.
+   */
+  public enum Phase {
+    RESOLVE("resolve"),
+    PARSE("parse"),
+    COLLECT("collect"),
+    PROCESS("sign and checksum");
+
+    private final String description;
+
+    Phase(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public String toString() {
+      return description;
+    }
+  }
+
+  private final String project;
+  private final Phase phase;
+
+  public ProjectFailedException(String project, Phase phase, Throwable cause) {
+    super(project + " [" + phase + "]: " + (cause.getMessage() != null ? cause.getMessage() : cause), cause);
+    this.project = project;
+    this.phase = phase;
+  }
+
+  public ProjectFailedException(String project, Phase phase, String message) {
+    super(project + " [" + phase + "]: " + message);
+    this.project = project;
+    this.phase = phase;
+  }
+
+  /**
+   * Returns the project, as named in {@code bomProjects}.
+   */
+  public String getProject() {
+    return project;
+  }
+
+  public Phase getPhase() {
+    return phase;
+  }
+}
@@ -0,0 +1,386 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.bundle.BundleSegmentCache;
+import io.github.agnistack.publishing.bundle.SegmentedBundleBuilder;
+import io.github.agnistack.publishing.log.ConsoleLog;
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.service.DeploymentService;
+import io.github.agnistack.publishing.transform.PomTransformer;
+import io.github.agnistack.publishing.validation.BundleValidator;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
+import org.sonatype.central.publisher.plugin.model.WaitUntilRequest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration of a {@link PublishingEngine}.
+ *
+ * <p>Only the POM files are required. Without Central Portal credentials the engine can still prepare, bundle
+ * and validate, but not upload.
+ *
+ * @since 0.3.0
+ */
+public class PublishingConfig {
+
+  private List<File> pomFiles = Collections.emptyList();
+  private boolean includeJar;
+  private boolean includeSources;
+  private boolean includeJavadoc;
+  private boolean reuseSidecars;
+  private GpgSignatureVerifier sidecarVerifier;
+  private PomTransformer pomTransformer;
+  private boolean inMemory;
+  private BundleSegmentCache segmentCache;
+  private String bundleName = "custom-deployment-bundle.zip";
+  private BundleValidator validator;
+  private String centralBaseUrl;
+  private String username;
+  private String password;
+  private boolean tokenAuth = true;
+  private boolean warmUp = true;
+  private String deploymentName = "Deployment";
+  private boolean autoPublish;
+  private WaitUntilRequest waitUntil = WaitUntilRequest.VALIDATED;
+  private int waitMaxTime = 1800;
+  private int waitPollingInterval = 5;
+  private FailureMode failureMode = FailureMode.FAIL_FAST;
+  private List<String> extraChecksums = Collections.emptyList();
+  private int concurrency = Runtime.getRuntime().availableProcessors();
+  private boolean largestFilesFirst = true;
+  private Executor preparationExecutor;
+  private Executor publishingExecutor;
+  private PublishingListener listener = PublishingListener.NONE;
+  private PublishingLog log = new ConsoleLog(false);
+  private LogVerbosity logVerbosity = LogVerbosity.PROJECTS;
+
+  /**
+   * Sets the POM files of the projects to publish, bundled in this order.
+   */
+  public PublishingConfig withPomFiles(List<File> pomFiles) {
+    this.pomFiles = new ArrayList<>(Objects.requireNonNull(pomFiles, "pomFiles cannot be null"));
+    return this;
+  }
+
+  /**
+   * Sets which artifacts besides the POM are bundled when present.
+   */
+  public PublishingConfig withArtifacts(boolean includeJar, boolean includeSources, boolean includeJavadoc) {
+    this.includeJar = includeJar;
+    this.includeSources = includeSources;
+    this.includeJavadoc = includeJavadoc;
+    return this;
+  }
+
+  /**
+   * Reuses checksums and signatures found next to the artifacts instead of generating them, verifying reused
+   * signatures with the given verifier if it is not {@code null}.
+   */
+  public PublishingConfig withReusedSidecars(boolean reuseSidecars, GpgSignatureVerifier sidecarVerifier) {
+    this.reuseSidecars = reuseSidecars;
+    this.sidecarVerifier = sidecarVerifier;
+    return this;
+  }
+
+  /**
+   * Rewrites bundled POMs; {@code null} or a disabled transformer bundles POMs as they are.
+   */
+  public PublishingConfig withPomTransformer(PomTransformer pomTransformer) {
+    this.pomTransformer = pomTransformer;
+    return this;
+  }
+
+  /**
+   * Reads every file into memory and signs it from there, for bundles built in memory.
+   */
+  public PublishingConfig withInMemory(boolean inMemory) {
+    this.inMemory = inMemory;
+    return this;
+  }
+
+  /**
+   * Takes the entries of unchanged projects from the given segment cache instead of preparing them again;
+   * requires a {@link SegmentedBundleBuilder} over the same cache.
+   */
+  public PublishingConfig withSegmentCache(BundleSegmentCache segmentCache) {
+    this.segmentCache = segmentCache;
+    return this;
+  }
+
+  /**
+   * Sets the name reported for bundles built in memory.
+   */
+  public PublishingConfig withBundleName(String bundleName) {
+    this.bundleName = Objects.requireNonNull(bundleName, "bundleName cannot be null");
+    return this;
+  }
+
+  /**
+   * Validates the bundle before it is uploaded; {@code null} skips validation.
+   */
+  public PublishingConfig withValidator(BundleValidator validator) {
+    this.validator = validator;
+    return this;
+  }
+
+  /**
+   * Sets the Central Portal to upload to and its credentials.
+   */
+  public PublishingConfig withCentral(String centralBaseUrl, String username, String password, boolean tokenAuth) {
+    this.centralBaseUrl = Objects.requireNonNull(centralBaseUrl, "centralBaseUrl cannot be null");
+    this.username = username;
+    this.password = password;
+    this.tokenAuth = tokenAuth;
+    return this;
+  }
+
+  /**
+   * Sets whether {@link PublishingEngine#publish()} checks the credentials and connects to the Central Portal
+   * while the bundle is built.
+   */
+  public PublishingConfig withWarmUp(boolean warmUp) {
+    this.warmUp = warmUp;
+    return this;
+  }
+
+  /**
+   * Sets the deployment name shown in the Central Portal and whether it is published once validated.
+   */
+  public PublishingConfig withDeployment(String deploymentName, boolean autoPublish) {
+    this.deploymentName = Objects.requireNonNull(deploymentName, "deploymentName cannot be null");
+    this.autoPublish = autoPublish;
+    return this;
+  }
+
+  /**
+   * Sets the deployment state to wait for after the upload, and the maximum time and polling interval in seconds.
+   */
+  public PublishingConfig withWait(WaitUntilRequest waitUntil, int waitMaxTime, int waitPollingInterval) {
+    this.waitUntil = Objects.requireNonNull(waitUntil, "waitUntil cannot be null");
+    this.waitMaxTime = waitMaxTime;
+    this.waitPollingInterval = waitPollingInterval;
+    return this;
+  }
+
+  /**
+   * Sets how the run reacts to a project that cannot be prepared.
+   */
+  public PublishingConfig withFailureMode(FailureMode failureMode) {
+    this.failureMode = Objects.requireNonNull(failureMode, "failureMode cannot be null");
+    return this;
+  }
+
+  /**
+   * Prepares the files of all projects largest first, with at most {@code concurrency} files in flight, instead
+   * of project by project in the given order. Every project is parsed and collected first, so that file sizes
+   * are known; the bundle is written in the same order either way.
+   */
+  public PublishingConfig withLargestFilesFirst(boolean largestFilesFirst) {
+    this.largestFilesFirst = largestFilesFirst;
+    return this;
+  }
+
+  /**
+   * Adds {@code SHA-256} or {@code SHA-512} checksums to every bundled file except signatures.
+   *
+   * @throws IllegalArgumentException if an algorithm is not an optional checksum of Central
+   */
+  public PublishingConfig withExtraChecksums(List<String> extraChecksums) {
+    this.extraChecksums = DeploymentService.parseExtraChecksums(extraChecksums);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of artifacts, or of files when {@link #withLargestFilesFirst(boolean) largest files
+   * go first}, prepared at once.
+   */
+  public PublishingConfig withConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+    }
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * Sets the executor parsing, collecting, signing and checksumming artifacts; by default the engine creates
+   * one with {@code concurrency} threads.
+   */
+  public PublishingConfig withPreparationExecutor(Executor preparationExecutor) {
+    this.preparationExecutor = preparationExecutor;
+    return this;
+  }
+
+  /**
+   * Sets the executor writing, validating and uploading the bundle and waiting for the deployment. These
+   * stages block on other work, so it must not be the bounded preparation executor; by default the engine
+   * creates one.
+   */
+  public PublishingConfig withPublishingExecutor(Executor publishingExecutor) {
+    this.publishingExecutor = publishingExecutor;
+    return this;
+  }
+
+  public PublishingConfig withListener(PublishingListener listener) {
+    this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+    return this;
+  }
+
+  public PublishingConfig withLog(PublishingLog log) {
+    this.log = Objects.requireNonNull(log, "log cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether the per-file details of signing and checksumming are logged at info or at debug level.
+   * Progress itself is logged by the {@link #withListener(PublishingListener) listener}, such as a
+   * {@link ProgressReporter}.
+   */
+  public PublishingConfig withLogVerbosity(LogVerbosity logVerbosity) {
+    this.logVerbosity = Objects.requireNonNull(logVerbosity, "logVerbosity cannot be null");
+    return this;
+  }
+
+  public List<File> getPomFiles() {
+    return Collections.unmodifiableList(pomFiles);
+  }
+
+  public boolean isIncludeJar() {
+    return includeJar;
+  }
+
+  public boolean isIncludeSources() {
+    return includeSources;
+  }
+
+  public boolean isIncludeJavadoc() {
+    return includeJavadoc;
+  }
+
+  public boolean isReuseSidecars() {
+    return reuseSidecars;
+  }
+
+  public GpgSignatureVerifier getSidecarVerifier() {
+    return sidecarVerifier;
+  }
+
+  public PomTransformer getPomTransformer() {
+    return pomTransformer;
+  }
+
+  public boolean isInMemory() {
+    return inMemory;
+  }
+
+  public BundleSegmentCache getSegmentCache() {
+    return segmentCache;
+  }
+
+  public String getBundleName() {
+    return bundleName;
+  }
+
+  public BundleValidator getValidator() {
+    return validator;
+  }
+
+  public String getCentralBaseUrl() {
+    return centralBaseUrl;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public String getPassword() {
+    return password;
+  }
+
+  public boolean isTokenAuth() {
+    return tokenAuth;
+  }
+
+  public boolean isWarmUp() {
+    return warmUp;
+  }
+
+  public String getDeploymentName() {
+    return deploymentName;
+  }
+
+  public boolean isAutoPublish() {
+    return autoPublish;
+  }
+
+  public WaitUntilRequest getWaitUntil() {
+    return waitUntil;
+  }
+
+  public int getWaitMaxTime() {
+    return waitMaxTime;
+  }
+
+  public int getWaitPollingInterval() {
+    return waitPollingInterval;
+  }
+
+  public FailureMode getFailureMode() {
+    return failureMode;
+  }
+
+  public List<String> getExtraChecksums() {
+    return extraChecksums;
+  }
+
+  public boolean isLargestFilesFirst() {
+    return largestFilesFirst;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public Executor getPreparationExecutor() {
+    return preparationExecutor;
+  }
+
+  public Executor getPublishingExecutor() {
+    return publishingExecutor;
+  }
+
+  public PublishingListener getListener() {
+    return listener;
+  }
+
+  public PublishingLog getLog() {
+    return log;
+  }
+
+  public LogVerbosity getLogVerbosity() {
+    return logVerbosity;
+  }
+}
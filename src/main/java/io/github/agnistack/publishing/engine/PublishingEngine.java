@@ -0,0 +1,831 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.bundle.BundleBuilder;
+import io.github.agnistack.publishing.bundle.BundleSegmentCache;
+import io.github.agnistack.publishing.bundle.InMemoryBundleBuilder;
+import io.github.agnistack.publishing.bundle.SegmentedBundleBuilder;
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.concurrent.PublishingExecutors;
+import io.github.agnistack.publishing.engine.ProjectFailedException.Phase;
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.model.PreparedArtifact;
+import io.github.agnistack.publishing.parser.PomParser;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import io.github.agnistack.publishing.service.CentralUploadService;
+import io.github.agnistack.publishing.service.DeploymentService;
+import io.github.agnistack.publishing.validation.ValidationReport;
+import io.github.agnistack.publishing.validation.Violation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes projects to the Central Portal independently of Maven.
+ *
+ * <p>Every stage returns a {@link CompletableFuture}, so callers can run {@link #publish()} as a whole or compose
+ * the stages themselves: {@link #parse}, {@link #collect} and {@link #process} for a single artifact,
+ * {@link #prepareAll} for all artifacts with at most {@code concurrency} in flight, then {@link #bundle},
+ * {@link #validate}, {@link #upload} and {@link #waitFor}. Artifacts are prepared on the preparation executor;
+ * the bundle is written, validated and uploaded on the publishing executor, in the order the POM files were
+ * given. The first failing artifact fails all others that have not completed yet, unless the {@link FailureMode}
+ * collects failures: then failed projects are left out of the bundle and reported together.
+ *
+ * <p>When uploading, {@link #publish()} runs {@link #warmUp} alongside the preparation, so that rejected
+ * credentials or an unreachable portal stop it before the bundle is finished.
+ *
+ * <p>With a segment cache, projects whose segment is current skip {@link #process} and their segment is copied
+ * into the bundle as it is; the others are processed and stored as new segments.
+ *
+ * <p>With {@link PublishingConfig#withLargestFilesFirst largest files first}, {@link #prepareAll} parses and
+ * collects every project up front and then signs and hashes individual files, largest first, on {@code concurrency}
+ * workers, so one large artifact does not leave the other workers idle at the end; the bundle order is unchanged.
+ *
+ * <p>Failures complete the futures with a {@link CompletionException} whose cause is the original
+ * {@link IOException} or runtime exception.
+ *
+ * <p>Executors not supplied by the configuration are created by the engine and shut down by {@link #close()}.
+ *
+ * @since 0.3.0
+ */
+public class PublishingEngine implements AutoCloseable {
+
+  private final PublishingConfig config;
+  private final PublishingLog detailLog;
+  private final PomParser pomParser;
+  private final ArtifactCollector artifactCollector;
+  private final DeploymentService deploymentService;
+  private final BundleBuilderFactory bundleBuilderFactory;
+  private final PublishingListener listener;
+  private final Executor preparationExecutor;
+  private final Executor publishingExecutor;
+  private final List<ExecutorService> ownedExecutors = new ArrayList<>();
+  private CentralUploadService uploadService;
+
+  public PublishingEngine(PublishingConfig config, PomParser pomParser, FileProcessor fileProcessor,
+                          BundleBuilderFactory bundleBuilderFactory) {
+    this.config = config;
+    this.pomParser = pomParser;
+    this.detailLog = config.getLogVerbosity().detailLog(config.getLog());
+    this.artifactCollector = new ArtifactCollector(config.isIncludeJar(), config.isIncludeSources(),
+        config.isIncludeJavadoc(), config.isReuseSidecars());
+    this.deploymentService = new DeploymentService(pomParser, fileProcessor, config.getPomTransformer(),
+        config.isInMemory(), detailLog);
+    deploymentService.setSignatureVerifier(config.getSidecarVerifier());
+    deploymentService.setExtraChecksums(config.getExtraChecksums());
+    this.bundleBuilderFactory = bundleBuilderFactory;
+    this.listener = config.getListener();
+    this.preparationExecutor = config.getPreparationExecutor() != null ? config.getPreparationExecutor()
+        : own(PublishingExecutors.newIoExecutor("publishing-prepare", config.getConcurrency(), true));
+    this.publishingExecutor = config.getPublishingExecutor() != null ? config.getPublishingExecutor()
+        : own(Executors.newCachedThreadPool(runnable -> {
+          Thread thread = new Thread(runnable, "publishing-engine");
+          thread.setDaemon(true);
+          return thread;
+        }));
+  }
+
+  /**
+   * Runs all stages: prepares and bundles every artifact, validates the bundle if a validator is configured,
+   * and uploads it and waits for the deployment if the Central Portal is configured.
+   *
+   * @return the future result
+   */
+  public CompletableFuture<PublishingResult> publish() {
+    CompletableFuture<Void> warmUp = config.getCentralBaseUrl() == null || !config.isWarmUp()
+        || config.getPomFiles().isEmpty() ? CompletableFuture.completedFuture(null)
+        : parse(config.getPomFiles().get(0)).thenCompose(this::warmUp);
+    CompletableFuture<BuiltBundle> bundle = bundle(prepareAll(config.getPomFiles(), warmUp));
+    CompletableFuture<ValidationReport> report = bundle.thenCompose(this::validate);
+    if (config.getCentralBaseUrl() == null) {
+      return report.thenApply(validationReport -> result(bundle.join(), validationReport, null));
+    }
+    return report.thenCombine(warmUp, (validationReport, ignored) -> validationReport)
+        .thenCompose(validationReport -> upload(bundle.join())
+        .thenCompose(this::waitFor)
+        .thenApply(deploymentId -> result(bundle.join(), validationReport, deploymentId)));
+  }
+
+  /**
+   * Returns the result of a run, or fails with the projects left out of the bundle.
+   */
+  private PublishingResult result(BuiltBundle bundle, ValidationReport validationReport, String deploymentId) {
+    if (!bundle.getFailures().isEmpty()) {
+      throw new CompletionException(new PublishingFailuresException(bundle.getFailures(),
+          config.getPomFiles().size()));
+    }
+    return new PublishingResult(bundle, validationReport, deploymentId);
+  }
+
+  /**
+   * Parses the coordinates of a project.
+   */
+  public CompletableFuture<MavenCoordinates> parse(File pomFile) {
+    return supply(() -> pomParser.parse(pomFile), preparationExecutor);
+  }
+
+  /**
+   * Collects the artifact files of a project.
+   */
+  public CompletableFuture<List<ArtifactFile>> collect(File pomFile, MavenCoordinates coordinates) {
+    return supply(() -> artifactCollector.collect(pomFile.getParentFile(), coordinates), preparationExecutor);
+  }
+
+  /**
+   * Signs and checksums the artifact files of a project.
+   */
+  public CompletableFuture<PreparedArtifact> process(MavenCoordinates coordinates, List<ArtifactFile> artifacts) {
+    return supply(() -> deploymentService.prepareArtifact(coordinates, artifacts), preparationExecutor);
+  }
+
+  /**
+   * Parses, collects and processes a project. Failures are reported as a {@link ProjectFailedException} naming
+   * the project directory and the phase.
+   */
+  public CompletableFuture<PreparedArtifact> prepare(File pomFile) {
+    String project = pomFile.getAbsoluteFile().getParentFile().getName();
+    return phase(project, Phase.PARSE, parse(pomFile))
+        .thenCompose(coordinates -> phase(project, Phase.COLLECT, collect(pomFile, coordinates))
+            .thenCompose(artifacts -> phase(project, Phase.PROCESS, config.getSegmentCache() == null
+                ? process(coordinates, artifacts) : processSegment(pomFile, coordinates, artifacts))));
+  }
+
+  /**
+   * Attributes the failure of a stage of a project to the given phase, unless it is attributed already.
+   */
+  private static <T> CompletableFuture<T> phase(String project, Phase phase, CompletableFuture<T> stage) {
+    return stage.handle((result, failure) -> {
+      if (failure == null) {
+        return result;
+      }
+      Throwable cause = unwrap(failure);
+      throw new CompletionException(cause instanceof ProjectFailedException
+          ? cause : new ProjectFailedException(project, phase, cause));
+    });
+  }
+
+  /**
+   * Takes a project from the segment cache if its segment is current, and processes it otherwise.
+   */
+  private CompletableFuture<PreparedArtifact> processSegment(File pomFile, MavenCoordinates coordinates,
+                                                             List<ArtifactFile> artifacts) {
+    BundleSegmentCache segmentCache = config.getSegmentCache();
+    return supply(() -> segmentCache.key(coordinates, artifacts, pomParser.getSourceFiles(pomFile)),
+        preparationExecutor).thenCompose(key -> {
+          if (segmentCache.find(key) != null) {
+            detailLog.debug("  Adding " + coordinates + " from cached segment");
+            return CompletableFuture.completedFuture(PreparedArtifact.ofSegment(coordinates, key));
+          }
+          return process(coordinates, artifacts).thenApply(prepared -> prepared.withSegmentKey(key));
+        });
+  }
+
+  /**
+   * Prepares all projects with at most {@code concurrency} in flight. In {@link FailureMode#FAIL_FAST} mode the
+   * first failure completes every artifact not prepared yet with the same failure; otherwise a failed project
+   * only fails its own future and the others carry on.
+   *
+   * @param pomFiles the POM files
+   * @return one future per POM file, in the same order
+   */
+  public List<CompletableFuture<PreparedArtifact>> prepareAll(List<File> pomFiles) {
+    return prepareAll(pomFiles, CompletableFuture.completedFuture(null));
+  }
+
+  /**
+   * Prepares artifacts like {@link #prepareAll(List)}, failing every artifact not prepared yet as soon as the
+   * guard fails, such as a {@link #warmUp} that found the credentials rejected.
+   *
+   * @param pomFiles the POM files
+   * @param guard    a future whose failure stops the preparation
+   * @return one future per POM file, in the same order
+   */
+  public List<CompletableFuture<PreparedArtifact>> prepareAll(List<File> pomFiles, CompletableFuture<?> guard) {
+    List<CompletableFuture<PreparedArtifact>> results = new ArrayList<>(pomFiles.size());
+    for (int i = 0; i < pomFiles.size(); i++) {
+      results.add(new CompletableFuture<>());
+    }
+    guard.whenComplete((ignored, failure) -> {
+      if (failure != null) {
+        results.forEach(result -> result.completeExceptionally(failure));
+      }
+    });
+
+    listener.stageStarted(PublishingStage.PREPARE);
+    if (pomFiles.isEmpty()) {
+      listener.stageCompleted(PublishingStage.PREPARE, 0);
+    } else if (config.isLargestFilesFirst()) {
+      prepareFiles(pomFiles, results);
+    } else {
+      prepareProjects(pomFiles, results);
+    }
+    return results;
+  }
+
+  /**
+   * Prepares project by project in the given order, with at most {@code concurrency} projects in flight.
+   */
+  private void prepareProjects(List<File> pomFiles, List<CompletableFuture<PreparedArtifact>> results) {
+    long start = System.currentTimeMillis();
+    boolean collectFailures = config.getFailureMode() != FailureMode.FAIL_FAST;
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger prepared = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    AtomicInteger finished = new AtomicInteger();
+    Runnable startNext = new Runnable() {
+      @Override
+      public void run() {
+        int index;
+        while ((index = next.getAndIncrement()) < pomFiles.size()) {
+          CompletableFuture<PreparedArtifact> result = results.get(index);
+          if (result.isDone()) {
+            // Failed along with another artifact
+            continue;
+          }
+          // Continue asynchronously, so that quickly completing artifacts never recurse
+          prepare(pomFiles.get(index)).whenCompleteAsync((artifact, failure) -> {
+            Throwable cause = failure != null ? unwrap(failure) : null;
+            if (cause instanceof ProjectFailedException && collectFailures) {
+              if (result.completeExceptionally(cause)) {
+                listener.artifactFailed((ProjectFailedException) cause, failed.incrementAndGet(), pomFiles.size());
+                finished(finished, pomFiles.size(), start);
+              }
+            } else if (failure != null) {
+              results.forEach(other -> other.completeExceptionally(failure));
+            } else if (result.isDone()) {
+              deploymentService.cleanup(artifact);
+            } else {
+              // Report before completing, so that progress precedes the bundle writing it triggers
+              listener.artifactPrepared(artifact.getCoordinates(), prepared.incrementAndGet(), pomFiles.size());
+              finished(finished, pomFiles.size(), start);
+              if (!result.complete(artifact)) {
+                deploymentService.cleanup(artifact);
+              }
+            }
+            run();
+          }, preparationExecutor);
+          return;
+        }
+      }
+    };
+    for (int i = 0; i < Math.min(config.getConcurrency(), pomFiles.size()); i++) {
+      startNext.run();
+    }
+  }
+
+  /**
+   * Parses and collects every project, then prepares the files of all projects largest first with at most
+   * {@code concurrency} in flight. Idle workers take the largest file left, so a single large file starts
+   * right away instead of when its project comes up. Each project completes once its last file is prepared,
+   * with its entries in collection order.
+   */
+  private void prepareFiles(List<File> pomFiles, List<CompletableFuture<PreparedArtifact>> results) {
+    FileSchedule schedule = new FileSchedule(pomFiles, results);
+    List<CompletableFuture<?>> plans = new ArrayList<>(pomFiles.size());
+    for (int i = 0; i < pomFiles.size(); i++) {
+      int index = i;
+      plans.add(plan(pomFiles.get(i)).handle((plan, failure) -> {
+        if (failure != null) {
+          schedule.fail(index, failure);
+        } else {
+          schedule.plan(index, plan);
+        }
+        return null;
+      }));
+    }
+    CompletableFuture.allOf(plans.toArray(new CompletableFuture<?>[0]))
+        .thenRunAsync(schedule::start, preparationExecutor);
+  }
+
+  /**
+   * Parses and collects a project and looks up its segment, without processing any file.
+   */
+  private CompletableFuture<ProjectPlan> plan(File pomFile) {
+    String project = pomFile.getAbsoluteFile().getParentFile().getName();
+    BundleSegmentCache segmentCache = config.getSegmentCache();
+    return phase(project, Phase.PARSE, parse(pomFile))
+        .thenCompose(coordinates -> phase(project, Phase.COLLECT, collect(pomFile, coordinates))
+            .thenCompose(artifacts -> segmentCache == null
+                ? CompletableFuture.completedFuture(new ProjectPlan(project, coordinates, artifacts, null))
+                : phase(project, Phase.PROCESS, supply(() -> new ProjectPlan(project, coordinates, artifacts,
+                    segmentCache.key(coordinates, artifacts, pomParser.getSourceFiles(pomFile))),
+                    preparationExecutor))));
+  }
+
+  /**
+   * The coordinates, files and segment key of a project, known before any of its files is processed.
+   */
+  private static final class ProjectPlan {
+
+    private final String project;
+    private final MavenCoordinates coordinates;
+    private final List<ArtifactFile> artifacts;
+    private final String segmentKey;
+
+    ProjectPlan(String project, MavenCoordinates coordinates, List<ArtifactFile> artifacts, String segmentKey) {
+      this.project = project;
+      this.coordinates = coordinates;
+      this.artifacts = artifacts;
+      this.segmentKey = segmentKey;
+    }
+  }
+
+  /**
+   * A file to prepare, ordered by size.
+   */
+  private static final class FileTask {
+
+    private final int project;
+    private final int file;
+    private final long size;
+
+    FileTask(int project, int file, long size) {
+      this.project = project;
+      this.file = file;
+      this.size = size;
+    }
+  }
+
+  /**
+   * Shared state of {@link #prepareFiles}: the plan and prepared files of every project, the queue of files
+   * largest first and the progress.
+   */
+  private final class FileSchedule {
+
+    private final List<File> pomFiles;
+    private final List<CompletableFuture<PreparedArtifact>> results;
+    // Written before the workers start
+    private final ProjectPlan[] plans;
+    private final PreparedArtifact[][] files;
+    private final AtomicInteger[] remaining;
+    private final Queue<FileTask> queue = new ConcurrentLinkedQueue<>();
+    private final boolean collectFailures = config.getFailureMode() != FailureMode.FAIL_FAST;
+    private final long start = System.currentTimeMillis();
+    private final AtomicInteger prepared = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicInteger filesPrepared = new AtomicInteger();
+    private final AtomicLong bytesPrepared = new AtomicLong();
+    // Files of failed projects are taken out when they are skipped
+    private final AtomicInteger fileCount = new AtomicInteger();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    FileSchedule(List<File> pomFiles, List<CompletableFuture<PreparedArtifact>> results) {
+      this.pomFiles = pomFiles;
+      this.results = results;
+      this.plans = new ProjectPlan[pomFiles.size()];
+      this.files = new PreparedArtifact[pomFiles.size()][];
+      this.remaining = new AtomicInteger[pomFiles.size()];
+    }
+
+    void plan(int index, ProjectPlan plan) {
+      plans[index] = plan;
+    }
+
+    /**
+     * Queues the files of every planned project largest first and starts the workers. Runs once, after every
+     * project has been planned or has failed.
+     */
+    void start() {
+      List<FileTask> tasks = new ArrayList<>();
+      for (int i = 0; i < plans.length; i++) {
+        ProjectPlan plan = plans[i];
+        if (plan == null || results.get(i).isDone()) {
+          continue;
+        }
+        if (plan.segmentKey != null && config.getSegmentCache().find(plan.segmentKey) != null) {
+          detailLog.debug("  Adding " + plan.coordinates + " from cached segment");
+          complete(i, PreparedArtifact.ofSegment(plan.coordinates, plan.segmentKey));
+          continue;
+        }
+        detailLog.debug("  Adding " + plan.coordinates);
+        files[i] = new PreparedArtifact[plan.artifacts.size()];
+        remaining[i] = new AtomicInteger(plan.artifacts.size());
+        for (int j = 0; j < plan.artifacts.size(); j++) {
+          long size = plan.artifacts.get(j).getFile().length();
+          tasks.add(new FileTask(i, j, size));
+          totalBytes.addAndGet(size);
+        }
+        if (plan.artifacts.isEmpty()) {
+          complete(i, PreparedArtifact.combine(plan.coordinates, new ArrayList<>()));
+        }
+      }
+      fileCount.set(tasks.size());
+      // Stable, so equally sized files keep the project order
+      tasks.sort(Comparator.comparingLong((FileTask task) -> task.size).reversed());
+      queue.addAll(tasks);
+      for (int i = 0; i < Math.min(config.getConcurrency(), tasks.size()); i++) {
+        preparationExecutor.execute(this::work);
+      }
+    }
+
+    /**
+     * Prepares files until the queue is empty.
+     */
+    private void work() {
+      FileTask task;
+      while ((task = queue.poll()) != null) {
+        ProjectPlan plan = plans[task.project];
+        if (results.get(task.project).isDone()) {
+          // Failed along with another project or the guard
+          release(task.project);
+          skipped(task);
+        } else {
+          try {
+            PreparedArtifact file = deploymentService.prepareFile(plan.coordinates, plan.artifacts.get(task.file));
+            prepared(task, file);
+          } catch (IOException | RuntimeException e) {
+            fail(task.project, new ProjectFailedException(plan.project, Phase.PROCESS, e));
+            skipped(task);
+            continue;
+          } catch (Error e) {
+            fail(task.project, e);
+            throw e;
+          }
+          listener.filePrepared(new PreparationProgress(filesPrepared.incrementAndGet(), fileCount.get(),
+              bytesPrepared.addAndGet(task.size), totalBytes.get(), System.currentTimeMillis() - start));
+        }
+      }
+    }
+
+    /**
+     * Takes a file that will not be prepared out of the totals, so that the estimate only covers files still to
+     * be prepared.
+     */
+    private void skipped(FileTask task) {
+      listener.filePrepared(new PreparationProgress(filesPrepared.get(), fileCount.decrementAndGet(),
+          bytesPrepared.get(), totalBytes.addAndGet(-task.size), System.currentTimeMillis() - start));
+    }
+
+    private void prepared(FileTask task, PreparedArtifact file) {
+      PreparedArtifact[] projectFiles = files[task.project];
+      PreparedArtifact artifact = null;
+      synchronized (projectFiles) {
+        projectFiles[task.file] = file;
+        // A failing project is completed before its files are released under this lock
+        if (results.get(task.project).isDone()) {
+          deploymentService.cleanup(file);
+          projectFiles[task.file] = null;
+        } else if (remaining[task.project].decrementAndGet() == 0) {
+          artifact = PreparedArtifact.combine(plans[task.project].coordinates, Arrays.asList(projectFiles));
+        }
+      }
+      if (artifact != null) {
+        String segmentKey = plans[task.project].segmentKey;
+        complete(task.project, segmentKey != null ? artifact.withSegmentKey(segmentKey) : artifact);
+      }
+    }
+
+    private void complete(int index, PreparedArtifact artifact) {
+      // Report before completing, so that progress precedes the bundle writing it triggers
+      listener.artifactPrepared(artifact.getCoordinates(), prepared.incrementAndGet(), pomFiles.size());
+      finished(finished, pomFiles.size(), start);
+      if (!results.get(index).complete(artifact)) {
+        deploymentService.cleanup(artifact);
+      }
+    }
+
+    /**
+     * Fails a project, or every project unless failures are collected, and releases their prepared files.
+     */
+    void fail(int index, Throwable failure) {
+      Throwable cause = unwrap(failure);
+      if (cause instanceof ProjectFailedException && collectFailures) {
+        if (results.get(index).completeExceptionally(cause)) {
+          listener.artifactFailed((ProjectFailedException) cause, failed.incrementAndGet(), pomFiles.size());
+          finished(finished, pomFiles.size(), start);
+        }
+        release(index);
+      } else {
+        results.forEach(result -> result.completeExceptionally(cause));
+        for (int i = 0; i < pomFiles.size(); i++) {
+          release(i);
+        }
+      }
+    }
+
+    /**
+     * Deletes the temporary files of the prepared files of a project that will not be bundled.
+     */
+    private void release(int index) {
+      PreparedArtifact[] projectFiles = files[index];
+      if (projectFiles == null) {
+        return;
+      }
+      synchronized (projectFiles) {
+        for (int j = 0; j < projectFiles.length; j++) {
+          if (projectFiles[j] != null) {
+            deploymentService.cleanup(projectFiles[j]);
+            projectFiles[j] = null;
+          }
+        }
+      }
+    }
+  }
+
+  private void finished(AtomicInteger finished, int total, long start) {
+    if (finished.incrementAndGet() == total) {
+      listener.stageCompleted(PublishingStage.PREPARE, System.currentTimeMillis() - start);
+    }
+  }
+
+  /**
+   * Writes prepared artifacts to a new bundle in the given order, each as soon as it and all artifacts before
+   * it are prepared, and deletes their temporary files.
+   *
+   * <p>Unless the {@link FailureMode} is {@link FailureMode#FAIL_FAST}, projects that failed with a
+   * {@link ProjectFailedException} are left out. The bundle then fails with a {@link PublishingFailuresException}
+   * in {@link FailureMode#COLLECT} mode or when no project is left, and lists them in
+   * {@link BuiltBundle#getFailures()} otherwise.
+   *
+   * @param artifacts the prepared artifacts, as returned by {@link #prepareAll(List)}
+   * @return the future bundle
+   */
+  public CompletableFuture<BuiltBundle> bundle(List<CompletableFuture<PreparedArtifact>> artifacts) {
+    return supply(() -> {
+      listener.stageStarted(PublishingStage.BUNDLE);
+      return bundleBuilderFactory.create();
+    }, publishingExecutor).thenCompose(bundleBuilder -> {
+      long start = System.currentTimeMillis();
+      boolean skipFailures = config.getFailureMode() != FailureMode.FAIL_FAST;
+      CompletableFuture<Void> written = CompletableFuture.completedFuture(null);
+      for (CompletableFuture<PreparedArtifact> artifact : artifacts) {
+        CompletableFuture<PreparedArtifact> next = skipFailures ? artifact.handle(PublishingEngine::skipFailure)
+            : artifact;
+        written = written.thenCombineAsync(next, (ignored, prepared) -> {
+          if (prepared == null) {
+            // Failed project, left out of the bundle
+            return null;
+          }
+          try {
+            write(prepared, bundleBuilder);
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          } finally {
+            deploymentService.cleanup(prepared);
+          }
+          return null;
+        }, publishingExecutor);
+      }
+      return written.handle((ignored, failure) -> {
+        try {
+          bundleBuilder.close();
+        } catch (IOException e) {
+          if (failure == null) {
+            throw new CompletionException(e);
+          }
+        }
+        if (failure != null) {
+          // Artifacts prepared after the failure are released by prepareAll, those before it here
+          artifacts.stream()
+              .filter(artifact -> artifact.isDone() && !artifact.isCompletedExceptionally())
+              .forEach(artifact -> deploymentService.cleanup(artifact.join()));
+          throw failure instanceof CompletionException
+              ? (CompletionException) failure : new CompletionException(failure);
+        }
+
+        // Every artifact is complete here, and only failed projects were skipped
+        List<ProjectFailedException> failures = new ArrayList<>();
+        for (CompletableFuture<PreparedArtifact> artifact : artifacts) {
+          if (artifact.isCompletedExceptionally()) {
+            failures.add((ProjectFailedException) unwrap(artifact.handle((prepared, cause) -> cause).join()));
+          }
+        }
+        if (!failures.isEmpty() && (config.getFailureMode() == FailureMode.COLLECT
+            || failures.size() == artifacts.size())) {
+          throw new CompletionException(new PublishingFailuresException(failures, artifacts.size()));
+        }
+        listener.stageCompleted(PublishingStage.BUNDLE, System.currentTimeMillis() - start);
+        return toBuiltBundle(bundleBuilder).withFailures(failures);
+      });
+    });
+  }
+
+  /**
+   * Completes with {@code null} for a failed project, so that it can be left out, and fails otherwise.
+   */
+  private static PreparedArtifact skipFailure(PreparedArtifact prepared, Throwable failure) {
+    if (failure == null) {
+      return prepared;
+    }
+    if (unwrap(failure) instanceof ProjectFailedException) {
+      return null;
+    }
+    throw failure instanceof CompletionException ? (CompletionException) failure : new CompletionException(failure);
+  }
+
+  /**
+   * Writes a prepared artifact to the bundle, through a segment if the artifact has a segment key.
+   */
+  private void write(PreparedArtifact prepared, BundleBuilder bundleBuilder) throws IOException {
+    if (prepared.getSegmentKey() == null) {
+      deploymentService.writeArtifact(prepared, bundleBuilder);
+      return;
+    }
+    if (!(bundleBuilder instanceof SegmentedBundleBuilder)) {
+      throw new IOException("Bundle segments require a SegmentedBundleBuilder, got "
+          + bundleBuilder.getClass().getName());
+    }
+
+    SegmentedBundleBuilder segmentedBuilder = (SegmentedBundleBuilder) bundleBuilder;
+    if (prepared.isSegmentCached()) {
+      segmentedBuilder.addSegment(prepared.getSegmentKey());
+    } else {
+      segmentedBuilder.startSegment(prepared.getSegmentKey());
+      deploymentService.writeArtifact(prepared, segmentedBuilder);
+      segmentedBuilder.finishSegment();
+    }
+  }
+
+  /**
+   * Validates a bundle and logs its warnings; completes with {@code null} if no validator is configured, and fails
+   * with a {@link BundleValidationException} if the bundle is invalid.
+   */
+  public CompletableFuture<ValidationReport> validate(BuiltBundle bundle) {
+    if (config.getValidator() == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return supply(() -> {
+      listener.stageStarted(PublishingStage.VALIDATE);
+      long start = System.currentTimeMillis();
+      ValidationReport report = bundle.isInMemory()
+          ? config.getValidator().validate(bundle.getContent())
+          : config.getValidator().validate(bundle.getFile());
+      for (Violation warning : report.getWarnings()) {
+        config.getLog().warn("Pre-flight validation: " + warning);
+      }
+      if (!report.isValid()) {
+        throw new BundleValidationException(report);
+      }
+      listener.stageCompleted(PublishingStage.VALIDATE, System.currentTimeMillis() - start);
+      return report;
+    }, publishingExecutor);
+  }
+
+  /**
+   * Checks the credentials against the configured Central Portal and opens the connection the upload reuses,
+   * so that this can run while the bundle is built.
+   *
+   * @param coordinates a component being published, used for the lightweight published status request
+   * @return a future that fails if the credentials are rejected or the portal cannot be reached
+   */
+  public CompletableFuture<Void> warmUp(MavenCoordinates coordinates) {
+    return supply(() -> {
+      getUploadService().warmUp(coordinates.getGroupId(), coordinates.getArtifactId(), coordinates.getVersion());
+      return null;
+    }, publishingExecutor);
+  }
+
+  /**
+   * Uploads a bundle to the configured Central Portal.
+   *
+   * @return the future deployment ID
+   */
+  public CompletableFuture<String> upload(BuiltBundle bundle) {
+    return supply(() -> {
+      listener.stageStarted(PublishingStage.UPLOAD);
+      long start = System.currentTimeMillis();
+      CentralUploadService service = getUploadService();
+      String deploymentId = bundle.isInMemory()
+          ? service.deploy(bundle.getContent(), bundle.getName(), config.getDeploymentName(),
+              config.isAutoPublish())
+          : service.deploy(bundle.getFile(), config.getDeploymentName(), config.isAutoPublish());
+      listener.stageCompleted(PublishingStage.UPLOAD, System.currentTimeMillis() - start);
+      return deploymentId;
+    }, publishingExecutor);
+  }
+
+  /**
+   * Waits until a deployment reaches the configured state.
+   *
+   * @return the future deployment ID
+   */
+  public CompletableFuture<String> waitFor(String deploymentId) {
+    return supply(() -> {
+      listener.stageStarted(PublishingStage.WAIT);
+      long start = System.currentTimeMillis();
+      getUploadService().awaitState(deploymentId, config.getCentralBaseUrl(), config.getWaitUntil(),
+          config.getWaitMaxTime(), config.getWaitPollingInterval());
+      listener.stageCompleted(PublishingStage.WAIT, System.currentTimeMillis() - start);
+      return deploymentId;
+    }, publishingExecutor);
+  }
+
+  /**
+   * Waits for a stage and returns its result, unwrapping its failure.
+   *
+   * @param future a future returned by a stage
+   * @return the stage result
+   * @throws IOException if the stage failed with an I/O error, was cancelled or the wait was interrupted
+   */
+  public static <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for publishing stage", e);
+    } catch (CancellationException e) {
+      throw new IOException("Publishing stage was cancelled", e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e.getCause());
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * Shuts down the executors created by the engine.
+   */
+  @Override
+  public void close() {
+    ownedExecutors.forEach(ExecutorService::shutdownNow);
+  }
+
+  private synchronized CentralUploadService getUploadService() {
+    if (config.getCentralBaseUrl() == null) {
+      throw new IllegalStateException("No Central Portal configured for upload");
+    }
+    if (uploadService == null) {
+      uploadService = new CentralUploadService(config.getLog());
+      uploadService.configure(config.getCentralBaseUrl(), config.getUsername(), config.getPassword(),
+          config.isTokenAuth());
+    }
+    return uploadService;
+  }
+
+  private BuiltBundle toBuiltBundle(BundleBuilder bundleBuilder) {
+    if (bundleBuilder instanceof InMemoryBundleBuilder) {
+      return BuiltBundle.ofContent(config.getBundleName(), ((InMemoryBundleBuilder) bundleBuilder).toByteArray());
+    }
+    return BuiltBundle.ofFile(bundleBuilder.getBundleFile());
+  }
+
+  private static Throwable unwrap(Throwable failure) {
+    Throwable cause = failure;
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private Executor own(ExecutorService executor) {
+    ownedExecutors.add(executor);
+    return executor;
+  }
+
+  private static <T> CompletableFuture<T> supply(Callable<T> task, Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return task.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+}
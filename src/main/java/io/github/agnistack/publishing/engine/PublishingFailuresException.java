@@ -0,0 +1,57 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when projects failed in {@link FailureMode#COLLECT} or {@link FailureMode#FAIL_AT_END} mode, listing
+ * every failure at once.
+ *
+ * @since 0.3.0
+ */
+public class PublishingFailuresException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient List<ProjectFailedException> failures;
+
+  public PublishingFailuresException(List<ProjectFailedException> failures, int projectCount) {
+    super(describe(failures, projectCount));
+    this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    failures.forEach(this::addSuppressed);
+  }
+
+  public List<ProjectFailedException> getFailures() {
+    return failures;
+  }
+
+  private static String describe(List<ProjectFailedException> failures, int projectCount) {
+    StringBuilder message = new StringBuilder()
+        .append(failures.size()).append(" of ").append(projectCount).append(" project(s) failed:");
+    for (ProjectFailedException failure : failures) {
+      message.append(System.lineSeparator()).append("  ").append(failure.getMessage());
+    }
+    return message.toString();
+  }
+}
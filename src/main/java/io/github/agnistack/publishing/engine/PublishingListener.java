@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+/**
+ * Receives progress of a {@link PublishingEngine}.
+ *
+ * <p>Methods are called from the engine's executor threads, possibly concurrently, and must not block.
+ *
+ * @since 0.3.0
+ */
+public interface PublishingListener {
+
+  /**
+   * A listener ignoring all progress.
+   */
+  PublishingListener NONE = new PublishingListener() {
+  };
+
+  /**
+   * Called when a stage starts.
+   *
+   * @param stage the stage
+   */
+  default void stageStarted(PublishingStage stage) {
+  }
+
+  /**
+   * Called when a stage completes successfully.
+   *
+   * @param stage         the stage
+   * @param elapsedMillis the time the stage took
+   */
+  default void stageCompleted(PublishingStage stage, long elapsedMillis) {
+  }
+
+  /**
+   * Called when an artifact has been parsed, collected, signed and checksummed.
+   *
+   * @param coordinates the coordinates of the artifact
+   * @param prepared    the number of artifacts prepared so far
+   * @param total       the total number of artifacts
+   */
+  default void artifactPrepared(MavenCoordinates coordinates, int prepared, int total) {
+  }
+
+  /**
+   * Called when a file has been signed and checksummed while files are scheduled largest first.
+   *
+   * @param progress the files and bytes prepared so far, with the observed throughput and estimated time left
+   * @see PublishingConfig#withLargestFilesFirst(boolean)
+   */
+  default void filePrepared(PreparationProgress progress) {
+  }
+
+  /**
+   * Called when a project failed in {@link FailureMode#COLLECT} or {@link FailureMode#FAIL_AT_END} mode and the
+   * run continues with the others.
+   *
+   * @param failure the failure, naming the project and phase
+   * @param failed  the number of projects failed so far
+   * @param total   the total number of projects
+   */
+  default void artifactFailed(ProjectFailedException failure, int failed, int total) {
+  }
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.validation.ValidationReport;
+
+/**
+ * Outcome of a complete {@link PublishingEngine} run.
+ *
+ * @since 0.3.0
+ */
+public class PublishingResult {
+
+  private final BuiltBundle bundle;
+  private final ValidationReport validationReport;
+  private final String deploymentId;
+
+  public PublishingResult(BuiltBundle bundle, ValidationReport validationReport, String deploymentId) {
+    this.bundle = bundle;
+    this.validationReport = validationReport;
+    this.deploymentId = deploymentId;
+  }
+
+  public BuiltBundle getBundle() {
+    return bundle;
+  }
+
+  /**
+   * Returns the pre-flight validation report, or {@code null} if validation was skipped.
+   */
+  public ValidationReport getValidationReport() {
+    return validationReport;
+  }
+
+  /**
+   * Returns the Central Portal deployment ID, or {@code null} if the bundle was not uploaded.
+   */
+  public String getDeploymentId() {
+    return deploymentId;
+  }
+}
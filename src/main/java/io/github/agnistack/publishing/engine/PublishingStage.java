@@ -0,0 +1,53 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+/**
+ * Stages of a {@link PublishingEngine} run, in the order they start.
+ *
+ * @since 0.3.0
+ */
+public enum PublishingStage {
+
+  /**
+   * Parsing, collecting, signing and checksumming of every artifact, which overlap across artifacts.
+   */
+  PREPARE,
+
+  /**
+   * Writing the prepared artifacts to the bundle, in the order the POM files were given.
+   */
+  BUNDLE,
+
+  /**
+   * Pre-flight validation of the finished bundle.
+   */
+  VALIDATE,
+
+  /**
+   * Uploading the bundle to the Central Portal.
+   */
+  UPLOAD,
+
+  /**
+   * Waiting for the deployment to reach the requested state.
+   */
+  WAIT
+}
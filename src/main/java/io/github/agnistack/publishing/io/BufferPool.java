@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of reusable I/O buffers of a fixed size.
+ *
+ * <p>Buffers are borrowed with {@link #acquire()} and must be given back with {@link #release(ByteBuffer)}.
+ * A lock-free queue is used rather than thread-local buffers, which would be allocated per task when
+ * running on virtual threads. At most {@code maxIdle} buffers are retained; any beyond that are left to
+ * the garbage collector.
+ *
+ * @since 0.3.0
+ */
+public final class BufferPool {
+
+  /**
+   * Size of the buffers of the {@link #shared() shared pool}.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private static final BufferPool SHARED = new BufferPool(DEFAULT_BUFFER_SIZE, 64, false);
+
+  private final int bufferSize;
+  private final boolean direct;
+  private final BlockingQueue<ByteBuffer> idle;
+  private final AtomicLong allocated = new AtomicLong();
+
+  /**
+   * Creates a pool.
+   *
+   * @param bufferSize the size of every buffer
+   * @param maxIdle    the maximum number of idle buffers retained
+   * @param direct     whether to allocate direct buffers; heap buffers expose a backing array
+   */
+  public BufferPool(int bufferSize, int maxIdle, boolean direct) {
+    if (bufferSize <= 0 || maxIdle <= 0) {
+      throw new IllegalArgumentException("bufferSize and maxIdle must be positive");
+    }
+    this.bufferSize = bufferSize;
+    this.direct = direct;
+    this.idle = new ArrayBlockingQueue<>(maxIdle);
+  }
+
+  /**
+   * Returns the pool of heap buffers shared by the plugin.
+   */
+  public static BufferPool shared() {
+    return SHARED;
+  }
+
+  /**
+   * Borrows a cleared buffer.
+   *
+   * @return a buffer with position 0 and limit equal to its capacity
+   */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = idle.poll();
+    if (buffer == null) {
+      allocated.incrementAndGet();
+      buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Returns a buffer to the pool. The caller must not use it afterwards.
+   *
+   * @param buffer a buffer obtained from {@link #acquire()}
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer.capacity() == bufferSize && buffer.isDirect() == direct) {
+      idle.offer(buffer);
+    }
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * Returns the number of buffers allocated since the pool was created.
+   */
+  public long getAllocatedCount() {
+    return allocated.get();
+  }
+}
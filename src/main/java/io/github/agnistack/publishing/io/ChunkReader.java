@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads files and streams in chunks through pooled buffers.
+ *
+ * @since 0.3.0
+ */
+public final class ChunkReader {
+
+  /**
+   * Receives the chunks of a file.
+   */
+  @FunctionalInterface
+  public interface ChunkHandler {
+
+    /**
+     * Handles one chunk. The buffer is only valid during the call.
+     *
+     * @param chunk the chunk, between position and limit
+     * @throws IOException if handling fails
+     */
+    void handle(ByteBuffer chunk) throws IOException;
+  }
+
+  private ChunkReader() {
+  }
+
+  /**
+   * Reads a file through a {@link FileChannel}.
+   *
+   * @param file    the file
+   * @param pool    the pool to borrow the buffer from
+   * @param handler receives every chunk in order
+   * @return the number of bytes read
+   * @throws IOException if reading or handling fails
+   */
+  public static long read(File file, BufferPool pool, ChunkHandler handler) throws IOException {
+    ByteBuffer buffer = pool.acquire();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long total = 0;
+      int length;
+      while ((length = channel.read(buffer)) >= 0) {
+        if (length == 0) {
+          continue;
+        }
+        total += length;
+        buffer.flip();
+        handler.handle(buffer);
+        buffer.clear();
+      }
+      return total;
+    } finally {
+      pool.release(buffer);
+    }
+  }
+
+  /**
+   * Reads a stream. The stream is not closed.
+   *
+   * @param in      the stream
+   * @param pool    the pool to borrow the buffer from
+   * @param handler receives every chunk in order
+   * @return the number of bytes read
+   * @throws IOException if reading or handling fails
+   */
+  public static long read(InputStream in, BufferPool pool, ChunkHandler handler) throws IOException {
+    ByteBuffer buffer = pool.acquire();
+    try {
+      byte[] array = buffer.hasArray() ? buffer.array() : new byte[buffer.capacity()];
+      long total = 0;
+      int length;
+      while ((length = in.read(array, 0, array.length)) >= 0) {
+        if (length == 0) {
+          continue;
+        }
+        total += length;
+        buffer.clear();
+        if (!buffer.hasArray()) {
+          buffer.put(array, 0, length).flip();
+        } else {
+          buffer.limit(length);
+        }
+        handler.handle(buffer);
+      }
+      return total;
+    } finally {
+      pool.release(buffer);
+    }
+  }
+}
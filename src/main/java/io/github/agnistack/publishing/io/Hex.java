@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.io;
+
+/**
+ * Lower-case hexadecimal encoding through a precomputed table of digit pairs, and decoding of either case.
+ *
+ * @since 0.3.0
+ */
+public final class Hex {
+
+  private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * Both hex digits of every byte value, at index {@code 2 * value}.
+   */
+  private static final char[] PAIRS = new char[512];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      PAIRS[2 * i] = DIGITS[i >>> 4];
+      PAIRS[2 * i + 1] = DIGITS[i & 0x0F];
+    }
+  }
+
+  private Hex() {
+  }
+
+  /**
+   * Encodes bytes as a lower-case hex string.
+   *
+   * @param bytes the bytes
+   * @return the hex string, two characters per byte
+   */
+  public static String encode(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    encode(bytes, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Encodes bytes as lower-case hex digits into a caller-provided array.
+   *
+   * @param bytes  the bytes
+   * @param target the array receiving {@code 2 * bytes.length} characters
+   * @param offset the index of the first character
+   * @return the index after the last character written
+   */
+  public static int encode(byte[] bytes, char[] target, int offset) {
+    int position = offset;
+    for (byte b : bytes) {
+      int pair = (b & 0xFF) << 1;
+      target[position++] = PAIRS[pair];
+      target[position++] = PAIRS[pair + 1];
+    }
+    return position;
+  }
+
+  /**
+   * Decodes a hex string of either case.
+   *
+   * @param hex the hex string, two characters per byte
+   * @return the bytes
+   * @throws IllegalArgumentException if the string has an odd length or a character that is not a hex digit
+   */
+  public static byte[] decode(String hex) {
+    if (hex.length() % 2 != 0) {
+      throw new IllegalArgumentException("Hex string has an odd length: " + hex);
+    }
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(hex.charAt(2 * i), 16);
+      int low = Character.digit(hex.charAt(2 * i + 1), 16);
+      if (high < 0 || low < 0) {
+        throw new IllegalArgumentException("Not a hex string: " + hex);
+      }
+      bytes[i] = (byte) (high << 4 | low);
+    }
+    return bytes;
+  }
+}
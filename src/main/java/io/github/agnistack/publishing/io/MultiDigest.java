@@ -0,0 +1,178 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Computes several digests of a file in one read.
+ *
+ * <p>Files below a size threshold are streamed once through a pooled buffer, updating every digest from each
+ * chunk. Larger files are memory-mapped in windows of up to 1 GiB, and each digest runs as a task of its own
+ * over the same mapped windows, so that hashing a multi-gigabyte file with MD5, SHA-1 and SHA-256 takes about
+ * as long as its slowest digest alone. The pages are read from disk once and shared by all threads through
+ * the page cache.
+ *
+ * <p>The digest tasks run on the caller's executor, so they count against its bound. Tasks the executor has
+ * not started by the time the calling thread is done with its own digest are run by the calling thread, so a
+ * bounded executor whose threads are all busy hashing cannot deadlock.
+ *
+ * @since 0.3.0
+ */
+public final class MultiDigest {
+
+  /**
+   * Size in bytes from which files are mapped and digested in parallel.
+   */
+  public static final long DEFAULT_PARALLEL_THRESHOLD = 64L * 1024 * 1024;
+
+  private static final long WINDOW_SIZE = 1L << 30;
+  private static final int COPY_SIZE = 1024 * 1024;
+
+  private MultiDigest() {
+  }
+
+  /**
+   * Computes the digests of a file.
+   *
+   * @param file              the file
+   * @param algorithms        the digest algorithms, such as {@code MD5} and {@code SHA-1}
+   * @param parallelThreshold the size from which the file is mapped and digested in parallel, {@code 0} to
+   *                          always stream it
+   * @param executor          the executor running the digests in parallel, or {@code null} to always stream
+   *                          the file
+   * @return the lower-case hex digests by algorithm, in the order of {@code algorithms}
+   * @throws IOException if reading fails or an algorithm is not supported
+   */
+  public static Map<String, String> digest(File file, List<String> algorithms, long parallelThreshold,
+                                           Executor executor) throws IOException {
+    return digest(file, algorithms, parallelThreshold, executor, WINDOW_SIZE);
+  }
+
+  /**
+   * Computes the digests of a file, mapping it in windows of the given size.
+   */
+  static Map<String, String> digest(File file, List<String> algorithms, long parallelThreshold, Executor executor,
+                                    long windowSize) throws IOException {
+    List<MessageDigest> digests = new ArrayList<>(algorithms.size());
+    for (String algorithm : algorithms) {
+      digests.add(newDigest(algorithm));
+    }
+
+    long size = file.length();
+    if (digests.size() > 1 && executor != null && parallelThreshold > 0 && size >= parallelThreshold) {
+      digestMapped(file, digests, executor, windowSize);
+    } else {
+      ChunkReader.read(file, BufferPool.shared(), chunk -> {
+        for (MessageDigest digest : digests) {
+          digest.update(chunk.duplicate());
+        }
+      });
+    }
+
+    Map<String, String> checksums = new LinkedHashMap<>();
+    for (int i = 0; i < algorithms.size(); i++) {
+      checksums.put(algorithms.get(i), Hex.encode(digests.get(i).digest()));
+    }
+    return checksums;
+  }
+
+  private static void digestMapped(File file, List<MessageDigest> digests, Executor executor, long windowSize)
+      throws IOException {
+    List<MappedByteBuffer> windows = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      // Mappings stay valid after the channel is closed
+      long size = channel.size();
+      for (long position = 0; position < size; position += windowSize) {
+        windows.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position)));
+      }
+    }
+
+    // The calling thread computes the first digest while the others run on the executor
+    List<FutureTask<Void>> tasks = new ArrayList<>(digests.size() - 1);
+    try {
+      for (MessageDigest digest : digests.subList(1, digests.size())) {
+        FutureTask<Void> task = new FutureTask<>(() -> update(digest, windows), null);
+        tasks.add(task);
+        try {
+          executor.execute(task);
+        } catch (RejectedExecutionException e) {
+          // Run below by the calling thread
+        }
+      }
+      update(digests.get(0), windows);
+      for (FutureTask<Void> task : tasks) {
+        // Does nothing if the executor has started the task already
+        task.run();
+      }
+      for (FutureTask<Void> task : tasks) {
+        task.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Digesting " + file + " was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to digest " + file, e.getCause());
+    } finally {
+      for (FutureTask<Void> task : tasks) {
+        task.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Updates a digest from the mapped windows through a heap buffer, which the digest implementations process
+   * without copying it again in small pieces.
+   */
+  private static void update(MessageDigest digest, List<MappedByteBuffer> windows) {
+    byte[] chunk = new byte[COPY_SIZE];
+    for (MappedByteBuffer window : windows) {
+      ByteBuffer view = window.duplicate();
+      while (view.hasRemaining()) {
+        int length = Math.min(chunk.length, view.remaining());
+        view.get(chunk, 0, length);
+        digest.update(chunk, 0, length);
+      }
+    }
+  }
+
+  private static MessageDigest newDigest(String algorithm) throws IOException {
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unsupported checksum algorithm: " + algorithm, e);
+    }
+  }
+}
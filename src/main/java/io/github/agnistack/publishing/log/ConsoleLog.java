@@ -0,0 +1,74 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.log;
+
+import java.io.PrintStream;
+
+/**
+ * Log printing info and debug output to standard output and warnings and errors to standard error,
+ * in the format of Maven's console output.
+ *
+ * @since 0.3.0
+ */
+public final class ConsoleLog implements PublishingLog {
+
+  private final boolean debugEnabled;
+
+  /**
+   * @param debugEnabled whether debug output is printed
+   */
+  public ConsoleLog(boolean debugEnabled) {
+    this.debugEnabled = debugEnabled;
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return debugEnabled;
+  }
+
+  @Override
+  public void debug(CharSequence message) {
+    if (debugEnabled) {
+      print(System.out, "debug", message, null);
+    }
+  }
+
+  @Override
+  public void info(CharSequence message) {
+    print(System.out, "info", message, null);
+  }
+
+  @Override
+  public void warn(CharSequence message, Throwable error) {
+    print(System.err, "warn", message, error);
+  }
+
+  @Override
+  public void error(CharSequence message, Throwable error) {
+    print(System.err, "error", message, error);
+  }
+
+  private static void print(PrintStream out, String level, CharSequence message, Throwable error) {
+    out.println("[" + level + "] " + message);
+    if (error != null) {
+      error.printStackTrace(out);
+    }
+  }
+}
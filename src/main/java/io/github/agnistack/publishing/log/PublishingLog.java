@@ -0,0 +1,49 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.log;
+
+/**
+ * Log written to by the publishing engine, its services and file processors.
+ *
+ * <p>Keeps them independent of Maven: the goals adapt their Maven log, the command line writes to
+ * {@link ConsoleLog}.
+ *
+ * @since 0.3.0
+ */
+public interface PublishingLog {
+
+  boolean isDebugEnabled();
+
+  void debug(CharSequence message);
+
+  void info(CharSequence message);
+
+  void warn(CharSequence message, Throwable error);
+
+  void error(CharSequence message, Throwable error);
+
+  default void warn(CharSequence message) {
+    warn(message, null);
+  }
+
+  default void error(CharSequence message) {
+    error(message, null);
+  }
+}
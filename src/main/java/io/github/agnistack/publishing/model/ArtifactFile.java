@@ -20,7 +20,10 @@
 package io.github.agnistack.publishing.model;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * Represents a Maven artifact file with its metadata.
@@ -32,11 +35,24 @@ public class ArtifactFile {
   private final File file;
   private final String fileName;
   private final ArtifactType type;
+  private final Map<String, File> sidecars;
 
   public ArtifactFile(File file, String fileName, ArtifactType type) {
+    this(file, fileName, type, Collections.emptyMap());
+  }
+
+  /**
+   * Creates an artifact file with checksums and signature that already exist next to it.
+   *
+   * @param sidecars the existing sidecar files by extension, e.g. {@code asc}, {@code md5} and {@code sha1}
+   * @since 0.3.0
+   */
+  public ArtifactFile(File file, String fileName, ArtifactType type, Map<String, File> sidecars) {
     this.file = Objects.requireNonNull(file, "file cannot be null");
     this.fileName = Objects.requireNonNull(fileName, "fileName cannot be null");
     this.type = Objects.requireNonNull(type, "type cannot be null");
+    this.sidecars = Collections.unmodifiableMap(new TreeMap<>(Objects.requireNonNull(sidecars,
+        "sidecars cannot be null")));
   }
 
   public File getFile() {
@@ -55,6 +71,33 @@ public class ArtifactFile {
     return file.exists();
   }
 
+  /**
+   * Returns the existing sidecar file with the given extension, or {@code null} if there is none.
+   *
+   * @since 0.3.0
+   */
+  public File getSidecar(String extension) {
+    return sidecars.get(extension);
+  }
+
+  /**
+   * Returns the existing sidecar files by extension.
+   *
+   * @since 0.3.0
+   */
+  public Map<String, File> getSidecars() {
+    return sidecars;
+  }
+
+  /**
+   * Returns whether checksums or a signature already exist for this file.
+   *
+   * @since 0.3.0
+   */
+  public boolean hasSidecars() {
+    return !sidecars.isEmpty();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -62,12 +105,13 @@ public class ArtifactFile {
     ArtifactFile that = (ArtifactFile) o;
     return Objects.equals(file, that.file) &&
         Objects.equals(fileName, that.fileName) &&
-        type == that.type;
+        type == that.type &&
+        Objects.equals(sidecars, that.sidecars);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(file, fileName, type);
+    return Objects.hash(file, fileName, type, sidecars);
   }
 
   @Override
@@ -76,6 +120,7 @@ public class ArtifactFile {
         "fileName='" + fileName + '\'' +
         ", type=" + type +
         ", exists=" + exists() +
+        (sidecars.isEmpty() ? "" : ", sidecars=" + sidecars.keySet()) +
         '}';
   }
 
@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.model;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * A single entry of a deployment bundle, backed either by a file on disk or by in-memory content.
+ *
+ * @since 0.3.0
+ */
+public class BundleEntry {
+
+  private final String fileName;
+  private final File file;
+  private final byte[] content;
+
+  private BundleEntry(String fileName, File file, byte[] content) {
+    this.fileName = Objects.requireNonNull(fileName, "fileName cannot be null");
+    this.file = file;
+    this.content = content;
+  }
+
+  /**
+   * Creates an entry whose content is read from a file when the bundle is written.
+   */
+  public static BundleEntry ofFile(String fileName, File file) {
+    return new BundleEntry(fileName, Objects.requireNonNull(file, "file cannot be null"), null);
+  }
+
+  /**
+   * Creates an entry with the given content.
+   */
+  public static BundleEntry ofContent(String fileName, byte[] content) {
+    return new BundleEntry(fileName, null, Objects.requireNonNull(content, "content cannot be null"));
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * Returns the backing file, or {@code null} for in-memory entries.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Returns the in-memory content, or {@code null} for file-backed entries.
+   */
+  public byte[] getContent() {
+    return content;
+  }
+
+  public boolean isInMemory() {
+    return content != null;
+  }
+
+  @Override
+  public String toString() {
+    return "BundleEntry{" +
+        "fileName='" + fileName + '\'' +
+        ", inMemory=" + isInMemory() +
+        '}';
+  }
+}
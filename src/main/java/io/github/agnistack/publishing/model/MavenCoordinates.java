@@ -31,6 +31,7 @@ public class MavenCoordinates {
   private final String groupId;
   private final String artifactId;
   private final String version;
+  private String repositoryPath;
 
   public MavenCoordinates(String groupId, String artifactId, String version) {
     this.groupId = Objects.requireNonNull(groupId, "groupId cannot be null");
@@ -55,7 +56,13 @@ public class MavenCoordinates {
    * Format: groupId.replace('.', '/') / artifactId / version
    */
   public String getRepositoryPath() {
-    return groupId.replace('.', '/') + '/' + artifactId + '/' + version + '/';
+    // Computed once per instance, every entry of an artifact shares this prefix
+    String path = repositoryPath;
+    if (path == null) {
+      path = groupId.replace('.', '/') + '/' + artifactId + '/' + version + '/';
+      repositoryPath = path;
+    }
+    return path;
   }
 
   /**
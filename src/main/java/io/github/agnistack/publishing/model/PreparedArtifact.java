@@ -0,0 +1,127 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An artifact whose files have been signed and checksummed and are ready to be written to a bundle.
+ *
+ * @since 0.3.0
+ */
+public class PreparedArtifact {
+
+  private final MavenCoordinates coordinates;
+  private final List<BundleEntry> entries;
+  private final List<File> temporaryFiles;
+  private final String segmentKey;
+  private final boolean segmentCached;
+
+  public PreparedArtifact(MavenCoordinates coordinates, List<BundleEntry> entries, List<File> temporaryFiles) {
+    this(coordinates, entries, temporaryFiles, null, false);
+  }
+
+  private PreparedArtifact(MavenCoordinates coordinates, List<BundleEntry> entries, List<File> temporaryFiles,
+                           String segmentKey, boolean segmentCached) {
+    this.coordinates = Objects.requireNonNull(coordinates, "coordinates cannot be null");
+    this.entries = Collections.unmodifiableList(Objects.requireNonNull(entries, "entries cannot be null"));
+    this.temporaryFiles = Collections.unmodifiableList(
+        Objects.requireNonNull(temporaryFiles, "temporaryFiles cannot be null"));
+    this.segmentKey = segmentKey;
+    this.segmentCached = segmentCached;
+  }
+
+  /**
+   * Combines artifacts prepared file by file into one, keeping the entries in the order of {@code files}.
+   *
+   * @param coordinates the coordinates of the project
+   * @param files       the prepared files of the project
+   * @return the artifact with the entries and temporary files of all files
+   */
+  public static PreparedArtifact combine(MavenCoordinates coordinates, List<PreparedArtifact> files) {
+    List<BundleEntry> entries = new ArrayList<>();
+    List<File> temporaryFiles = new ArrayList<>();
+    for (PreparedArtifact file : files) {
+      entries.addAll(file.getEntries());
+      temporaryFiles.addAll(file.getTemporaryFiles());
+    }
+    return new PreparedArtifact(coordinates, entries, temporaryFiles);
+  }
+
+  /**
+   * Creates an artifact whose entries are already stored in a cached bundle segment.
+   */
+  public static PreparedArtifact ofSegment(MavenCoordinates coordinates, String segmentKey) {
+    return new PreparedArtifact(coordinates, Collections.emptyList(), Collections.emptyList(),
+        Objects.requireNonNull(segmentKey, "segmentKey cannot be null"), true);
+  }
+
+  /**
+   * Returns a copy whose entries are to be stored as the bundle segment with the given key.
+   */
+  public PreparedArtifact withSegmentKey(String segmentKey) {
+    return new PreparedArtifact(coordinates, entries, temporaryFiles,
+        Objects.requireNonNull(segmentKey, "segmentKey cannot be null"), false);
+  }
+
+  public MavenCoordinates getCoordinates() {
+    return coordinates;
+  }
+
+  /**
+   * Returns the bundle entries in the order they are written.
+   */
+  public List<BundleEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Returns files created while preparing the artifact that must be deleted once it has been written.
+   */
+  public List<File> getTemporaryFiles() {
+    return temporaryFiles;
+  }
+
+  /**
+   * Returns the key of the bundle segment holding the entries, or {@code null} if segments are not used.
+   */
+  public String getSegmentKey() {
+    return segmentKey;
+  }
+
+  /**
+   * Returns whether the entries are taken from a cached segment instead of {@link #getEntries()}.
+   */
+  public boolean isSegmentCached() {
+    return segmentCached;
+  }
+
+  @Override
+  public String toString() {
+    if (segmentCached) {
+      return coordinates + " (cached segment " + segmentKey + ")";
+    }
+    return coordinates + " (" + entries.size() + " entries)";
+  }
+}
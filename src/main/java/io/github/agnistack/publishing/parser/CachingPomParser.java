@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import io.github.agnistack.publishing.cache.FileStamp;
+import io.github.agnistack.publishing.cache.StampedCache;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POM parser that reuses coordinates parsed earlier, as long as the POM and its parents are unchanged.
+ *
+ * @since 0.3.0
+ */
+public class CachingPomParser implements PomParser {
+
+  private final PomParser delegate;
+  private final StampedCache<MavenCoordinates> cache;
+  private final String namespace;
+
+  /**
+   * Creates a caching parser.
+   *
+   * @param delegate  the parser computing coordinates on a miss
+   * @param cache     the cache shared between runs
+   * @param namespace distinguishes delegates that may compute different coordinates for the same POM
+   */
+  public CachingPomParser(PomParser delegate, StampedCache<MavenCoordinates> cache, String namespace) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.namespace = namespace;
+  }
+
+  @Override
+  public MavenCoordinates parse(File pomFile) throws IOException {
+    String key = namespace + ':' + pomFile.getAbsolutePath();
+    MavenCoordinates coordinates = cache.get(key);
+    if (coordinates != null) {
+      return coordinates;
+    }
+
+    // Stamp the POM before parsing, so a change while parsing invalidates the entry
+    List<FileStamp> stamps = new ArrayList<>();
+    stamps.add(FileStamp.of(pomFile));
+    coordinates = delegate.parse(pomFile);
+
+    List<File> sourceFiles = delegate.getSourceFiles(pomFile);
+    for (File parentFile : sourceFiles.subList(1, sourceFiles.size())) {
+      stamps.add(FileStamp.of(parentFile));
+    }
+    cache.put(key, stamps, coordinates);
+    return coordinates;
+  }
+
+  @Override
+  public List<File> getSourceFiles(File pomFile) throws IOException {
+    return delegate.getSourceFiles(pomFile);
+  }
+
+  @Override
+  public Map<String, String> getProperties(File pomFile) throws IOException {
+    return delegate.getProperties(pomFile);
+  }
+}
@@ -25,12 +25,13 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 
 /**
  * Default implementation of PomParser using DOM parsing with XXE protection.
@@ -39,13 +40,35 @@ import java.io.IOException;
  */
 public class DefaultPomParser implements PomParser {
 
+  private final DocumentBuilderPool documentBuilders;
+
+  public DefaultPomParser() {
+    this(null);
+  }
+
+  /**
+   * Creates a parser that borrows its document builders from a pool.
+   *
+   * @param documentBuilders the pool, or {@code null} to create a builder per POM
+   */
+  public DefaultPomParser(DocumentBuilderPool documentBuilders) {
+    this.documentBuilders = documentBuilders;
+  }
+
   @Override
   public MavenCoordinates parse(File pomFile) throws IOException {
     try {
-      DocumentBuilderFactory factory = createSecureDocumentBuilderFactory();
-      DocumentBuilder builder = factory.newDocumentBuilder();
-      Document doc = builder.parse(pomFile);
-      doc.getDocumentElement().normalize();
+      Document doc;
+      if (documentBuilders != null) {
+        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+          doc = documentBuilders.parse(in, pomFile.getPath());
+        }
+      } else {
+        DocumentBuilderFactory factory = PomDocuments.createSecureDocumentBuilderFactory();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        doc = builder.parse(pomFile);
+        doc.getDocumentElement().normalize();
+      }
 
       String groupId = getElementText(doc, "groupId");
       String artifactId = getElementText(doc, "artifactId");
@@ -66,21 +89,6 @@ public class DefaultPomParser implements PomParser {
     }
   }
 
-  private DocumentBuilderFactory createSecureDocumentBuilderFactory() throws ParserConfigurationException {
-    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-
-    // Security: Disable external entities to prevent XXE attacks
-    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-    factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-    factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-    factory.setXIncludeAware(false);
-    factory.setExpandEntityReferences(false);
-
-    return factory;
-  }
-
   private String[] extractParentCoordinates(Document doc, String groupId, String version) {
     NodeList parentNodes = doc.getElementsByTagName("parent");
     if (parentNodes.getLength() > 0) {
@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of secure document builders, so POMs can be parsed without looking up and configuring a new
+ * parser each time.
+ *
+ * <p>Document builders are not thread-safe, so each parse borrows one and returns it after a reset.
+ * At most {@code maxIdle} builders are kept.
+ *
+ * @since 0.3.0
+ */
+public class DocumentBuilderPool {
+
+  private final DocumentBuilderFactory factory;
+  private final BlockingQueue<DocumentBuilder> idle;
+  private final AtomicLong created = new AtomicLong();
+  private final AtomicLong reused = new AtomicLong();
+
+  public DocumentBuilderPool(int maxIdle) {
+    try {
+      this.factory = PomDocuments.createSecureDocumentBuilderFactory();
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("XML parser does not support secure processing", e);
+    }
+    this.idle = new ArrayBlockingQueue<>(maxIdle);
+  }
+
+  /**
+   * Parses a POM document with a pooled builder.
+   *
+   * @param in       the POM content
+   * @param systemId the name of the document, used in error messages
+   * @return the parsed, normalized document
+   * @throws IOException if the content is not well-formed XML
+   */
+  public Document parse(InputStream in, String systemId) throws IOException {
+    DocumentBuilder builder = borrow(systemId);
+    try {
+      InputSource source = new InputSource(in);
+      source.setSystemId(systemId);
+      Document doc = builder.parse(source);
+      doc.getDocumentElement().normalize();
+      return doc;
+    } catch (SAXException e) {
+      throw new IOException("Invalid XML in POM file: " + systemId, e);
+    } finally {
+      builder.reset();
+      idle.offer(builder);
+    }
+  }
+
+  /**
+   * Returns how many builders were created and how many parses reused an idle one.
+   */
+  public String describe() {
+    return created.get() + " parser(s) created, " + reused.get() + " reused";
+  }
+
+  private DocumentBuilder borrow(String systemId) throws IOException {
+    DocumentBuilder builder = idle.poll();
+    if (builder != null) {
+      reused.incrementAndGet();
+      return builder;
+    }
+
+    try {
+      // DocumentBuilderFactory is not thread-safe
+      synchronized (factory) {
+        builder = factory.newDocumentBuilder();
+      }
+      created.incrementAndGet();
+      return builder;
+    } catch (ParserConfigurationException e) {
+      throw new IOException("XML parser configuration error for POM file: " + systemId, e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces {@code ${name}} expressions in POM values.
+ *
+ * @since 0.3.0
+ */
+public final class Interpolator {
+
+  private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+  private static final int MAX_PASSES = 10;
+
+  private Interpolator() {
+  }
+
+  /**
+   * Replaces every expression with a known value, repeatedly so that values may contain expressions.
+   * Unknown expressions are left as they are.
+   *
+   * @param value  the value, may be {@code null}
+   * @param values the known values by name
+   * @return the interpolated value
+   */
+  public static String interpolate(String value, Map<String, String> values) {
+    if (value == null) {
+      return null;
+    }
+
+    String result = value;
+    for (int pass = 0; pass < MAX_PASSES && result.contains("${"); pass++) {
+      Matcher matcher = EXPRESSION.matcher(result);
+      StringBuilder interpolated = new StringBuilder(result.length());
+      boolean changed = false;
+      while (matcher.find()) {
+        String replacement = values.get(matcher.group(1).trim());
+        if (replacement != null) {
+          changed = true;
+        }
+        matcher.appendReplacement(interpolated,
+            Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+      }
+      matcher.appendTail(interpolated);
+      result = interpolated.toString();
+      if (!changed) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the first expression left in a value.
+   *
+   * @param value the value
+   * @return the expression including {@code ${}}, or {@code null} if there is none
+   */
+  public static String findExpression(String value) {
+    Matcher matcher = EXPRESSION.matcher(value);
+    return matcher.find() ? matcher.group() : null;
+  }
+}
@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Secure DOM parsing of POM documents shared by the parser and the pre-flight validation.
+ *
+ * @since 0.3.0
+ */
+public final class PomDocuments {
+
+  private PomDocuments() {
+  }
+
+  /**
+   * Parses a POM document with XXE protection.
+   *
+   * @param in       the POM content
+   * @param systemId the name of the document, used in error messages
+   * @return the parsed document
+   * @throws IOException if the content is not well-formed XML
+   */
+  public static Document parse(InputStream in, String systemId) throws IOException {
+    try {
+      InputSource source = new InputSource(in);
+      source.setSystemId(systemId);
+      Document doc = createSecureDocumentBuilderFactory().newDocumentBuilder().parse(source);
+      doc.getDocumentElement().normalize();
+      return doc;
+    } catch (ParserConfigurationException e) {
+      throw new IOException("XML parser configuration error for POM file: " + systemId, e);
+    } catch (SAXException e) {
+      throw new IOException("Invalid XML in POM file: " + systemId, e);
+    }
+  }
+
+  /**
+   * Creates a document builder factory with external entities and DOCTYPE declarations disabled.
+   *
+   * @return the factory
+   * @throws ParserConfigurationException if a security feature is not supported
+   */
+  public static DocumentBuilderFactory createSecureDocumentBuilderFactory() throws ParserConfigurationException {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+
+    // Security: Disable external entities to prevent XXE attacks
+    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+    factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+    factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+    factory.setXIncludeAware(false);
+    factory.setExpandEntityReferences(false);
+
+    return factory;
+  }
+
+  /**
+   * Returns all direct child elements of a parent.
+   *
+   * @param parent the parent element
+   * @return the children, in document order
+   */
+  public static List<Element> getChildren(Element parent) {
+    List<Element> children = new ArrayList<>();
+    NodeList nodes = parent.getChildNodes();
+    for (int i = 0; i < nodes.getLength(); i++) {
+      if (nodes.item(i).getNodeType() == Node.ELEMENT_NODE) {
+        children.add((Element) nodes.item(i));
+      }
+    }
+    return children;
+  }
+
+  /**
+   * Returns the direct child elements of a parent with the given tag name.
+   *
+   * @param parent  the parent element
+   * @param tagName the child tag name
+   * @return the matching children, in document order
+   */
+  public static List<Element> getChildren(Element parent, String tagName) {
+    List<Element> children = new ArrayList<>();
+    NodeList nodes = parent.getChildNodes();
+    for (int i = 0; i < nodes.getLength(); i++) {
+      Node node = nodes.item(i);
+      if (node.getNodeType() == Node.ELEMENT_NODE && tagName.equals(getName(node))) {
+        children.add((Element) node);
+      }
+    }
+    return children;
+  }
+
+  /**
+   * Returns the trimmed text of the first direct child element with the given tag name.
+   *
+   * @param parent  the parent element
+   * @param tagName the child tag name
+   * @return the text, or {@code null} if there is no such child
+   */
+  public static String getChildText(Element parent, String tagName) {
+    List<Element> children = getChildren(parent, tagName);
+    return children.isEmpty() ? null : children.get(0).getTextContent().trim();
+  }
+
+  private static String getName(Node node) {
+    return node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+  }
+}
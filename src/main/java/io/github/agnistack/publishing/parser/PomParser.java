@@ -23,6 +23,9 @@ import io.github.agnistack.publishing.model.MavenCoordinates;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for parsing POM files to extract Maven coordinates.
@@ -39,4 +42,29 @@ public interface PomParser {
    * @throws IOException if parsing fails
    */
   MavenCoordinates parse(File pomFile) throws IOException;
+
+  /**
+   * Returns the files the coordinates of a POM are read from, so cached results can be invalidated
+   * when any of them changes.
+   *
+   * @param pomFile the POM file
+   * @return the POM file itself, followed by any parent POMs the parser reads
+   * @throws IOException if the files cannot be determined
+   * @since 0.3.0
+   */
+  default List<File> getSourceFiles(File pomFile) throws IOException {
+    return Collections.singletonList(pomFile);
+  }
+
+  /**
+   * Returns the properties known for a POM, used to replace expressions when the POM is rewritten.
+   *
+   * @param pomFile the POM file
+   * @return the properties by name, empty if the parser does not resolve properties
+   * @throws IOException if the properties cannot be determined
+   * @since 0.3.0
+   */
+  default Map<String, String> getProperties(File pomFile) throws IOException {
+    return Collections.emptyMap();
+  }
 }
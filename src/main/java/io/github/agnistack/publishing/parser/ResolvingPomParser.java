@@ -0,0 +1,336 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import io.github.agnistack.publishing.concurrent.TaskScope;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * POM parser that interpolates {@code ${...}} expressions in the coordinates and inherits from local parents.
+ *
+ * <p>The parent chain is followed through {@code <relativePath>} (default {@code ../pom.xml}) as long as the
+ * referenced file is the declared parent. Properties are inherited down the chain, user properties take
+ * precedence over POM properties, and {@code project.*} and {@code project.parent.*} coordinates are available.
+ *
+ * <p>Each POM is parsed once per parser instance, and the resolved model of every POM in a chain is
+ * memoized, keyed by canonical path and content hash. The parser is thread-safe, so parents shared by many
+ * projects prepared concurrently are read and interpolated only once.
+ *
+ * @since 0.3.0
+ */
+public class ResolvingPomParser implements PomParser {
+
+  private static final String DEFAULT_RELATIVE_PATH = "../pom.xml";
+
+  private final Map<String, String> userProperties;
+  private final DocumentBuilderPool documentBuilders;
+  private final Map<String, Future<RawPom>> rawPoms = new ConcurrentHashMap<>();
+  private final Map<String, ResolvedPom> resolvedPoms = new ConcurrentHashMap<>();
+
+  public ResolvingPomParser() {
+    this(new Properties(), null);
+  }
+
+  /**
+   * Creates a parser.
+   *
+   * @param userProperties   properties that override POM properties, typically the {@code -D} properties
+   * @param documentBuilders the pool to borrow document builders from, or {@code null} to create one per POM
+   */
+  public ResolvingPomParser(Properties userProperties, DocumentBuilderPool documentBuilders) {
+    this.documentBuilders = documentBuilders;
+    Map<String, String> properties = new HashMap<>();
+    for (String name : userProperties.stringPropertyNames()) {
+      properties.put(name, userProperties.getProperty(name));
+    }
+    this.userProperties = Collections.unmodifiableMap(properties);
+  }
+
+  @Override
+  public MavenCoordinates parse(File pomFile) throws IOException {
+    ResolvedPom pom = resolve(pomFile);
+    validateCoordinates(pom, pomFile);
+    return new MavenCoordinates(pom.groupId, pom.artifactId, pom.version);
+  }
+
+  @Override
+  public List<File> getSourceFiles(File pomFile) throws IOException {
+    List<File> files = new ArrayList<>();
+    for (RawPom pom : loadChain(pomFile)) {
+      files.add(pom.file);
+    }
+    return files;
+  }
+
+  @Override
+  public Map<String, String> getProperties(File pomFile) throws IOException {
+    return resolve(pomFile).properties;
+  }
+
+  /**
+   * Returns a key that differs between parsers configured with different user properties, which can
+   * resolve the same POM to different coordinates.
+   */
+  public String getCacheNamespace() throws IOException {
+    return "resolving:" + hash(new TreeMap<>(userProperties).toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the number of distinct POMs parsed so far.
+   */
+  public int getParsedPomCount() {
+    return rawPoms.size();
+  }
+
+  private ResolvedPom resolve(File pomFile) throws IOException {
+    List<RawPom> chain = loadChain(pomFile);
+
+    // Resolve from the top down, reusing parents resolved for other projects
+    ResolvedPom resolved = null;
+    for (int i = chain.size() - 1; i >= 0; i--) {
+      RawPom raw = chain.get(i);
+      ResolvedPom cached = resolvedPoms.get(raw.key);
+      if (cached == null) {
+        ResolvedPom computed = resolve(raw, resolved);
+        cached = resolvedPoms.putIfAbsent(raw.key, computed);
+        if (cached == null) {
+          cached = computed;
+        }
+      }
+      resolved = cached;
+    }
+    return resolved;
+  }
+
+  /**
+   * Loads the chain from the POM up to its topmost local parent.
+   */
+  private List<RawPom> loadChain(File pomFile) throws IOException {
+    List<RawPom> chain = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    RawPom current = load(pomFile);
+    while (current != null) {
+      if (!seen.add(current.key)) {
+        throw new IOException("Cycle in parent chain of " + pomFile + " at " + current.file);
+      }
+      chain.add(current);
+      current = loadLocalParent(current);
+    }
+    return chain;
+  }
+
+  private ResolvedPom resolve(RawPom raw, ResolvedPom parent) {
+    Map<String, String> properties = new LinkedHashMap<>();
+    if (parent != null) {
+      properties.putAll(parent.inheritedProperties);
+    }
+    properties.putAll(raw.properties);
+    Map<String, String> inheritedProperties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+
+    String parentGroupId = parent != null ? parent.groupId : raw.parentGroupId;
+    String parentArtifactId = parent != null ? parent.artifactId : raw.parentArtifactId;
+    String parentVersion = parent != null ? parent.version : raw.parentVersion;
+    String groupId = isEmpty(raw.groupId) ? parentGroupId : raw.groupId;
+    String version = isEmpty(raw.version) ? parentVersion : raw.version;
+
+    putIfNotNull(properties, "project.groupId", groupId);
+    putIfNotNull(properties, "project.artifactId", raw.artifactId);
+    putIfNotNull(properties, "project.version", version);
+    putIfNotNull(properties, "project.parent.groupId", parentGroupId);
+    putIfNotNull(properties, "project.parent.artifactId", parentArtifactId);
+    putIfNotNull(properties, "project.parent.version", parentVersion);
+    properties.putAll(userProperties);
+
+    return new ResolvedPom(
+        Interpolator.interpolate(groupId, properties),
+        Interpolator.interpolate(raw.artifactId, properties),
+        Interpolator.interpolate(version, properties),
+        inheritedProperties,
+        Collections.unmodifiableMap(properties));
+  }
+
+  private RawPom loadLocalParent(RawPom child) throws IOException {
+    if (child.parentArtifactId == null || child.relativePath == null || child.relativePath.isEmpty()) {
+      return null;
+    }
+
+    File parentFile = new File(child.file.getParentFile(), child.relativePath);
+    if (parentFile.isDirectory()) {
+      parentFile = new File(parentFile, "pom.xml");
+    }
+    if (!parentFile.isFile()) {
+      return null;
+    }
+
+    RawPom parent = load(parentFile);
+    // Like Maven, only use the file if it is the declared parent
+    return child.parentArtifactId.equals(parent.artifactId) ? parent : null;
+  }
+
+  private RawPom load(File pomFile) throws IOException {
+    File canonicalFile = pomFile.getCanonicalFile();
+    byte[] content = Files.readAllBytes(canonicalFile.toPath());
+    String key = canonicalFile.getPath() + '@' + hash(content);
+
+    Future<RawPom> existing = rawPoms.get(key);
+    if (existing == null) {
+      FutureTask<RawPom> task = new FutureTask<>(() -> RawPom.parse(canonicalFile, key, content, documentBuilders));
+      existing = rawPoms.putIfAbsent(key, task);
+      if (existing == null) {
+        existing = task;
+        task.run();
+      }
+    }
+    return TaskScope.await(existing);
+  }
+
+  private static void validateCoordinates(ResolvedPom pom, File pomFile) throws IOException {
+    validate("groupId", pom.groupId, pomFile);
+    validate("artifactId", pom.artifactId, pomFile);
+    validate("version", pom.version, pomFile);
+  }
+
+  private static void validate(String name, String value, File pomFile) throws IOException {
+    if (isEmpty(value)) {
+      throw new IOException("Missing or empty " + name + " in POM: " + pomFile);
+    }
+    String expression = Interpolator.findExpression(value);
+    if (expression != null) {
+      throw new IOException("Unresolved property " + expression + " in " + name + " of POM: " + pomFile);
+    }
+  }
+
+  private static String hash(byte[] content) throws IOException {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("SHA-256 not available", e);
+    }
+  }
+
+  private static boolean isEmpty(String value) {
+    return value == null || value.isEmpty();
+  }
+
+  private static void putIfNotNull(Map<String, String> properties, String name, String value) {
+    if (value != null) {
+      properties.put(name, value);
+    }
+  }
+
+  /**
+   * A POM as written: literal coordinates, parent reference and own properties.
+   */
+  private static final class RawPom {
+
+    private final File file;
+    private final String key;
+    private String groupId;
+    private String artifactId;
+    private String version;
+    private String parentGroupId;
+    private String parentArtifactId;
+    private String parentVersion;
+    private String relativePath;
+    private final Map<String, String> properties = new LinkedHashMap<>();
+
+    private RawPom(File file, String key) {
+      this.file = file;
+      this.key = key;
+    }
+
+    static RawPom parse(File file, String key, byte[] content, DocumentBuilderPool documentBuilders)
+        throws IOException {
+      Document doc = documentBuilders != null
+          ? documentBuilders.parse(new ByteArrayInputStream(content), file.getPath())
+          : PomDocuments.parse(new ByteArrayInputStream(content), file.getPath());
+      Element project = doc.getDocumentElement();
+
+      RawPom pom = new RawPom(file, key);
+      pom.groupId = PomDocuments.getChildText(project, "groupId");
+      pom.artifactId = PomDocuments.getChildText(project, "artifactId");
+      pom.version = PomDocuments.getChildText(project, "version");
+
+      List<Element> parents = PomDocuments.getChildren(project, "parent");
+      if (!parents.isEmpty()) {
+        Element parent = parents.get(0);
+        pom.parentGroupId = PomDocuments.getChildText(parent, "groupId");
+        pom.parentArtifactId = PomDocuments.getChildText(parent, "artifactId");
+        pom.parentVersion = PomDocuments.getChildText(parent, "version");
+        String relativePath = PomDocuments.getChildText(parent, "relativePath");
+        pom.relativePath = relativePath != null ? relativePath : DEFAULT_RELATIVE_PATH;
+      }
+
+      for (Element properties : PomDocuments.getChildren(project, "properties")) {
+        for (Element property : PomDocuments.getChildren(properties)) {
+          pom.properties.put(property.getTagName(), property.getTextContent().trim());
+        }
+      }
+      return pom;
+    }
+  }
+
+  /**
+   * A POM with interpolated coordinates, the raw properties it passes on to its children and all
+   * properties visible in it.
+   */
+  private static final class ResolvedPom {
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final Map<String, String> inheritedProperties;
+    private final Map<String, String> properties;
+
+    private ResolvedPom(String groupId, String artifactId, String version, Map<String, String> inheritedProperties,
+                        Map<String, String> properties) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
+      this.inheritedProperties = inheritedProperties;
+      this.properties = properties;
+    }
+  }
+}
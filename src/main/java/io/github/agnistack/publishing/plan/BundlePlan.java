@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.plan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Manifest of a deployment bundle as it would be built, without anything being written, signed or hashed.
+ *
+ * @since 0.3.0
+ */
+public class BundlePlan {
+
+  private final List<PlannedProject> projects;
+
+  public BundlePlan(List<PlannedProject> projects) {
+    this.projects = Collections.unmodifiableList(projects);
+  }
+
+  public List<PlannedProject> getProjects() {
+    return projects;
+  }
+
+  public int getEntryCount() {
+    return projects.stream().mapToInt(project -> project.getEntries().size()).sum();
+  }
+
+  /**
+   * Returns the total size of all entries of known size.
+   */
+  public long getKnownSize() {
+    return projects.stream()
+        .flatMap(project -> project.getEntries().stream())
+        .filter(entry -> !entry.isMissing() && entry.getSize() != PlannedEntry.UNKNOWN_SIZE)
+        .mapToLong(PlannedEntry::getSize)
+        .sum();
+  }
+
+  public long getMissingCount() {
+    return projects.stream()
+        .flatMap(project -> project.getEntries().stream())
+        .filter(PlannedEntry::isMissing)
+        .count();
+  }
+
+  public long getFailedCount() {
+    return projects.stream().filter(project -> project.getError() != null).count();
+  }
+
+  /**
+   * Writes the plan as a JSON document.
+   *
+   * @param writer the target
+   * @throws IOException if writing fails
+   */
+  public void writeJson(Writer writer) throws IOException {
+    writer.write("{\n");
+    writer.write("  \"entryCount\": " + getEntryCount() + ",\n");
+    writer.write("  \"knownSize\": " + getKnownSize() + ",\n");
+    writer.write("  \"missingCount\": " + getMissingCount() + ",\n");
+    writer.write("  \"projects\": [");
+    for (int i = 0; i < projects.size(); i++) {
+      PlannedProject project = projects.get(i);
+      writer.write(i == 0 ? "\n" : ",\n");
+      writer.write("    {\n");
+      writer.write("      \"name\": " + quote(project.getName()));
+      if (project.getError() != null) {
+        writer.write(",\n      \"error\": " + quote(project.getError()) + "\n    }");
+        continue;
+      }
+      writer.write(",\n      \"coordinates\": " + quote(project.getCoordinates().toString()));
+      writer.write(",\n      \"entries\": [");
+      List<PlannedEntry> entries = project.getEntries();
+      for (int j = 0; j < entries.size(); j++) {
+        PlannedEntry entry = entries.get(j);
+        writer.write(j == 0 ? "\n" : ",\n");
+        writer.write("        {\"path\": " + quote(entry.getPath())
+            + ", \"type\": " + quote(entry.getType())
+            + ", \"size\": " + (entry.getSize() == PlannedEntry.UNKNOWN_SIZE ? "null" : entry.getSize())
+            + ", \"generated\": " + entry.isGenerated()
+            + ", \"missing\": " + entry.isMissing() + "}");
+      }
+      writer.write(entries.isEmpty() ? "]\n    }" : "\n      ]\n    }");
+    }
+    writer.write(projects.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+  }
+
+  private static String quote(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.plan;
+
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.concurrent.TaskScope;
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.parser.PomParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Computes the {@link BundlePlan} of a set of projects using only POM parsing and artifact collection.
+ *
+ * <p>No file is written, signed or hashed: checksum sizes follow from their algorithm and signature
+ * sizes are reported as unknown.
+ *
+ * @since 0.3.0
+ */
+public class BundlePlanner {
+
+  private static final int MD5_HEX_LENGTH = 32;
+  private static final int SHA1_HEX_LENGTH = 40;
+
+  private final PomParser pomParser;
+  private final ArtifactCollector artifactCollector;
+  private final boolean signing;
+
+  public BundlePlanner(PomParser pomParser, ArtifactCollector artifactCollector, boolean signing) {
+    this.pomParser = pomParser;
+    this.artifactCollector = artifactCollector;
+    this.signing = signing;
+  }
+
+  /**
+   * Plans all projects concurrently.
+   *
+   * @param projectDirs the project directories, each containing a {@code pom.xml}
+   * @param executor    the executor planning the projects
+   * @param concurrency the maximum number of projects planned at once
+   * @return the plan, with projects in the given order
+   * @throws IOException if planning is interrupted
+   */
+  public BundlePlan plan(List<File> projectDirs, ExecutorService executor, int concurrency) throws IOException {
+    List<Future<PlannedProject>> futures = new ArrayList<>(projectDirs.size());
+    try (TaskScope<PlannedProject> scope = new TaskScope<>(executor, concurrency)) {
+      for (File projectDir : projectDirs) {
+        futures.add(scope.fork(() -> planProject(projectDir)));
+      }
+
+      List<PlannedProject> projects = new ArrayList<>(futures.size());
+      for (Future<PlannedProject> future : futures) {
+        projects.add(TaskScope.await(future));
+      }
+      return new BundlePlan(projects);
+    }
+  }
+
+  /**
+   * Plans a single project, recording parse failures in the result instead of throwing.
+   *
+   * @param projectDir the project directory
+   * @return the planned project
+   */
+  public PlannedProject planProject(File projectDir) {
+    String name = projectDir.getName();
+    File pomFile = new File(projectDir, "pom.xml");
+    if (!projectDir.isDirectory()) {
+      return PlannedProject.failed(name, "Artifact directory not found: " + projectDir);
+    }
+    if (!pomFile.exists()) {
+      return PlannedProject.failed(name, "pom.xml not found in: " + projectDir);
+    }
+
+    MavenCoordinates coordinates;
+    try {
+      coordinates = pomParser.parse(pomFile);
+    } catch (IOException e) {
+      return PlannedProject.failed(name, e.getMessage());
+    }
+
+    String repositoryPath = coordinates.getRepositoryPath();
+    List<PlannedEntry> entries = new ArrayList<>();
+    for (ArtifactFile artifact : artifactCollector.collect(projectDir, coordinates)) {
+      String path = repositoryPath + artifact.getFileName();
+      boolean missing = !artifact.exists();
+      entries.add(new PlannedEntry(path, artifact.getType().name(),
+          missing ? PlannedEntry.UNKNOWN_SIZE : artifact.getFile().length(), false, missing));
+      if (missing) {
+        continue;
+      }
+
+      addChecksums(entries, path);
+      if (signing) {
+        entries.add(new PlannedEntry(path + ".asc", ArtifactFile.ArtifactType.SIGNATURE.name(),
+            PlannedEntry.UNKNOWN_SIZE, true, false));
+        addChecksums(entries, path + ".asc");
+      }
+    }
+    return PlannedProject.planned(name, coordinates, entries);
+  }
+
+  private static void addChecksums(List<PlannedEntry> entries, String path) {
+    String type = ArtifactFile.ArtifactType.CHECKSUM.name();
+    entries.add(new PlannedEntry(path + ".md5", type, MD5_HEX_LENGTH, true, false));
+    entries.add(new PlannedEntry(path + ".sha1", type, SHA1_HEX_LENGTH, true, false));
+  }
+}
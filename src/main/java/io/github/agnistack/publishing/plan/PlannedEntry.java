@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.plan;
+
+import java.util.Objects;
+
+/**
+ * An entry that a publishing run would write to the deployment bundle.
+ *
+ * @since 0.3.0
+ */
+public class PlannedEntry {
+
+  /**
+   * Size reported for entries whose size is only known once they are generated, such as signatures.
+   */
+  public static final long UNKNOWN_SIZE = -1;
+
+  private final String path;
+  private final String type;
+  private final long size;
+  private final boolean generated;
+  private final boolean missing;
+
+  public PlannedEntry(String path, String type, long size, boolean generated, boolean missing) {
+    this.path = Objects.requireNonNull(path, "path cannot be null");
+    this.type = Objects.requireNonNull(type, "type cannot be null");
+    this.size = size;
+    this.generated = generated;
+    this.missing = missing;
+  }
+
+  /**
+   * Returns the path of the entry inside the bundle.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the artifact type of the entry, e.g. {@code POM}, {@code SIGNATURE} or {@code CHECKSUM}.
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Returns the size in bytes, or {@link #UNKNOWN_SIZE}.
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Returns whether the entry is produced by the plugin (checksums and signatures) rather than read from disk.
+   */
+  public boolean isGenerated() {
+    return generated;
+  }
+
+  /**
+   * Returns whether the source file of the entry does not exist.
+   */
+  public boolean isMissing() {
+    return missing;
+  }
+
+  @Override
+  public String toString() {
+    return path + (missing ? " (missing)" : size == UNKNOWN_SIZE ? "" : " (" + size + " bytes)");
+  }
+}
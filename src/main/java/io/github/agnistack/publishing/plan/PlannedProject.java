@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.plan;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The planned bundle entries of one project, or the reason it could not be planned.
+ *
+ * @since 0.3.0
+ */
+public class PlannedProject {
+
+  private final String name;
+  private final MavenCoordinates coordinates;
+  private final List<PlannedEntry> entries;
+  private final String error;
+
+  private PlannedProject(String name, MavenCoordinates coordinates, List<PlannedEntry> entries, String error) {
+    this.name = Objects.requireNonNull(name, "name cannot be null");
+    this.coordinates = coordinates;
+    this.entries = Collections.unmodifiableList(entries);
+    this.error = error;
+  }
+
+  public static PlannedProject planned(String name, MavenCoordinates coordinates, List<PlannedEntry> entries) {
+    return new PlannedProject(name, Objects.requireNonNull(coordinates, "coordinates cannot be null"), entries, null);
+  }
+
+  public static PlannedProject failed(String name, String error) {
+    return new PlannedProject(name, null, Collections.emptyList(), Objects.requireNonNull(error, "error cannot be null"));
+  }
+
+  /**
+   * Returns the project directory name from {@code bomProjects}.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the coordinates, or {@code null} if the project could not be planned.
+   */
+  public MavenCoordinates getCoordinates() {
+    return coordinates;
+  }
+
+  public List<PlannedEntry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Returns why the project could not be planned, or {@code null}.
+   */
+  public String getError() {
+    return error;
+  }
+}
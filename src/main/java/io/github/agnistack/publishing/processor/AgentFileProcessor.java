@@ -0,0 +1,97 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.processor;
+
+import io.github.agnistack.publishing.agent.AgentSigner;
+import io.github.agnistack.publishing.log.PublishingLog;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * File processor that signs through gpg-agent directly instead of running gpg for each file.
+ *
+ * <p>Files are hashed in the JVM and only their digest is sent to the agent, so signing costs no process
+ * start and the passphrase never appears on a command line. Checksums are generated as by the
+ * {@link DefaultFileProcessor}.
+ *
+ * @since 0.3.0
+ */
+public class AgentFileProcessor extends DefaultFileProcessor implements Closeable {
+
+  private final AgentSigner agentSigner;
+  private final PublishingLog log;
+
+  /**
+   * Creates a file processor signing with the given key, connecting to the agent of the given gpg.
+   *
+   * @param keyName a user ID or fingerprint of the key, or {@code null} for the key gpg signs with by default
+   * @throws IOException if the key or the agent cannot be found
+   */
+  public AgentFileProcessor(String gpgExecutable, String gpgPassphrase, String keyName, File signatureDirectory,
+                            PublishingLog log) throws IOException {
+    super(gpgExecutable, gpgPassphrase, false, signatureDirectory, log);
+    this.agentSigner = AgentSigner.open(getGpgExecutable(), keyName, resolvePassphrase(), log);
+    this.log = log;
+  }
+
+  /**
+   * Returns whether this runtime can sign through gpg-agent, which needs Java 16 or later.
+   */
+  public static boolean isSupported() {
+    return AgentSigner.isSupported();
+  }
+
+  @Override
+  public File signFile(File file) throws IOException {
+    log.debug("Signing file: " + file.getName());
+
+    byte[] signature = agentSigner.sign(file);
+    File signatureFile = newSignatureFile(file);
+    Files.write(signatureFile.toPath(), signature);
+
+    log.debug("Successfully signed: " + file.getName());
+    return signatureFile;
+  }
+
+  @Override
+  public byte[] signContent(byte[] content, String fileName) throws IOException {
+    log.debug("Signing content: " + fileName);
+
+    byte[] signature = agentSigner.sign(content);
+    log.debug("Successfully signed: " + fileName);
+    return signature;
+  }
+
+  /**
+   * Returns the fingerprint of the key the agent signs with.
+   */
+  @Override
+  public String getSigningKeyFingerprint() {
+    return agentSigner.getKey().getFingerprint();
+  }
+
+  @Override
+  public void close() throws IOException {
+    agentSigner.close();
+  }
+}
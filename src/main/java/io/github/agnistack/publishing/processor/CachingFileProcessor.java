@@ -0,0 +1,120 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.processor;
+
+import io.github.agnistack.publishing.cache.FileStamp;
+import io.github.agnistack.publishing.cache.StampedCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File processor that reuses checksums of unchanged files, keyed by path, size and modification time.
+ *
+ * <p>Signing is delegated unchanged. Checksums of signature files are not cached, since signatures are
+ * written anew on every run.
+ *
+ * @since 0.3.0
+ */
+public class CachingFileProcessor implements FileProcessor {
+
+  private final FileProcessor delegate;
+  private final StampedCache<String> digests;
+
+  public CachingFileProcessor(FileProcessor delegate, StampedCache<String> digests) {
+    this.delegate = delegate;
+    this.digests = digests;
+  }
+
+  @Override
+  public File signFile(File file) throws IOException {
+    return delegate.signFile(file);
+  }
+
+  @Override
+  public String generateChecksum(File file, String algorithm) throws IOException {
+    if (file.getName().endsWith(".asc")) {
+      return delegate.generateChecksum(file, algorithm);
+    }
+
+    String key = algorithm + ':' + file.getAbsolutePath();
+    String checksum = digests.get(key);
+    if (checksum != null) {
+      return checksum;
+    }
+
+    // Stamp before reading, so a change while hashing invalidates the entry
+    FileStamp stamp = FileStamp.of(file);
+    checksum = delegate.generateChecksum(file, algorithm);
+    digests.put(key, Collections.singletonList(stamp), checksum);
+    return checksum;
+  }
+
+  /**
+   * Returns the cached checksums and generates the missing ones in a single delegate call.
+   */
+  @Override
+  public Map<String, String> generateChecksums(File file, List<String> algorithms) throws IOException {
+    if (file.getName().endsWith(".asc")) {
+      return delegate.generateChecksums(file, algorithms);
+    }
+
+    Map<String, String> checksums = new LinkedHashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String algorithm : algorithms) {
+      String checksum = digests.get(algorithm + ':' + file.getAbsolutePath());
+      checksums.put(algorithm, checksum);
+      if (checksum == null) {
+        missing.add(algorithm);
+      }
+    }
+    if (missing.isEmpty()) {
+      return checksums;
+    }
+
+    FileStamp stamp = FileStamp.of(file);
+    for (Map.Entry<String, String> generated : delegate.generateChecksums(file, missing).entrySet()) {
+      checksums.put(generated.getKey(), generated.getValue());
+      digests.put(generated.getKey() + ':' + file.getAbsolutePath(), Collections.singletonList(stamp),
+          generated.getValue());
+    }
+    return checksums;
+  }
+
+  @Override
+  public byte[] signContent(byte[] content, String fileName) throws IOException {
+    return delegate.signContent(content, fileName);
+  }
+
+  @Override
+  public String generateChecksum(byte[] content, String algorithm) throws IOException {
+    return delegate.generateChecksum(content, algorithm);
+  }
+
+  @Override
+  public boolean isSigningEnabled() {
+    return delegate.isSigningEnabled();
+  }
+}
@@ -19,16 +19,26 @@
  */
 package io.github.agnistack.publishing.processor;
 
-import org.apache.maven.plugin.MojoExecutionException;
-import org.apache.maven.plugin.logging.Log;
+import io.github.agnistack.publishing.agent.SigningKey;
+import io.github.agnistack.publishing.io.BufferPool;
+import io.github.agnistack.publishing.io.ChunkReader;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.io.MultiDigest;
+import io.github.agnistack.publishing.log.PublishingLog;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default implementation of FileProcessor with GPG signing and checksum generation.
@@ -40,12 +50,30 @@ public class DefaultFileProcessor implements FileProcessor {
   private final String gpgExecutable;
   private final String gpgPassphrase;
   private final boolean skipGpgSign;
-  private final Log log;
+  private final File signatureDirectory;
+  private final AtomicLong signatureCount = new AtomicLong();
+  private final PublishingLog log;
+  private long parallelDigestThreshold = MultiDigest.DEFAULT_PARALLEL_THRESHOLD;
+  private Executor digestExecutor;
+  private String keyName;
 
-  public DefaultFileProcessor(String gpgExecutable, String gpgPassphrase, boolean skipGpgSign, Log log) {
+  public DefaultFileProcessor(String gpgExecutable, String gpgPassphrase, boolean skipGpgSign, PublishingLog log) {
+    this(gpgExecutable, gpgPassphrase, skipGpgSign, null, log);
+  }
+
+  /**
+   * Creates a file processor writing signatures to a directory of its own, so that concurrent executions
+   * signing the same files do not overwrite each other's signatures.
+   *
+   * @param signatureDirectory the directory for signature files, or {@code null} to write them next to the file
+   * @since 0.3.0
+   */
+  public DefaultFileProcessor(String gpgExecutable, String gpgPassphrase, boolean skipGpgSign,
+                              File signatureDirectory, PublishingLog log) {
     this.gpgExecutable = gpgExecutable != null ? gpgExecutable : "gpg";
     this.gpgPassphrase = gpgPassphrase;
     this.skipGpgSign = skipGpgSign;
+    this.signatureDirectory = signatureDirectory;
     this.log = log;
   }
 
@@ -55,50 +83,78 @@ public class DefaultFileProcessor implements FileProcessor {
       return null;
     }
 
-    log.info("Signing file: " + file.getName());
+    log.debug("Signing file: " + file.getName());
 
-    File signatureFile = new File(file.getAbsolutePath() + ".asc");
+    File signatureFile = newSignatureFile(file);
+    String passphrase = resolvePassphrase();
+    List<String> command = signingCommand(signatureFile.getAbsolutePath(), passphrase);
+    command.add(file.getAbsolutePath());
 
-    // Get passphrase from field or environment variable
-    String effectivePassphrase = gpgPassphrase;
-    if (effectivePassphrase == null || effectivePassphrase.isEmpty()) {
-      effectivePassphrase = System.getenv("MAVEN_GPG_PASSPHRASE");
-      if (effectivePassphrase != null && !effectivePassphrase.isEmpty()) {
-        log.debug("Using GPG passphrase from MAVEN_GPG_PASSPHRASE environment variable");
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectErrorStream(true);
+    Process process = pb.start();
+    try {
+      try (OutputStream in = process.getOutputStream()) {
+        writePassphrase(in, passphrase);
       }
-    }
+      int exitCode = process.waitFor();
 
-    List<String> command = new ArrayList<>();
-    command.add(gpgExecutable);
-    command.add("--detach-sign");
-    command.add("--armor");
-    command.add("--output");
-    command.add(signatureFile.getAbsolutePath());
+      if (exitCode != 0) {
+        throw new IOException("GPG signing failed with exit code: " + exitCode);
+      }
 
-    if (effectivePassphrase != null && !effectivePassphrase.isEmpty()) {
-      command.add("--passphrase");
-      command.add(effectivePassphrase);
-      command.add("--batch");
-      command.add("--yes");
+      log.debug("Successfully signed: " + file.getName());
+      return signatureFile;
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      throw new IOException("GPG signing was interrupted", e);
     }
+  }
 
-    command.add(file.getAbsolutePath());
+  /**
+   * Signs content by piping it through GPG, without writing the content or signature to disk.
+   */
+  @Override
+  public byte[] signContent(byte[] content, String fileName) throws IOException {
+    if (skipGpgSign) {
+      return null;
+    }
+
+    log.debug("Signing content: " + fileName);
 
+    // Read from stdin, after the passphrase line if any, and write the signature to stdout
+    String passphrase = resolvePassphrase();
+    ProcessBuilder pb = new ProcessBuilder(signingCommand("-", passphrase));
+    Process process = pb.start();
     try {
-      ProcessBuilder pb = new ProcessBuilder(command);
-      pb.redirectErrorStream(true);
-      Process process = pb.start();
+      try (OutputStream in = process.getOutputStream()) {
+        writePassphrase(in, passphrase);
+        in.write(content);
+      }
+      // GPG writes the signature only after reading all input; its diagnostics fit in the pipe buffer
+      byte[] signature;
+      try (InputStream out = process.getInputStream()) {
+        signature = out.readAllBytes();
+      }
+      String diagnostics;
+      try (InputStream err = process.getErrorStream()) {
+        diagnostics = new String(err.readAllBytes(), StandardCharsets.UTF_8).trim();
+      }
       int exitCode = process.waitFor();
 
-      if (exitCode != 0) {
-        throw new IOException("GPG signing failed with exit code: " + exitCode);
+      if (exitCode != 0 || signature.length == 0) {
+        throw new IOException("GPG signing of " + fileName + " failed with exit code: " + exitCode
+            + (diagnostics.isEmpty() ? "" : ": " + diagnostics));
       }
 
-      log.info("Successfully signed: " + file.getName());
-      return signatureFile;
+      log.debug("Successfully signed: " + fileName);
+      return signature;
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IOException("GPG signing was interrupted", e);
+    } finally {
+      process.destroyForcibly();
     }
   }
 
@@ -106,31 +162,138 @@ public class DefaultFileProcessor implements FileProcessor {
   public String generateChecksum(File file, String algorithm) throws IOException {
     try {
       MessageDigest digest = MessageDigest.getInstance(algorithm);
-      try (FileInputStream fis = new FileInputStream(file)) {
-        byte[] buffer = new byte[8192];
-        int length;
-        while ((length = fis.read(buffer)) > 0) {
-          digest.update(buffer, 0, length);
-        }
-      }
-
-      byte[] hash = digest.digest();
-      StringBuilder hexString = new StringBuilder(hash.length * 2);
-      for (byte b : hash) {
-        String hex = Integer.toHexString(0xff & b);
-        if (hex.length() == 1) {
-          hexString.append('0');
-        }
-        hexString.append(hex);
-      }
-      return hexString.toString();
+      ChunkReader.read(file, BufferPool.shared(), digest::update);
+      return Hex.encode(digest.digest());
     } catch (NoSuchAlgorithmException e) {
       throw new IOException("Unsupported checksum algorithm: " + algorithm, e);
     }
   }
 
+  /**
+   * Generates all checksums in one read of the file; with a digest executor, files of at least the parallel
+   * digest threshold are memory-mapped and each checksum is computed by a task of its own.
+   */
+  @Override
+  public Map<String, String> generateChecksums(File file, List<String> algorithms) throws IOException {
+    return MultiDigest.digest(file, algorithms, parallelDigestThreshold, digestExecutor);
+  }
+
+  /**
+   * Sets the file size from which checksums are computed in parallel over a memory-mapped file.
+   *
+   * @param parallelDigestThreshold the size in bytes, or {@code 0} to always stream files
+   * @since 0.3.0
+   */
+  public void setParallelDigestThreshold(long parallelDigestThreshold) {
+    this.parallelDigestThreshold = parallelDigestThreshold;
+  }
+
+  /**
+   * Sets the executor computing the checksums of large files in parallel, typically the one running the
+   * publishing tasks. Without it, every file is streamed once by the calling thread.
+   *
+   * @param digestExecutor the executor, or {@code null}
+   * @since 0.3.0
+   */
+  public void setDigestExecutor(Executor digestExecutor) {
+    this.digestExecutor = digestExecutor;
+  }
+
+  /**
+   * Sets the key to sign with, passed to gpg as {@code --local-user}.
+   *
+   * @param keyName a user ID or fingerprint, or {@code null} for the key gpg signs with by default
+   * @since 0.3.0
+   */
+  public void setKeyName(String keyName) {
+    this.keyName = keyName != null && !keyName.isEmpty() ? keyName : null;
+  }
+
   @Override
   public boolean isSigningEnabled() {
     return !skipGpgSign;
   }
+
+  /**
+   * Returns the fingerprint of the key gpg signs with, selected as gpg selects it, so that signatures made with
+   * other keys are not reused, or an empty string if signing is skipped.
+   *
+   * @throws IOException if gpg cannot be run or has no key to sign with
+   * @since 0.3.0
+   */
+  public String getSigningKeyFingerprint() throws IOException {
+    return skipGpgSign ? "" : SigningKey.find(gpgExecutable, keyName).getFingerprint();
+  }
+
+  /**
+   * Returns a new file to write the signature of a file to.
+   *
+   * @since 0.3.0
+   */
+  protected File newSignatureFile(File file) throws IOException {
+    // Numbered, since files of different projects may share a name
+    File signatureFile = signatureDirectory != null
+        ? new File(signatureDirectory, file.getName() + '.' + signatureCount.incrementAndGet() + ".asc")
+        : new File(file.getAbsolutePath() + ".asc");
+    if (signatureDirectory == null && signatureFile.exists()) {
+      // Never overwrite a signature placed there by an upstream build, the caller deletes what is returned
+      signatureFile = File.createTempFile(file.getName() + '.', ".asc");
+      // Without --yes gpg would ask before replacing the placeholder
+      Files.delete(signatureFile.toPath());
+    }
+    return signatureFile;
+  }
+
+  /**
+   * Returns the configured passphrase, or the one of the {@code MAVEN_GPG_PASSPHRASE} environment variable,
+   * or {@code null}.
+   */
+  String resolvePassphrase() {
+    if (gpgPassphrase != null && !gpgPassphrase.isEmpty()) {
+      return gpgPassphrase;
+    }
+    String environmentPassphrase = System.getenv("MAVEN_GPG_PASSPHRASE");
+    if (environmentPassphrase != null && !environmentPassphrase.isEmpty()) {
+      log.debug("Using GPG passphrase from MAVEN_GPG_PASSPHRASE environment variable");
+      return environmentPassphrase;
+    }
+    return null;
+  }
+
+  String getGpgExecutable() {
+    return gpgExecutable;
+  }
+
+  /**
+   * Builds a detached, armored signing command writing to the given output; the input is appended by the caller.
+   * The passphrase is read from the first line of standard input, so that it never shows in the process list.
+   */
+  private List<String> signingCommand(String output, String passphrase) {
+    List<String> command = new ArrayList<>();
+    command.add(gpgExecutable);
+    command.add("--detach-sign");
+    command.add("--armor");
+    command.add("--output");
+    command.add(output);
+    if (keyName != null) {
+      command.add("--local-user");
+      command.add(keyName);
+    }
+
+    if (passphrase != null) {
+      command.add("--pinentry-mode");
+      command.add("loopback");
+      command.add("--passphrase-fd");
+      command.add("0");
+      command.add("--batch");
+      command.add("--yes");
+    }
+    return command;
+  }
+
+  private static void writePassphrase(OutputStream in, String passphrase) throws IOException {
+    if (passphrase != null) {
+      in.write((passphrase + '\n').getBytes(StandardCharsets.UTF_8));
+    }
+  }
 }
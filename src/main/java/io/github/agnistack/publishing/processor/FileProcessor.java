@@ -19,8 +19,17 @@
  */
 package io.github.agnistack.publishing.processor;
 
+import io.github.agnistack.publishing.io.Hex;
+
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for processing artifact files (signing, checksum generation, etc.).
@@ -48,6 +57,71 @@ public interface FileProcessor {
    */
   String generateChecksum(File file, String algorithm) throws IOException;
 
+  /**
+   * Generates several checksums of a file.
+   *
+   * <p>The default implementation generates each checksum with {@link #generateChecksum(File, String)}.
+   *
+   * @param file       the file to generate checksums for
+   * @param algorithms the checksum algorithms (e.g., "MD5", "SHA-1")
+   * @return the checksums as hex strings by algorithm, in the order of {@code algorithms}
+   * @throws IOException if checksum generation fails
+   * @since 0.3.0
+   */
+  default Map<String, String> generateChecksums(File file, List<String> algorithms) throws IOException {
+    Map<String, String> checksums = new LinkedHashMap<>();
+    for (String algorithm : algorithms) {
+      checksums.put(algorithm, generateChecksum(file, algorithm));
+    }
+    return checksums;
+  }
+
+  /**
+   * Signs content held in memory, such as a rewritten POM.
+   *
+   * <p>The default implementation writes the content to a temporary file and signs that.
+   *
+   * @param content  the content to sign
+   * @param fileName the name the content is published under
+   * @return the ASCII-armored signature, or {@code null} if signing is disabled
+   * @throws IOException if signing fails
+   * @since 0.3.0
+   */
+  default byte[] signContent(byte[] content, String fileName) throws IOException {
+    Path contentFile = Files.createTempFile("custom-central-", "-" + fileName);
+    try {
+      Files.write(contentFile, content);
+      File signatureFile = signFile(contentFile.toFile());
+      if (signatureFile == null) {
+        return null;
+      }
+      try {
+        return Files.readAllBytes(signatureFile.toPath());
+      } finally {
+        Files.deleteIfExists(signatureFile.toPath());
+      }
+    } finally {
+      Files.deleteIfExists(contentFile);
+    }
+  }
+
+  /**
+   * Generates a checksum for content held in memory.
+   *
+   * @param content   the content
+   * @param algorithm the checksum algorithm (e.g., "MD5", "SHA-1")
+   * @return the checksum as a hex string
+   * @throws IOException if the algorithm is not supported
+   * @since 0.3.0
+   */
+  default String generateChecksum(byte[] content, String algorithm) throws IOException {
+    try {
+      return Hex.encode(MessageDigest.getInstance(algorithm).digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unsupported checksum algorithm: " + algorithm, e);
+    }
+  }
+
   /**
    * Checks if GPG signing is enabled.
    *
@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.processor;
+
+import io.github.agnistack.publishing.sidecar.SidecarStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File processor that uses checksums and signatures prepared by the {@code prepare-custom} goal while they
+ * are fresh, and falls back to its delegate otherwise.
+ *
+ * <p>Prepared signatures are copied into the work directory, since the caller deletes signature files once
+ * they are bundled.
+ *
+ * @since 0.3.0
+ */
+public class SidecarFileProcessor implements FileProcessor {
+
+  private final FileProcessor delegate;
+  private final SidecarStore store;
+  private final File workDirectory;
+  private final AtomicLong signatureCount = new AtomicLong();
+  private final AtomicLong reused = new AtomicLong();
+  private final AtomicLong computed = new AtomicLong();
+
+  public SidecarFileProcessor(FileProcessor delegate, SidecarStore store, File workDirectory) {
+    this.delegate = delegate;
+    this.store = store;
+    this.workDirectory = workDirectory;
+  }
+
+  @Override
+  public File signFile(File file) throws IOException {
+    File prepared = store.findSignature(file);
+    if (prepared == null) {
+      computed.incrementAndGet();
+      return delegate.signFile(file);
+    }
+
+    reused.incrementAndGet();
+    File copy = new File(workDirectory, file.getName() + ".prepared-" + signatureCount.incrementAndGet() + ".asc");
+    Files.copy(prepared.toPath(), copy.toPath());
+    return copy;
+  }
+
+  @Override
+  public String generateChecksum(File file, String algorithm) throws IOException {
+    if (!store.covers(file)) {
+      // Signatures being bundled, which are never prepared
+      return delegate.generateChecksum(file, algorithm);
+    }
+
+    String prepared = store.findChecksum(file, extension(algorithm));
+    if (prepared == null) {
+      computed.incrementAndGet();
+      return delegate.generateChecksum(file, algorithm);
+    }
+    reused.incrementAndGet();
+    return prepared;
+  }
+
+  @Override
+  public Map<String, String> generateChecksums(File file, List<String> algorithms) throws IOException {
+    if (!store.covers(file)) {
+      return delegate.generateChecksums(file, algorithms);
+    }
+
+    Map<String, String> checksums = new LinkedHashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String algorithm : algorithms) {
+      String prepared = store.findChecksum(file, extension(algorithm));
+      checksums.put(algorithm, prepared);
+      if (prepared == null) {
+        missing.add(algorithm);
+      } else {
+        reused.incrementAndGet();
+      }
+    }
+    if (!missing.isEmpty()) {
+      computed.addAndGet(missing.size());
+      checksums.putAll(delegate.generateChecksums(file, missing));
+    }
+    return checksums;
+  }
+
+  @Override
+  public byte[] signContent(byte[] content, String fileName) throws IOException {
+    return delegate.signContent(content, fileName);
+  }
+
+  @Override
+  public String generateChecksum(byte[] content, String algorithm) throws IOException {
+    return delegate.generateChecksum(content, algorithm);
+  }
+
+  @Override
+  public boolean isSigningEnabled() {
+    return delegate.isSigningEnabled();
+  }
+
+  /**
+   * Returns the number of checksums and signatures taken from the store.
+   */
+  public long getReusedCount() {
+    return reused.get();
+  }
+
+  /**
+   * Returns the number of checksums and signatures computed because no fresh prepared one existed.
+   */
+  public long getComputedCount() {
+    return computed.get();
+  }
+
+  /**
+   * Maps a checksum algorithm to the extension of its checksum file, e.g. {@code SHA-1} to {@code sha1}.
+   */
+  public static String extension(String algorithm) {
+    return algorithm.replace("-", "").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,592 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.service;
+
+import io.github.agnistack.publishing.log.PublishingLog;
+import org.sonatype.central.publisher.client.PublisherClient;
+import org.sonatype.central.publisher.client.PublisherClientFactory;
+import org.sonatype.central.publisher.client.httpclient.auth.AuthProvider;
+import org.sonatype.central.publisher.client.model.DeploymentApiResponse;
+import org.sonatype.central.publisher.client.model.DeploymentState;
+import org.sonatype.central.publisher.client.model.PublishingType;
+import org.sonatype.central.publisher.plugin.exceptions.DeploymentPublishFailedException;
+import org.sonatype.central.publisher.plugin.exceptions.DeploymentPublishTimedOutException;
+import org.sonatype.central.publisher.plugin.model.WaitUntilRequest;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+
+import static org.sonatype.central.publisher.client.PublisherConstants.COMPONENT_NAMESPACE_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.COMPONENT_NAME_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.COMPONENT_VERSION_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.DEFAULT_ORGANIZATION_ID;
+import static org.sonatype.central.publisher.client.PublisherConstants.DEPLOYMENT_NAME_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.DEPLOYMENT_PUBLISHING_TYPE_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.PUBLISHED_ENDPOINT_URL;
+import static org.sonatype.central.publisher.client.PublisherConstants.UPLOAD_ENDPOINT_URL;
+import static org.sonatype.central.publisher.client.httpclient.auth.AuthProviderType.BASIC;
+import static org.sonatype.central.publisher.client.httpclient.auth.AuthProviderType.USERTOKEN;
+
+/**
+ * Uploads a deployment bundle to the Central Portal and waits for the requested deployment state.
+ *
+ * <p>Each service owns its {@link PublisherClient}, so base URL and credentials are never shared between
+ * executions running concurrently in a parallel build. Uploading and waiting follow the behavior of the
+ * uploader and watcher components of the Central publishing plugin, which are bound to a shared client.
+ *
+ * <p>Bundles are posted with a JDK HTTP client owned by the service, with the same endpoint, parameters and
+ * credentials the publisher client uses; bundles built in memory are posted straight from the byte array. The
+ * client keeps its connection open, so a {@link #warmUp} while the bundle is built leaves the upload with a
+ * resolved, connected and authenticated portal. A post the portal throttles (429) or cannot serve (503) is
+ * retried a few times, after the delay its {@code Retry-After} header asks for.
+ *
+ * @since 0.3.0
+ */
+public class CentralUploadService {
+
+  private static final int UPLOAD_CHUNK_SIZE = 1024 * 1024;
+
+  /**
+   * Attempts at posting a bundle the portal answers with 429 (too many requests) or 503 (unavailable).
+   */
+  private static final int MAX_UPLOAD_ATTEMPTS = 5;
+
+  private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+  private final PublisherClient publisherClient;
+  private final HttpClient httpClient;
+  private final PublishingLog log;
+  private String centralBaseUrl;
+  private AuthProvider authProvider;
+
+  /**
+   * Creates a service with a client of its own.
+   *
+   * @param log the log
+   */
+  public CentralUploadService(PublishingLog log) {
+    this(PublisherClientFactory.createPublisherClient(), log);
+  }
+
+  public CentralUploadService(PublisherClient publisherClient, PublishingLog log) {
+    this.publisherClient = publisherClient;
+    this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+    this.log = log;
+  }
+
+  /**
+   * Points the publisher client at the Central Portal and sets its credentials.
+   *
+   * @param centralBaseUrl the Central Portal base URL
+   * @param username       the user name or token name
+   * @param password       the password or token
+   * @param tokenAuth      whether to use user token authentication instead of basic authentication
+   */
+  public void configure(String centralBaseUrl, String username, String password, boolean tokenAuth) {
+    publisherClient.setCentralBaseUrl(centralBaseUrl);
+    this.centralBaseUrl = centralBaseUrl;
+    this.authProvider = publisherClient.setAuthProvider(tokenAuth ? USERTOKEN : BASIC, DEFAULT_ORGANIZATION_ID,
+        username, password);
+  }
+
+  /**
+   * Checks the credentials against the lightweight component published endpoint, which also resolves the
+   * host and opens the connection that the upload reuses.
+   *
+   * <p>Only rejected credentials and an unreachable portal fail; other responses are logged, leaving it to
+   * the upload to decide.
+   *
+   * @param namespace the group ID of a component being published
+   * @param name      its artifact ID
+   * @param version   its version
+   * @throws IOException if the credentials are rejected or the portal cannot be reached
+   */
+  public void warmUp(String namespace, String name, String version) throws IOException {
+    long start = System.currentTimeMillis();
+    StringBuilder uri = new StringBuilder(requireConfigured()).append(PUBLISHED_ENDPOINT_URL)
+        .append('?').append(COMPONENT_NAMESPACE_QUERY_PARAM).append('=').append(encode(namespace))
+        .append('&').append(COMPONENT_NAME_QUERY_PARAM).append('=').append(encode(name))
+        .append('&').append(COMPONENT_VERSION_QUERY_PARAM).append('=').append(encode(version));
+    HttpRequest.Builder request = authorized(uri).GET().timeout(Duration.ofSeconds(30));
+
+    HttpResponse<String> response;
+    try {
+      response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Central Portal warm-up was interrupted", e);
+    } catch (IOException e) {
+      throw new IOException("Central Portal at " + centralBaseUrl + " is not reachable: " + e, e);
+    }
+
+    int status = response.statusCode();
+    if (status == 401 || status == 403) {
+      throw new IOException("Central Portal at " + centralBaseUrl + " rejected the credentials (status " + status
+          + "), check the user token of the publishing server");
+    }
+    if (status / 100 != 2) {
+      log.warn("Central Portal warm-up returned status " + status + ", continuing: " + response.body());
+      return;
+    }
+    log.debug("Central Portal at " + centralBaseUrl + " accepted the credentials in "
+        + (System.currentTimeMillis() - start) + " ms");
+  }
+
+  /**
+   * Uploads the bundle and waits until the deployment reaches the requested state.
+   *
+   * @param bundleFile          the deployment bundle
+   * @param deploymentName      the deployment name shown in the Central Portal
+   * @param autoPublish         whether the deployment is published automatically once validated
+   * @param centralBaseUrl      the Central Portal base URL, used for status polling
+   * @param waitUntil           the state to wait for
+   * @param waitMaxTime         the maximum time to wait, in seconds
+   * @param waitPollingInterval the polling interval, in seconds
+   * @return the deployment ID
+   * @throws DeploymentPublishFailedException   if the upload fails or the deployment fails validation
+   * @throws DeploymentPublishTimedOutException if the state is not reached in time
+   */
+  public String upload(File bundleFile, String deploymentName, boolean autoPublish, String centralBaseUrl,
+                       WaitUntilRequest waitUntil, int waitMaxTime, int waitPollingInterval) {
+    String deploymentId = deploy(bundleFile, deploymentName, autoPublish);
+    awaitState(deploymentId, centralBaseUrl, waitUntil, waitMaxTime, waitPollingInterval);
+    return deploymentId;
+  }
+
+  /**
+   * Uploads the bundle without waiting for the deployment to be processed.
+   *
+   * @param bundleFile     the deployment bundle
+   * @param deploymentName the deployment name shown in the Central Portal
+   * @param autoPublish    whether the deployment is published automatically once validated
+   * @return the deployment ID
+   * @throws DeploymentPublishFailedException if the upload fails
+   * @throws CancellationException            if the thread is interrupted while uploading
+   */
+  public String deploy(File bundleFile, String deploymentName, boolean autoPublish) {
+    log.info("Uploading combined bundle to Maven Central: " + bundleFile.getName());
+
+    PublishingType publishingType = autoPublish ? PublishingType.AUTOMATIC : PublishingType.USER_MANAGED;
+    String deploymentId;
+    try {
+      deploymentId = post(bundleFile.getName(), Files.size(bundleFile.toPath()),
+          new FileMultipartBody(bundleFile.toPath()), deploymentName, publishingType);
+    } catch (InterruptedException e) {
+      throw interrupted("Upload of deployment " + deploymentName + " was interrupted", e);
+    } catch (Exception e) {
+      log.error("Unable to upload bundle for deployment: " + deploymentName, e);
+      throw new DeploymentPublishFailedException(deploymentName);
+    }
+
+    logDeployed(deploymentId, autoPublish);
+    return deploymentId;
+  }
+
+  /**
+   * Uploads a bundle held in memory without waiting for the deployment to be processed.
+   *
+   * @param bundle         the deployment bundle content
+   * @param bundleName     the bundle file name reported to the Central Portal
+   * @param deploymentName the deployment name shown in the Central Portal
+   * @param autoPublish    whether the deployment is published automatically once validated
+   * @return the deployment ID
+   * @throws DeploymentPublishFailedException if the upload fails
+   * @throws CancellationException            if the thread is interrupted while uploading
+   */
+  public String deploy(byte[] bundle, String bundleName, String deploymentName, boolean autoPublish) {
+    log.info("Uploading combined bundle to Maven Central from memory: " + bundleName + " (" + bundle.length
+        + " bytes)");
+
+    PublishingType publishingType = autoPublish ? PublishingType.AUTOMATIC : PublishingType.USER_MANAGED;
+    String deploymentId;
+    try {
+      deploymentId = post(bundleName, bundle.length, (head, tail) -> List.of(head, bundle, tail), deploymentName,
+          publishingType);
+    } catch (InterruptedException e) {
+      throw interrupted("Upload of deployment " + deploymentName + " was interrupted", e);
+    } catch (Exception e) {
+      log.error("Unable to upload bundle for deployment: " + deploymentName, e);
+      throw new DeploymentPublishFailedException(deploymentName);
+    }
+
+    logDeployed(deploymentId, autoPublish);
+    return deploymentId;
+  }
+
+  /**
+   * Waits until an uploaded deployment reaches the requested state.
+   *
+   * @param deploymentId        the deployment ID returned by the upload
+   * @param centralBaseUrl      the Central Portal base URL, used in the log
+   * @param waitUntil           the state to wait for
+   * @param waitMaxTime         the maximum time to wait, in seconds
+   * @param waitPollingInterval the polling interval, in seconds
+   * @throws DeploymentPublishFailedException   if the deployment fails validation
+   * @throws DeploymentPublishTimedOutException if the state is not reached in time
+   * @throws CancellationException              if the thread is interrupted while waiting
+   */
+  public void awaitState(String deploymentId, String centralBaseUrl, WaitUntilRequest waitUntil, int waitMaxTime,
+                         int waitPollingInterval) {
+    if (waitUntil == WaitUntilRequest.UPLOADED) {
+      return;
+    }
+
+    log.info("Waiting for deployment state to be " + waitUntil);
+    waitForState(deploymentId, centralBaseUrl, waitUntil, waitMaxTime, waitPollingInterval);
+  }
+
+  private void logDeployed(String deploymentId, boolean autoPublish) {
+    log.info("Deployed to Central with deployment ID: " + deploymentId + ", deployment will "
+        + (autoPublish ? "publish automatically" : "require manual publishing"));
+  }
+
+  /**
+   * Posts the bundle as the {@code bundle} part of a multipart form and returns the deployment ID.
+   */
+  private String post(String bundleName, long bundleLength, MultipartBody body, String deploymentName,
+                      PublishingType publishingType) throws IOException, InterruptedException {
+    StringBuilder uri = new StringBuilder(requireConfigured()).append(UPLOAD_ENDPOINT_URL)
+        .append('?').append(DEPLOYMENT_NAME_QUERY_PARAM).append('=').append(encode(deploymentName))
+        .append('&').append(DEPLOYMENT_PUBLISHING_TYPE_QUERY_PARAM).append('=').append(publishingType.name());
+
+    String boundary = "----" + UUID.randomUUID().toString().replace("-", "");
+    byte[] head = ("--" + boundary + "\r\n"
+        + "Content-Disposition: form-data; name=\"bundle\"; filename=\"" + bundleName + "\"\r\n"
+        + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+    byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    // With a known length the body is sent with Content-Length instead of chunked
+    HttpRequest.BodyPublisher parts = HttpRequest.BodyPublishers.ofByteArrays(body.parts(head, tail));
+    long length = head.length + bundleLength + tail.length;
+    HttpRequest.BodyPublisher publisher = new HttpRequest.BodyPublisher() {
+      @Override
+      public long contentLength() {
+        return length;
+      }
+
+      @Override
+      public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        parts.subscribe(subscriber);
+      }
+    };
+
+    // Each attempt subscribes again, which starts a new pass over the parts
+    HttpRequest request = authorized(uri)
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(publisher)
+        .build();
+    try (body) {
+      for (int attempt = 1; ; attempt++) {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        int status = response.statusCode();
+        if (status / 100 == 2) {
+          return response.body().trim();
+        }
+        if ((status != 429 && status != 503) || attempt == MAX_UPLOAD_ATTEMPTS) {
+          throw new IOException("Invalid request. Status: " + status + " Response body: " + response.body());
+        }
+        Duration delay = retryDelay(response.headers().firstValue("Retry-After").orElse(null), attempt);
+        log.warn("Upload of " + bundleName + " rejected with status " + status + ", retrying in "
+            + delay.toMillis() + " ms (attempt " + (attempt + 1) + " of " + MAX_UPLOAD_ATTEMPTS + ")");
+        Thread.sleep(delay.toMillis());
+      }
+    }
+  }
+
+  /**
+   * Returns how long to wait before retrying a throttled upload: the {@code Retry-After} delay in seconds or until
+   * the HTTP date it names, or an exponential backoff if it has neither, at most {@link #MAX_RETRY_DELAY}.
+   */
+  static Duration retryDelay(String retryAfter, int attempt) {
+    Duration delay = retryAfter != null
+        ? parseRetryAfter(retryAfter.trim())
+        : Duration.ofSeconds(1L << Math.min(attempt - 1, 6));
+    if (delay.isNegative()) {
+      return Duration.ZERO;
+    }
+    return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+  }
+
+  static Duration parseRetryAfter(String value) {
+    try {
+      return Duration.ofSeconds(Long.parseLong(value));
+    } catch (NumberFormatException e) {
+      try {
+        return Duration.between(Instant.now(),
+            ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+      } catch (DateTimeParseException invalid) {
+        return Duration.ofSeconds(1);
+      }
+    }
+  }
+
+  /**
+   * Builds a request with the query parameters and headers of the configured credentials.
+   */
+  private HttpRequest.Builder authorized(StringBuilder uri) {
+    if (authProvider.getQueryParams() != null) {
+      for (Map.Entry<String, String> param : authProvider.getQueryParams().entrySet()) {
+        uri.append('&').append(encode(param.getKey())).append('=').append(encode(param.getValue()));
+      }
+    }
+    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uri.toString()));
+    if (authProvider.getAuthHeaders() != null) {
+      authProvider.getAuthHeaders().forEach(request::header);
+    }
+    return request;
+  }
+
+  private String requireConfigured() {
+    if (authProvider == null) {
+      throw new IllegalStateException("Upload service has not been configured");
+    }
+    return centralBaseUrl;
+  }
+
+  /**
+   * Supplies the parts of a multipart body around its head and tail, once per attempt.
+   */
+  private interface MultipartBody extends Closeable {
+
+    Iterable<byte[]> parts(byte[] head, byte[] tail);
+
+    /**
+     * Releases what the attempts left open, such as a file the client stopped reading after an error.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+  }
+
+  /**
+   * The multipart head, a file read in chunks as the body is sent, and the tail.
+   */
+  private static final class FileMultipartBody implements MultipartBody {
+
+    private final Path file;
+    private final List<InputStream> streams = new ArrayList<>();
+
+    FileMultipartBody(Path file) {
+      this.file = file;
+    }
+
+    @Override
+    public Iterable<byte[]> parts(byte[] head, byte[] tail) {
+      return () -> new Iterator<byte[]>() {
+        private int part;
+        private InputStream in;
+        private byte[] next;
+
+        @Override
+        public boolean hasNext() {
+          if (next == null) {
+            next = advance();
+          }
+          return next != null;
+        }
+
+        @Override
+        public byte[] next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          byte[] result = next;
+          next = null;
+          return result;
+        }
+
+        private byte[] advance() {
+          try {
+            while (true) {
+              switch (part) {
+                case 0:
+                  part = 1;
+                  return head;
+                case 1:
+                  if (in == null) {
+                    in = open();
+                  }
+                  byte[] chunk = in.readNBytes(UPLOAD_CHUNK_SIZE);
+                  if (chunk.length > 0) {
+                    return chunk;
+                  }
+                  in.close();
+                  part = 2;
+                  break;
+                case 2:
+                  part = 3;
+                  return tail;
+                default:
+                  return null;
+              }
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read bundle " + file, e);
+          }
+        }
+      };
+    }
+
+    private synchronized InputStream open() throws IOException {
+      InputStream in = Files.newInputStream(file);
+      streams.add(in);
+      return in;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      IOException failure = null;
+      for (InputStream in : streams) {
+        try {
+          in.close();
+        } catch (IOException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+      streams.clear();
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Polls the deployment status until the requested state, a failure or the timeout.
+   */
+  private void waitForState(String deploymentId, String centralBaseUrl, WaitUntilRequest waitUntil,
+                            int waitMaxTime, int waitPollingInterval) {
+    long deadline = System.nanoTime() + waitMaxTime * 1_000_000_000L;
+    DeploymentApiResponse response = null;
+    try {
+      while (System.nanoTime() < deadline) {
+        Thread.sleep(waitPollingInterval * 1000L);
+        log.debug("Requesting status for deployment " + deploymentId);
+        response = publisherClient.status(deploymentId);
+        DeploymentState state = response.getDeploymentState();
+        log.debug("Deployment " + deploymentId + " in state: " + state.name().toLowerCase());
+
+        switch (state) {
+          case VALIDATED:
+          case PUBLISHING:
+            if (waitUntil == WaitUntilRequest.VALIDATED) {
+              log.info("Deployment " + deploymentId + " has been validated. To finish publishing visit "
+                  + centralBaseUrl + "/publishing/deployments");
+              return;
+            }
+            break;
+          case PUBLISHED:
+            logPublished(response);
+            return;
+          case FAILED:
+            logFailure(response);
+            throw new DeploymentPublishFailedException(response.getDeploymentId(), response.getDeploymentName());
+          default:
+            break;
+        }
+      }
+    } catch (InterruptedException e) {
+      throw interrupted("Waiting for deployment " + deploymentId + " was interrupted", e);
+    }
+
+    log.debug("Deployment " + deploymentId + " timed out with the last recorded status of: "
+        + (response != null ? response.getDeploymentState() : null));
+    throw new DeploymentPublishTimedOutException(deploymentId);
+  }
+
+  /**
+   * Restores the interrupt status and returns the exception that cancels the interrupted operation.
+   */
+  private static CancellationException interrupted(String message, InterruptedException e) {
+    Thread.currentThread().interrupt();
+    CancellationException cancelled = new CancellationException(message);
+    cancelled.initCause(e);
+    return cancelled;
+  }
+
+  private void logPublished(DeploymentApiResponse response) {
+    StringBuilder message = new StringBuilder("Deployment ").append(response.getDeploymentId())
+        .append(" was successfully published");
+    if (response.getPurls() != null) {
+      for (String purl : response.getPurls()) {
+        message.append("\n - ").append(purl);
+      }
+    }
+    log.info(message);
+  }
+
+  private void logFailure(DeploymentApiResponse response) {
+    StringBuilder message = new StringBuilder("Deployment ").append(response.getDeploymentId()).append(" failed");
+    if (response.getErrors() != null) {
+      for (Map.Entry<String, List<String>> errors : response.getErrors().entrySet()) {
+        message.append('\n').append(errors.getKey()).append(':');
+        for (String error : errors.getValue()) {
+          message.append("\n - ").append(error);
+        }
+      }
+    }
+    log.error(message);
+  }
+
+  /**
+   * Parses the {@code waitUntil} parameter.
+   *
+   * @throws IllegalArgumentException if the value is unknown, or is PUBLISHED without auto-publishing
+   */
+  public static WaitUntilRequest parseWaitUntil(String waitUntil, boolean autoPublish) {
+    WaitUntilRequest request = WaitUntilRequest.valueOf(waitUntil.toUpperCase());
+    if (request == WaitUntilRequest.PUBLISHED && !autoPublish) {
+      throw new IllegalArgumentException("Cannot wait until PUBLISHED when autoPublish is disabled");
+    }
+    return request;
+  }
+}
@@ -20,128 +20,452 @@
 package io.github.agnistack.publishing.service;
 
 import io.github.agnistack.publishing.bundle.BundleBuilder;
-import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.log.PublishingLog;
 import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.BundleEntry;
 import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.model.PreparedArtifact;
 import io.github.agnistack.publishing.parser.PomParser;
 import io.github.agnistack.publishing.processor.FileProcessor;
-import org.apache.maven.plugin.logging.Log;
+import io.github.agnistack.publishing.processor.SidecarFileProcessor;
+import io.github.agnistack.publishing.transform.PomTransformer;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Service for deploying artifacts to Maven Central.
- * Orchestrates POM parsing, artifact collection, file processing, and bundle building.
+ * Signs and checksums the collected files of an artifact and writes them to the bundle.
+ *
+ * <p>Preparing an artifact (parsing, signing and checksumming) is independent per artifact and can run
+ * concurrently, while writing to the bundle always happens on the calling thread in the order the
+ * artifacts were given.
+ *
+ * <p>With a {@link PomTransformer}, POMs are rewritten in memory while being read, and their checksums are
+ * computed in the same pass; the rewritten POM is signed from memory and never written to disk.
+ *
+ * <p>In in-memory mode every file is read once into memory and checksummed and signed from there, so that
+ * small deployments create no signature files at all.
+ *
+ * <p>Checksums and signatures collected along with an artifact are reused: both checksums are verified in a
+ * single read of the file, the signature is bundled as it is, and only what is missing is generated.
+ *
+ * <p>All checksums of a file, including optional SHA-256 and SHA-512 checksums, are generated in one read
+ * through {@link FileProcessor#generateChecksums(File, List)}.
  *
  * @since 0.1.0
  */
 public class DeploymentService {
 
+  private static final List<String> SIGNATURE_CHECKSUMS = Collections.unmodifiableList(Arrays.asList("MD5", "SHA-1"));
+
   private final PomParser pomParser;
-  private final ArtifactCollector artifactCollector;
   private final FileProcessor fileProcessor;
-  private final Log log;
+  private final PomTransformer pomTransformer;
+  private final boolean inMemory;
+  private final PublishingLog log;
+  private GpgSignatureVerifier signatureVerifier;
+  private List<String> extraChecksums = Collections.emptyList();
+
+  public DeploymentService(PomParser pomParser, FileProcessor fileProcessor, PublishingLog log) {
+    this(pomParser, fileProcessor, null, log);
+  }
 
-  public DeploymentService(PomParser pomParser, ArtifactCollector artifactCollector,
-                           FileProcessor fileProcessor, Log log) {
+  /**
+   * Creates a deployment service rewriting POMs before they are bundled.
+   *
+   * @param pomTransformer the POM rewrite, or {@code null} to bundle POMs as they are
+   * @since 0.3.0
+   */
+  public DeploymentService(PomParser pomParser, FileProcessor fileProcessor, PomTransformer pomTransformer,
+                           PublishingLog log) {
+    this(pomParser, fileProcessor, pomTransformer, false, log);
+  }
+
+  /**
+   * Creates a deployment service that optionally prepares every file in memory.
+   *
+   * @param pomTransformer the POM rewrite, or {@code null} to bundle POMs as they are
+   * @param inMemory       whether files are read into memory and signed from there instead of from disk
+   * @since 0.3.0
+   */
+  public DeploymentService(PomParser pomParser, FileProcessor fileProcessor, PomTransformer pomTransformer,
+                           boolean inMemory, PublishingLog log) {
     this.pomParser = pomParser;
-    this.artifactCollector = artifactCollector;
     this.fileProcessor = fileProcessor;
+    this.pomTransformer = pomTransformer != null && pomTransformer.isEnabled() ? pomTransformer : null;
+    this.inMemory = inMemory;
     this.log = log;
   }
 
   /**
-   * Processes an artifact directory and adds all files to the bundle.
+   * Verifies reused signatures with the given verifier before they are bundled. Without a verifier, reused
+   * signatures are only verified by pre-flight validation of the bundle.
    *
-   * @param pomFile       the POM file
-   * @param bundleBuilder the bundle builder
-   * @throws IOException if processing fails
+   * @param signatureVerifier the verifier, or {@code null} to bundle reused signatures unverified
+   * @since 0.3.0
+   */
+  public void setSignatureVerifier(GpgSignatureVerifier signatureVerifier) {
+    this.signatureVerifier = signatureVerifier;
+  }
+
+  /**
+   * Adds checksums of further algorithms to every bundled file except signatures, next to MD5 and SHA-1.
+   *
+   * @param extraChecksums the algorithms, as returned by {@link #parseExtraChecksums(List)}
+   * @since 0.3.0
    */
-  public void processArtifact(File pomFile, BundleBuilder bundleBuilder) throws IOException {
-    // Parse POM to get coordinates
-    MavenCoordinates coordinates = pomParser.parse(pomFile);
-    log.info("  Adding " + coordinates);
+  public void setExtraChecksums(List<String> extraChecksums) {
+    this.extraChecksums = extraChecksums != null ? extraChecksums : Collections.emptyList();
+  }
+
+  /**
+   * Parses the names of optional checksum algorithms accepted by Central, such as {@code SHA-256} or
+   * {@code sha512}.
+   *
+   * @param names the names, may be {@code null}
+   * @return the algorithm names
+   * @throws IllegalArgumentException if an algorithm is not an optional checksum of Central
+   * @since 0.3.0
+   */
+  public static List<String> parseExtraChecksums(List<String> names) {
+    List<String> algorithms = new ArrayList<>();
+    if (names == null) {
+      return algorithms;
+    }
+    for (String name : names) {
+      String normalized = name.trim().toUpperCase(Locale.ROOT).replace("-", "");
+      if (!"SHA256".equals(normalized) && !"SHA512".equals(normalized)) {
+        throw new IllegalArgumentException("Unsupported extra checksum: " + name + ", use SHA-256 or SHA-512");
+      }
+      String algorithm = "SHA-" + normalized.substring(3);
+      if (!algorithms.contains(algorithm)) {
+        algorithms.add(algorithm);
+      }
+    }
+    return algorithms;
+  }
 
-    File artifactDir = pomFile.getParentFile();
+  /**
+   * Signs and checksums already collected artifact files without writing anything to a bundle.
+   *
+   * @param coordinates the coordinates parsed from the POM
+   * @param artifacts   the collected artifact files
+   * @return the prepared artifact, whose temporary files must be released with {@link #cleanup(PreparedArtifact)}
+   * @throws IOException if processing fails
+   * @since 0.3.0
+   */
+  public PreparedArtifact prepareArtifact(MavenCoordinates coordinates, List<ArtifactFile> artifacts)
+      throws IOException {
+    log.debug("  Adding " + coordinates);
 
-    // Collect all artifact files
-    List<ArtifactFile> artifacts = artifactCollector.collect(artifactDir, coordinates);
+    List<PreparedArtifact> files = new ArrayList<>(artifacts.size());
+    try {
+      for (ArtifactFile artifact : artifacts) {
+        files.add(prepareFile(coordinates, artifact));
+      }
+    } catch (IOException | RuntimeException e) {
+      files.forEach(this::cleanup);
+      throw e;
+    }
+    return PreparedArtifact.combine(coordinates, files);
+  }
 
+  /**
+   * Signs and checksums a single artifact file, so that the files of a project can be prepared independently
+   * and combined with {@link PreparedArtifact#combine(MavenCoordinates, List)} in their original order.
+   *
+   * @param coordinates the coordinates parsed from the POM
+   * @param artifact    the artifact file
+   * @return the entries of the file, none if an optional file is missing; temporary files must be released
+   *     with {@link #cleanup(PreparedArtifact)}
+   * @throws IOException if processing fails or the POM is missing
+   * @since 0.3.0
+   */
+  public PreparedArtifact prepareFile(MavenCoordinates coordinates, ArtifactFile artifact) throws IOException {
+    List<BundleEntry> entries = new ArrayList<>();
     // Track signature files for cleanup
     List<File> signatureFiles = new ArrayList<>();
 
+    if (!artifact.exists()) {
+      if (artifact.getType() == ArtifactFile.ArtifactType.POM) {
+        throw new IOException("Required POM file not found: " + artifact.getFile());
+      }
+      log.warn("    " + artifact.getType() + " file not found: " + artifact.getFile().getAbsolutePath());
+      return new PreparedArtifact(coordinates, entries, signatureFiles);
+    }
+
     try {
-      // Process each artifact file
-      for (ArtifactFile artifact : artifacts) {
-        if (!artifact.exists()) {
-          if (artifact.getType() == ArtifactFile.ArtifactType.POM) {
-            throw new IOException("Required POM file not found: " + artifact.getFile());
-          }
-          log.warn("    " + artifact.getType() + " file not found: " + artifact.getFile().getAbsolutePath());
-          continue;
+      log.debug("    Adding " + artifact.getType() + ": " + artifact.getFileName());
+      if (pomTransformer != null && artifact.getType() == ArtifactFile.ArtifactType.POM) {
+        if (artifact.hasSidecars()) {
+          log.debug("    Existing checksums and signature do not apply to the rewritten POM, regenerating them");
         }
-
-        log.info("    Adding " + artifact.getType() + ": " + artifact.getFileName());
-        processFile(artifact.getFile(), artifact.getFileName(), coordinates, bundleBuilder, signatureFiles);
+        processTransformedPom(artifact.getFile(), coordinates, artifact.getFileName(), entries);
+      } else if (artifact.hasSidecars()) {
+        processWithSidecars(artifact, entries, signatureFiles);
+      } else if (inMemory) {
+        processContent(Files.readAllBytes(artifact.getFile().toPath()), artifact.getFileName(), entries);
+      } else {
+        processFile(artifact.getFile(), artifact.getFileName(), entries, signatureFiles);
       }
-    } finally {
-      // Clean up signature files
-      for (File sigFile : signatureFiles) {
-        if (sigFile != null && sigFile.exists()) {
-          try {
-            Files.delete(sigFile.toPath());
-          } catch (IOException e) {
-            log.warn("Failed to delete signature file: " + sigFile, e);
-          }
-        }
+    } catch (IOException | RuntimeException e) {
+      deleteSignatureFiles(signatureFiles);
+      throw e;
+    }
+
+    return new PreparedArtifact(coordinates, entries, signatureFiles);
+  }
+
+  /**
+   * Writes a prepared artifact to the bundle.
+   *
+   * @param prepared      the prepared artifact
+   * @param bundleBuilder the bundle builder
+   * @throws IOException if writing fails
+   */
+  public void writeArtifact(PreparedArtifact prepared, BundleBuilder bundleBuilder) throws IOException {
+    MavenCoordinates coordinates = prepared.getCoordinates();
+    for (BundleEntry entry : prepared.getEntries()) {
+      if (entry.isInMemory()) {
+        bundleBuilder.addContent(entry.getContent(), coordinates, entry.getFileName());
+      } else {
+        bundleBuilder.addFile(entry.getFile(), coordinates, entry.getFileName());
       }
     }
   }
 
   /**
-   * Processes a single file: signs it, generates checksums, and adds to bundle.
+   * Deletes the temporary files of a prepared artifact.
+   *
+   * @param prepared the prepared artifact
+   */
+  public void cleanup(PreparedArtifact prepared) {
+    deleteSignatureFiles(prepared.getTemporaryFiles());
+  }
+
+  /**
+   * Processes a single file: signs it and generates checksums.
    */
-  private void processFile(File file, String fileName, MavenCoordinates coordinates,
-                           BundleBuilder bundleBuilder, List<File> signatureFiles) throws IOException {
+  private void processFile(File file, String fileName, List<BundleEntry> entries,
+                           List<File> signatureFiles) throws IOException {
     // Add the main file
-    bundleBuilder.addFile(file, coordinates, fileName);
+    entries.add(BundleEntry.ofFile(fileName, file));
 
     // Generate and add checksums
-    addChecksum(file, fileName + ".md5", "MD5", coordinates, bundleBuilder);
-    addChecksum(file, fileName + ".sha1", "SHA-1", coordinates, bundleBuilder);
+    addChecksums(file, fileName, checksumAlgorithms(), entries);
 
     // Sign the file if enabled
+    signFile(file, fileName, entries, signatureFiles);
+  }
+
+  /**
+   * Processes a file with existing checksums or signature: verifies the checksums in a single read, bundles
+   * the signature as it is and generates only what is missing.
+   */
+  private void processWithSidecars(ArtifactFile artifact, List<BundleEntry> entries, List<File> signatureFiles)
+      throws IOException {
+    File file = artifact.getFile();
+    String fileName = artifact.getFileName();
+    byte[] content = null;
+    Map<String, String> checksums;
+    if (inMemory) {
+      content = Files.readAllBytes(file.toPath());
+      checksums = new LinkedHashMap<>();
+      for (String algorithm : checksumAlgorithms()) {
+        checksums.put(algorithm, fileProcessor.generateChecksum(content, algorithm));
+      }
+      entries.add(BundleEntry.ofContent(fileName, content));
+    } else {
+      checksums = fileProcessor.generateChecksums(file, checksumAlgorithms());
+      entries.add(BundleEntry.ofFile(fileName, file));
+    }
+    for (Map.Entry<String, String> checksum : checksums.entrySet()) {
+      addVerifiedChecksum(artifact, SidecarFileProcessor.extension(checksum.getKey()), checksum.getValue(), entries);
+    }
+
+    File signature = artifact.getSidecar("asc");
+    if (signature == null) {
+      if (inMemory) {
+        signContent(content, fileName, entries);
+      } else {
+        signFile(file, fileName, entries, signatureFiles);
+      }
+      return;
+    }
+
+    if (signatureVerifier != null) {
+      String failure = signatureVerifier.verify(signature, file);
+      if (failure != null) {
+        throw new IOException("Existing signature " + signature + " does not verify: " + failure);
+      }
+    }
+    log.debug("    Reusing existing signature: " + signature.getName());
+    if (inMemory) {
+      byte[] signatureContent = Files.readAllBytes(signature.toPath());
+      entries.add(BundleEntry.ofContent(fileName + ".asc", signatureContent));
+      addChecksum(signatureContent, fileName + ".asc.md5", "MD5", entries);
+      addChecksum(signatureContent, fileName + ".asc.sha1", "SHA-1", entries);
+    } else {
+      // Bundled from its upstream location and never deleted
+      entries.add(BundleEntry.ofFile(fileName + ".asc", signature));
+      addChecksums(signature, fileName + ".asc", SIGNATURE_CHECKSUMS, entries);
+    }
+  }
+
+  /**
+   * Adds a checksum computed while reading the file, after comparing it with an existing checksum file.
+   */
+  private void addVerifiedChecksum(ArtifactFile artifact, String extension, String checksum,
+                                   List<BundleEntry> entries) throws IOException {
+    File existing = artifact.getSidecar(extension);
+    if (existing != null) {
+      // Checksum files may be in md5sum format, followed by the file name
+      String expected = new String(Files.readAllBytes(existing.toPath()), StandardCharsets.US_ASCII).trim();
+      int end = 0;
+      while (end < expected.length() && !Character.isWhitespace(expected.charAt(end))) {
+        end++;
+      }
+      if (!checksum.equals(expected.substring(0, end).toLowerCase(Locale.ROOT))) {
+        throw new IOException("Existing checksum " + existing + " does not match " + artifact.getFile()
+            + ": expected " + checksum);
+      }
+    }
+    entries.add(BundleEntry.ofContent(artifact.getFileName() + '.' + extension,
+        checksum.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * Signs a file if signing is enabled and adds the signature and its checksums.
+   */
+  private void signFile(File file, String fileName, List<BundleEntry> entries, List<File> signatureFiles)
+      throws IOException {
     if (fileProcessor.isSigningEnabled()) {
       File signatureFile = fileProcessor.signFile(file);
       if (signatureFile != null && signatureFile.exists()) {
         signatureFiles.add(signatureFile);
 
         // Add signature and its checksums
-        bundleBuilder.addFile(signatureFile, coordinates, fileName + ".asc");
-        addChecksum(signatureFile, fileName + ".asc.md5", "MD5", coordinates, bundleBuilder);
-        addChecksum(signatureFile, fileName + ".asc.sha1", "SHA-1", coordinates, bundleBuilder);
+        entries.add(BundleEntry.ofFile(fileName + ".asc", signatureFile));
+        addChecksums(signatureFile, fileName + ".asc", SIGNATURE_CHECKSUMS, entries);
+      }
+    }
+  }
+
+  /**
+   * Rewrites a POM into memory, checksumming the rewritten bytes as they are written, then signs it.
+   */
+  private void processTransformedPom(File pomFile, MavenCoordinates coordinates, String fileName,
+                                     List<BundleEntry> entries) throws IOException {
+    MessageDigest md5 = newDigest("MD5");
+    MessageDigest sha1 = newDigest("SHA-1");
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.min(pomFile.length(), Integer.MAX_VALUE - 8));
+    try (InputStream in = Files.newInputStream(pomFile.toPath());
+         OutputStream out = new DigestOutputStream(new DigestOutputStream(buffer, md5), sha1)) {
+      pomTransformer.transform(in, out, coordinates, pomParser.getProperties(pomFile));
+    }
+    processContent(buffer.toByteArray(), Hex.encode(md5.digest()), Hex.encode(sha1.digest()), fileName, entries);
+  }
+
+  /**
+   * Checksums and signs content held in memory.
+   */
+  private void processContent(byte[] content, String fileName, List<BundleEntry> entries) throws IOException {
+    processContent(content, fileProcessor.generateChecksum(content, "MD5"),
+        fileProcessor.generateChecksum(content, "SHA-1"), fileName, entries);
+  }
+
+  private void processContent(byte[] content, String md5, String sha1, String fileName, List<BundleEntry> entries)
+      throws IOException {
+    entries.add(BundleEntry.ofContent(fileName, content));
+    entries.add(BundleEntry.ofContent(fileName + ".md5", md5.getBytes(StandardCharsets.US_ASCII)));
+    entries.add(BundleEntry.ofContent(fileName + ".sha1", sha1.getBytes(StandardCharsets.US_ASCII)));
+    for (String algorithm : extraChecksums) {
+      addChecksum(content, fileName + '.' + SidecarFileProcessor.extension(algorithm), algorithm, entries);
+    }
+    signContent(content, fileName, entries);
+  }
+
+  /**
+   * Signs content held in memory if signing is enabled and adds the signature and its checksums.
+   */
+  private void signContent(byte[] content, String fileName, List<BundleEntry> entries) throws IOException {
+    if (fileProcessor.isSigningEnabled()) {
+      byte[] signature = fileProcessor.signContent(content, fileName);
+      if (signature != null) {
+        entries.add(BundleEntry.ofContent(fileName + ".asc", signature));
+        addChecksum(signature, fileName + ".asc.md5", "MD5", entries);
+        addChecksum(signature, fileName + ".asc.sha1", "SHA-1", entries);
       }
     }
   }
 
   /**
-   * Generates a checksum and adds it to the bundle.
+   * Generates a checksum entry for content held in memory.
    */
-  private void addChecksum(File file, String fileName, String algorithm,
-                           MavenCoordinates coordinates, BundleBuilder bundleBuilder) throws IOException {
-    String checksum = fileProcessor.generateChecksum(file, algorithm);
+  private void addChecksum(byte[] content, String fileName, String algorithm, List<BundleEntry> entries)
+      throws IOException {
+    String checksum = fileProcessor.generateChecksum(content, algorithm);
+    entries.add(BundleEntry.ofContent(fileName, checksum.getBytes(StandardCharsets.US_ASCII)));
+  }
 
-    // Create a temporary file for the checksum
-    File checksumFile = File.createTempFile("checksum-", ".tmp");
+  private static MessageDigest newDigest(String algorithm) throws IOException {
     try {
-      Files.writeString(checksumFile.toPath(), checksum);
-      bundleBuilder.addFile(checksumFile, coordinates, fileName);
-    } finally {
-      Files.deleteIfExists(checksumFile.toPath());
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unsupported checksum algorithm: " + algorithm, e);
+    }
+  }
+
+  /**
+   * Generates the checksum entries of a file in one read.
+   */
+  private void addChecksums(File file, String fileName, List<String> algorithms, List<BundleEntry> entries)
+      throws IOException {
+    for (Map.Entry<String, String> checksum : fileProcessor.generateChecksums(file, algorithms).entrySet()) {
+      entries.add(BundleEntry.ofContent(fileName + '.' + SidecarFileProcessor.extension(checksum.getKey()),
+          checksum.getValue().getBytes(StandardCharsets.US_ASCII)));
+    }
+  }
+
+  /**
+   * Returns the checksum algorithms of bundled files other than signatures.
+   */
+  private List<String> checksumAlgorithms() {
+    if (extraChecksums.isEmpty()) {
+      return SIGNATURE_CHECKSUMS;
+    }
+    List<String> algorithms = new ArrayList<>(SIGNATURE_CHECKSUMS);
+    algorithms.addAll(extraChecksums);
+    return algorithms;
+  }
+
+  private void deleteSignatureFiles(List<File> signatureFiles) {
+    for (File sigFile : signatureFiles) {
+      if (sigFile != null && sigFile.exists()) {
+        try {
+          Files.delete(sigFile.toPath());
+        } catch (IOException e) {
+          log.warn("Failed to delete signature file: " + sigFile, e);
+        }
+      }
     }
   }
 }
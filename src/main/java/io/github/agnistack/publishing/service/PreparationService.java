@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.service;
+
+import io.github.agnistack.publishing.cache.FileStamp;
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.concurrent.TaskScope;
+import io.github.agnistack.publishing.log.PublishingLog;
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.parser.PomParser;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import io.github.agnistack.publishing.processor.SidecarFileProcessor;
+import io.github.agnistack.publishing.sidecar.SidecarStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Computes checksums and signatures of the artifact files ahead of deployment and keeps them in a
+ * {@link SidecarStore}, so that {@code publish-custom} only needs to assemble the bundle.
+ *
+ * <p>Files whose sidecar files are still fresh are skipped.
+ *
+ * @since 0.3.0
+ */
+public class PreparationService {
+
+  private static final List<String> CHECKSUM_ALGORITHMS = Arrays.asList("MD5", "SHA-1");
+
+  private final PomParser pomParser;
+  private final ArtifactCollector artifactCollector;
+  private final FileProcessor fileProcessor;
+  private final SidecarStore store;
+  private final PublishingLog log;
+
+  public PreparationService(PomParser pomParser, ArtifactCollector artifactCollector, FileProcessor fileProcessor,
+                            SidecarStore store, PublishingLog log) {
+    this.pomParser = pomParser;
+    this.artifactCollector = artifactCollector;
+    this.fileProcessor = fileProcessor;
+    this.store = store;
+    this.log = log;
+  }
+
+  /**
+   * Prepares several artifact directories concurrently.
+   *
+   * @param pomFiles    the POM files
+   * @param executor    the executor running the preparation tasks
+   * @param concurrency the maximum number of artifacts prepared at once
+   * @return the number of files prepared; files with fresh sidecar files are not counted
+   * @throws IOException if preparing fails
+   */
+  public int prepareArtifacts(List<File> pomFiles, ExecutorService executor, int concurrency) throws IOException {
+    List<Future<Integer>> futures = new ArrayList<>(pomFiles.size());
+    int prepared = 0;
+    try (TaskScope<Integer> scope = new TaskScope<>(executor, concurrency)) {
+      for (File pomFile : pomFiles) {
+        futures.add(scope.fork(() -> prepareArtifact(pomFile)));
+      }
+      for (Future<Integer> future : futures) {
+        prepared += TaskScope.await(future);
+      }
+    }
+    return prepared;
+  }
+
+  /**
+   * Computes and stores the checksums and signature of every file of an artifact.
+   *
+   * @param pomFile the POM file
+   * @return the number of files prepared
+   * @throws IOException if preparing fails
+   */
+  public int prepareArtifact(File pomFile) throws IOException {
+    MavenCoordinates coordinates = pomParser.parse(pomFile);
+    boolean signing = fileProcessor.isSigningEnabled();
+    int prepared = 0;
+
+    for (ArtifactFile artifact : artifactCollector.collect(pomFile.getParentFile(), coordinates)) {
+      File file = artifact.getFile();
+      if (!artifact.exists() || store.isFresh(file, signing)) {
+        continue;
+      }
+
+      log.debug("  Preparing " + artifact.getType() + ": " + artifact.getFileName() + " of " + coordinates);
+      // Stamp before reading, so a change while hashing leaves the sidecar files stale
+      FileStamp stamp = FileStamp.of(file);
+      Map<String, String> checksums = new LinkedHashMap<>();
+      for (Map.Entry<String, String> checksum : fileProcessor.generateChecksums(file, CHECKSUM_ALGORITHMS).entrySet()) {
+        checksums.put(SidecarFileProcessor.extension(checksum.getKey()), checksum.getValue());
+      }
+      File signature = signing ? fileProcessor.signFile(file) : null;
+      store.store(stamp, checksums, signature);
+      prepared++;
+    }
+    return prepared;
+  }
+}
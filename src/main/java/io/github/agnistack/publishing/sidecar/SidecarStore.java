@@ -0,0 +1,209 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.sidecar;
+
+import io.github.agnistack.publishing.cache.FileStamp;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Directory of checksums and signatures computed ahead of deployment by the {@code prepare-custom} goal.
+ *
+ * <p>For every artifact file below the base directory, the store holds {@code <path>.md5}, {@code <path>.sha1},
+ * optionally {@code <path>.asc}, and a {@code <path>.stamp} with the size and modification time of the file
+ * they were computed from. The stamp is written last and removed first, so readers only use sidecar files
+ * whose stamp matches the current file.
+ *
+ * @since 0.3.0
+ */
+public class SidecarStore {
+
+  private static final String STAMP_EXTENSION = ".stamp";
+  private static final String SIGNATURE_EXTENSION = ".asc";
+
+  private final File directory;
+  private final Path baseDirectory;
+
+  /**
+   * Creates a store.
+   *
+   * @param directory     the sidecar directory
+   * @param baseDirectory the directory artifact paths are relative to, usually {@code bomProjectsDirectory}
+   */
+  public SidecarStore(File directory, File baseDirectory) {
+    this.directory = directory;
+    this.baseDirectory = baseDirectory.getAbsoluteFile().toPath().normalize();
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Checks whether a file is below the base directory, so the store can hold sidecar files for it.
+   */
+  public boolean covers(File file) {
+    return sidecarFile(file) != null;
+  }
+
+  /**
+   * Checks whether fresh sidecar files exist for a file.
+   *
+   * @param file             the artifact file
+   * @param requireSignature whether a signature must be present as well
+   * @return true if the checksums (and signature if required) match the current file
+   */
+  public boolean isFresh(File file, boolean requireSignature) {
+    File sidecar = sidecarFile(file);
+    if (sidecar == null || !isStampCurrent(file, sidecar)) {
+      return false;
+    }
+    return !requireSignature || new File(sidecar.getPath() + SIGNATURE_EXTENSION).isFile();
+  }
+
+  /**
+   * Returns a stored checksum if it was computed from the current file.
+   *
+   * @param file      the artifact file
+   * @param extension the checksum extension, e.g. {@code md5}
+   * @return the checksum, or {@code null} if there is no fresh one
+   * @throws IOException if the sidecar file cannot be read
+   */
+  public String findChecksum(File file, String extension) throws IOException {
+    File sidecar = sidecarFile(file);
+    if (sidecar == null || !isStampCurrent(file, sidecar)) {
+      return null;
+    }
+    File checksumFile = new File(sidecar.getPath() + '.' + extension);
+    if (!checksumFile.isFile()) {
+      return null;
+    }
+    return new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+  }
+
+  /**
+   * Returns the stored signature if it was created from the current file.
+   *
+   * @param file the artifact file
+   * @return the signature file, or {@code null} if there is no fresh one
+   */
+  public File findSignature(File file) {
+    File sidecar = sidecarFile(file);
+    if (sidecar == null || !isStampCurrent(file, sidecar)) {
+      return null;
+    }
+    File signatureFile = new File(sidecar.getPath() + SIGNATURE_EXTENSION);
+    return signatureFile.isFile() ? signatureFile : null;
+  }
+
+  /**
+   * Stores the checksums and signature of a file.
+   *
+   * @param stamp     the stamp of the file, taken before the checksums were computed
+   * @param checksums checksums by extension, e.g. {@code md5}
+   * @param signature the signature file, moved into the store, or {@code null}
+   * @throws IOException if the file is not below the base directory or writing fails
+   */
+  public void store(FileStamp stamp, Map<String, String> checksums, File signature) throws IOException {
+    File sidecar = sidecarFile(stamp.getFile());
+    if (sidecar == null) {
+      throw new IOException("File is not below " + baseDirectory + ": " + stamp.getFile());
+    }
+    Files.createDirectories(sidecar.getParentFile().toPath());
+    Path stampPath = Path.of(sidecar.getPath() + STAMP_EXTENSION);
+
+    // Invalidate first, so a reader never pairs the old stamp with new content
+    Files.deleteIfExists(stampPath);
+    for (Map.Entry<String, String> checksum : checksums.entrySet()) {
+      writeAtomically(Path.of(sidecar.getPath() + '.' + checksum.getKey()),
+          checksum.getValue().getBytes(StandardCharsets.US_ASCII));
+    }
+    Path signaturePath = Path.of(sidecar.getPath() + SIGNATURE_EXTENSION);
+    if (signature != null) {
+      move(signature.toPath(), signaturePath);
+    } else {
+      Files.deleteIfExists(signaturePath);
+    }
+
+    Properties properties = new Properties();
+    properties.setProperty("size", String.valueOf(stamp.getSize()));
+    properties.setProperty("lastModified", stamp.getLastModified().toInstant().toString());
+    Path temp = Files.createTempFile(sidecar.getParentFile().toPath(), sidecar.getName(), ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp)) {
+      properties.store(out, null);
+    }
+    move(temp, stampPath);
+  }
+
+  private boolean isStampCurrent(File file, File sidecar) {
+    File stampFile = new File(sidecar.getPath() + STAMP_EXTENSION);
+    if (!stampFile.isFile()) {
+      return false;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(stampFile.toPath())) {
+      properties.load(in);
+      FileStamp current = FileStamp.of(file);
+      return current.getSize() == Long.parseLong(properties.getProperty("size", "-1"))
+          && current.getLastModified().equals(
+          FileTime.from(Instant.parse(properties.getProperty("lastModified", ""))));
+    } catch (IOException | NumberFormatException | DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Maps an artifact file to its sidecar path without extension, or {@code null} outside the base directory.
+   */
+  private File sidecarFile(File file) {
+    Path path = file.getAbsoluteFile().toPath().normalize();
+    if (!path.startsWith(baseDirectory) || path.equals(baseDirectory)) {
+      return null;
+    }
+    return new File(directory, baseDirectory.relativize(path).toString());
+  }
+
+  private static void writeAtomically(Path target, byte[] content) throws IOException {
+    Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+    Files.write(temp, content);
+    move(temp, target);
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.transform;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.parser.Interpolator;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.XMLEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming rewrite of a POM on StAX events: removes top-level sections such as {@code <build>} or
+ * {@code <profiles>} and optionally replaces {@code ${...}} expressions in coordinates with resolved values.
+ *
+ * <p>The POM is read and written in a single pass without building a tree, and comments and the
+ * remaining content are kept as they are. Whitespace in front of a removed section is removed with it.
+ *
+ * <p>Only the {@code groupId}, {@code artifactId} and {@code version} of the project, its parent and its
+ * dependencies and managed dependencies are inlined. Expressions elsewhere, such as in plugin configuration
+ * or URLs, may be meant for a later build and are kept.
+ *
+ * @since 0.3.0
+ */
+public class PomTransformer {
+
+  private static final Set<String> COORDINATE_ELEMENTS = Set.of("groupId", "artifactId", "version");
+
+  /**
+   * Paths of the elements whose coordinates are inlined.
+   */
+  private static final Set<String> COORDINATE_OWNERS = Set.of("project", "project/parent",
+      "project/dependencies/dependency", "project/dependencyManagement/dependencies/dependency");
+
+  private final Set<String> strippedSections;
+  private final boolean inlineVersions;
+  private final XMLInputFactory inputFactory;
+  private final XMLOutputFactory outputFactory;
+  private final XMLEventFactory eventFactory;
+
+  /**
+   * Creates a transformer.
+   *
+   * @param strippedSections names of the direct children of {@code <project>} to remove
+   * @param inlineVersions   whether to replace expressions in coordinates with resolved values
+   */
+  public PomTransformer(Collection<String> strippedSections, boolean inlineVersions) {
+    this.strippedSections = Collections.unmodifiableSet(new LinkedHashSet<>(strippedSections));
+    this.inlineVersions = inlineVersions;
+
+    this.inputFactory = XMLInputFactory.newFactory();
+    // Security: no DTDs or external entities, like the DOM parsing of POMs
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    this.outputFactory = XMLOutputFactory.newFactory();
+    this.eventFactory = XMLEventFactory.newFactory();
+  }
+
+  public Set<String> getStrippedSections() {
+    return strippedSections;
+  }
+
+  public boolean isInlineVersions() {
+    return inlineVersions;
+  }
+
+  /**
+   * Checks whether the transformer would change anything.
+   */
+  public boolean isEnabled() {
+    return inlineVersions || !strippedSections.isEmpty();
+  }
+
+  /**
+   * Transforms a POM.
+   *
+   * @param in          the original POM
+   * @param out         receives the transformed POM, encoded as UTF-8; not closed
+   * @param coordinates the resolved coordinates, available as {@code project.*} when inlining
+   * @param properties  the resolved properties used when inlining, may be empty
+   * @throws IOException if the POM is not well-formed or writing fails
+   */
+  public void transform(InputStream in, OutputStream out, MavenCoordinates coordinates,
+                        Map<String, String> properties) throws IOException {
+    Map<String, String> values = new HashMap<>(properties);
+    values.put("project.groupId", coordinates.getGroupId());
+    values.put("project.artifactId", coordinates.getArtifactId());
+    values.put("project.version", coordinates.getVersion());
+
+    XMLEventReader reader = null;
+    XMLEventWriter writer = null;
+    try {
+      // StAX factories are not guaranteed to be thread-safe
+      synchronized (this) {
+        reader = inputFactory.createXMLEventReader(in);
+        writer = outputFactory.createXMLEventWriter(out, "UTF-8");
+      }
+
+      // Whitespace is held back until it is known whether the next element is removed
+      List<XMLEvent> pendingWhitespace = new ArrayList<>();
+      List<String> path = new ArrayList<>();
+      int depth = 0;
+      int skipUntilDepth = -1;
+
+      while (reader.hasNext()) {
+        XMLEvent event = reader.nextEvent();
+
+        if (skipUntilDepth >= 0) {
+          if (event.isStartElement()) {
+            depth++;
+          } else if (event.isEndElement()) {
+            depth--;
+            if (depth == skipUntilDepth) {
+              skipUntilDepth = -1;
+            }
+          }
+          continue;
+        }
+
+        if (event.isCharacters() && event.asCharacters().isWhiteSpace()) {
+          pendingWhitespace.add(event);
+          continue;
+        }
+
+        if (event.isStartElement()) {
+          if (depth == 1 && strippedSections.contains(event.asStartElement().getName().getLocalPart())) {
+            pendingWhitespace.clear();
+            skipUntilDepth = depth;
+            depth++;
+            continue;
+          }
+          depth++;
+          path.add(event.asStartElement().getName().getLocalPart());
+        } else if (event.isEndElement()) {
+          depth--;
+          path.remove(path.size() - 1);
+        }
+
+        for (XMLEvent whitespace : pendingWhitespace) {
+          writer.add(whitespace);
+        }
+        pendingWhitespace.clear();
+
+        if (event.isStartDocument()) {
+          // The output is always UTF-8, whatever the original declared
+          StartDocument start = (StartDocument) event;
+          event = start.standaloneSet()
+              ? eventFactory.createStartDocument("UTF-8", start.getVersion(), start.isStandalone())
+              : eventFactory.createStartDocument("UTF-8", start.getVersion());
+          // Whitespace in the prolog is not reported, keep the root element on its own line
+          writer.add(event);
+          writer.add(eventFactory.createCharacters("\n"));
+          continue;
+        } else if (inlineVersions && event.isCharacters()) {
+          Characters characters = event.asCharacters();
+          String text = characters.getData();
+          if (text.contains("${") && isCoordinate(path)) {
+            String inlined = Interpolator.interpolate(text, values);
+            event = characters.isCData()
+                ? eventFactory.createCData(inlined)
+                : eventFactory.createCharacters(inlined);
+          }
+        }
+        writer.add(event);
+      }
+
+      for (XMLEvent whitespace : pendingWhitespace) {
+        writer.add(whitespace);
+      }
+      writer.flush();
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to transform POM: " + e.getMessage(), e);
+    } finally {
+      closeQuietly(reader, writer);
+    }
+  }
+
+  /**
+   * Checks whether an element path, from the root element down, is a coordinate whose expressions are inlined.
+   */
+  static boolean isCoordinate(List<String> path) {
+    int last = path.size() - 1;
+    return last > 0 && COORDINATE_ELEMENTS.contains(path.get(last))
+        && COORDINATE_OWNERS.contains(String.join("/", path.subList(0, last)));
+  }
+
+  private static void closeQuietly(XMLEventReader reader, XMLEventWriter writer) {
+    try {
+      if (reader != null) {
+        reader.close();
+      }
+      if (writer != null) {
+        writer.close();
+      }
+    } catch (XMLStreamException e) {
+      // Nothing to release beyond the caller's streams
+    }
+  }
+}
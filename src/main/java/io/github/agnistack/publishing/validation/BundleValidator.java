@@ -0,0 +1,540 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import io.github.agnistack.publishing.io.BufferPool;
+import io.github.agnistack.publishing.io.ChunkReader;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.parser.PomDocuments;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Validates a deployment bundle locally against the Central publishing requirements before it is uploaded.
+ *
+ * <p>Each component (GAV directory) of the bundle is checked concurrently for:
+ * <ul>
+ *   <li>required POM metadata: name, description, url, licenses, developers and scm</li>
+ *   <li>consistency between the bundle path, the POM coordinates and the file names</li>
+ *   <li>{@code .md5} and {@code .sha1} checksums, and {@code .asc} signatures if required, for every file</li>
+ *   <li>checksum values, recomputed from the bundled content</li>
+ *   <li>signatures, verified against the gpg keyring if a verifier is configured</li>
+ * </ul>
+ * All violations are collected rather than stopping at the first one.
+ *
+ * <p>Metadata other than the name, which Maven does not inherit, may come from a parent POM. Parents in the bundle
+ * are checked as well; metadata that could only come from a parent outside the bundle is reported as a warning.
+ *
+ * @since 0.3.0
+ */
+public class BundleValidator {
+
+  private static final Map<String, String> CHECKSUM_ALGORITHMS = new LinkedHashMap<>();
+
+  static {
+    CHECKSUM_ALGORITHMS.put(".md5", "MD5");
+    CHECKSUM_ALGORITHMS.put(".sha1", "SHA-1");
+    CHECKSUM_ALGORITHMS.put(".sha256", "SHA-256");
+    CHECKSUM_ALGORITHMS.put(".sha512", "SHA-512");
+  }
+
+  private static final String SIGNATURE_EXTENSION = ".asc";
+
+  /**
+   * Required POM metadata and the violation reported when it is missing, in report order.
+   */
+  private static final Map<String, String> REQUIRED_METADATA = new LinkedHashMap<>();
+
+  static {
+    REQUIRED_METADATA.put("name", "POM is missing <name>");
+    REQUIRED_METADATA.put("description", "POM is missing <description>");
+    REQUIRED_METADATA.put("url", "POM is missing <url>");
+    REQUIRED_METADATA.put("licenses", "POM is missing <licenses> with a named <license>");
+    REQUIRED_METADATA.put("developers", "POM is missing <developers> with at least one <developer>");
+    REQUIRED_METADATA.put("scm", "POM is missing <scm> with a <url>");
+  }
+
+  private final boolean requireSignatures;
+  private final GpgSignatureVerifier signatureVerifier;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  /**
+   * Creates a validator.
+   *
+   * @param requireSignatures whether every file must have an {@code .asc} signature
+   * @param signatureVerifier verifier for signatures, or {@code null} to only check their presence
+   * @param executor          the executor validating components concurrently
+   * @param concurrency       the maximum number of components validated at once
+   */
+  public BundleValidator(boolean requireSignatures, GpgSignatureVerifier signatureVerifier, ExecutorService executor,
+                         int concurrency) {
+    this.requireSignatures = requireSignatures;
+    this.signatureVerifier = signatureVerifier;
+    this.executor = executor;
+    this.permits = new Semaphore(concurrency);
+  }
+
+  /**
+   * Validates every component of a bundle.
+   *
+   * @param bundleFile the bundle ZIP file
+   * @return the report with all violations found
+   * @throws IOException if the bundle cannot be read
+   */
+  public ValidationReport validate(File bundleFile) throws IOException {
+    try (ZipFile zipFile = new ZipFile(bundleFile)) {
+      return validate(Collections.list(zipFile.entries()), zipFile::getInputStream);
+    }
+  }
+
+  /**
+   * Validates every component of a bundle held in memory.
+   *
+   * @param bundle the bundle ZIP content
+   * @return the report with all violations found
+   * @throws IOException if the bundle cannot be read
+   */
+  public ValidationReport validate(byte[] bundle) throws IOException {
+    List<ZipEntry> entries = new ArrayList<>();
+    Map<String, byte[]> contents = new HashMap<>();
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bundle))) {
+      ZipEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        entries.add(entry);
+        contents.put(entry.getName(), in.readAllBytes());
+      }
+    }
+    return validate(entries, entry -> new ByteArrayInputStream(contents.get(entry.getName())));
+  }
+
+  private ValidationReport validate(List<? extends ZipEntry> entries, EntryReader reader) throws IOException {
+    Map<String, Map<String, ZipEntry>> components = groupByDirectory(entries);
+    Bundle bundle = new Bundle(reader, entries);
+
+    Map<String, Future<ComponentResult>> futures = new LinkedHashMap<>();
+    for (Map.Entry<String, Map<String, ZipEntry>> component : components.entrySet()) {
+      futures.put(component.getKey(),
+          executor.submit(() -> {
+            permits.acquire();
+            try {
+              return validateComponent(bundle, component.getKey(), component.getValue());
+            } finally {
+              permits.release();
+            }
+          }));
+    }
+
+    List<Violation> violations = new ArrayList<>();
+    List<Violation> warnings = new ArrayList<>();
+    for (Map.Entry<String, Future<ComponentResult>> future : futures.entrySet()) {
+      try {
+        ComponentResult result = future.getValue().get();
+        violations.addAll(result.violations);
+        warnings.addAll(result.warnings);
+      } catch (ExecutionException e) {
+        violations.add(new Violation(future.getKey(), "Could not be validated: " + e.getCause().getMessage()));
+      } catch (InterruptedException e) {
+        futures.values().forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new IOException("Bundle validation was interrupted", e);
+      }
+    }
+
+    return new ValidationReport(components.size(), violations, warnings);
+  }
+
+  private Map<String, Map<String, ZipEntry>> groupByDirectory(List<? extends ZipEntry> entries) {
+    Map<String, Map<String, ZipEntry>> components = new TreeMap<>();
+    for (ZipEntry entry : entries) {
+      if (entry.isDirectory()) {
+        continue;
+      }
+      String name = entry.getName();
+      int separator = name.lastIndexOf('/');
+      String directory = separator < 0 ? "" : name.substring(0, separator + 1);
+      components.computeIfAbsent(directory, key -> new TreeMap<>()).put(name.substring(separator + 1), entry);
+    }
+    return components;
+  }
+
+  private ComponentResult validateComponent(Bundle bundle, String directory, Map<String, ZipEntry> files)
+      throws IOException {
+    ComponentResult result = new ComponentResult();
+    List<Violation> violations = result.violations;
+
+    // Path layout: groupId/as/path/artifactId/version/
+    String[] segments = directory.split("/");
+    if (segments.length < 3) {
+      violations.add(new Violation(directory, "Path is not a groupId/artifactId/version repository path"));
+      return result;
+    }
+    String version = segments[segments.length - 1];
+    String artifactId = segments[segments.length - 2];
+    String groupId = String.join(".", Arrays.copyOfRange(segments, 0, segments.length - 2));
+    String baseFileName = artifactId + '-' + version;
+
+    // POM metadata and coordinates
+    ZipEntry pomEntry = files.get(baseFileName + ".pom");
+    if (pomEntry == null) {
+      violations.add(new Violation(directory, "Missing POM file " + baseFileName + ".pom"));
+    } else {
+      validatePom(bundle, pomEntry, groupId, artifactId, version, result);
+    }
+
+    for (Map.Entry<String, ZipEntry> file : files.entrySet()) {
+      String fileName = file.getKey();
+      String path = directory + fileName;
+
+      if (!fileName.startsWith(baseFileName)) {
+        violations.add(new Violation(path, "File name does not match coordinates " + groupId + ':' + artifactId
+            + ':' + version));
+      }
+
+      String checksumExtension = checksumExtension(fileName);
+      if (checksumExtension != null) {
+        continue;
+      }
+
+      // Every file except signatures needs its checksums and its signature
+      boolean isSignature = fileName.endsWith(SIGNATURE_EXTENSION);
+      List<String> algorithms = new ArrayList<>();
+      for (Map.Entry<String, String> checksum : CHECKSUM_ALGORITHMS.entrySet()) {
+        boolean present = files.containsKey(fileName + checksum.getKey());
+        if (present) {
+          algorithms.add(checksum.getValue());
+        } else if (!isSignature && (".md5".equals(checksum.getKey()) || ".sha1".equals(checksum.getKey()))) {
+          violations.add(new Violation(path, "Missing " + checksum.getKey() + " checksum"));
+        }
+      }
+
+      ZipEntry signatureEntry = files.get(fileName + SIGNATURE_EXTENSION);
+      if (!isSignature && signatureEntry == null && requireSignatures) {
+        violations.add(new Violation(path, "Missing " + SIGNATURE_EXTENSION + " signature"));
+      }
+
+      validateChecksums(bundle.reader, directory, fileName, files, algorithms, violations);
+
+      if (!isSignature && signatureEntry != null && signatureVerifier != null) {
+        validateSignature(bundle.reader, file.getValue(), signatureEntry, path, violations);
+      }
+    }
+
+    return result;
+  }
+
+  private void validatePom(Bundle bundle, ZipEntry pomEntry, String groupId, String artifactId, String version,
+                           ComponentResult result) throws IOException {
+    List<Violation> violations = result.violations;
+    String path = pomEntry.getName();
+    Element project;
+    try (InputStream in = bundle.reader.open(pomEntry)) {
+      project = PomDocuments.parse(in, path).getDocumentElement();
+    } catch (IOException e) {
+      violations.add(new Violation(path, e.getMessage()));
+      return;
+    }
+
+    Element parent = PomDocuments.getChildren(project, "parent").stream().findFirst().orElse(null);
+    String pomGroupId = PomDocuments.getChildText(project, "groupId");
+    String pomVersion = PomDocuments.getChildText(project, "version");
+    if (isEmpty(pomGroupId) && parent != null) {
+      pomGroupId = PomDocuments.getChildText(parent, "groupId");
+    }
+    if (isEmpty(pomVersion) && parent != null) {
+      pomVersion = PomDocuments.getChildText(parent, "version");
+    }
+    checkCoordinate(path, "groupId", pomGroupId, groupId, violations);
+    checkCoordinate(path, "artifactId", PomDocuments.getChildText(project, "artifactId"), artifactId, violations);
+    checkCoordinate(path, "version", pomVersion, version, violations);
+
+    PomMetadata metadata = new PomMetadata(project);
+    bundle.metadata.put(path, metadata);
+    Set<String> missing = new LinkedHashSet<>(REQUIRED_METADATA.keySet());
+    missing.removeAll(metadata.declared);
+    if (missing.remove("name")) {
+      violations.add(new Violation(path, REQUIRED_METADATA.get("name")));
+    }
+
+    // Follow the parent chain through the bundle for the inherited metadata
+    Set<String> visited = new HashSet<>();
+    PomMetadata current = metadata;
+    while (!missing.isEmpty() && current.parentPath != null && visited.add(current.parentPath)) {
+      PomMetadata parentMetadata = bundle.metadata(current.parentPath);
+      if (parentMetadata == null) {
+        for (String element : missing) {
+          result.warnings.add(new Violation(path, REQUIRED_METADATA.get(element) + "; it must be inherited from "
+              + "parent " + current.parentCoordinates + ", which is not in the bundle"));
+        }
+        return;
+      }
+      missing.removeAll(parentMetadata.declared);
+      current = parentMetadata;
+    }
+    for (String element : missing) {
+      violations.add(new Violation(path, REQUIRED_METADATA.get(element)));
+    }
+  }
+
+  private void validateChecksums(EntryReader bundle, String directory, String fileName, Map<String, ZipEntry> files,
+                                 List<String> algorithms, List<Violation> violations) throws IOException {
+    if (algorithms.isEmpty()) {
+      return;
+    }
+
+    // Recompute all digests in a single pass over the entry
+    List<MessageDigest> digests = new ArrayList<>(algorithms.size());
+    try {
+      for (String algorithm : algorithms) {
+        digests.add(MessageDigest.getInstance(algorithm));
+      }
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unsupported checksum algorithm", e);
+    }
+    try (InputStream in = bundle.open(files.get(fileName))) {
+      ChunkReader.read(in, BufferPool.shared(), chunk -> {
+        for (MessageDigest digest : digests) {
+          digest.update(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+        }
+      });
+    }
+
+    for (MessageDigest digest : digests) {
+      String extension = extensionFor(digest.getAlgorithm());
+      String expected = readChecksum(bundle, files.get(fileName + extension));
+      String actual = Hex.encode(digest.digest());
+      if (!actual.equalsIgnoreCase(expected)) {
+        violations.add(new Violation(directory + fileName + extension,
+            "Checksum mismatch: expected " + actual + " but bundle contains " + expected));
+      }
+    }
+  }
+
+  private void validateSignature(EntryReader bundle, ZipEntry dataEntry, ZipEntry signatureEntry, String path,
+                                 List<Violation> violations) throws IOException {
+    byte[] signature;
+    try (InputStream in = bundle.open(signatureEntry)) {
+      signature = in.readAllBytes();
+    }
+    OpenPgpVerifier.Verdict verdict = signatureVerifier.verifyInProcess(signature, () -> bundle.open(dataEntry));
+    if (verdict.isDecided()) {
+      if (verdict.getFailure() != null) {
+        violations.add(new Violation(path + SIGNATURE_EXTENSION,
+            "Signature verification failed: " + verdict.getFailure()));
+      }
+      return;
+    }
+
+    // Signatures the JVM cannot check are verified by gpg from temporary copies
+    File dataFile = Files.createTempFile("preflight-", ".data").toFile();
+    File signatureFile = Files.createTempFile("preflight-", ".asc").toFile();
+    try {
+      try (InputStream in = bundle.open(dataEntry)) {
+        Files.copy(in, dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      Files.write(signatureFile.toPath(), signature);
+
+      String failure = signatureVerifier.verify(signatureFile, dataFile);
+      if (failure != null) {
+        violations.add(new Violation(path + SIGNATURE_EXTENSION, "Signature verification failed: " + failure));
+      }
+    } finally {
+      Files.deleteIfExists(dataFile.toPath());
+      Files.deleteIfExists(signatureFile.toPath());
+    }
+  }
+
+  private static String readChecksum(EntryReader bundle, ZipEntry entry) throws IOException {
+    try (InputStream in = bundle.open(entry)) {
+      String content = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim();
+      // Accept "<hash>  <file name>" as written by md5sum and friends
+      int space = content.indexOf(' ');
+      return space < 0 ? content : content.substring(0, space);
+    }
+  }
+
+  private static String checksumExtension(String fileName) {
+    for (String extension : CHECKSUM_ALGORITHMS.keySet()) {
+      if (fileName.endsWith(extension)) {
+        return extension;
+      }
+    }
+    return null;
+  }
+
+  private static String extensionFor(String algorithm) {
+    for (Map.Entry<String, String> checksum : CHECKSUM_ALGORITHMS.entrySet()) {
+      if (checksum.getValue().equals(algorithm)) {
+        return checksum.getKey();
+      }
+    }
+    throw new IllegalArgumentException("Unknown checksum algorithm: " + algorithm);
+  }
+
+  private static void checkCoordinate(String path, String name, String actual, String expected,
+                                      List<Violation> violations) {
+    // Central does not interpolate POMs, so an expression would be published as it is
+    if (isEmpty(actual)) {
+      violations.add(new Violation(path, "POM is missing <" + name + ">"));
+    } else if (actual.contains("${")) {
+      violations.add(new Violation(path, "POM " + name + " '" + actual + "' contains an expression, which Central "
+          + "does not resolve; set resolvePomProperties or inlinePomVersions"));
+    } else if (!actual.equals(expected)) {
+      violations.add(new Violation(path, "POM " + name + " '" + actual + "' does not match bundle path '"
+          + expected + "'"));
+    }
+  }
+
+  private static boolean hasChildWithText(Element project, String container, String child, String textElement) {
+    for (Element list : PomDocuments.getChildren(project, container)) {
+      for (Element item : PomDocuments.getChildren(list, child)) {
+        if (textElement == null || !isEmpty(PomDocuments.getChildText(item, textElement))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isEmpty(String value) {
+    return value == null || value.isEmpty();
+  }
+
+  /**
+   * Opens the content of a bundle entry, from a ZIP file or from memory.
+   */
+  private interface EntryReader {
+    InputStream open(ZipEntry entry) throws IOException;
+  }
+
+  /**
+   * The bundle being validated: its entries and the metadata of the POMs read so far, shared by all components.
+   */
+  private static final class Bundle {
+
+    private final EntryReader reader;
+    private final Map<String, ZipEntry> poms = new HashMap<>();
+    private final Map<String, PomMetadata> metadata = new ConcurrentHashMap<>();
+
+    Bundle(EntryReader reader, List<? extends ZipEntry> entries) {
+      this.reader = reader;
+      for (ZipEntry entry : entries) {
+        if (entry.getName().endsWith(".pom")) {
+          poms.put(entry.getName(), entry);
+        }
+      }
+    }
+
+    /**
+     * Returns the metadata of a bundled POM, or {@code null} if the bundle has no readable POM at that path.
+     */
+    PomMetadata metadata(String path) throws IOException {
+      PomMetadata cached = metadata.get(path);
+      if (cached != null || !poms.containsKey(path)) {
+        return cached;
+      }
+      try (InputStream in = reader.open(poms.get(path))) {
+        PomMetadata parsed = new PomMetadata(PomDocuments.parse(in, path).getDocumentElement());
+        metadata.put(path, parsed);
+        return parsed;
+      } catch (IOException e) {
+        // Reported when the parent itself is validated
+        return null;
+      }
+    }
+  }
+
+  /**
+   * The required metadata a POM declares itself, and the bundle path of its parent POM.
+   */
+  private static final class PomMetadata {
+
+    private final Set<String> declared = new HashSet<>();
+    private final String parentPath;
+    private final String parentCoordinates;
+
+    PomMetadata(Element project) {
+      for (String element : new String[]{"name", "description", "url"}) {
+        if (!isEmpty(PomDocuments.getChildText(project, element))) {
+          declared.add(element);
+        }
+      }
+      if (hasChildWithText(project, "licenses", "license", "name")) {
+        declared.add("licenses");
+      }
+      if (hasChildWithText(project, "developers", "developer", null)) {
+        declared.add("developers");
+      }
+      List<Element> scm = PomDocuments.getChildren(project, "scm");
+      if (!scm.isEmpty() && !isEmpty(PomDocuments.getChildText(scm.get(0), "url"))) {
+        declared.add("scm");
+      }
+
+      Element parent = PomDocuments.getChildren(project, "parent").stream().findFirst().orElse(null);
+      String groupId = parent == null ? null : PomDocuments.getChildText(parent, "groupId");
+      String artifactId = parent == null ? null : PomDocuments.getChildText(parent, "artifactId");
+      String version = parent == null ? null : PomDocuments.getChildText(parent, "version");
+      if (isEmpty(groupId) || isEmpty(artifactId) || isEmpty(version)) {
+        parentPath = null;
+        parentCoordinates = null;
+      } else {
+        parentPath = groupId.replace('.', '/') + '/' + artifactId + '/' + version + '/' + artifactId + '-'
+            + version + ".pom";
+        parentCoordinates = groupId + ':' + artifactId + ':' + version;
+      }
+    }
+  }
+
+  /**
+   * Violations and warnings of one component.
+   */
+  private static final class ComponentResult {
+    private final List<Violation> violations = new ArrayList<>();
+    private final List<Violation> warnings = new ArrayList<>();
+  }
+}
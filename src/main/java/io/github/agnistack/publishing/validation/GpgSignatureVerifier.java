@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies detached signatures against the public keys of the local {@code gpg} keyring.
+ *
+ * <p>Signatures are checked in the JVM with the issuer's public key, exported from the keyring once per key, so
+ * verifying thousands of files does not start thousands of gpg processes. Signatures the JVM cannot check, such
+ * as DSA ones or Ed25519 before Java 15, are verified with {@code gpg --verify}.
+ *
+ * @since 0.3.0
+ */
+public class GpgSignatureVerifier {
+
+  private final String gpgExecutable;
+  private final Map<String, List<OpenPgpVerifier.KeyPacket>> publicKeys = new ConcurrentHashMap<>();
+
+  public GpgSignatureVerifier(String gpgExecutable) {
+    this.gpgExecutable = gpgExecutable != null ? gpgExecutable : "gpg";
+  }
+
+  /**
+   * Verifies a detached signature.
+   *
+   * @param signatureFile the armored detached signature
+   * @param dataFile      the signed file
+   * @return {@code null} if the signature is good, otherwise the gpg diagnostic output
+   * @throws IOException if gpg cannot be run
+   */
+  public String verify(File signatureFile, File dataFile) throws IOException {
+    OpenPgpVerifier.Verdict verdict = verifyInProcess(Files.readAllBytes(signatureFile.toPath()),
+        () -> Files.newInputStream(dataFile.toPath()));
+    return verdict.isDecided() ? verdict.getFailure() : verifyWithGpg(signatureFile, dataFile);
+  }
+
+  /**
+   * Verifies a detached signature in the JVM.
+   *
+   * @param signature the armored or binary detached signature
+   * @param data      opens the signed data
+   * @return the verdict, undecided if the signature has to be verified by gpg
+   * @throws IOException if the data cannot be read or gpg cannot export the public key
+   */
+  OpenPgpVerifier.Verdict verifyInProcess(byte[] signature, OpenPgpVerifier.DataSource data) throws IOException {
+    OpenPgpVerifier.SignaturePacket packet;
+    try {
+      packet = OpenPgpVerifier.parseSignature(signature);
+    } catch (IOException e) {
+      // Let gpg report what is wrong with it
+      return OpenPgpVerifier.Verdict.UNDECIDED;
+    }
+    if (!packet.isSupported()) {
+      return OpenPgpVerifier.Verdict.UNDECIDED;
+    }
+    for (OpenPgpVerifier.KeyPacket key : publicKeys(packet.getIssuer())) {
+      if (packet.isIssuedBy(key)) {
+        return OpenPgpVerifier.verify(packet, key, data);
+      }
+    }
+    return OpenPgpVerifier.Verdict.UNDECIDED;
+  }
+
+  /**
+   * Returns the public keys exported for an issuer, running {@code gpg --export} only once per issuer.
+   */
+  private List<OpenPgpVerifier.KeyPacket> publicKeys(String issuer) throws IOException {
+    try {
+      return publicKeys.computeIfAbsent(issuer, key -> {
+        try {
+          return OpenPgpVerifier.parseKeys(exportPublicKey(key));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private byte[] exportPublicKey(String issuer) throws IOException {
+    ProcessBuilder pb = new ProcessBuilder(gpgExecutable, "--batch", "--export", issuer);
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+    Process process = pb.start();
+    try {
+      byte[] export;
+      try (InputStream out = process.getInputStream()) {
+        export = out.readAllBytes();
+      }
+      int exitCode = process.waitFor();
+      if (exitCode != 0) {
+        throw new IOException("Exporting GPG public key " + issuer + " failed with exit code: " + exitCode);
+      }
+      return export;
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      throw new IOException("Exporting GPG public key " + issuer + " was interrupted", e);
+    }
+  }
+
+  private String verifyWithGpg(File signatureFile, File dataFile) throws IOException {
+    List<String> command = new ArrayList<>();
+    command.add(gpgExecutable);
+    command.add("--batch");
+    command.add("--verify");
+    command.add(signatureFile.getAbsolutePath());
+    command.add(dataFile.getAbsolutePath());
+
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectErrorStream(true);
+    Process process = pb.start();
+    try {
+      String output = readFully(process.getInputStream());
+      int exitCode = process.waitFor();
+      return exitCode == 0 ? null : output.trim();
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      throw new IOException("GPG signature verification was interrupted", e);
+    }
+  }
+
+  private static String readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int length;
+    while ((length = in.read(buffer)) > 0) {
+      out.write(buffer, 0, length);
+    }
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
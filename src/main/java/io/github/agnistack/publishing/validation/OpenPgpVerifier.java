@@ -0,0 +1,577 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import io.github.agnistack.publishing.io.BufferPool;
+import io.github.agnistack.publishing.io.ChunkReader;
+import io.github.agnistack.publishing.io.Hex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies version 4 detached signatures of binary documents in the JVM (RFC 4880), without starting gpg.
+ *
+ * <p>RSA and NIST P-256/384/521 ECDSA keys are supported on every Java version, Ed25519 keys where the JDK
+ * provides it (Java 15+). Signatures this class cannot check are left {@link Verdict#UNDECIDED undecided}, so
+ * that the caller can fall back to gpg.
+ */
+final class OpenPgpVerifier {
+
+  private static final int SIGNATURE_TAG = 2;
+  private static final int PUBLIC_KEY_TAG = 6;
+  private static final int PUBLIC_SUBKEY_TAG = 14;
+  private static final int BINARY_DOCUMENT = 0x00;
+  private static final int SUBPACKET_ISSUER = 16;
+  private static final int SUBPACKET_ISSUER_FINGERPRINT = 33;
+
+  private static final int RSA = 1;
+  private static final int RSA_SIGN_ONLY = 3;
+  private static final int ECDSA = 19;
+  private static final int EDDSA = 22;
+
+  private static final Map<Integer, String> HASH_ALGORITHMS = new HashMap<>();
+  private static final Map<String, byte[]> DIGEST_INFO_PREFIXES = new HashMap<>();
+  private static final Map<String, String> CURVES = new HashMap<>();
+  private static final String ED25519_OID = "2b06010401da470f01";
+  private static final byte[] ED25519_X509_PREFIX = Hex.decode("302a300506032b6570032100");
+
+  static {
+    HASH_ALGORITHMS.put(2, "SHA-1");
+    HASH_ALGORITHMS.put(8, "SHA-256");
+    HASH_ALGORITHMS.put(9, "SHA-384");
+    HASH_ALGORITHMS.put(10, "SHA-512");
+    HASH_ALGORITHMS.put(11, "SHA-224");
+
+    // DER DigestInfo headers of PKCS #1 v1.5 signatures (RFC 8017, section 9.2)
+    DIGEST_INFO_PREFIXES.put("SHA-1", Hex.decode("3021300906052b0e03021a05000414"));
+    DIGEST_INFO_PREFIXES.put("SHA-224", Hex.decode("302d300d06096086480165030402040500041c"));
+    DIGEST_INFO_PREFIXES.put("SHA-256", Hex.decode("3031300d060960864801650304020105000420"));
+    DIGEST_INFO_PREFIXES.put("SHA-384", Hex.decode("3041300d060960864801650304020205000430"));
+    DIGEST_INFO_PREFIXES.put("SHA-512", Hex.decode("3051300d060960864801650304020305000440"));
+
+    CURVES.put("2a8648ce3d030107", "secp256r1");
+    CURVES.put("2b81040022", "secp384r1");
+    CURVES.put("2b81040023", "secp521r1");
+  }
+
+  private OpenPgpVerifier() {
+  }
+
+  /**
+   * Opens the signed data.
+   */
+  @FunctionalInterface
+  interface DataSource {
+    InputStream open() throws IOException;
+  }
+
+  /**
+   * Outcome of an in-process verification: good, bad with a reason, or undecided.
+   */
+  static final class Verdict {
+
+    static final Verdict GOOD = new Verdict(true, null);
+    static final Verdict UNDECIDED = new Verdict(false, null);
+
+    private final boolean decided;
+    private final String failure;
+
+    private Verdict(boolean decided, String failure) {
+      this.decided = decided;
+      this.failure = failure;
+    }
+
+    static Verdict bad(String failure) {
+      return new Verdict(true, failure);
+    }
+
+    boolean isDecided() {
+      return decided;
+    }
+
+    /**
+     * Returns why the signature is bad, or {@code null} if it is good.
+     */
+    String getFailure() {
+      return failure;
+    }
+  }
+
+  /**
+   * A parsed signature packet.
+   */
+  static final class SignaturePacket {
+
+    private final int version;
+    private final int type;
+    private final int publicKeyAlgorithm;
+    private final int hashAlgorithm;
+    private final byte[] hashedPart;
+    private final byte[] issuerFingerprint;
+    private final byte[] issuerKeyId;
+    private final byte[] left16;
+    private final List<byte[]> values;
+
+    private SignaturePacket(int version, int type, int publicKeyAlgorithm, int hashAlgorithm, byte[] hashedPart,
+                            byte[] issuerFingerprint, byte[] issuerKeyId, byte[] left16, List<byte[]> values) {
+      this.version = version;
+      this.type = type;
+      this.publicKeyAlgorithm = publicKeyAlgorithm;
+      this.hashAlgorithm = hashAlgorithm;
+      this.hashedPart = hashedPart;
+      this.issuerFingerprint = issuerFingerprint;
+      this.issuerKeyId = issuerKeyId;
+      this.left16 = left16;
+      this.values = values;
+    }
+
+    /**
+     * Returns whether this is a v4 binary document signature with a known hash and an issuer.
+     */
+    boolean isSupported() {
+      return version == 4 && type == BINARY_DOCUMENT && HASH_ALGORITHMS.containsKey(hashAlgorithm)
+          && getIssuer() != null;
+    }
+
+    /**
+     * Returns the issuer fingerprint, or the issuer key ID if the signature has no fingerprint, in hex.
+     */
+    String getIssuer() {
+      byte[] issuer = issuerFingerprint != null ? issuerFingerprint : issuerKeyId;
+      return issuer != null ? Hex.encode(issuer).toUpperCase() : null;
+    }
+
+    boolean isIssuedBy(KeyPacket key) {
+      return issuerFingerprint != null ? Arrays.equals(issuerFingerprint, key.fingerprint)
+          : issuerKeyId != null && Arrays.equals(issuerKeyId, key.getKeyId());
+    }
+  }
+
+  /**
+   * A v4 public key or subkey, with its JCA key if its algorithm is supported.
+   */
+  static final class KeyPacket {
+
+    private final int algorithm;
+    private final byte[] fingerprint;
+    private final PublicKey key;
+
+    private KeyPacket(int algorithm, byte[] fingerprint, PublicKey key) {
+      this.algorithm = algorithm;
+      this.fingerprint = fingerprint;
+      this.key = key;
+    }
+
+    byte[] getKeyId() {
+      return Arrays.copyOfRange(fingerprint, fingerprint.length - 8, fingerprint.length);
+    }
+
+    String getFingerprint() {
+      return Hex.encode(fingerprint).toUpperCase();
+    }
+
+    boolean isSupported() {
+      return key != null;
+    }
+  }
+
+  /**
+   * Parses the first signature packet of an armored or binary signature.
+   *
+   * @throws IOException if the input is not an OpenPGP signature
+   */
+  static SignaturePacket parseSignature(byte[] signature) throws IOException {
+    for (byte[][] packet : packets(dearmor(signature))) {
+      if (packet[0][0] == SIGNATURE_TAG) {
+        return parseSignaturePacket(packet[1]);
+      }
+    }
+    throw new IOException("No signature packet found");
+  }
+
+  /**
+   * Parses the v4 public keys and subkeys of a binary key export, such as {@code gpg --export}.
+   *
+   * @throws IOException if the input is not a sequence of OpenPGP packets
+   */
+  static List<KeyPacket> parseKeys(byte[] export) throws IOException {
+    List<KeyPacket> keys = new ArrayList<>();
+    for (byte[][] packet : packets(export)) {
+      int tag = packet[0][0];
+      byte[] body = packet[1];
+      if ((tag == PUBLIC_KEY_TAG || tag == PUBLIC_SUBKEY_TAG) && body.length > 6 && body[0] == 4) {
+        keys.add(new KeyPacket(body[5] & 0xFF, fingerprint(body), publicKey(body)));
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Verifies a signature of the data with the given key.
+   */
+  static Verdict verify(SignaturePacket signature, KeyPacket key, DataSource data) throws IOException {
+    if (!key.isSupported() || key.algorithm != signature.publicKeyAlgorithm) {
+      return Verdict.UNDECIDED;
+    }
+    String hashAlgorithm = HASH_ALGORITHMS.get(signature.hashAlgorithm);
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(hashAlgorithm);
+    } catch (NoSuchAlgorithmException e) {
+      return Verdict.UNDECIDED;
+    }
+    try (InputStream in = data.open()) {
+      ChunkReader.read(in, BufferPool.shared(), digest::update);
+    }
+    digest.update(signature.hashedPart);
+    digest.update(new byte[]{4, (byte) 0xFF});
+    digest.update(toInt(signature.hashedPart.length));
+    byte[] hash = digest.digest();
+
+    if (hash[0] != signature.left16[0] || hash[1] != signature.left16[1]) {
+      return Verdict.bad("BAD signature from key " + key.getFingerprint() + ": digest does not match");
+    }
+
+    try {
+      Signature verifier;
+      byte[] signed;
+      byte[] signatureBytes;
+      if (key.algorithm == RSA || key.algorithm == RSA_SIGN_ONLY) {
+        verifier = Signature.getInstance("NONEwithRSA");
+        signed = concat(DIGEST_INFO_PREFIXES.get(hashAlgorithm), hash);
+        int modulusLength = (((RSAPublicKey) key.key).getModulus().bitLength() + 7) / 8;
+        signatureBytes = leftPad(signature.values.get(0), modulusLength);
+      } else if (key.algorithm == ECDSA) {
+        verifier = Signature.getInstance("NONEwithECDSA");
+        signed = hash;
+        signatureBytes = derSignature(signature.values.get(0), signature.values.get(1));
+      } else {
+        // EdDSA signs the digest itself; R and S are 32 bytes each
+        verifier = Signature.getInstance("Ed25519");
+        signed = hash;
+        signatureBytes = concat(leftPad(signature.values.get(0), 32), leftPad(signature.values.get(1), 32));
+      }
+      verifier.initVerify(key.key);
+      verifier.update(signed);
+      return verifier.verify(signatureBytes) ? Verdict.GOOD
+          : Verdict.bad("BAD signature from key " + key.getFingerprint());
+    } catch (NoSuchAlgorithmException e) {
+      return Verdict.UNDECIDED;
+    } catch (GeneralSecurityException | IndexOutOfBoundsException e) {
+      return Verdict.bad("Malformed signature from key " + key.getFingerprint() + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Removes the ASCII armor of a signature; binary input is returned as it is.
+   */
+  static byte[] dearmor(byte[] input) throws IOException {
+    if (input.length > 0 && (input[0] & 0x80) != 0) {
+      return input;
+    }
+    String text = new String(input, StandardCharsets.US_ASCII);
+    int begin = text.indexOf("-----BEGIN PGP ");
+    if (begin < 0) {
+      throw new IOException("Not an OpenPGP signature");
+    }
+    // The base64 data starts after the blank line that ends the armor headers
+    String[] lines = text.substring(begin).split("\\R");
+    StringBuilder base64 = new StringBuilder();
+    boolean inBody = false;
+    for (int i = 1; i < lines.length; i++) {
+      String line = lines[i].trim();
+      if (line.startsWith("-----END PGP ")) {
+        break;
+      } else if (!inBody) {
+        inBody = line.isEmpty();
+      } else if (!line.startsWith("=")) {
+        base64.append(line);
+      }
+    }
+    try {
+      return Base64.getDecoder().decode(base64.toString());
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid armored signature: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Splits OpenPGP packets into their tag (as a single byte array) and body.
+   */
+  private static List<byte[][]> packets(byte[] data) throws IOException {
+    List<byte[][]> packets = new ArrayList<>();
+    int position = 0;
+    while (position < data.length) {
+      int header = data[position++] & 0xFF;
+      if ((header & 0x80) == 0) {
+        throw new IOException("Invalid OpenPGP packet header at offset " + (position - 1));
+      }
+      int tag;
+      long length;
+      if ((header & 0x40) != 0) {
+        tag = header & 0x3F;
+        int first = readByte(data, position++);
+        if (first < 192) {
+          length = first;
+        } else if (first < 224) {
+          length = ((first - 192) << 8) + readByte(data, position++) + 192;
+        } else if (first == 255) {
+          length = readInt(data, position);
+          position += 4;
+        } else {
+          throw new IOException("Partial body lengths are not supported");
+        }
+      } else {
+        tag = (header >> 2) & 0x0F;
+        switch (header & 0x03) {
+          case 0:
+            length = readByte(data, position++);
+            break;
+          case 1:
+            length = (readByte(data, position) << 8) | readByte(data, position + 1);
+            position += 2;
+            break;
+          case 2:
+            length = readInt(data, position);
+            position += 4;
+            break;
+          default:
+            length = data.length - position;
+            break;
+        }
+      }
+      if (length > data.length - position) {
+        throw new IOException("Truncated OpenPGP packet");
+      }
+      packets.add(new byte[][]{{(byte) tag}, Arrays.copyOfRange(data, position, position + (int) length)});
+      position += (int) length;
+    }
+    return packets;
+  }
+
+  private static SignaturePacket parseSignaturePacket(byte[] body) throws IOException {
+    int version = readByte(body, 0);
+    if (version != 4) {
+      return new SignaturePacket(version, -1, -1, -1, null, null, null, null, null);
+    }
+    int hashedLength = (readByte(body, 4) << 8) | readByte(body, 5);
+    int unhashedStart = 6 + hashedLength;
+    int unhashedLength = (readByte(body, unhashedStart) << 8) | readByte(body, unhashedStart + 1);
+    int left16Start = unhashedStart + 2 + unhashedLength;
+
+    byte[][] issuer = new byte[2][];
+    readSubpackets(body, 6, unhashedStart, issuer);
+    readSubpackets(body, unhashedStart + 2, left16Start, issuer);
+
+    List<byte[]> values = new ArrayList<>(2);
+    int position = left16Start + 2;
+    while (position < body.length) {
+      int bits = (readByte(body, position) << 8) | readByte(body, position + 1);
+      int length = (bits + 7) / 8;
+      if (position + 2 + length > body.length) {
+        throw new IOException("Truncated signature value");
+      }
+      values.add(Arrays.copyOfRange(body, position + 2, position + 2 + length));
+      position += 2 + length;
+    }
+    return new SignaturePacket(version, body[1] & 0xFF, body[2] & 0xFF, body[3] & 0xFF,
+        Arrays.copyOfRange(body, 0, unhashedStart), issuer[0], issuer[1],
+        Arrays.copyOfRange(body, left16Start, left16Start + 2), values);
+  }
+
+  /**
+   * Reads the issuer fingerprint and key ID subpackets into {@code issuer[0]} and {@code issuer[1]}.
+   */
+  private static void readSubpackets(byte[] body, int start, int end, byte[][] issuer) throws IOException {
+    int position = start;
+    while (position < end) {
+      int first = readByte(body, position++);
+      int length;
+      if (first < 192) {
+        length = first;
+      } else if (first < 255) {
+        length = ((first - 192) << 8) + readByte(body, position++) + 192;
+      } else {
+        length = (int) readInt(body, position);
+        position += 4;
+      }
+      if (length < 1 || position + length > end) {
+        throw new IOException("Truncated signature subpacket");
+      }
+      int type = readByte(body, position) & 0x7F;
+      if (type == SUBPACKET_ISSUER_FINGERPRINT && length == 22 && body[position + 1] == 4) {
+        issuer[0] = Arrays.copyOfRange(body, position + 2, position + length);
+      } else if (type == SUBPACKET_ISSUER && length == 9) {
+        issuer[1] = Arrays.copyOfRange(body, position + 1, position + length);
+      }
+      position += length;
+    }
+  }
+
+  /**
+   * Computes the v4 fingerprint of a public key packet body: SHA-1 over {@code 0x99}, the length and the body.
+   */
+  private static byte[] fingerprint(byte[] body) throws IOException {
+    try {
+      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+      sha1.update(new byte[]{(byte) 0x99, (byte) (body.length >>> 8), (byte) body.length});
+      return sha1.digest(body);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("SHA-1 is not available", e);
+    }
+  }
+
+  /**
+   * Converts the key material of a v4 public key packet body to a JCA key, or returns {@code null} if its
+   * algorithm or curve is not supported.
+   */
+  private static PublicKey publicKey(byte[] body) throws IOException {
+    int algorithm = body[5] & 0xFF;
+    int position = 6;
+    try {
+      if (algorithm == RSA || algorithm == RSA_SIGN_ONLY) {
+        byte[] modulus = readMpi(body, position);
+        byte[] exponent = readMpi(body, position + 2 + modulus.length);
+        return KeyFactory.getInstance("RSA").generatePublic(
+            new RSAPublicKeySpec(new BigInteger(1, modulus), new BigInteger(1, exponent)));
+      }
+      if (algorithm != ECDSA && algorithm != EDDSA) {
+        return null;
+      }
+      int oidLength = readByte(body, position);
+      String oid = Hex.encode(Arrays.copyOfRange(body, position + 1, position + 1 + oidLength));
+      byte[] point = readMpi(body, position + 1 + oidLength);
+      if (algorithm == EDDSA) {
+        if (!ED25519_OID.equals(oid) || point.length != 33 || point[0] != 0x40) {
+          return null;
+        }
+        return KeyFactory.getInstance("Ed25519").generatePublic(
+            new X509EncodedKeySpec(concat(ED25519_X509_PREFIX, Arrays.copyOfRange(point, 1, 33))));
+      }
+      String curve = CURVES.get(oid);
+      if (curve == null || point[0] != 0x04) {
+        return null;
+      }
+      AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+      parameters.init(new ECGenParameterSpec(curve));
+      ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+      int coordinateLength = (point.length - 1) / 2;
+      ECPoint w = new ECPoint(new BigInteger(1, Arrays.copyOfRange(point, 1, 1 + coordinateLength)),
+          new BigInteger(1, Arrays.copyOfRange(point, 1 + coordinateLength, point.length)));
+      return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(w, spec));
+    } catch (GeneralSecurityException e) {
+      // Not supported by this JDK, such as Ed25519 before Java 15
+      return null;
+    }
+  }
+
+  private static byte[] readMpi(byte[] data, int position) throws IOException {
+    int bits = (readByte(data, position) << 8) | readByte(data, position + 1);
+    int length = (bits + 7) / 8;
+    if (position + 2 + length > data.length) {
+      throw new IOException("Truncated key material");
+    }
+    return Arrays.copyOfRange(data, position + 2, position + 2 + length);
+  }
+
+  /**
+   * Encodes ECDSA {@code r} and {@code s} as the DER sequence the JCA expects.
+   */
+  private static byte[] derSignature(byte[] r, byte[] s) {
+    byte[] rInteger = new BigInteger(1, r).toByteArray();
+    byte[] sInteger = new BigInteger(1, s).toByteArray();
+    ByteArrayOutputStream integers = new ByteArrayOutputStream();
+    writeDer(integers, 0x02, rInteger);
+    writeDer(integers, 0x02, sInteger);
+    ByteArrayOutputStream sequence = new ByteArrayOutputStream();
+    writeDer(sequence, 0x30, integers.toByteArray());
+    return sequence.toByteArray();
+  }
+
+  private static void writeDer(ByteArrayOutputStream out, int tag, byte[] content) {
+    out.write(tag);
+    if (content.length < 0x80) {
+      out.write(content.length);
+    } else if (content.length < 0x100) {
+      out.write(0x81);
+      out.write(content.length);
+    } else {
+      out.write(0x82);
+      out.write(content.length >>> 8);
+      out.write(content.length);
+    }
+    out.writeBytes(content);
+  }
+
+  private static byte[] leftPad(byte[] value, int length) {
+    if (value.length >= length) {
+      return value;
+    }
+    byte[] padded = new byte[length];
+    System.arraycopy(value, 0, padded, length - value.length, value.length);
+    return padded;
+  }
+
+  private static byte[] concat(byte[] first, byte[] second) {
+    byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private static byte[] toInt(int value) {
+    return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+  }
+
+  private static int readByte(byte[] data, int position) throws IOException {
+    if (position >= data.length) {
+      throw new IOException("Truncated OpenPGP data");
+    }
+    return data[position] & 0xFF;
+  }
+
+  private static long readInt(byte[] data, int position) throws IOException {
+    return ((long) readByte(data, position) << 24) | (readByte(data, position + 1) << 16)
+        | (readByte(data, position + 2) << 8) | readByte(data, position + 3);
+  }
+}
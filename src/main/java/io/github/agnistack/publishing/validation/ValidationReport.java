@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of validating a deployment bundle: every violation found across all components, and warnings about what
+ * could not be checked.
+ *
+ * @since 0.3.0
+ */
+public class ValidationReport {
+
+  private final int componentCount;
+  private final List<Violation> violations;
+  private final List<Violation> warnings;
+
+  public ValidationReport(int componentCount, List<Violation> violations) {
+    this(componentCount, violations, Collections.emptyList());
+  }
+
+  public ValidationReport(int componentCount, List<Violation> violations, List<Violation> warnings) {
+    this.componentCount = componentCount;
+    this.violations = sorted(violations);
+    this.warnings = sorted(warnings);
+  }
+
+  private static List<Violation> sorted(List<Violation> violations) {
+    List<Violation> sorted = new ArrayList<>(violations);
+    sorted.sort(Comparator.comparing(Violation::getPath));
+    return Collections.unmodifiableList(sorted);
+  }
+
+  /**
+   * Returns the number of components (GAV directories) that were validated.
+   */
+  public int getComponentCount() {
+    return componentCount;
+  }
+
+  /**
+   * Returns all violations, sorted by path.
+   */
+  public List<Violation> getViolations() {
+    return violations;
+  }
+
+  /**
+   * Returns problems that do not fail validation, such as metadata only a parent outside the bundle can provide,
+   * sorted by path.
+   */
+  public List<Violation> getWarnings() {
+    return warnings;
+  }
+
+  public boolean isValid() {
+    return violations.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(violations.size()).append(" violation(s) in ").append(componentCount).append(" component(s)");
+    for (Violation violation : violations) {
+      sb.append(System.lineSeparator()).append("  ").append(violation);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import java.util.Objects;
+
+/**
+ * A single Central requirement that a bundle entry or component does not meet.
+ *
+ * @since 0.3.0
+ */
+public class Violation {
+
+  private final String path;
+  private final String message;
+
+  public Violation(String path, String message) {
+    this.path = Objects.requireNonNull(path, "path cannot be null");
+    this.message = Objects.requireNonNull(message, "message cannot be null");
+  }
+
+  /**
+   * Returns the bundle path of the offending entry or component directory.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return path + ": " + message;
+  }
+}
@@ -0,0 +1,152 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor that starts a virtual thread per task but lets at most {@code concurrency} of them run at once.
+ *
+ * <p>Tasks wait for a permit on their own virtual thread, so submitting never blocks the caller, and a waiting
+ * task costs no platform thread. Without the bound, thousands of submitted tasks would all start gpg processes
+ * and open files at the same time.
+ *
+ * <p>{@link #shutdownNow()} cancels the {@link FutureTask}s still waiting for a permit and returns them, like a
+ * thread pool returns its queue. Other waiting tasks, such as the completion steps of a {@code CompletableFuture},
+ * cannot be cancelled from outside, so they are run with the interrupt status set instead. Otherwise the futures
+ * depending on them would never complete.
+ *
+ * @since 0.3.0
+ */
+final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+  private final Set<WaitingTask> waiting = ConcurrentHashMap.newKeySet();
+
+  BoundedVirtualThreadExecutor(String name, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+    }
+    this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + '-', 1).factory());
+    this.permits = new Semaphore(concurrency);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    WaitingTask task = new WaitingTask(Objects.requireNonNull(command, "command"));
+    waiting.add(task);
+    try {
+      delegate.execute(task);
+    } catch (RejectedExecutionException e) {
+      waiting.remove(task);
+      throw e;
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> cancelled = new ArrayList<>();
+    for (WaitingTask task : waiting) {
+      if (task.command instanceof FutureTask && waiting.remove(task)) {
+        ((FutureTask<?>) task.command).cancel(false);
+        cancelled.add(task.command);
+      }
+    }
+    delegate.shutdownNow();
+    return cancelled;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  /**
+   * A submitted command on its virtual thread. Whoever removes it from {@link #waiting} first, the thread once
+   * it holds a permit or {@link #shutdownNow()}, decides whether it runs.
+   */
+  private final class WaitingTask implements Runnable {
+
+    private final Runnable command;
+
+    WaitingTask(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (waiting.remove(this)) {
+          abandon();
+        }
+        return;
+      }
+      try {
+        if (waiting.remove(this)) {
+          command.run();
+        }
+      } finally {
+        permits.release();
+      }
+    }
+
+    /**
+     * Completes a command interrupted before it started: cancels it when it is a future, and otherwise runs it
+     * with the interrupt status still set.
+     */
+    private void abandon() {
+      if (command instanceof FutureTask) {
+        ((FutureTask<?>) command).cancel(false);
+      } else {
+        command.run();
+      }
+    }
+  }
+}
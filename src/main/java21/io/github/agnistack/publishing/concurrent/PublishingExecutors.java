@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors for the blocking work of the publishing pipeline: gpg processes, disk reads and
+ * HTTP calls.
+ *
+ * <p>This is the Java 21 implementation, loaded from {@code META-INF/versions/21} of the multi-release
+ * plugin jar. Tasks run on virtual threads, which release their carrier thread while blocked on
+ * {@code Process.waitFor}, file reads or sockets, so far more tasks can be in flight than there are cores. They
+ * are still bounded by {@code concurrency}, like the platform thread pool.
+ *
+ * @since 0.3.0
+ */
+public final class PublishingExecutors {
+
+  /**
+   * Number of concurrent tasks per core when running on virtual threads.
+   */
+  private static final int VIRTUAL_TASKS_PER_CORE = 8;
+
+  private PublishingExecutors() {
+  }
+
+  /**
+   * Returns whether executors created by this class run tasks on virtual threads.
+   *
+   * @return true on Java 21 and later when virtual threads are enabled
+   */
+  public static boolean supportsVirtualThreads() {
+    return true;
+  }
+
+  /**
+   * Returns the default number of tasks to run concurrently.
+   *
+   * @param virtualThreads whether virtual threads are requested
+   * @return the default concurrency
+   */
+  public static int defaultConcurrency(boolean virtualThreads) {
+    int cores = Runtime.getRuntime().availableProcessors();
+    return virtualThreads ? cores * VIRTUAL_TASKS_PER_CORE : cores;
+  }
+
+  /**
+   * Creates an executor for blocking I/O tasks.
+   *
+   * @param name           the thread name prefix
+   * @param concurrency    the maximum number of tasks run at once
+   * @param virtualThreads whether to use virtual threads when the runtime supports them
+   * @return a new executor, to be shut down by the caller
+   */
+  public static ExecutorService newIoExecutor(String name, int concurrency, boolean virtualThreads) {
+    if (virtualThreads) {
+      return new BoundedVirtualThreadExecutor(name, concurrency);
+    }
+    return Executors.newFixedThreadPool(concurrency, platformThreadFactory(name));
+  }
+
+  static ThreadFactory platformThreadFactory(String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + '-' + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,348 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing;
+
+import io.github.agnistack.publishing.engine.FailureMode;
+import io.github.agnistack.publishing.engine.LogVerbosity;
+import io.github.agnistack.publishing.portal.StandInDeployment;
+import io.github.agnistack.publishing.portal.StandInPortal;
+import io.github.agnistack.publishing.portal.StandInPortalScript;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.central.publisher.client.model.DeploymentState;
+import org.sonatype.central.publisher.plugin.exceptions.DeploymentPublishFailedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link PublishCustomArtifactMojo} end to end against a {@link StandInPortal}, printing the upload
+ * throughput and the time to each deployment state it observed.
+ */
+class PublishCustomArtifactMojoIT {
+
+  private static final int LARGE_PROJECT_COUNT = 1500;
+
+  @TempDir
+  Path directory;
+
+  private StandInPortal portal;
+
+  @AfterEach
+  void stopPortal() {
+    if (portal != null) {
+      portal.close();
+    }
+  }
+
+  @Test
+  void publishesThousandsOfArtifacts() throws Exception {
+    startPortal(new StandInPortalScript()
+        .withLatency(5)
+        .withStateDuration(DeploymentState.PENDING, 200)
+        .withStateDuration(DeploymentState.VALIDATING, 1500)
+        .withStateDuration(DeploymentState.PUBLISHING, 1000));
+    PublishCustomArtifactMojo mojo = newMojo(createProjects(LARGE_PROJECT_COUNT, 4096));
+    set(mojo, "autoPublish", true);
+    set(mojo, "waitUntil", "PUBLISHED");
+
+    long start = System.nanoTime();
+    mojo.execute();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    StandInDeployment deployment = onlyDeployment();
+    report("publishesThousandsOfArtifacts", elapsedMillis, deployment);
+    File bundle = directory.resolve("target/custom-publishing/custom-deployment-bundle.zip").toFile();
+    try (ZipFile zip = new ZipFile(bundle)) {
+      assertEquals(LARGE_PROJECT_COUNT, zip.stream().filter(entry -> entry.getName().endsWith(".jar")).count());
+      assertEquals(LARGE_PROJECT_COUNT, zip.stream().filter(entry -> entry.getName().endsWith(".pom")).count());
+    }
+    assertTrue(deployment.getUploadedBytes() > bundle.length());
+    Map<DeploymentState, Long> timeline = deployment.getStateTimeline();
+    assertTrue(timeline.get(DeploymentState.PUBLISHED) >= 2700, "published before the scripted durations passed");
+    assertFalse(timeline.containsKey(DeploymentState.FAILED));
+  }
+
+  @Test
+  void retriesThrottledAndUnavailableUploads() throws Exception {
+    // Request 1 is the warm-up, the upload is answered 429, 503, 429 and accepted on its fourth attempt
+    startPortal(new StandInPortalScript().withThrottleEvery(2, 1).withFailEvery(3));
+    PublishCustomArtifactMojo mojo = newMojo(createProjects(20, 1024));
+    set(mojo, "waitUntil", "UPLOADED");
+
+    long start = System.nanoTime();
+    mojo.execute();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    StandInDeployment deployment = onlyDeployment();
+    report("retriesThrottledAndUnavailableUploads", elapsedMillis, deployment);
+    assertEquals(5, portal.getRequestCount());
+    assertTrue(elapsedMillis >= 3000, "retried before the Retry-After and backoff delays");
+  }
+
+  @Test
+  void keepsPollingThroughThrottledStatusRequests() throws Exception {
+    // Request 1 is the warm-up and 2 the upload, so the first status request and every third after it get 429
+    startPortal(new StandInPortalScript()
+        .withThrottleEvery(3, 1)
+        .withStateDuration(DeploymentState.VALIDATING, 2500));
+    PublishCustomArtifactMojo mojo = newMojo(createProjects(20, 1024));
+
+    long start = System.nanoTime();
+    mojo.execute();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    StandInDeployment deployment = onlyDeployment();
+    report("keepsPollingThroughThrottledStatusRequests", elapsedMillis, deployment);
+    assertTrue(deployment.getStateTimeline().get(DeploymentState.VALIDATED) >= 2500);
+  }
+
+  @Test
+  void failedValidationFailsTheBuild() throws Exception {
+    startPortal(new StandInPortalScript()
+        .withFailedValidation(true)
+        .withStateDuration(DeploymentState.VALIDATING, 1500));
+    PublishCustomArtifactMojo mojo = newMojo(createProjects(20, 1024));
+
+    long start = System.nanoTime();
+    assertThrows(DeploymentPublishFailedException.class, mojo::execute);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    StandInDeployment deployment = onlyDeployment();
+    report("failedValidationFailsTheBuild", elapsedMillis, deployment);
+    assertTrue(deployment.getStateTimeline().get(DeploymentState.FAILED) >= 1500);
+    assertFalse(deployment.getStateTimeline().containsKey(DeploymentState.VALIDATED));
+  }
+
+  @Test
+  void mergesShardBundlesAndMovesTheMergedBundleIntoPlace() throws Exception {
+    startPortal(new StandInPortalScript());
+    List<String> projects = createProjects(20, 1024);
+    for (int shard = 0; shard < 2; shard++) {
+      PublishCustomArtifactMojo mojo = newMojo(projects);
+      set(mojo, "shardIndex", shard);
+      set(mojo, "shardCount", 2);
+      mojo.execute();
+    }
+    MergeBundlesMojo merge = newMergeMojo();
+    set(merge, "waitUntil", "UPLOADED");
+
+    merge.execute();
+
+    Path publishingDirectory = directory.resolve("target/custom-publishing");
+    try (ZipFile zip = new ZipFile(publishingDirectory.resolve("custom-deployment-bundle.zip").toFile())) {
+      assertEquals(20, zip.stream().filter(entry -> entry.getName().endsWith(".jar")).count());
+    }
+    assertEquals(1, portal.getDeployments().size());
+    try (Stream<Path> files = Files.list(publishingDirectory)) {
+      assertFalse(files.anyMatch(file -> file.getFileName().toString().startsWith("work-")),
+          "work directory left behind");
+    }
+  }
+
+  @Test
+  void unknownPublishingTypeIsRejected() throws Exception {
+    startPortal(new StandInPortalScript());
+    HttpRequest request = HttpRequest.newBuilder(
+            URI.create(portal.getBaseUrl() + "/api/v1/publisher/upload?publishingType=SOMETIMES"))
+        .header("Authorization", "Bearer token")
+        .POST(HttpRequest.BodyPublishers.ofString("bundle"))
+        .build();
+
+    HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+    assertEquals(400, response.statusCode());
+    assertEquals("Unknown publishing type: SOMETIMES", response.body());
+    assertTrue(portal.getDeployments().isEmpty());
+  }
+
+  private void startPortal(StandInPortalScript script) throws IOException {
+    portal = new StandInPortal(0, script);
+    portal.start();
+  }
+
+  private StandInDeployment onlyDeployment() {
+    Collection<StandInDeployment> deployments = portal.getDeployments();
+    assertEquals(1, deployments.size());
+    return deployments.iterator().next();
+  }
+
+  private static void report(String test, long elapsedMillis, StandInDeployment deployment) {
+    System.out.printf("%s: goal took %d ms, %d bytes uploaded in %d ms (%.1f MB/s), time to each state %s%n", test,
+        elapsedMillis, deployment.getUploadedBytes(), deployment.getUploadMillis(),
+        deployment.getUploadThroughput() / (1024 * 1024), deployment.getStateTimeline());
+  }
+
+  /**
+   * Creates projects with a POM holding the metadata Central requires and a jar of random content.
+   *
+   * @return the project directory names
+   */
+  private List<String> createProjects(int count, int jarSize) throws IOException {
+    Path projectsDirectory = Files.createDirectories(directory.resolve("projects"));
+    Random random = new Random(count);
+    List<String> projects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String artifactId = "component-" + i;
+      Path projectDirectory = Files.createDirectory(projectsDirectory.resolve(artifactId));
+      String pom = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+          + "  <modelVersion>4.0.0</modelVersion>\n"
+          + "  <groupId>com.example.load</groupId>\n"
+          + "  <artifactId>" + artifactId + "</artifactId>\n"
+          + "  <version>1.0.0</version>\n"
+          + "  <name>" + artifactId + "</name>\n"
+          + "  <description>Load test component</description>\n"
+          + "  <url>https://example.com</url>\n"
+          + "  <licenses><license><name>Apache-2.0</name></license></licenses>\n"
+          + "  <developers><developer><name>Load Test</name></developer></developers>\n"
+          + "  <scm><url>https://example.com/scm</url></scm>\n"
+          + "</project>\n";
+      Files.write(projectDirectory.resolve("pom.xml"), pom.getBytes(StandardCharsets.UTF_8));
+      byte[] jar = new byte[jarSize];
+      random.nextBytes(jar);
+      Files.write(projectDirectory.resolve(artifactId + "-1.0.0.jar"), jar);
+      projects.add(artifactId);
+    }
+    return projects;
+  }
+
+  /**
+   * Configures the goal as Maven would with the default parameter values, publishing unsigned to the portal.
+   */
+  private PublishCustomArtifactMojo newMojo(List<String> projects) throws ReflectiveOperationException {
+    Server server = new Server();
+    server.setId("central");
+    server.setUsername("user");
+    server.setPassword("token");
+    MavenExecutionRequest request = new DefaultMavenExecutionRequest().addServer(server);
+    MavenProject project = new MavenProject();
+    project.getBuild().setDirectory(directory.resolve("target").toString());
+    @SuppressWarnings("deprecation")
+    MavenSession session = new MavenSession(null, request, new DefaultMavenExecutionResult(),
+        Collections.singletonList(project));
+
+    PublishCustomArtifactMojo mojo = new PublishCustomArtifactMojo();
+    mojo.setLog(new SystemStreamLog() {
+      @Override
+      public void debug(CharSequence content) {
+        // As Maven without -X, SystemStreamLog would print it
+      }
+    });
+    set(mojo, "mavenSession", session);
+    set(mojo, "project", project);
+    set(mojo, "currentArtifactId", "load-test-parent");
+    set(mojo, "bomProjectsDirectory", directory.resolve("projects").toFile());
+    set(mojo, "bomProjects", projects);
+    set(mojo, "includeJar", true);
+    set(mojo, "publishingThreads", 0);
+    set(mojo, "virtualThreads", true);
+    set(mojo, "sessionCaches", false);
+    set(mojo, "parallelDigestThreshold", 67108864L);
+    set(mojo, "preparedDirectory", directory.resolve("target/custom-publishing/prepared").toFile());
+    set(mojo, "publishingServerId", "central");
+    set(mojo, "centralBaseUrl", portal.getBaseUrl());
+    set(mojo, "deploymentName", "com.example.load:load-test-parent:1.0.0");
+    set(mojo, "tokenAuth", true);
+    set(mojo, "waitUntil", "VALIDATED");
+    set(mojo, "waitMaxTime", 120);
+    set(mojo, "waitPollingInterval", 1);
+    set(mojo, "gpgExecutable", "gpg");
+    set(mojo, "skipGpgSign", true);
+    set(mojo, "shardCount", 1);
+    set(mojo, "inMemoryBundleThreshold", 8388608L);
+    set(mojo, "segmentDirectory", directory.resolve("target/custom-publishing/segments").toFile());
+    set(mojo, "warmUpConnection", true);
+    set(mojo, "failureMode", FailureMode.FAIL_FAST);
+    set(mojo, "largestFilesFirst", true);
+    set(mojo, "logVerbosity", LogVerbosity.PROGRESS);
+    return mojo;
+  }
+
+  /**
+   * Configures the merge goal as Maven would with the default parameter values, merging the shard bundles.
+   */
+  private MergeBundlesMojo newMergeMojo() throws ReflectiveOperationException {
+    Server server = new Server();
+    server.setId("central");
+    server.setUsername("user");
+    server.setPassword("token");
+    @SuppressWarnings("deprecation")
+    MavenSession session = new MavenSession(null, new DefaultMavenExecutionRequest().addServer(server),
+        new DefaultMavenExecutionResult(), Collections.singletonList(new MavenProject()));
+
+    MergeBundlesMojo mojo = new MergeBundlesMojo();
+    set(mojo, "mavenSession", session);
+    set(mojo, "partialBundlesDirectory", directory.resolve("target/custom-publishing").toFile());
+    set(mojo, "mergedBundle", directory.resolve("target/custom-publishing/custom-deployment-bundle.zip").toFile());
+    set(mojo, "skipGpgSign", true);
+    set(mojo, "gpgExecutable", "gpg");
+    set(mojo, "publishingServerId", "central");
+    set(mojo, "centralBaseUrl", portal.getBaseUrl());
+    set(mojo, "deploymentName", "com.example.load:load-test-parent:1.0.0");
+    set(mojo, "tokenAuth", true);
+    set(mojo, "waitUntil", "VALIDATED");
+    set(mojo, "waitMaxTime", 120);
+    set(mojo, "waitPollingInterval", 1);
+    return mojo;
+  }
+
+  private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+    for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+      try {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+        return;
+      } catch (NoSuchFieldException e) {
+        // Declared by a superclass
+      }
+    }
+    throw new NoSuchFieldException(name);
+  }
+}
@@ -0,0 +1,174 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import io.github.agnistack.publishing.log.ConsoleLog;
+import io.github.agnistack.publishing.processor.DefaultFileProcessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Signs with a throwaway gpg home and checks the signatures with {@code gpg --verify}. Skipped without gpg.
+ */
+class AgentSignerTest {
+
+  private static final String PASSPHRASE = "se cret%x";
+
+  @TempDir
+  static Path directory;
+
+  private static Path home;
+  private static String gpg;
+  private static String firstKey;
+  private static String defaultKey;
+
+  @BeforeAll
+  static void createKeys() throws IOException, InterruptedException {
+    assumeTrue(exec(null, "gpg", "--version") == 0, "gpg is not installed");
+    assumeTrue(exec(null, "gpgconf", "--version") == 0, "gpgconf is not installed");
+    assumeTrue(AgentSigner.isSupported(), "gpg-agent signing needs Java 16 or later");
+
+    home = Files.createDirectory(directory.resolve("home"));
+    Files.setPosixFilePermissions(home, PosixFilePermissions.fromString("rwx------"));
+    Path bin = Files.createDirectory(directory.resolve("bin"));
+    for (String tool : Arrays.asList("gpg", "gpgconf")) {
+      Path wrapper = bin.resolve(tool);
+      Files.write(wrapper, ("#!/bin/sh\nexec " + tool + " --homedir '" + home + "' \"$@\"\n")
+          .getBytes(StandardCharsets.UTF_8));
+      wrapper.toFile().setExecutable(true);
+    }
+    gpg = bin.resolve("gpg").toString();
+
+    firstKey = generateKey("First <first@example.com>", "");
+    defaultKey = generateKey("Default <default@example.com>", PASSPHRASE);
+    Files.write(home.resolve("gpg.conf"), ("default-key " + defaultKey + "\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  @AfterAll
+  static void stopAgent() throws IOException, InterruptedException {
+    if (home != null) {
+      exec(null, "gpgconf", "--homedir", home.toString(), "--kill", "gpg-agent");
+    }
+  }
+
+  @Test
+  void signaturesVerifyWithGpg() throws IOException, InterruptedException {
+    byte[] content = "<project/>\n".getBytes(StandardCharsets.UTF_8);
+    File file = directory.resolve("a-1.0.pom").toFile();
+    Files.write(file.toPath(), content);
+
+    try (AgentSigner signer = AgentSigner.open(gpg, null, PASSPHRASE, new ConsoleLog(false))) {
+      assertEquals(defaultKey, signer.getKey().getFingerprint());
+      assertEquals(defaultKey, verify(signer.sign(content), content));
+      assertEquals(defaultKey, verify(signer.sign(file), content));
+      assertNull(verify(signer.sign(content), "<project></project>\n".getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+
+  @Test
+  void keyNameSelectsTheKey() throws IOException, InterruptedException {
+    byte[] content = new byte[300_000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i * 31);
+    }
+
+    try (AgentSigner signer = AgentSigner.open(gpg, "first@example.com", null, new ConsoleLog(false))) {
+      assertEquals(firstKey, signer.getKey().getFingerprint());
+      assertEquals(firstKey, verify(signer.sign(content), content));
+    }
+  }
+
+  @Test
+  void fingerprintIsTheKeyGpgSignsWith() throws IOException, InterruptedException {
+    byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+    DefaultFileProcessor processor = new DefaultFileProcessor(gpg, PASSPHRASE, false, new ConsoleLog(false));
+
+    assertEquals(defaultKey, processor.getSigningKeyFingerprint());
+    assertEquals(defaultKey, verify(processor.signContent(content, "content"), content));
+
+    processor.setKeyName(firstKey);
+    assertEquals(firstKey, processor.getSigningKeyFingerprint());
+    assertEquals(firstKey, verify(processor.signContent(content, "content"), content));
+    assertNotEquals(firstKey, defaultKey);
+
+    assertEquals("", new DefaultFileProcessor(gpg, null, true, new ConsoleLog(false)).getSigningKeyFingerprint());
+  }
+
+  private static String generateKey(String userId, String passphrase) throws IOException, InterruptedException {
+    assertEquals(0, exec(null, gpg, "--batch", "--pinentry-mode", "loopback", "--passphrase", passphrase,
+        "--quick-gen-key", userId, "ed25519", "sign", "never"));
+    return SigningKey.find(gpg, userId).getFingerprint();
+  }
+
+  /**
+   * Returns the fingerprint of the key of a good signature, or {@code null} if gpg rejects it.
+   */
+  private static String verify(byte[] signature, byte[] content) throws IOException, InterruptedException {
+    Path signatureFile = Files.createTempFile(directory, "signature", ".asc");
+    Path contentFile = Files.createTempFile(directory, "content", ".bin");
+    Files.write(signatureFile, signature);
+    Files.write(contentFile, content);
+    List<String> status = new ArrayList<>();
+    int exitCode = exec(status, gpg, "--batch", "--status-fd", "1", "--verify", signatureFile.toString(),
+        contentFile.toString());
+    for (String line : status) {
+      if (exitCode == 0 && line.startsWith("[GNUPG:] VALIDSIG ")) {
+        return line.split(" ")[2];
+      }
+    }
+    return null;
+  }
+
+  private static int exec(List<String> output, String... command) throws IOException, InterruptedException {
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+    Process process;
+    try {
+      process = pb.start();
+    } catch (IOException e) {
+      return -1;
+    }
+    try (InputStream in = process.getInputStream()) {
+      String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      if (output != null) {
+        output.addAll(Arrays.asList(text.split("\\R")));
+      }
+    }
+    return process.waitFor();
+  }
+}
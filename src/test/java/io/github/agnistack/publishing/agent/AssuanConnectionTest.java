@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AssuanConnectionTest {
+
+  @Test
+  void percentAndLineBreaksAreEscaped() {
+    byte[] escaped = AssuanConnection.escape("se cret%x\r\nend".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("se cret%25x%0D%0Aend", new String(escaped, StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  void unescapeRestoresEveryByteValue() {
+    byte[] value = new byte[256];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = (byte) i;
+    }
+
+    // Data lines are read as ISO-8859-1, one character per byte
+    String line = new String(AssuanConnection.escape(value), StandardCharsets.ISO_8859_1);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    AssuanConnection.unescape(line, data);
+
+    assertArrayEquals(value, data.toByteArray());
+  }
+
+  @Test
+  void unescapeDecodesHexDigitsOfEitherCase() {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    AssuanConnection.unescape("(7:sig-val%0a%0D%25)", data);
+
+    assertEquals("(7:sig-val\n\r%)", new String(data.toByteArray(), StandardCharsets.ISO_8859_1));
+  }
+}
@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import io.github.agnistack.publishing.io.Hex;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenPgpSignatureTest {
+
+  private static final SigningKey EDDSA_KEY = new SigningKey(SigningKey.EDDSA,
+      Hex.decode("43FED2F6F8DAF56567DE250998E401497A722722"), "AE1F0314813B2F3BD57FD899B8B48672F9B01A5C");
+
+  @Test
+  void crc24MatchesCheckValues() {
+    assertEquals(0xB704CE, OpenPgpSignature.crc24(new byte[0]));
+    assertEquals(0x21CF02, OpenPgpSignature.crc24("123456789".getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  @Test
+  void hashedPartHoldsIssuerFingerprintAndCreationTime() {
+    byte[] hashed = OpenPgpSignature.hashedPart(EDDSA_KEY, OpenPgpSignature.SHA512, 0x6AD5E385L);
+
+    byte[] expected = concat(
+        bytes(4, 0x00, SigningKey.EDDSA, OpenPgpSignature.SHA512, 0, 29),
+        bytes(22, 33, 4), Hex.decode("43FED2F6F8DAF56567DE250998E401497A722722"),
+        bytes(5, 2, 0x6A, 0xD5, 0xE3, 0x85));
+    assertArrayEquals(expected, hashed);
+    assertArrayEquals(bytes(4, 0xFF, 0, 0, 0, expected.length), OpenPgpSignature.trailer(hashed));
+  }
+
+  @Test
+  void packetHoldsIssuerDigestPrefixAndMpis() {
+    byte[] hashed = OpenPgpSignature.hashedPart(EDDSA_KEY, OpenPgpSignature.SHA512, 0);
+    byte[] digest = bytes(0xAB, 0xCD, 0xEF);
+    byte[] r = bytes(0, 0, 0x01, 0x02);
+    byte[] s = new byte[32];
+    s[0] = (byte) 0x80;
+
+    byte[] packet = OpenPgpSignature.packet(EDDSA_KEY, hashed, digest, r, s);
+
+    byte[] body = concat(hashed,
+        bytes(0, 10, 9, 16), Hex.decode("98E401497A722722"),
+        bytes(0xAB, 0xCD),
+        bytes(0, 9, 0x01, 0x02),
+        bytes(1, 0), s);
+    assertArrayEquals(concat(bytes(0x88, body.length), body), packet);
+  }
+
+  @Test
+  void longPacketUsesTwoOctetLength() {
+    SigningKey rsaKey = new SigningKey(SigningKey.RSA, Hex.decode("ABCDEFABCDEFABCDEFABCDEFABCDEFAB12345678"),
+        "4444444444444444444444444444444444444444");
+    byte[] hashed = OpenPgpSignature.hashedPart(rsaKey, OpenPgpSignature.SHA512, 0);
+    byte[] s = new byte[384];
+    Arrays.fill(s, (byte) 0x7F);
+
+    byte[] packet = OpenPgpSignature.packet(rsaKey, hashed, new byte[64], s);
+
+    int bodyLength = packet.length - 3;
+    assertTrue(bodyLength >= 0x100);
+    assertEquals(0x89, packet[0] & 0xFF);
+    assertEquals(bodyLength, (packet[1] & 0xFF) << 8 | packet[2] & 0xFF);
+    // 3071 bits: the top bit of 0x7F is clear
+    assertArrayEquals(bytes(0x0B, 0xFF), Arrays.copyOfRange(packet, packet.length - 386, packet.length - 384));
+  }
+
+  @Test
+  void armorEncodesPacketAndChecksum() {
+    byte[] packet = new byte[100];
+    for (int i = 0; i < packet.length; i++) {
+      packet[i] = (byte) (i * 7);
+    }
+
+    String[] lines = new String(OpenPgpSignature.armor(packet), StandardCharsets.US_ASCII).split("\n");
+
+    assertEquals("-----BEGIN PGP SIGNATURE-----", lines[0]);
+    assertEquals("", lines[1]);
+    assertEquals(64, lines[2].length());
+    assertEquals(64, lines[3].length());
+    assertEquals(Base64.getEncoder().encodeToString(packet), lines[2] + lines[3] + lines[4]);
+    int crc = OpenPgpSignature.crc24(packet);
+    assertEquals("=" + Base64.getEncoder().encodeToString(bytes(crc >>> 16, crc >>> 8, crc)), lines[5]);
+    assertEquals("-----END PGP SIGNATURE-----", lines[6]);
+    assertEquals(7, lines.length);
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.agent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SigningKeyTest {
+
+  private static final String PRIMARY =
+      "sec:u:255:22:98E401497A722722:1792369285:::u:::scSC:::+::ed25519:::0:\n"
+          + "fpr:::::::::43FED2F6F8DAF56567DE250998E401497A722722:\n"
+          + "grp:::::::::AE1F0314813B2F3BD57FD899B8B48672F9B01A5C:\n"
+          + "uid:u::::1792369285::DBF04930FF28EDA7CFDF3111EBF197D97497441D::Fixture <f@example.com>::::::::::0:\n";
+
+  private static final String ENCRYPTION_SUBKEY =
+      "ssb:u:255:18:5D4C3B2A19080706:1792369300::::::e:::+::cv25519::\n"
+          + "fpr:::::::::0102030405060708090A0B0C0D0E0F105D4C3B2A19080706:\n"
+          + "grp:::::::::1111111111111111111111111111111111111111:\n";
+
+  private static final String SIGNING_SUBKEY =
+      "ssb:u:255:22:A63E88A145804922:1792369400::::::s:::+::ed25519::\n"
+          + "fpr:::::::::841D3F22E948E83D93F8BC96A63E88A145804922:\n"
+          + "grp:::::::::2ABDECCE72310D37CD1420E2504B0ABE022426B2:\n";
+
+  private static final String NEWER_SIGNING_SUBKEY =
+      "ssb:u:3072:1:0A0B0C0D0E0F1011:1792369500::::::s:::+::rsa3072::\n"
+          + "fpr:::::::::FFEEDDCCBBAA99887766554433221100" + "0A0B0C0D0E0F1011:\n"
+          + "grp:::::::::3333333333333333333333333333333333333333:\n";
+
+  private static final String SECOND_KEY =
+      "sec:u:3072:1:1234567812345678:1792369600:::u:::scSC:::+::rsa3072:::0:\n"
+          + "fpr:::::::::ABCDEFABCDEFABCDEFABCDEFABCDEFAB12345678:\n"
+          + "grp:::::::::4444444444444444444444444444444444444444:\n";
+
+  @Test
+  void primaryKeySignsWithoutSigningSubkey() throws IOException {
+    SigningKey key = SigningKey.parse(PRIMARY + ENCRYPTION_SUBKEY);
+
+    assertEquals("43FED2F6F8DAF56567DE250998E401497A722722", key.getFingerprint());
+    assertEquals("AE1F0314813B2F3BD57FD899B8B48672F9B01A5C", key.getKeygrip());
+    assertEquals(SigningKey.EDDSA, key.getAlgorithm());
+    assertEquals("98E401497A722722", toHex(key.getKeyId()));
+  }
+
+  @Test
+  void newestSigningSubkeyIsPreferred() throws IOException {
+    SigningKey key = SigningKey.parse(PRIMARY + SIGNING_SUBKEY + NEWER_SIGNING_SUBKEY + ENCRYPTION_SUBKEY);
+
+    assertEquals("FFEEDDCCBBAA998877665544332211000A0B0C0D0E0F1011", key.getFingerprint());
+    assertEquals(SigningKey.RSA, key.getAlgorithm());
+  }
+
+  @Test
+  void revokedAndExpiredSubkeysAreSkipped() throws IOException {
+    String listing = PRIMARY + SIGNING_SUBKEY
+        + NEWER_SIGNING_SUBKEY.replace("ssb:u:", "ssb:r:")
+        + NEWER_SIGNING_SUBKEY.replace("ssb:u:", "ssb:e:").replace("1792369500", "1792369600");
+
+    assertEquals("841D3F22E948E83D93F8BC96A63E88A145804922", SigningKey.parse(listing).getFingerprint());
+  }
+
+  @Test
+  void keysAfterTheFirstAreIgnored() throws IOException {
+    assertEquals("43FED2F6F8DAF56567DE250998E401497A722722",
+        SigningKey.parse(PRIMARY + SECOND_KEY).getFingerprint());
+  }
+
+  @Test
+  void listingWithoutUsableKeyIsRejected() {
+    String revoked = PRIMARY.replace("sec:u:", "sec:r:") + ENCRYPTION_SUBKEY;
+
+    IOException e = assertThrows(IOException.class, () -> SigningKey.parse(revoked));
+    assertEquals("No secret key that can sign was found", e.getMessage());
+    assertThrows(IOException.class, () -> SigningKey.parse(""));
+  }
+
+  @Test
+  void agentSigningSupportsTheSignatureAlgorithms() throws IOException {
+    assertTrue(SigningKey.parse(PRIMARY).isAgentSigningSupported());
+    assertFalse(SigningKey.parse(PRIMARY.replace("sec:u:255:22:", "sec:u:255:27:")).isAgentSigningSupported());
+  }
+
+  @Test
+  void homeIsReadFromVersionOutput() {
+    String version = "gpg (GnuPG) 2.2.40\nlibgcrypt 1.10.1\nHome: /home/user/.gnupg\nSupported algorithms:\n";
+
+    assertEquals("/home/user/.gnupg", SigningKey.parseHome(version));
+    assertNull(SigningKey.parseHome("gpg (GnuPG) 2.2.40\n"));
+  }
+
+  @Test
+  void defaultKeysAreReadInOrder() {
+    String gpgConf = "# default-key commented\nkeyserver hkps://keys.openpgp.org\n"
+        + "default-key 43FED2F6F8DAF56567DE250998E401497A722722\n"
+        + "  default-key   release@example.com  \r\n";
+
+    assertEquals(Arrays.asList("43FED2F6F8DAF56567DE250998E401497A722722", "release@example.com"),
+        SigningKey.parseDefaultKeys(gpgConf));
+    assertEquals(Collections.emptyList(), SigningKey.parseDefaultKeys("use-agent\n"));
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02X", b));
+    }
+    return hex.toString();
+  }
+}
@@ -0,0 +1,231 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RawZipWriterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void copiedEntriesReadBackWithZipFile() throws IOException {
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    contents.put("com/example/a/1.0/a-1.0.pom", "<project/>".getBytes(StandardCharsets.UTF_8));
+    contents.put("com/example/a/1.0/a-1.0.jar", randomBytes(200_000, 1));
+    contents.put("com/example/a/1.0/a-1.0.jar.md5", "0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    contents.put("com/example/a/1.0/empty.txt", new byte[0]);
+    File source = writeZip("source.zip", contents, "com/example/a/1.0/a-1.0.jar.md5");
+
+    File target = directory.resolve("target.zip").toFile();
+    try (RawZipReader reader = new RawZipReader(source); RawZipWriter writer = new RawZipWriter(target)) {
+      for (RawZipEntry entry : reader.getEntries()) {
+        writer.copyEntry(reader, entry);
+      }
+      assertEquals(contents.size(), writer.getEntryCount());
+    }
+
+    assertZipContents(contents, target);
+  }
+
+  @Test
+  void readerReportsCentralDirectoryOfZipOutputStream() throws IOException {
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    contents.put("a.txt", "hello".getBytes(StandardCharsets.UTF_8));
+    contents.put("b.bin", randomBytes(70_000, 2));
+    File source = writeZip("source.zip", contents);
+
+    try (RawZipReader reader = new RawZipReader(source)) {
+      List<RawZipEntry> entries = reader.getEntries();
+      assertEquals(List.of("a.txt", "b.bin"), names(entries));
+      for (RawZipEntry entry : entries) {
+        byte[] content = contents.get(entry.getName());
+        assertEquals(crc(content), entry.getCrc());
+        assertEquals(content.length, entry.getUncompressedSize());
+      }
+    }
+  }
+
+  @Test
+  void entriesOfSeveralSourcesAreCombined() throws IOException {
+    Map<String, byte[]> first = new LinkedHashMap<>();
+    first.put("com/example/a/1.0/a-1.0.pom", randomBytes(1000, 3));
+    Map<String, byte[]> second = new LinkedHashMap<>();
+    second.put("com/example/b/1.0/b-1.0.pom", randomBytes(1000, 4));
+    second.put("com/example/b/1.0/b-1.0.jar", randomBytes(50_000, 5));
+
+    File target = directory.resolve("merged.zip").toFile();
+    new BundleMerger().merge(List.of(writeZip("first.zip", first), writeZip("second.zip", second)), target);
+
+    Map<String, byte[]> expected = new LinkedHashMap<>(first);
+    expected.putAll(second);
+    assertZipContents(expected, target);
+  }
+
+  @Test
+  void mergePastTheEntryCountLimitWritesZip64() throws IOException {
+    // ZipOutputStream writes the first shard with ZIP64 end records already
+    Map<String, byte[]> first = new LinkedHashMap<>();
+    for (int i = 0; i < 70_000; i++) {
+      first.put("com/example/a/1.0/file-" + i + ".txt", ("a" + i).getBytes(StandardCharsets.UTF_8));
+    }
+    Map<String, byte[]> second = new LinkedHashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      second.put("com/example/b/1.0/file-" + i + ".txt", ("b" + i).getBytes(StandardCharsets.UTF_8));
+    }
+    File firstShard = writeZip("first.zip", first);
+    try (RawZipReader reader = new RawZipReader(firstShard)) {
+      assertEquals(first.size(), reader.getEntries().size());
+    }
+
+    File target = directory.resolve("merged.zip").toFile();
+    assertEquals(80_000, new BundleMerger().merge(List.of(firstShard, writeZip("second.zip", second)), target));
+
+    Map<String, byte[]> expected = new LinkedHashMap<>(first);
+    expected.putAll(second);
+    assertZipContents(expected, target);
+    try (RawZipReader reader = new RawZipReader(target)) {
+      assertEquals(new ArrayList<>(expected.keySet()), names(reader.getEntries()));
+    }
+  }
+
+  @Test
+  void emptyWriterWritesValidZip() throws IOException {
+    File target = directory.resolve("empty.zip").toFile();
+    new RawZipWriter(target).close();
+
+    try (ZipFile zip = new ZipFile(target)) {
+      assertEquals(0, zip.size());
+    }
+    try (RawZipReader reader = new RawZipReader(target)) {
+      assertTrue(reader.getEntries().isEmpty());
+    }
+  }
+
+  @Test
+  void duplicateEntryIsRejected() throws IOException {
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    contents.put("a.txt", "a".getBytes(StandardCharsets.UTF_8));
+    File source = writeZip("source.zip", contents);
+
+    File target = directory.resolve("target.zip").toFile();
+    try (RawZipReader reader = new RawZipReader(source); RawZipWriter writer = new RawZipWriter(target)) {
+      RawZipEntry entry = reader.getEntries().get(0);
+      writer.copyEntry(reader, entry);
+      IOException e = assertThrows(IOException.class, () -> writer.copyEntry(reader, entry));
+      assertTrue(e.getMessage().startsWith("Duplicate entry a.txt"), e.getMessage());
+    }
+  }
+
+  @Test
+  void readerRejectsFileWithoutCentralDirectory() throws IOException {
+    File file = directory.resolve("not-a-zip.zip").toFile();
+    Files.write(file.toPath(), randomBytes(100, 6));
+
+    IOException e = assertThrows(IOException.class, () -> new RawZipReader(file));
+    assertTrue(e.getMessage().startsWith("Not a ZIP file"), e.getMessage());
+  }
+
+  static void assertZipContents(Map<String, byte[]> expected, File file) throws IOException {
+    try (ZipFile zip = new ZipFile(file)) {
+      List<String> names = new ArrayList<>();
+      Enumeration<? extends ZipEntry> entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry entry = entries.nextElement();
+        names.add(entry.getName());
+        byte[] content;
+        try (InputStream in = zip.getInputStream(entry)) {
+          content = in.readAllBytes();
+        }
+        assertArrayEquals(expected.get(entry.getName()), content, entry.getName());
+        assertEquals(crc(content), entry.getCrc(), entry.getName());
+      }
+      assertEquals(new ArrayList<>(expected.keySet()), names);
+    }
+  }
+
+  static byte[] randomBytes(int length, long seed) {
+    byte[] bytes = new byte[length];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+
+  static long crc(byte[] content) {
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    return crc.getValue();
+  }
+
+  private static List<String> names(List<RawZipEntry> entries) {
+    List<String> names = new ArrayList<>();
+    for (RawZipEntry entry : entries) {
+      names.add(entry.getName());
+    }
+    return names;
+  }
+
+  /**
+   * Writes a ZIP file with {@link ZipOutputStream}: deflated entries with data descriptors, and the given
+   * entries stored.
+   */
+  private File writeZip(String name, Map<String, byte[]> contents, String... stored) throws IOException {
+    File file = directory.resolve(name).toFile();
+    List<String> storedNames = List.of(stored);
+    try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(file))) {
+      for (Map.Entry<String, byte[]> content : contents.entrySet()) {
+        ZipEntry entry = new ZipEntry(content.getKey());
+        if (storedNames.contains(content.getKey())) {
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(content.getValue().length);
+          entry.setCrc(crc(content.getValue()));
+        }
+        zos.putNextEntry(entry);
+        zos.write(content.getValue());
+        zos.closeEntry();
+      }
+    }
+    return file;
+  }
+}
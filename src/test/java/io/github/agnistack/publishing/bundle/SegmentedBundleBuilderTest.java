@@ -0,0 +1,223 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.bundle;
+
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.ArtifactFile.ArtifactType;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.agnistack.publishing.bundle.RawZipWriterTest.assertZipContents;
+import static io.github.agnistack.publishing.bundle.RawZipWriterTest.randomBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentedBundleBuilderTest {
+
+  private static final MavenCoordinates A = new MavenCoordinates("com.example", "a", "1.0");
+  private static final MavenCoordinates B = new MavenCoordinates("com.example", "b", "1.0");
+  private static final MavenCoordinates C = new MavenCoordinates("com.example", "c", "1.0");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void cachedSegmentsAreSplicedIntoLaterBundles() throws IOException {
+    BundleSegmentCache cache = new BundleSegmentCache(directory.resolve("segments").toFile(), "salt");
+    Map<String, byte[]> a = project(A, 1);
+    Map<String, byte[]> b = project(B, 2);
+    Map<String, byte[]> c = project(C, 3);
+
+    File first = directory.resolve("first.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(first, cache)) {
+      writeSegment(builder, "a", A, a);
+      writeSegment(builder, "b", B, b);
+    }
+    assertZipContents(concat(a, b), first);
+    assertNotNull(cache.find("a"));
+    assertNotNull(cache.find("b"));
+
+    // b is added unchanged from the cache, c is new; the spliced entries keep their order, content and CRC
+    File second = directory.resolve("second.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(second, cache)) {
+      builder.addSegment("b");
+      writeSegment(builder, "c", C, c);
+    }
+    assertZipContents(concat(b, c), second);
+  }
+
+  @Test
+  void splicedBundleMatchesDirectlyWrittenBundle() throws IOException {
+    BundleSegmentCache cache = new BundleSegmentCache(directory.resolve("segments").toFile(), "salt");
+    Map<String, byte[]> a = project(A, 4);
+    Map<String, byte[]> b = project(B, 5);
+
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(directory.resolve("warm.zip").toFile(),
+        cache)) {
+      writeSegment(builder, "a", A, a);
+      writeSegment(builder, "b", B, b);
+    }
+    File spliced = directory.resolve("spliced.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(spliced, cache)) {
+      builder.addSegment("a");
+      builder.addSegment("b");
+    }
+
+    File direct = directory.resolve("direct.zip").toFile();
+    try (ZipBundleBuilder builder = new ZipBundleBuilder(direct)) {
+      addAll(builder, A, a);
+      addAll(builder, B, b);
+    }
+
+    try (RawZipReader splicedReader = new RawZipReader(spliced);
+         RawZipReader directReader = new RawZipReader(direct)) {
+      List<RawZipEntry> splicedEntries = splicedReader.getEntries();
+      List<RawZipEntry> directEntries = directReader.getEntries();
+      assertEquals(directEntries.size(), splicedEntries.size());
+      for (int i = 0; i < directEntries.size(); i++) {
+        assertEquals(directEntries.get(i).getName(), splicedEntries.get(i).getName());
+        assertEquals(directEntries.get(i).getCrc(), splicedEntries.get(i).getCrc());
+        assertEquals(directEntries.get(i).getUncompressedSize(), splicedEntries.get(i).getUncompressedSize());
+      }
+    }
+    assertZipContents(concat(a, b), spliced);
+  }
+
+  @Test
+  void bundlePastTheEntryCountLimitIsStitchedWithZip64() throws IOException {
+    BundleSegmentCache cache = new BundleSegmentCache(directory.resolve("segments").toFile(), "salt");
+    Map<String, byte[]> expected = new LinkedHashMap<>();
+    File first = directory.resolve("first.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(first, cache)) {
+      for (int i = 0; i < 1_100; i++) {
+        MavenCoordinates coordinates = new MavenCoordinates("com.example", "p" + i, "1.0");
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        String base = coordinates.getRepositoryPath() + coordinates.getBaseFileName();
+        for (int j = 0; j < 60; j++) {
+          files.put(base + "-" + j + ".txt", (i + "-" + j).getBytes(StandardCharsets.UTF_8));
+        }
+        writeSegment(builder, "p" + i, coordinates, files);
+        expected.putAll(files);
+      }
+    }
+    assertEquals(66_000, expected.size());
+    try (RawZipReader reader = new RawZipReader(first)) {
+      assertEquals(expected.size(), reader.getEntries().size());
+    }
+
+    File second = directory.resolve("second.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(second, cache)) {
+      for (int i = 0; i < 1_100; i++) {
+        builder.addSegment("p" + i);
+      }
+    }
+    assertZipContents(expected, second);
+  }
+
+  @Test
+  void unfinishedSegmentIsNotStored() throws IOException {
+    BundleSegmentCache cache = new BundleSegmentCache(directory.resolve("segments").toFile(), "salt");
+    Map<String, byte[]> a = project(A, 6);
+
+    File bundle = directory.resolve("bundle.zip").toFile();
+    try (SegmentedBundleBuilder builder = new SegmentedBundleBuilder(bundle, cache)) {
+      writeSegment(builder, "a", A, a);
+      builder.startSegment("b");
+      builder.addContent(randomBytes(10, 7), B, B.getBaseFileName() + ".pom");
+    }
+
+    assertNull(cache.find("b"));
+    assertZipContents(a, bundle);
+    assertEquals(List.of("a.zip"), List.of(cache.getDirectory().list()));
+  }
+
+  @Test
+  void missingSegmentFailsTheBundle() {
+    BundleSegmentCache cache = new BundleSegmentCache(directory.resolve("segments").toFile(), "salt");
+    SegmentedBundleBuilder builder = new SegmentedBundleBuilder(directory.resolve("bundle.zip").toFile(), cache);
+
+    assertThrows(IOException.class, () -> builder.addSegment("gone"));
+  }
+
+  @Test
+  void keyChangesWithSaltAndFiles() throws IOException {
+    File pom = directory.resolve("a-1.0.pom").toFile();
+    Files.write(pom.toPath(), "<project/>".getBytes(StandardCharsets.UTF_8));
+    List<ArtifactFile> artifacts = List.of(new ArtifactFile(pom, "a-1.0.pom", ArtifactType.POM));
+    File segments = directory.resolve("segments").toFile();
+
+    String key = new BundleSegmentCache(segments, "salt").key(A, artifacts, List.of(pom));
+    assertEquals(key, new BundleSegmentCache(segments, "salt").key(A, artifacts, List.of(pom)));
+    assertNotEquals(key, new BundleSegmentCache(segments, "other").key(A, artifacts, List.of(pom)));
+    assertNotEquals(key, new BundleSegmentCache(segments, "salt").key(B, artifacts, List.of(pom)));
+
+    Files.write(pom.toPath(), "<project></project>".getBytes(StandardCharsets.UTF_8));
+    assertNotEquals(key, new BundleSegmentCache(segments, "salt").key(A, artifacts, List.of(pom)));
+  }
+
+  /**
+   * Returns the bundle entries of a project, keyed by repository path.
+   */
+  private static Map<String, byte[]> project(MavenCoordinates coordinates, long seed) {
+    String base = coordinates.getRepositoryPath() + coordinates.getBaseFileName();
+    Map<String, byte[]> files = new LinkedHashMap<>();
+    files.put(base + ".pom", randomBytes(2_000, seed));
+    files.put(base + ".pom.md5", randomBytes(32, seed + 100));
+    files.put(base + ".jar", randomBytes(100_000, seed + 200));
+    return files;
+  }
+
+  private static void writeSegment(SegmentedBundleBuilder builder, String key, MavenCoordinates coordinates,
+                                   Map<String, byte[]> files) throws IOException {
+    builder.startSegment(key);
+    addAll(builder, coordinates, files);
+    builder.finishSegment();
+  }
+
+  private static void addAll(BundleBuilder builder, MavenCoordinates coordinates, Map<String, byte[]> files)
+      throws IOException {
+    for (Map.Entry<String, byte[]> file : files.entrySet()) {
+      String fileName = file.getKey().substring(coordinates.getRepositoryPath().length());
+      builder.addContent(file.getValue(), coordinates, fileName);
+    }
+  }
+
+  @SafeVarargs
+  private static Map<String, byte[]> concat(Map<String, byte[]>... projects) {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    for (Map<String, byte[]> project : projects) {
+      entries.putAll(project);
+    }
+    return entries;
+  }
+}
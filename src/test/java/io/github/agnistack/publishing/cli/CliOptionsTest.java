@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CliOptionsTest {
+
+  private static final Map<String, String> NO_ENVIRONMENT = Collections.emptyMap();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void valuesAreReadAfterTheNameOrAfterAnEqualsSign() {
+    CliOptions options = CliOptions.parse(new String[]{"--directory", "repo", "--projects=a,b", "--output=",
+        "--deployment-name=name=with=equals"}, NO_ENVIRONMENT);
+
+    assertEquals("repo", options.require("directory"));
+    assertEquals(Arrays.asList("a", "b"), options.getList("projects"));
+    assertEquals("bundle.zip", options.get("output", "bundle.zip"), "an empty value falls back to the default");
+    assertEquals("name=with=equals", options.get("deployment-name", null));
+  }
+
+  @Test
+  void switchesTakeNoValue() {
+    CliOptions options = CliOptions.parse(new String[]{"--auto-publish", "--directory", "repo",
+        "--skip-sign=false"}, NO_ENVIRONMENT);
+
+    assertTrue(options.is("auto-publish"));
+    assertFalse(options.is("skip-sign"));
+    assertFalse(options.is("verbose"));
+    assertEquals("repo", options.require("directory"));
+  }
+
+  @Test
+  void invalidCommandLinesAreRejected() {
+    assertEquals("Unknown option: --unknown", assertThrows(IllegalArgumentException.class,
+        () -> CliOptions.parse(new String[]{"--unknown"}, NO_ENVIRONMENT)).getMessage());
+    assertEquals("Unexpected argument: repo", assertThrows(IllegalArgumentException.class,
+        () -> CliOptions.parse(new String[]{"repo"}, NO_ENVIRONMENT)).getMessage());
+    assertEquals("Missing value for --directory", assertThrows(IllegalArgumentException.class,
+        () -> CliOptions.parse(new String[]{"--directory"}, NO_ENVIRONMENT)).getMessage());
+
+    CliOptions options = CliOptions.parse(new String[]{"--threads", "many"}, NO_ENVIRONMENT);
+    assertEquals("--threads must be a number: many", assertThrows(IllegalArgumentException.class,
+        () -> options.getInt("threads", 1)).getMessage());
+    assertEquals("Missing required option --projects (or CENTRAL_PUBLISHING_PROJECTS)",
+        assertThrows(IllegalArgumentException.class, () -> options.getList("projects")).getMessage());
+  }
+
+  @Test
+  void theEnvironmentFillsInOptionsMissingFromTheCommandLine() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("CENTRAL_PUBLISHING_WAIT_MAX_TIME", "60");
+    environment.put("CENTRAL_PUBLISHING_DIRECTORY", "from-environment");
+    environment.put("MAVEN_GPG_PASSPHRASE", "secret");
+
+    CliOptions options = CliOptions.parse(new String[]{"--directory", "repo"}, environment);
+
+    assertEquals("repo", options.require("directory"));
+    assertEquals(60, options.getInt("wait-max-time", 1800));
+    assertEquals(5, options.getInt("wait-polling-interval", 5));
+    assertEquals("secret", options.getGpgPassphrase());
+    assertEquals("other", CliOptions.parse(new String[]{"--gpg-passphrase", "other"}, environment)
+        .getGpgPassphrase());
+  }
+
+  @Test
+  void credentialsFallBackToTheSettingsServer() throws IOException {
+    Path settings = Files.write(directory.resolve("settings.xml"), ("<settings><servers>"
+        + "<server><id>other</id><username>wrong</username><password>wrong</password></server>"
+        + "<server><id>central</id><username>token</username><password>${env.TOKEN}</password></server>"
+        + "</servers></settings>").getBytes(StandardCharsets.UTF_8));
+    Map<String, String> environment = Collections.singletonMap("TOKEN", "from-environment");
+
+    assertArrayEquals(new String[]{"token", "from-environment"}, CliOptions.parse(
+        new String[]{"--settings", settings.toString()}, environment).getCredentials());
+    assertArrayEquals(new String[]{"user", "from-environment"}, CliOptions.parse(
+        new String[]{"--settings", settings.toString(), "--username", "user"}, environment).getCredentials());
+    assertArrayEquals(new String[]{"wrong", "wrong"}, CliOptions.parse(
+        new String[]{"--settings", settings.toString(), "--server-id", "other"}, environment).getCredentials());
+    assertNull(CliOptions.readServer(settings.toFile(), "missing", environment));
+  }
+
+  @Test
+  void usageListsEveryOption() {
+    String usage = CliOptions.usage();
+
+    assertTrue(usage.contains("--directory <value>"), usage);
+    assertTrue(usage.contains("--auto-publish "), usage);
+    assertFalse(usage.contains("--auto-publish <value>"), usage);
+    assertTrue(usage.contains("CENTRAL_PUBLISHING_PASSWORD"), usage);
+  }
+}
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Exercises the virtual thread executor of the multi-release jar, which is only loaded from the packaged jar
+ * on Java 21 and later.
+ */
+class BoundedVirtualThreadExecutorIT {
+
+  private ExecutorService executor;
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch interrupted = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void createExecutor() {
+    assumeTrue(PublishingExecutors.supportsVirtualThreads(), "virtual threads need Java 21");
+    executor = PublishingExecutors.newIoExecutor("test", 1, true);
+  }
+
+  @AfterEach
+  void shutDown() throws InterruptedException {
+    release.countDown();
+    if (executor != null) {
+      executor.shutdownNow();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void shutdownNowCancelsAndReturnsTasksWaitingForAPermit() throws Exception {
+    Future<?> running = executor.submit(this::holdPermit);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    Future<String> waiting = executor.submit(() -> "never runs");
+
+    List<Runnable> notStarted = executor.shutdownNow();
+
+    assertEquals(List.of(waiting), notStarted);
+    assertTrue(waiting.isCancelled());
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    release.countDown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(running.isDone());
+  }
+
+  @Test
+  void completionStepInterruptedWhileWaitingForAPermitStillCompletes() throws Exception {
+    executor.execute(this::holdPermit);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(
+        () -> Thread.currentThread().isInterrupted(), executor);
+
+    assertEquals(List.of(), executor.shutdownNow());
+
+    // The first task still holds the only permit, so the step can only complete through the interrupt
+    assertTrue(waiting.get(10, TimeUnit.SECONDS), "the step should see the interrupt");
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void tasksRunOneAtATimeWithASinglePermit() throws Exception {
+    executor.execute(this::holdPermit);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    Future<String> waiting = executor.submit(() -> "ran");
+
+    Thread.sleep(200);
+    assertFalse(waiting.isDone(), "the second task should wait for the permit");
+
+    executor.shutdown();
+    assertEquals(List.of(waiting), executor.shutdownNow());
+  }
+
+  private void holdPermit() {
+    started.countDown();
+    try {
+      Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      awaitRelease();
+    }
+  }
+
+  /**
+   * Keeps the permit after the interrupt until the test lets go of it.
+   */
+  private void awaitRelease() {
+    while (true) {
+      try {
+        release.await();
+        return;
+      } catch (InterruptedException e) {
+        // Keep waiting
+      }
+    }
+  }
+}
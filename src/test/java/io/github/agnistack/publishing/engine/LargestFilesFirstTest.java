@@ -0,0 +1,218 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.engine.ProjectFailedException.Phase;
+import io.github.agnistack.publishing.model.BundleEntry;
+import io.github.agnistack.publishing.model.PreparedArtifact;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LargestFilesFirstTest {
+
+  @TempDir
+  Path directory;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+  private final List<PreparationProgress> progress = Collections.synchronizedList(new ArrayList<>());
+  private String failingFile;
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void filesArePreparedLargestFirstAcrossProjects() throws IOException {
+    List<File> pomFiles = Arrays.asList(project("a", 300, 200), project("b", 1000, 500));
+
+    List<PreparedArtifact> artifacts = prepareAll(FailureMode.FAIL_FAST, pomFiles);
+
+    // The POMs are the same size, so they keep the project order
+    assertEquals(Arrays.asList("b/b-1.0.jar", "b/b-1.0-sources.jar", "a/a-1.0.jar", "a/a-1.0-sources.jar",
+        "a/pom.xml", "b/pom.xml"), processed);
+    for (PreparedArtifact artifact : artifacts) {
+      String base = artifact.getCoordinates().getBaseFileName();
+      assertEquals(Arrays.asList(base + ".pom", base + ".jar", base + "-sources.jar"), bundledFiles(artifact));
+    }
+  }
+
+  @Test
+  void progressCountsFilesAndBytesUpToTheTotal() throws IOException, InterruptedException {
+    List<File> pomFiles = Arrays.asList(project("a", 300, 200), project("b", 1000, 500));
+    long totalBytes = 2000 + pomFiles.get(0).length() + pomFiles.get(1).length();
+
+    prepareAll(FailureMode.FAIL_FAST, pomFiles);
+    awaitWorkers();
+
+    assertEquals(6, progress.size());
+    for (int i = 0; i < progress.size(); i++) {
+      assertEquals(i + 1, progress.get(i).getFilesPrepared());
+      assertEquals(6, progress.get(i).getFileCount());
+      assertEquals(totalBytes, progress.get(i).getTotalBytes());
+    }
+    assertEquals(Arrays.asList(1000L, 1500L, 1800L, 2000L), progress.subList(0, 4).stream()
+        .map(PreparationProgress::getBytesPrepared).collect(Collectors.toList()));
+    PreparationProgress last = progress.get(progress.size() - 1);
+    assertEquals(totalBytes, last.getBytesPrepared());
+    assertEquals(0, last.getRemainingMillis());
+  }
+
+  @Test
+  void filesOfAFailedProjectAreTakenOutOfTheTotals() throws IOException, InterruptedException {
+    List<File> pomFiles = Arrays.asList(project("a", 300, 200), project("b", 1000, 500));
+    failingFile = "b/b-1.0.jar";
+
+    List<CompletableFuture<PreparedArtifact>> results = engine(FailureMode.COLLECT).prepareAll(pomFiles);
+
+    ProjectFailedException failure = assertThrows(ProjectFailedException.class,
+        () -> PublishingEngine.await(results.get(1)));
+    assertEquals(Phase.PROCESS, failure.getPhase());
+    PublishingEngine.await(results.get(0));
+    awaitWorkers();
+    PreparationProgress last = progress.get(progress.size() - 1);
+    assertEquals(3, last.getFilesPrepared());
+    assertEquals(3, last.getFileCount());
+    assertEquals(500 + pomFiles.get(0).length(), last.getTotalBytes());
+    assertEquals(last.getTotalBytes(), last.getBytesPrepared());
+  }
+
+  @Test
+  void remainingTimeFollowsTheObservedThroughput() {
+    PreparationProgress halfway = new PreparationProgress(1, 4, 1000, 4000, 2000);
+
+    assertEquals(500, halfway.getThroughput(), 0.001);
+    assertEquals(6000, halfway.getRemainingMillis());
+    assertEquals("1 of 4 files, 1000 B of 3.9 KB, 500 B/s, ETA 6 s", halfway.toString());
+
+    assertEquals(-1, new PreparationProgress(0, 4, 0, 4000, 0).getRemainingMillis());
+    assertTrue(new PreparationProgress(0, 4, 0, 4000, 0).toString().endsWith("ETA unknown"));
+    assertEquals(0, new PreparationProgress(4, 4, 4000, 4000, 0).getRemainingMillis());
+    assertTrue(new PreparationProgress(1, 2, 1L << 20, 126L << 20, 1000).toString().endsWith("ETA 2 min 5 s"));
+  }
+
+  @Test
+  void bytesAreFormattedWithBinaryUnits() {
+    assertEquals("1023 B", PreparationProgress.formatBytes(1023));
+    assertEquals("1.0 KB", PreparationProgress.formatBytes(1024));
+    assertEquals("1.5 MB", PreparationProgress.formatBytes(3L << 19));
+    assertEquals("2.0 GB", PreparationProgress.formatBytes(2L << 30));
+  }
+
+  private List<PreparedArtifact> prepareAll(FailureMode failureMode, List<File> pomFiles) throws IOException {
+    List<PreparedArtifact> artifacts = new ArrayList<>();
+    for (CompletableFuture<PreparedArtifact> result : engine(failureMode).prepareAll(pomFiles)) {
+      artifacts.add(PublishingEngine.await(result));
+    }
+    return artifacts;
+  }
+
+  /**
+   * Waits until the workers are done, as progress is reported after a project completes.
+   */
+  private void awaitWorkers() throws InterruptedException {
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  private PublishingEngine engine(FailureMode failureMode) {
+    PublishingConfig config = new PublishingConfig()
+        .withArtifacts(true, true, false)
+        .withFailureMode(failureMode)
+        .withLargestFilesFirst(true)
+        .withConcurrency(1)
+        .withPreparationExecutor(executor)
+        .withPublishingExecutor(executor)
+        .withListener(new PublishingListener() {
+          @Override
+          public void filePrepared(PreparationProgress prepared) {
+            progress.add(prepared);
+          }
+        });
+    return new PublishingEngine(config, new DefaultPomParser(), new RecordingFileProcessor(), null);
+  }
+
+  private File project(String artifactId, int jarSize, int sourcesSize) throws IOException {
+    Path project = Files.createDirectories(directory.resolve(artifactId));
+    Files.write(project.resolve(artifactId + "-1.0.jar"), new byte[jarSize]);
+    Files.write(project.resolve(artifactId + "-1.0-sources.jar"), new byte[sourcesSize]);
+    return Files.write(project.resolve("pom.xml"), ("<project><modelVersion>4.0.0</modelVersion>"
+        + "<groupId>org.example</groupId><artifactId>" + artifactId + "</artifactId><version>1.0</version>"
+        + "</project>").getBytes(StandardCharsets.UTF_8)).toFile();
+  }
+
+  private static List<String> bundledFiles(PreparedArtifact artifact) {
+    return artifact.getEntries().stream()
+        .map(BundleEntry::getFileName)
+        .filter(name -> !name.endsWith(".md5") && !name.endsWith(".sha1"))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Records the order files are checksummed in, without signing them.
+   */
+  private final class RecordingFileProcessor implements FileProcessor {
+
+    @Override
+    public File signFile(File file) {
+      return null;
+    }
+
+    @Override
+    public String generateChecksum(File file, String algorithm) throws IOException {
+      String name = file.getParentFile().getName() + '/' + file.getName();
+      if (name.equals(failingFile)) {
+        throw new IOException("Cannot read " + name);
+      }
+      if ("MD5".equals(algorithm)) {
+        processed.add(name);
+      }
+      return "0";
+    }
+
+    @Override
+    public boolean isSigningEnabled() {
+      return false;
+    }
+  }
+}
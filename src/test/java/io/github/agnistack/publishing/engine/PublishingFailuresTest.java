@@ -0,0 +1,151 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.engine;
+
+import io.github.agnistack.publishing.bundle.InMemoryBundleBuilder;
+import io.github.agnistack.publishing.engine.ProjectFailedException.Phase;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.model.PreparedArtifact;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublishingFailuresTest {
+
+  @TempDir
+  Path directory;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void failFastFailsWithTheFirstProjectFailure() {
+    ProjectFailedException failure = failure("b", Phase.PARSE);
+
+    IOException thrown = assertThrows(IOException.class, () -> PublishingEngine.await(
+        engine(FailureMode.FAIL_FAST).bundle(Arrays.asList(prepared("a"), failed(failure), prepared("c")))));
+
+    assertSame(failure, thrown);
+  }
+
+  @Test
+  void collectListsEveryFailureInProjectOrder() {
+    ProjectFailedException first = failure("b", Phase.COLLECT);
+    ProjectFailedException second = failure("d", Phase.PROCESS);
+
+    PublishingFailuresException thrown = assertThrows(PublishingFailuresException.class, () -> PublishingEngine.await(
+        engine(FailureMode.COLLECT).bundle(Arrays.asList(prepared("a"), failed(first), prepared("c"),
+            failed(second)))));
+
+    assertEquals(Arrays.asList(first, second), thrown.getFailures());
+    assertArrayEquals(new Throwable[]{first, second}, thrown.getSuppressed());
+    assertTrue(thrown.getMessage().startsWith("2 of 4 project(s) failed:"), thrown.getMessage());
+    assertTrue(thrown.getMessage().contains("b [collect]: broken"), thrown.getMessage());
+    assertTrue(thrown.getMessage().contains("d [sign and checksum]: broken"), thrown.getMessage());
+  }
+
+  @Test
+  void failAtEndBundlesTheHealthyProjectsAndReportsTheFailures() throws IOException {
+    ProjectFailedException failure = failure("b", Phase.RESOLVE);
+
+    BuiltBundle bundle = PublishingEngine.await(engine(FailureMode.FAIL_AT_END)
+        .bundle(Arrays.asList(prepared("a"), failed(failure), prepared("c"))));
+
+    assertEquals(Collections.singletonList(failure), bundle.getFailures());
+  }
+
+  @Test
+  void failAtEndFailsWhenNoProjectIsLeft() {
+    ProjectFailedException first = failure("a", Phase.PARSE);
+    ProjectFailedException second = failure("b", Phase.PARSE);
+
+    PublishingFailuresException thrown = assertThrows(PublishingFailuresException.class, () -> PublishingEngine.await(
+        engine(FailureMode.FAIL_AT_END).bundle(Arrays.asList(failed(first), failed(second)))));
+
+    assertEquals(Arrays.asList(first, second), thrown.getFailures());
+    assertTrue(thrown.getMessage().startsWith("2 of 2 project(s) failed:"), thrown.getMessage());
+  }
+
+  @Test
+  void failuresOutsideAProjectStopTheBundleInEveryMode() {
+    for (FailureMode mode : FailureMode.values()) {
+      IOException failure = new IOException("disk full");
+
+      IOException thrown = assertThrows(IOException.class, () -> PublishingEngine.await(
+          engine(mode).bundle(Arrays.asList(prepared("a"), failed(failure), failed(failure("c", Phase.PARSE))))));
+
+      assertSame(failure, thrown, mode.name());
+    }
+  }
+
+  @Test
+  void prepareNamesTheProjectAndThePhaseThatFailed() {
+    File pomFile = directory.resolve("missing-project").resolve("pom.xml").toFile();
+
+    ProjectFailedException thrown = assertThrows(ProjectFailedException.class,
+        () -> PublishingEngine.await(engine(FailureMode.COLLECT).prepare(pomFile)));
+
+    assertEquals("missing-project", thrown.getProject());
+    assertEquals(Phase.PARSE, thrown.getPhase());
+    assertTrue(thrown.getMessage().startsWith("missing-project [parse]: "), thrown.getMessage());
+  }
+
+  private PublishingEngine engine(FailureMode failureMode) {
+    PublishingConfig config = new PublishingConfig()
+        .withFailureMode(failureMode)
+        .withInMemory(true)
+        .withPreparationExecutor(executor)
+        .withPublishingExecutor(executor);
+    return new PublishingEngine(config, new DefaultPomParser(), null, () -> new InMemoryBundleBuilder(1024));
+  }
+
+  private static ProjectFailedException failure(String project, Phase phase) {
+    return new ProjectFailedException(project, phase, "broken");
+  }
+
+  private static CompletableFuture<PreparedArtifact> prepared(String artifactId) {
+    return CompletableFuture.completedFuture(new PreparedArtifact(new MavenCoordinates("org.example", artifactId,
+        "1.0"), Collections.emptyList(), Collections.emptyList()));
+  }
+
+  private static CompletableFuture<PreparedArtifact> failed(Throwable failure) {
+    return CompletableFuture.failedFuture(failure);
+  }
+}
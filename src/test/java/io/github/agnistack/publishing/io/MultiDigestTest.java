@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiDigestTest {
+
+  private static final List<String> ALGORITHMS = Arrays.asList("MD5", "SHA-1", "SHA-256");
+  private static final int WINDOW = 4096;
+
+  @TempDir
+  Path directory;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void windowsSplitAtAnyOffsetGiveTheDigestsOfTheWholeFile() throws IOException {
+    for (int size : new int[]{1, WINDOW - 1, WINDOW, WINDOW + 1, 3 * WINDOW, 3 * WINDOW + 17}) {
+      byte[] content = randomBytes(size);
+      File file = write(content);
+      AtomicInteger tasks = new AtomicInteger();
+
+      Map<String, String> digests = MultiDigest.digest(file, ALGORITHMS, 1, runnable -> {
+        tasks.incrementAndGet();
+        executor.execute(runnable);
+      }, WINDOW);
+
+      assertEquals(expected(content), digests, "size " + size);
+      assertEquals(ALGORITHMS.size() - 1, tasks.get(), "size " + size);
+    }
+  }
+
+  @Test
+  void filesBelowTheThresholdOrWithoutAnExecutorAreStreamed() throws IOException {
+    byte[] content = randomBytes(2 * WINDOW + 5);
+    File file = write(content);
+    AtomicInteger tasks = new AtomicInteger();
+
+    assertEquals(expected(content), MultiDigest.digest(file, ALGORITHMS, content.length + 1, runnable -> {
+      tasks.incrementAndGet();
+      runnable.run();
+    }, WINDOW));
+    assertEquals(expected(content), MultiDigest.digest(file, ALGORITHMS, 1, null, WINDOW));
+    assertEquals(expected(content), MultiDigest.digest(file, ALGORITHMS, 0, executor));
+    assertEquals(expected(new byte[0]), MultiDigest.digest(write(new byte[0]), ALGORITHMS, 1, executor, WINDOW));
+    assertEquals(0, tasks.get());
+  }
+
+  @Test
+  void callingThreadRunsDigestsTheExecutorHasNotStarted() throws Exception {
+    byte[] content = randomBytes(5 * WINDOW + 3);
+    File file = write(content);
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // The only thread of the executor is busy, as when every publishing thread is hashing a large file
+      single.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      Future<Map<String, String>> digests = executor.submit(() -> MultiDigest.digest(file, ALGORITHMS, 1, single,
+          WINDOW));
+
+      assertEquals(expected(content), digests.get(10, TimeUnit.SECONDS));
+    } finally {
+      release.countDown();
+      single.shutdownNow();
+    }
+
+    // A shut down executor rejects the tasks
+    assertEquals(expected(content), MultiDigest.digest(file, ALGORITHMS, 1, single, WINDOW));
+  }
+
+  @Test
+  void unknownAlgorithmIsReported() throws IOException {
+    File file = write(randomBytes(10));
+
+    IOException e = assertThrows(IOException.class,
+        () -> MultiDigest.digest(file, Arrays.asList("MD5", "NOPE"), 1, executor, WINDOW));
+    assertTrue(e.getMessage().contains("NOPE"), e.getMessage());
+  }
+
+  private File write(byte[] content) throws IOException {
+    return Files.write(Files.createTempFile(directory, "content", ".bin"), content).toFile();
+  }
+
+  private static Map<String, String> expected(byte[] content) {
+    Map<String, String> digests = new LinkedHashMap<>();
+    for (String algorithm : ALGORITHMS) {
+      try {
+        digests.put(algorithm, Hex.encode(MessageDigest.getInstance(algorithm).digest(content)));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return digests;
+  }
+
+  private static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,71 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InterpolatorTest {
+
+  @Test
+  void expressionsAreReplacedWithKnownValues() {
+    Map<String, String> values = Map.of("project.version", "1.0", "suffix", "final");
+
+    assertEquals("app-1.0-final", Interpolator.interpolate("app-${project.version}-${ suffix }", values));
+    assertEquals("plain", Interpolator.interpolate("plain", values));
+    assertNull(Interpolator.interpolate(null, values));
+  }
+
+  @Test
+  void valuesMayContainExpressions() {
+    Map<String, String> values = Map.of("revision", "${major}.${minor}", "major", "2", "minor", "${patch}",
+        "patch", "7");
+
+    assertEquals("2.7", Interpolator.interpolate("${revision}", values));
+  }
+
+  @Test
+  void unknownExpressionsAreKept() {
+    assertEquals("${unknown}-1.0", Interpolator.interpolate("${unknown}-${v}", Map.of("v", "1.0")));
+    assertEquals("${", Interpolator.interpolate("${", Map.of()));
+  }
+
+  @Test
+  void selfReferenceStopsAfterTheMaximumNumberOfPasses() {
+    assertEquals("${loop}", Interpolator.interpolate("${loop}", Map.of("loop", "${loop}")));
+    assertEquals("a".repeat(10) + "${grow}", Interpolator.interpolate("${grow}", Map.of("grow", "a${grow}")));
+  }
+
+  @Test
+  void replacementsAreLiteral() {
+    assertEquals("C:\\$1", Interpolator.interpolate("${path}", Map.of("path", "C:\\$1")));
+  }
+
+  @Test
+  void firstExpressionIsFound() {
+    assertEquals("${b}", Interpolator.findExpression("a-${b}-${c}"));
+    assertNull(Interpolator.findExpression("a-b"));
+    assertNull(Interpolator.findExpression("${}"));
+  }
+}
@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.parser;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resolves a small tree: {@code pom.xml}, its module {@code parent/pom.xml} and the modules {@code parent/child}
+ * and {@code parent/sibling} of that.
+ */
+class ResolvingPomParserTest {
+
+  @TempDir
+  Path root;
+
+  private File child;
+  private File sibling;
+
+  @BeforeEach
+  void writeTree() throws IOException {
+    write("pom.xml", "<groupId>org.example</groupId><artifactId>root</artifactId><version>${revision}</version>"
+        + "<properties><revision>1.0</revision><lib.version>2.0</lib.version></properties>");
+    write("parent/pom.xml", parent("root", null) + "<artifactId>parent</artifactId>"
+        + "<properties><suffix>core</suffix><lib.version>2.1</lib.version></properties>");
+    child = write("parent/child/pom.xml", parent("parent", null) + "<artifactId>child-${suffix}</artifactId>");
+    sibling = write("parent/sibling/pom.xml", parent("parent", null) + "<artifactId>sibling</artifactId>"
+        + "<version>${project.parent.version}-${lib.version}</version>");
+  }
+
+  @Test
+  void coordinatesAreInheritedThroughTheParentChain() throws IOException {
+    ResolvingPomParser parser = new ResolvingPomParser();
+
+    assertEquals(new MavenCoordinates("org.example", "child-core", "1.0"), parser.parse(child));
+    assertEquals(new MavenCoordinates("org.example", "sibling", "1.0-2.1"), parser.parse(sibling));
+    assertEquals(List.of(child.getCanonicalFile(), root.resolve("parent/pom.xml").toFile().getCanonicalFile(),
+        root.resolve("pom.xml").toFile().getCanonicalFile()), parser.getSourceFiles(child));
+
+    Map<String, String> properties = parser.getProperties(child);
+    assertEquals("2.1", properties.get("lib.version"));
+    assertEquals("parent", properties.get("project.parent.artifactId"));
+    assertEquals("1.0", properties.get("project.parent.version"));
+  }
+
+  @Test
+  void userPropertiesTakePrecedenceOverPomAndProjectProperties() throws IOException {
+    Properties userProperties = new Properties();
+    userProperties.setProperty("revision", "3.0");
+    userProperties.setProperty("project.groupId", "org.override");
+    ResolvingPomParser parser = new ResolvingPomParser(userProperties, null);
+
+    assertEquals(new MavenCoordinates("org.example", "child-core", "3.0"), parser.parse(child));
+    assertEquals("org.override", parser.getProperties(child).get("project.groupId"));
+    assertNotEquals(new ResolvingPomParser().getCacheNamespace(), parser.getCacheNamespace());
+  }
+
+  @Test
+  void pomsAreParsedOncePerCanonicalPathAndContent() throws IOException {
+    ResolvingPomParser parser = new ResolvingPomParser();
+
+    parser.parse(child);
+    assertEquals(3, parser.getParsedPomCount());
+    parser.parse(child);
+    parser.parse(root.resolve("parent/../parent/child/pom.xml").toFile());
+    assertEquals(3, parser.getParsedPomCount());
+
+    // The shared parents are not parsed again for another module
+    parser.parse(sibling);
+    assertEquals(4, parser.getParsedPomCount());
+
+    // Changed content is a different POM
+    write("parent/child/pom.xml", parent("parent", null) + "<artifactId>child</artifactId><version>1.1</version>");
+    assertEquals(new MavenCoordinates("org.example", "child", "1.1"), parser.parse(child));
+    assertEquals(5, parser.getParsedPomCount());
+  }
+
+  @Test
+  void unresolvedExpressionsAreRejected() throws IOException {
+    File unresolved = write("parent/unresolved/pom.xml", parent("parent", null)
+        + "<artifactId>unresolved</artifactId><version>${missing.version}</version>");
+    File orphan = write("orphan/pom.xml", "<artifactId>orphan</artifactId><version>1.0</version>");
+    ResolvingPomParser parser = new ResolvingPomParser();
+
+    IOException e = assertThrows(IOException.class, () -> parser.parse(unresolved));
+    assertEquals("Unresolved property ${missing.version} in version of POM: " + unresolved, e.getMessage());
+    e = assertThrows(IOException.class, () -> parser.parse(orphan));
+    assertEquals("Missing or empty groupId in POM: " + orphan, e.getMessage());
+  }
+
+  @Test
+  void relativePathToAnotherArtifactIsNotUsedAsParent() throws IOException {
+    write("other/pom.xml", "<groupId>org.other</groupId><artifactId>other</artifactId><version>9.0</version>"
+        + "<properties><suffix>other</suffix></properties>");
+    File module = write("parent/module/pom.xml", parent("parent", "../../other/pom.xml")
+        + "<artifactId>module-${suffix}</artifactId>");
+    ResolvingPomParser parser = new ResolvingPomParser();
+
+    // The parent element still supplies the coordinates, but nothing is inherited from the other POM
+    assertEquals(List.of(module.getCanonicalFile()), parser.getSourceFiles(module));
+    IOException e = assertThrows(IOException.class, () -> parser.parse(module));
+    assertTrue(e.getMessage().startsWith("Unresolved property ${suffix} in artifactId"), e.getMessage());
+    assertEquals("org.example", parser.getProperties(module).get("project.groupId"));
+    assertEquals("${revision}", parser.getProperties(module).get("project.version"));
+  }
+
+  @Test
+  void cycleInTheParentChainIsReported() throws IOException {
+    File first = write("first/pom.xml", parent("second", "../second/pom.xml") + "<artifactId>first</artifactId>");
+    write("second/pom.xml", parent("first", "../first/pom.xml") + "<artifactId>second</artifactId>");
+
+    IOException e = assertThrows(IOException.class, () -> new ResolvingPomParser().parse(first));
+    assertTrue(e.getMessage().startsWith("Cycle in parent chain of " + first), e.getMessage());
+  }
+
+  private static String parent(String artifactId, String relativePath) {
+    return "<parent><groupId>org.example</groupId><artifactId>" + artifactId + "</artifactId>"
+        + "<version>${revision}</version>"
+        + (relativePath != null ? "<relativePath>" + relativePath + "</relativePath>" : "") + "</parent>";
+  }
+
+  private File write(String path, String content) throws IOException {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, ("<project xmlns=\"http://maven.apache.org/POM/4.0.0\"><modelVersion>4.0.0</modelVersion>"
+        + content + "</project>\n").getBytes(StandardCharsets.UTF_8));
+    return file.toFile();
+  }
+}
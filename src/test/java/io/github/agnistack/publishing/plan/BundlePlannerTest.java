@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.plan;
+
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BundlePlannerTest {
+
+  @TempDir
+  Path directory;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void signedProjectsListEveryEntryWithItsChecksumsAndSignature() throws IOException {
+    File lib = project("lib", 100);
+
+    PlannedProject project = planner(true).planProject(lib);
+
+    assertNull(project.getError());
+    assertEquals("org.example:lib:1.0", project.getCoordinates().toString());
+    String base = "org/example/lib/1.0/lib-1.0";
+    assertEquals(Arrays.asList(base + ".pom", base + ".pom.md5", base + ".pom.sha1", base + ".pom.asc",
+        base + ".pom.asc.md5", base + ".pom.asc.sha1", base + ".jar", base + ".jar.md5", base + ".jar.sha1",
+        base + ".jar.asc", base + ".jar.asc.md5", base + ".jar.asc.sha1"), paths(project));
+
+    PlannedEntry jar = project.getEntries().get(6);
+    assertEquals("JAR", jar.getType());
+    assertEquals(100, jar.getSize());
+    assertFalse(jar.isGenerated());
+    PlannedEntry signature = project.getEntries().get(9);
+    assertEquals("SIGNATURE", signature.getType());
+    assertEquals(PlannedEntry.UNKNOWN_SIZE, signature.getSize());
+    assertTrue(signature.isGenerated());
+    assertEquals(32, project.getEntries().get(7).getSize());
+    assertEquals(40, project.getEntries().get(8).getSize());
+  }
+
+  @Test
+  void missingFilesAreListedWithoutChecksums() throws IOException {
+    File lib = project("lib", -1);
+
+    PlannedProject project = planner(false).planProject(lib);
+
+    String base = "org/example/lib/1.0/lib-1.0";
+    assertEquals(Arrays.asList(base + ".pom", base + ".pom.md5", base + ".pom.sha1", base + ".jar"),
+        paths(project));
+    PlannedEntry jar = project.getEntries().get(3);
+    assertTrue(jar.isMissing());
+    assertEquals(PlannedEntry.UNKNOWN_SIZE, jar.getSize());
+  }
+
+  @Test
+  void projectsThatCannotBePlannedRecordTheirError() throws IOException {
+    File empty = Files.createDirectories(directory.resolve("empty")).toFile();
+    File invalid = Files.createDirectories(directory.resolve("invalid")).toFile();
+    Files.write(invalid.toPath().resolve("pom.xml"), "<project>".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("Artifact directory not found: " + directory.resolve("missing"),
+        planner(true).planProject(directory.resolve("missing").toFile()).getError());
+    assertEquals("pom.xml not found in: " + empty, planner(true).planProject(empty).getError());
+    PlannedProject project = planner(true).planProject(invalid);
+    assertEquals("invalid", project.getName());
+    assertNull(project.getCoordinates());
+    assertTrue(project.getEntries().isEmpty());
+    assertTrue(project.getError() != null && !project.getError().isEmpty());
+  }
+
+  @Test
+  void planKeepsTheProjectOrderAndTotalsTheEntries() throws IOException {
+    List<File> projectDirs = Arrays.asList(project("b", 100), project("a", -1), directory.resolve("c").toFile());
+
+    BundlePlan plan = planner(false).plan(projectDirs, executor, 2);
+
+    assertEquals(Arrays.asList("b", "a", "c"), plan.getProjects().stream().map(PlannedProject::getName)
+        .collect(Collectors.toList()));
+    assertEquals(10, plan.getEntryCount());
+    assertEquals(1, plan.getMissingCount());
+    assertEquals(1, plan.getFailedCount());
+    long pomSize = projectDirs.get(0).toPath().resolve("pom.xml").toFile().length();
+    assertEquals(2 * pomSize + 100 + 3 * (32 + 40), plan.getKnownSize());
+  }
+
+  @Test
+  void planIsWrittenAsJson() throws IOException {
+    File lib = project("lib", -1);
+    BundlePlan plan = new BundlePlan(Arrays.asList(planner(false).planProject(lib),
+        PlannedProject.failed("broken \"one\"", "line\nbreak")));
+    long pomSize = lib.toPath().resolve("pom.xml").toFile().length();
+
+    StringWriter json = new StringWriter();
+    plan.writeJson(json);
+
+    String base = "org/example/lib/1.0/lib-1.0";
+    assertEquals("{\n"
+        + "  \"entryCount\": 4,\n"
+        + "  \"knownSize\": " + (pomSize + 72) + ",\n"
+        + "  \"missingCount\": 1,\n"
+        + "  \"projects\": [\n"
+        + "    {\n"
+        + "      \"name\": \"lib\",\n"
+        + "      \"coordinates\": \"org.example:lib:1.0\",\n"
+        + "      \"entries\": [\n"
+        + "        {\"path\": \"" + base + ".pom\", \"type\": \"POM\", \"size\": " + pomSize
+        + ", \"generated\": false, \"missing\": false},\n"
+        + "        {\"path\": \"" + base + ".pom.md5\", \"type\": \"CHECKSUM\", \"size\": 32"
+        + ", \"generated\": true, \"missing\": false},\n"
+        + "        {\"path\": \"" + base + ".pom.sha1\", \"type\": \"CHECKSUM\", \"size\": 40"
+        + ", \"generated\": true, \"missing\": false},\n"
+        + "        {\"path\": \"" + base + ".jar\", \"type\": \"JAR\", \"size\": null"
+        + ", \"generated\": false, \"missing\": true}\n"
+        + "      ]\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"name\": \"broken \\\"one\\\"\",\n"
+        + "      \"error\": \"line\\u000abreak\"\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}\n", json.toString());
+  }
+
+  @Test
+  void emptyPlanIsWrittenAsJson() throws IOException {
+    StringWriter json = new StringWriter();
+    new BundlePlan(Collections.emptyList()).writeJson(json);
+
+    assertEquals("{\n  \"entryCount\": 0,\n  \"knownSize\": 0,\n  \"missingCount\": 0,\n  \"projects\": []\n}\n",
+        json.toString());
+  }
+
+  private BundlePlanner planner(boolean signing) {
+    return new BundlePlanner(new DefaultPomParser(), new ArtifactCollector(true, false, false), signing);
+  }
+
+  /**
+   * Creates a project directory with a POM and a JAR of the given size, or without a JAR if it is negative.
+   */
+  private File project(String artifactId, int jarSize) throws IOException {
+    Path project = Files.createDirectories(directory.resolve(artifactId));
+    Files.write(project.resolve("pom.xml"), ("<project><modelVersion>4.0.0</modelVersion>"
+        + "<groupId>org.example</groupId><artifactId>" + artifactId + "</artifactId><version>1.0</version>"
+        + "</project>").getBytes(StandardCharsets.UTF_8));
+    if (jarSize >= 0) {
+      Files.write(project.resolve(artifactId + "-1.0.jar"), new byte[jarSize]);
+    }
+    return project.toFile();
+  }
+
+  private static List<String> paths(PlannedProject project) {
+    return project.getEntries().stream().map(PlannedEntry::getPath).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.portal;
+
+import org.sonatype.central.publisher.client.model.DeploymentState;
+import org.sonatype.central.publisher.client.model.PublishingType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A deployment received by the {@link StandInPortal}, with its upload metrics and the time at which
+ * each state was first reported to a client.
+ *
+ * @since 0.3.0
+ */
+public class StandInDeployment {
+
+  private final String deploymentId;
+  private final String deploymentName;
+  private final PublishingType publishingType;
+  private final long uploadedBytes;
+  private final long uploadNanos;
+  private final long createdAtMillis;
+  private final Map<DeploymentState, Long> stateTimeline = new EnumMap<>(DeploymentState.class);
+
+  StandInDeployment(String deploymentId, String deploymentName, PublishingType publishingType,
+                    long uploadedBytes, long uploadNanos, long createdAtMillis) {
+    this.deploymentId = deploymentId;
+    this.deploymentName = deploymentName;
+    this.publishingType = publishingType;
+    this.uploadedBytes = uploadedBytes;
+    this.uploadNanos = uploadNanos;
+    this.createdAtMillis = createdAtMillis;
+  }
+
+  public String getDeploymentId() {
+    return deploymentId;
+  }
+
+  public String getDeploymentName() {
+    return deploymentName;
+  }
+
+  public PublishingType getPublishingType() {
+    return publishingType;
+  }
+
+  public long getUploadedBytes() {
+    return uploadedBytes;
+  }
+
+  public long getUploadMillis() {
+    return uploadNanos / 1_000_000L;
+  }
+
+  /**
+   * Returns the observed upload throughput in bytes per second.
+   */
+  public double getUploadThroughput() {
+    return uploadNanos == 0 ? 0 : uploadedBytes * 1_000_000_000d / uploadNanos;
+  }
+
+  long getCreatedAtMillis() {
+    return createdAtMillis;
+  }
+
+  /**
+   * Returns the milliseconds between upload completion and the first status response reporting each state.
+   */
+  public synchronized Map<DeploymentState, Long> getStateTimeline() {
+    return Collections.unmodifiableMap(new EnumMap<>(stateTimeline));
+  }
+
+  synchronized void recordState(DeploymentState state, long nowMillis) {
+    stateTimeline.putIfAbsent(state, nowMillis - createdAtMillis);
+  }
+
+  @Override
+  public String toString() {
+    return deploymentName + " (" + deploymentId + "): " + uploadedBytes + " bytes in " + getUploadMillis()
+        + " ms, states " + getStateTimeline();
+  }
+}
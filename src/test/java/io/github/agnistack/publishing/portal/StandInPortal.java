@@ -0,0 +1,293 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.portal;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.sonatype.central.publisher.client.model.DeploymentState;
+import org.sonatype.central.publisher.client.model.PublishingType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.sonatype.central.publisher.client.PublisherConstants.DEPLOYMENT_ID_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.DEPLOYMENT_NAME_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.DEPLOYMENT_PUBLISHING_TYPE_QUERY_PARAM;
+import static org.sonatype.central.publisher.client.PublisherConstants.HTTP_AUTHORIZATION_HEADER;
+import static org.sonatype.central.publisher.client.PublisherConstants.PUBLISHED_ENDPOINT_URL;
+import static org.sonatype.central.publisher.client.PublisherConstants.STATUS_ENDPOINT_URL;
+import static org.sonatype.central.publisher.client.PublisherConstants.UPLOAD_ENDPOINT_URL;
+
+/**
+ * Embeddable stand-in for the Central Portal publisher API.
+ *
+ * <p>Implements the upload, deployment status and component published endpoints used by
+ * {@code PublisherClient} on the loopback interface, so that the upload and wait path of the plugin
+ * can be exercised locally. Latency, throttling, transient failures and state progression timing are
+ * driven by a {@link StandInPortalScript}.
+ *
+ * @since 0.3.0
+ */
+public class StandInPortal implements Closeable {
+
+  private final StandInPortalScript script;
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final Map<String, StandInDeployment> deployments = new ConcurrentHashMap<>();
+
+  public StandInPortal(int port, StandInPortalScript script) throws IOException {
+    this.script = script;
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    this.executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "stand-in-portal");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    server.setExecutor(executor);
+    server.createContext(UPLOAD_ENDPOINT_URL, scripted(this::handleUpload));
+    server.createContext(STATUS_ENDPOINT_URL, scripted(this::handleStatus));
+    server.createContext(PUBLISHED_ENDPOINT_URL, scripted(this::handlePublished));
+  }
+
+  /**
+   * Starts serving requests.
+   */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Returns the base URL to configure as {@code centralBaseUrl}.
+   */
+  public String getBaseUrl() {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getHostString() + ':' + address.getPort();
+  }
+
+  /**
+   * Returns the number of API requests received so far, including throttled and failed ones.
+   */
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * Returns all deployments received so far.
+   */
+  public Collection<StandInDeployment> getDeployments() {
+    return new ArrayList<>(deployments.values());
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private HttpHandler scripted(HttpHandler handler) {
+    return exchange -> {
+      try {
+        int request = requestCount.incrementAndGet();
+
+        if (script.getLatencyMillis() > 0) {
+          Thread.sleep(script.getLatencyMillis());
+        }
+
+        if (exchange.getRequestHeaders().getFirst(HTTP_AUTHORIZATION_HEADER) == null) {
+          drain(exchange);
+          respond(exchange, 401, "text/plain", "Missing authorization");
+        } else if (script.getThrottleEvery() > 0 && request % script.getThrottleEvery() == 0) {
+          drain(exchange);
+          exchange.getResponseHeaders().set("Retry-After", String.valueOf(script.getRetryAfterSeconds()));
+          respond(exchange, 429, "text/plain", "Too many requests");
+        } else if (script.getFailEvery() > 0 && request % script.getFailEvery() == 0) {
+          drain(exchange);
+          respond(exchange, 503, "text/plain", "Service temporarily unavailable");
+        } else {
+          handler.handle(exchange);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        exchange.close();
+      }
+    };
+  }
+
+  private void handleUpload(HttpExchange exchange) throws IOException {
+    if (!"POST".equals(exchange.getRequestMethod())) {
+      drain(exchange);
+      respond(exchange, 405, "text/plain", "Method not allowed");
+      return;
+    }
+
+    Map<String, String> query = parseQuery(exchange);
+    long start = System.nanoTime();
+    long bytes = drain(exchange);
+    long uploadNanos = System.nanoTime() - start;
+
+    PublishingType publishingType = parsePublishingType(
+        query.getOrDefault(DEPLOYMENT_PUBLISHING_TYPE_QUERY_PARAM, PublishingType.USER_MANAGED.name()));
+    if (publishingType == null) {
+      respond(exchange, 400, "text/plain", "Unknown publishing type: "
+          + query.get(DEPLOYMENT_PUBLISHING_TYPE_QUERY_PARAM));
+      return;
+    }
+    String deploymentId = UUID.randomUUID().toString();
+    StandInDeployment deployment = new StandInDeployment(deploymentId,
+        query.getOrDefault(DEPLOYMENT_NAME_QUERY_PARAM, "Deployment"), publishingType, bytes, uploadNanos,
+        System.currentTimeMillis());
+    deployments.put(deploymentId, deployment);
+
+    respond(exchange, 201, "text/plain", deploymentId);
+  }
+
+  private void handleStatus(HttpExchange exchange) throws IOException {
+    drain(exchange);
+    String deploymentId = parseQuery(exchange).get(DEPLOYMENT_ID_QUERY_PARAM);
+    StandInDeployment deployment = deploymentId == null ? null : deployments.get(deploymentId);
+    if (deployment == null) {
+      respond(exchange, 404, "text/plain", "Deployment not found: " + deploymentId);
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    DeploymentState state = currentState(deployment, now);
+    deployment.recordState(state, now);
+
+    StringBuilder json = new StringBuilder(256);
+    json.append("{\"deploymentId\":\"").append(escape(deployment.getDeploymentId()))
+        .append("\",\"deploymentName\":\"").append(escape(deployment.getDeploymentName()))
+        .append("\",\"deploymentState\":\"").append(state.name())
+        .append("\",\"purls\":[]");
+    if (state == DeploymentState.FAILED) {
+      json.append(",\"errors\":{\"common\":[\"Deployment failed validation (scripted by stand-in portal)\"]}");
+    }
+    json.append('}');
+
+    respond(exchange, 200, "application/json", json.toString());
+  }
+
+  private void handlePublished(HttpExchange exchange) throws IOException {
+    drain(exchange);
+    respond(exchange, 200, "application/json", "{\"published\":false}");
+  }
+
+  /**
+   * Derives the state of a deployment from the time elapsed since its upload and the scripted durations.
+   */
+  private DeploymentState currentState(StandInDeployment deployment, long nowMillis) {
+    long elapsed = nowMillis - deployment.getCreatedAtMillis();
+
+    List<DeploymentState> progression = new ArrayList<>();
+    progression.add(DeploymentState.PENDING);
+    progression.add(DeploymentState.VALIDATING);
+    if (script.isFailValidation()) {
+      progression.add(DeploymentState.FAILED);
+    } else {
+      progression.add(DeploymentState.VALIDATED);
+      if (deployment.getPublishingType() == PublishingType.AUTOMATIC) {
+        progression.add(DeploymentState.PUBLISHING);
+        progression.add(DeploymentState.PUBLISHED);
+      }
+    }
+
+    for (int i = 0; i < progression.size() - 1; i++) {
+      DeploymentState state = progression.get(i);
+      elapsed -= script.getStateDuration(state);
+      if (elapsed < 0) {
+        return state;
+      }
+    }
+    return progression.get(progression.size() - 1);
+  }
+
+  /**
+   * Returns the publishing type of an upload, or {@code null} if the portal would reject it.
+   */
+  private static PublishingType parsePublishingType(String value) {
+    for (PublishingType type : PublishingType.values()) {
+      if (type.name().equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, String> parseQuery(HttpExchange exchange) {
+    Map<String, String> params = new HashMap<>();
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query == null || query.isEmpty()) {
+      return params;
+    }
+    for (String pair : query.split("&")) {
+      int separator = pair.indexOf('=');
+      String key = separator < 0 ? pair : pair.substring(0, separator);
+      String value = separator < 0 ? "" : pair.substring(separator + 1);
+      params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return params;
+  }
+
+  private static long drain(HttpExchange exchange) throws IOException {
+    long total = 0;
+    try (InputStream in = exchange.getRequestBody()) {
+      byte[] buffer = new byte[65536];
+      int length;
+      while ((length = in.read(buffer)) > 0) {
+        total += length;
+      }
+    }
+    return total;
+  }
+
+  private static void respond(HttpExchange exchange, int status, String contentType, String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
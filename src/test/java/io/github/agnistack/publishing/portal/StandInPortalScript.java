@@ -0,0 +1,121 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.portal;
+
+import org.sonatype.central.publisher.client.model.DeploymentState;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Scripted behavior of the {@link StandInPortal}: injected latency, throttling, transient
+ * failures and how long a deployment stays in each state.
+ *
+ * @since 0.3.0
+ */
+public class StandInPortalScript {
+
+  private long latencyMillis;
+  private int throttleEvery;
+  private int retryAfterSeconds = 1;
+  private int failEvery;
+  private boolean failValidation;
+  private final Map<DeploymentState, Long> stateDurationsMillis = new EnumMap<>(DeploymentState.class);
+
+  public StandInPortalScript() {
+    stateDurationsMillis.put(DeploymentState.PENDING, 0L);
+    stateDurationsMillis.put(DeploymentState.VALIDATING, 0L);
+    stateDurationsMillis.put(DeploymentState.PUBLISHING, 0L);
+  }
+
+  /**
+   * Delays every request by the given number of milliseconds before it is answered.
+   */
+  public StandInPortalScript withLatency(long latencyMillis) {
+    this.latencyMillis = requireNonNegative(latencyMillis, "latencyMillis");
+    return this;
+  }
+
+  /**
+   * Answers every n-th request with {@code 429 Too Many Requests}; {@code 0} disables throttling.
+   */
+  public StandInPortalScript withThrottleEvery(int throttleEvery, int retryAfterSeconds) {
+    this.throttleEvery = (int) requireNonNegative(throttleEvery, "throttleEvery");
+    this.retryAfterSeconds = (int) requireNonNegative(retryAfterSeconds, "retryAfterSeconds");
+    return this;
+  }
+
+  /**
+   * Answers every n-th request with {@code 503 Service Unavailable}; {@code 0} disables failures.
+   */
+  public StandInPortalScript withFailEvery(int failEvery) {
+    this.failEvery = (int) requireNonNegative(failEvery, "failEvery");
+    return this;
+  }
+
+  /**
+   * Makes every deployment end in {@link DeploymentState#FAILED} instead of {@link DeploymentState#VALIDATED}.
+   */
+  public StandInPortalScript withFailedValidation(boolean failValidation) {
+    this.failValidation = failValidation;
+    return this;
+  }
+
+  /**
+   * Sets how long a deployment stays in a transient state before moving on.
+   */
+  public StandInPortalScript withStateDuration(DeploymentState state, long durationMillis) {
+    Objects.requireNonNull(state, "state cannot be null");
+    stateDurationsMillis.put(state, requireNonNegative(durationMillis, "durationMillis"));
+    return this;
+  }
+
+  public long getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public int getThrottleEvery() {
+    return throttleEvery;
+  }
+
+  public int getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  public int getFailEvery() {
+    return failEvery;
+  }
+
+  public boolean isFailValidation() {
+    return failValidation;
+  }
+
+  public long getStateDuration(DeploymentState state) {
+    return stateDurationsMillis.getOrDefault(state, 0L);
+  }
+
+  private static long requireNonNegative(long value, String name) {
+    if (value < 0) {
+      throw new IllegalArgumentException(name + " cannot be negative: " + value);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,182 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.agnistack.publishing.log.ConsoleLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.central.publisher.plugin.exceptions.DeploymentPublishFailedException;
+import org.sonatype.central.publisher.plugin.model.WaitUntilRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.sonatype.central.publisher.client.PublisherConstants.UPLOAD_ENDPOINT_URL;
+
+class CentralUploadServiceTest {
+
+  @TempDir
+  Path directory;
+
+  private HttpServer server;
+  private final Deque<Integer> statuses = new ArrayDeque<>();
+  private final List<Integer> uploadSizes = new ArrayList<>();
+  private CentralUploadService service;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(UPLOAD_ENDPOINT_URL, this::handleUpload);
+    server.start();
+
+    service = new CentralUploadService(new ConsoleLog(false));
+    InetSocketAddress address = server.getAddress();
+    service.configure("http://" + address.getHostString() + ':' + address.getPort(), "user", "password", false);
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  void throttledAndUnavailableUploadsAreRetriedWithTheWholeBundle() throws IOException {
+    statuses.addAll(Arrays.asList(429, 503, 201));
+    Path bundle = Files.write(directory.resolve("bundle.zip"), new byte[3 * 1024 * 1024 + 17]);
+
+    assertEquals("deployment-3", service.deploy(bundle.toFile(), "Deployment", false));
+
+    assertEquals(3, uploadSizes.size());
+    assertEquals(1, uploadSizes.stream().distinct().count(), "every attempt sends the same body");
+    assertTrue(uploadSizes.get(0) > Files.size(bundle));
+  }
+
+  @Test
+  void uploadsFromMemoryAreRetried() {
+    statuses.addAll(Arrays.asList(503, 201));
+
+    assertEquals("deployment-2", service.deploy(new byte[]{1, 2, 3}, "bundle.zip", "Deployment", true));
+    assertEquals(2, uploadSizes.size());
+  }
+
+  @Test
+  void retriesStopAfterFiveAttempts() throws IOException {
+    statuses.addAll(Arrays.asList(429, 429, 429, 429, 429, 201));
+    Path bundle = Files.write(directory.resolve("bundle.zip"), new byte[]{1, 2, 3});
+
+    assertThrows(DeploymentPublishFailedException.class,
+        () -> service.deploy(bundle.toFile(), "Deployment", false));
+    assertEquals(5, uploadSizes.size());
+  }
+
+  @Test
+  void otherErrorsAreNotRetried() throws IOException {
+    statuses.addAll(Arrays.asList(400, 201));
+    Path bundle = Files.write(directory.resolve("bundle.zip"), new byte[]{1, 2, 3});
+
+    assertThrows(DeploymentPublishFailedException.class,
+        () -> service.deploy(bundle.toFile(), "Deployment", false));
+    assertEquals(1, uploadSizes.size());
+  }
+
+  @Test
+  void retryAfterIsReadAsSecondsOrAsAnHttpDate() {
+    assertEquals(Duration.ofSeconds(7), CentralUploadService.parseRetryAfter("7"));
+    assertEquals(Duration.ZERO, CentralUploadService.parseRetryAfter("0"));
+
+    String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+    Duration untilDate = CentralUploadService.parseRetryAfter(date);
+    assertTrue(untilDate.compareTo(Duration.ofSeconds(28)) >= 0 && untilDate.compareTo(Duration.ofSeconds(30)) <= 0,
+        untilDate.toString());
+
+    assertEquals(Duration.ofSeconds(1), CentralUploadService.parseRetryAfter("soon"));
+  }
+
+  @Test
+  void retryDelayBacksOffWithoutRetryAfterAndIsBounded() {
+    assertEquals(Duration.ofSeconds(1), CentralUploadService.retryDelay(null, 1));
+    assertEquals(Duration.ofSeconds(2), CentralUploadService.retryDelay(null, 2));
+    assertEquals(Duration.ofSeconds(8), CentralUploadService.retryDelay(null, 4));
+    assertEquals(Duration.ofMinutes(1), CentralUploadService.retryDelay(null, 20));
+
+    assertEquals(Duration.ofSeconds(3), CentralUploadService.retryDelay(" 3 ", 4));
+    assertEquals(Duration.ofMinutes(1), CentralUploadService.retryDelay("3600", 1));
+    assertEquals(Duration.ZERO, CentralUploadService.retryDelay("-5", 1));
+
+    String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusHours(1));
+    assertEquals(Duration.ZERO, CentralUploadService.retryDelay(past, 1));
+  }
+
+  @Test
+  void interruptWhileWaitingCancelsInsteadOfTimingOut() {
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(CancellationException.class,
+          () -> service.awaitState("deployment", "http://localhost", WaitUntilRequest.VALIDATED, 60, 1));
+      assertTrue(Thread.currentThread().isInterrupted(), "the interrupt status is restored");
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  private void handleUpload(HttpExchange exchange) throws IOException {
+    int size;
+    try (InputStream in = exchange.getRequestBody()) {
+      size = in.readAllBytes().length;
+    }
+    int status;
+    synchronized (this) {
+      uploadSizes.add(size);
+      status = statuses.isEmpty() ? 500 : statuses.poll();
+    }
+    byte[] body = (status / 100 == 2 ? "deployment-" + uploadSizes.size() : "Status " + status)
+        .getBytes(StandardCharsets.UTF_8);
+    if (status == 429 || status == 503) {
+      exchange.getResponseHeaders().set("Retry-After", "0");
+    }
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.service;
+
+import io.github.agnistack.publishing.collector.ArtifactCollector;
+import io.github.agnistack.publishing.io.Hex;
+import io.github.agnistack.publishing.log.ConsoleLog;
+import io.github.agnistack.publishing.model.ArtifactFile;
+import io.github.agnistack.publishing.model.BundleEntry;
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import io.github.agnistack.publishing.model.PreparedArtifact;
+import io.github.agnistack.publishing.parser.DefaultPomParser;
+import io.github.agnistack.publishing.processor.FileProcessor;
+import io.github.agnistack.publishing.validation.GpgSignatureVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SidecarReuseTest {
+
+  private static final MavenCoordinates COORDINATES = new MavenCoordinates("org.example", "lib", "1.0");
+  private static final byte[] CONTENT = "jar content".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SIGNATURE = "-----BEGIN PGP SIGNATURE-----".getBytes(StandardCharsets.US_ASCII);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void collectorFindsSidecarsNextToTheFileOrUnderThePublishedName() throws IOException {
+    Files.write(directory.resolve("pom.xml"), CONTENT);
+    Files.write(directory.resolve("pom.xml.asc"), SIGNATURE);
+    Files.write(directory.resolve("lib-1.0.pom.md5"), new byte[0]);
+    Files.write(directory.resolve("lib-1.0.jar"), CONTENT);
+
+    List<ArtifactFile> artifacts = new ArtifactCollector(true, false, false, true)
+        .collect(directory.toFile(), COORDINATES);
+
+    assertEquals(directory.resolve("pom.xml.asc").toFile(), artifacts.get(0).getSidecar("asc"));
+    assertEquals(directory.resolve("lib-1.0.pom.md5").toFile(), artifacts.get(0).getSidecar("md5"));
+    assertNull(artifacts.get(0).getSidecar("sha1"));
+    assertTrue(artifacts.get(1).getSidecars().isEmpty());
+  }
+
+  @Test
+  void matchingChecksumsAreAcceptedInPlainAndMd5sumFormat() throws IOException {
+    for (boolean inMemory : new boolean[]{false, true}) {
+      ArtifactFile artifact = artifact(digest("MD5") + "\n",
+          digest("SHA-1").toUpperCase(Locale.ROOT) + "  lib-1.0.jar\n");
+
+      Map<String, byte[]> entries = entries(service(inMemory, null).prepareFile(COORDINATES, artifact));
+
+      assertEquals(digest("MD5"), new String(entries.get("lib-1.0.jar.md5"), StandardCharsets.US_ASCII));
+      assertEquals(digest("SHA-1"), new String(entries.get("lib-1.0.jar.sha1"), StandardCharsets.US_ASCII));
+      assertArrayEquals(SIGNATURE, entries.get("lib-1.0.jar.asc"), "in memory: " + inMemory);
+      assertTrue(Files.exists(artifact.getSidecar("asc").toPath()), "the upstream signature is kept");
+    }
+  }
+
+  @Test
+  void aStaleChecksumFailsThePreparation() throws IOException {
+    for (boolean inMemory : new boolean[]{false, true}) {
+      ArtifactFile artifact = artifact(digest("MD5"), "0000000000000000000000000000000000000000  lib-1.0.jar");
+
+      IOException thrown = assertThrows(IOException.class,
+          () -> service(inMemory, null).prepareFile(COORDINATES, artifact));
+
+      assertTrue(thrown.getMessage().startsWith("Existing checksum " + artifact.getSidecar("sha1")
+          + " does not match"), thrown.getMessage());
+    }
+  }
+
+  @Test
+  void aSignatureThatDoesNotVerifyFailsThePreparation() throws IOException {
+    ArtifactFile artifact = artifact(digest("MD5"), digest("SHA-1"));
+    GpgSignatureVerifier verifier = new GpgSignatureVerifier("gpg") {
+      @Override
+      public String verify(File signatureFile, File dataFile) {
+        return "BAD signature";
+      }
+    };
+
+    IOException thrown = assertThrows(IOException.class,
+        () -> service(false, verifier).prepareFile(COORDINATES, artifact));
+
+    assertTrue(thrown.getMessage().endsWith("does not verify: BAD signature"), thrown.getMessage());
+  }
+
+  private ArtifactFile artifact(String md5, String sha1) throws IOException {
+    Path jar = Files.write(directory.resolve("lib-1.0.jar"), CONTENT);
+    Map<String, File> sidecars = new LinkedHashMap<>();
+    sidecars.put("md5", Files.write(directory.resolve("lib-1.0.jar.md5"),
+        md5.getBytes(StandardCharsets.US_ASCII)).toFile());
+    sidecars.put("sha1", Files.write(directory.resolve("lib-1.0.jar.sha1"),
+        sha1.getBytes(StandardCharsets.US_ASCII)).toFile());
+    sidecars.put("asc", Files.write(directory.resolve("lib-1.0.jar.asc"), SIGNATURE).toFile());
+    return new ArtifactFile(jar.toFile(), "lib-1.0.jar", ArtifactFile.ArtifactType.JAR, sidecars);
+  }
+
+  private static DeploymentService service(boolean inMemory, GpgSignatureVerifier verifier) {
+    DeploymentService service = new DeploymentService(new DefaultPomParser(), new DigestingFileProcessor(), null,
+        inMemory, new ConsoleLog(false));
+    service.setSignatureVerifier(verifier);
+    return service;
+  }
+
+  private static Map<String, byte[]> entries(PreparedArtifact prepared) throws IOException {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    for (BundleEntry entry : prepared.getEntries()) {
+      entries.put(entry.getFileName(), entry.isInMemory() ? entry.getContent()
+          : Files.readAllBytes(entry.getFile().toPath()));
+    }
+    return entries;
+  }
+
+  private static String digest(String algorithm) {
+    try {
+      return Hex.encode(MessageDigest.getInstance(algorithm).digest(CONTENT));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Computes checksums without signing.
+   */
+  private static final class DigestingFileProcessor implements FileProcessor {
+
+    @Override
+    public File signFile(File file) {
+      return null;
+    }
+
+    @Override
+    public String generateChecksum(File file, String algorithm) throws IOException {
+      return generateChecksum(Files.readAllBytes(file.toPath()), algorithm);
+    }
+
+    @Override
+    public boolean isSigningEnabled() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.transform;
+
+import io.github.agnistack.publishing.model.MavenCoordinates;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PomTransformerTest {
+
+  private static final MavenCoordinates COORDINATES = new MavenCoordinates("org.example", "app", "1.2.0");
+  private static final Map<String, String> PROPERTIES = Map.of("lib.version", "3.4", "parent.version", "7",
+      "plugin.version", "9.9");
+
+  @Test
+  void coordinatesOfTheProjectParentAndDependenciesAreInlined() throws IOException {
+    String pom = transform(new PomTransformer(Collections.emptyList(), true),
+        "<project>\n"
+            + "  <parent><groupId>org.example</groupId><artifactId>parent</artifactId>"
+            + "<version>${parent.version}</version></parent>\n"
+            + "  <artifactId>app</artifactId>\n"
+            + "  <version>${project.version}</version>\n"
+            + "  <dependencyManagement><dependencies><dependency><groupId>${project.groupId}</groupId>"
+            + "<artifactId>bom</artifactId><version>${lib.version}</version></dependency></dependencies>"
+            + "</dependencyManagement>\n"
+            + "  <dependencies><dependency><groupId>org.example</groupId><artifactId>lib</artifactId>"
+            + "<version>${lib.version}</version></dependency></dependencies>\n"
+            + "</project>\n");
+
+    assertTrue(pom.contains("<version>7</version></parent>"), pom);
+    assertTrue(pom.contains("<version>1.2.0</version>"), pom);
+    assertTrue(pom.contains("<groupId>org.example</groupId><artifactId>bom</artifactId><version>3.4</version>"), pom);
+    assertTrue(pom.contains("<artifactId>lib</artifactId><version>3.4</version>"), pom);
+    assertFalse(pom.contains("${"), pom);
+  }
+
+  @Test
+  void expressionsOutsideCoordinatesAreKept() throws IOException {
+    String pom = transform(new PomTransformer(Collections.emptyList(), true),
+        "<project>\n"
+            + "  <version>${project.version}</version>\n"
+            + "  <name>${project.artifactId}</name>\n"
+            + "  <url>https://example.org/${project.version}</url>\n"
+            + "  <properties><version>${lib.version}</version></properties>\n"
+            + "  <build><plugins><plugin><artifactId>maven-x-plugin</artifactId>"
+            + "<version>${plugin.version}</version>"
+            + "<configuration><version>${project.version}</version></configuration>"
+            + "<dependencies><dependency><version>${lib.version}</version></dependency></dependencies>"
+            + "</plugin></plugins></build>\n"
+            + "  <profiles><profile><dependencies><dependency><version>${lib.version}</version></dependency>"
+            + "</dependencies></profile></profiles>\n"
+            + "</project>\n");
+
+    assertTrue(pom.contains("<version>1.2.0</version>\n  <name>${project.artifactId}</name>"), pom);
+    assertTrue(pom.contains("<url>https://example.org/${project.version}</url>"), pom);
+    assertTrue(pom.contains("<properties><version>${lib.version}</version></properties>"), pom);
+    assertTrue(pom.contains("<version>${plugin.version}</version>"
+        + "<configuration><version>${project.version}</version></configuration>"
+        + "<dependencies><dependency><version>${lib.version}</version></dependency></dependencies>"), pom);
+    assertTrue(pom.contains("<profile><dependencies><dependency><version>${lib.version}</version>"), pom);
+  }
+
+  @Test
+  void strippedSectionsAndTheirLeadingWhitespaceAreRemoved() throws IOException {
+    String pom = transform(new PomTransformer(Arrays.asList("build", "profiles"), false),
+        "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n"
+            + "<project>\n"
+            + "  <!-- kept -->\n"
+            + "  <version>${project.version}</version>\n"
+            + "  <build><plugins><plugin/></plugins></build>\n"
+            + "  <profiles><profile><build/></profile></profiles>\n"
+            + "</project>\n");
+
+    assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<project>\n"
+        + "  <!-- kept -->\n"
+        + "  <version>${project.version}</version>\n"
+        + "</project>", pom.trim());
+  }
+
+  @Test
+  void onlyCoordinatePathsAreInlined() {
+    assertTrue(PomTransformer.isCoordinate(List.of("project", "version")));
+    assertTrue(PomTransformer.isCoordinate(List.of("project", "parent", "groupId")));
+    assertTrue(PomTransformer.isCoordinate(List.of("project", "dependencies", "dependency", "artifactId")));
+    assertTrue(PomTransformer.isCoordinate(
+        List.of("project", "dependencyManagement", "dependencies", "dependency", "version")));
+
+    assertFalse(PomTransformer.isCoordinate(List.of("project")));
+    assertFalse(PomTransformer.isCoordinate(List.of("version")));
+    assertFalse(PomTransformer.isCoordinate(List.of("project", "name")));
+    assertFalse(PomTransformer.isCoordinate(List.of("project", "dependencies", "dependency", "scope")));
+    assertFalse(PomTransformer.isCoordinate(
+        List.of("project", "build", "plugins", "plugin", "dependencies", "dependency", "version")));
+  }
+
+  @Test
+  void malformedPomIsReported() {
+    assertThrows(IOException.class, () -> transform(new PomTransformer(Collections.emptyList(), true),
+        "<project><version>1</project>"));
+  }
+
+  private static String transform(PomTransformer transformer, String pom) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    transformer.transform(new ByteArrayInputStream(pom.getBytes(StandardCharsets.UTF_8)), out, COORDINATES,
+        PROPERTIES);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,241 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import io.github.agnistack.publishing.io.Hex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BundleValidatorTest {
+
+  private static final String DIRECTORY = "org/example/app/1.0/";
+  private static final String METADATA = "<name>App</name><description>An app</description>"
+      + "<url>https://example.org</url>"
+      + "<licenses><license><name>Apache-2.0</name></license></licenses>"
+      + "<developers><developer><id>dev</id></developer></developers>"
+      + "<scm><url>https://example.org/scm</url></scm>";
+
+  @TempDir
+  Path directory;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final Map<String, byte[]> entries = new LinkedHashMap<>();
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void completeBundleIsValid() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "app", "1.0", METADATA));
+
+    ValidationReport report = validate(true);
+
+    assertEquals(1, report.getComponentCount());
+    assertEquals(List.of(), messages(report.getViolations()));
+    assertEquals(List.of(), messages(report.getWarnings()));
+    assertTrue(report.isValid());
+  }
+
+  @Test
+  void missingChecksumsAndSignaturesAreReported() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "app", "1.0", METADATA));
+    entries.remove(DIRECTORY + "app-1.0.jar.sha1");
+    entries.remove(DIRECTORY + "app-1.0.jar.asc");
+    entries.remove(DIRECTORY + "app-1.0.pom.md5");
+
+    assertEquals(List.of(
+        DIRECTORY + "app-1.0.jar: Missing .sha1 checksum",
+        DIRECTORY + "app-1.0.jar: Missing .asc signature",
+        DIRECTORY + "app-1.0.pom: Missing .md5 checksum"), messages(validate(true).getViolations()));
+    assertEquals(List.of(
+        DIRECTORY + "app-1.0.jar: Missing .sha1 checksum",
+        DIRECTORY + "app-1.0.pom: Missing .md5 checksum"), messages(validate(false).getViolations()));
+  }
+
+  @Test
+  void wrongChecksumIsReported() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "app", "1.0", METADATA));
+    String actual = checksum("SHA-1", entries.get(DIRECTORY + "app-1.0.jar"));
+    entries.put(DIRECTORY + "app-1.0.jar.sha1", ascii("0000000000000000000000000000000000000000"));
+    // md5sum format, with the file name after the hash, is accepted
+    entries.put(DIRECTORY + "app-1.0.pom.md5",
+        ascii(checksum("MD5", entries.get(DIRECTORY + "app-1.0.pom")) + "  app-1.0.pom\n"));
+
+    assertEquals(List.of(DIRECTORY + "app-1.0.jar.sha1: Checksum mismatch: expected " + actual
+        + " but bundle contains 0000000000000000000000000000000000000000"), messages(validate(false).getViolations()));
+  }
+
+  @Test
+  void missingPomElementsAreReported() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "app", "1.0", "<url>https://example.org</url>"
+        + "<licenses><license/></licenses><developers/><scm><connection>git</connection></scm>"));
+    entries.remove(DIRECTORY + "app-1.0.jar");
+
+    String pom = DIRECTORY + "app-1.0.pom: ";
+    assertEquals(List.of(
+        pom + "POM is missing <name>",
+        pom + "POM is missing <description>",
+        pom + "POM is missing <licenses> with a named <license>",
+        pom + "POM is missing <developers> with at least one <developer>",
+        pom + "POM is missing <scm> with a <url>"), messages(validate(false).getViolations()));
+  }
+
+  @Test
+  void coordinatesMustMatchTheBundlePath() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "${app.id}", "1.1", METADATA));
+
+    String pom = DIRECTORY + "app-1.0.pom: ";
+    assertEquals(List.of(
+        pom + "POM artifactId '${app.id}' contains an expression, which Central does not resolve; "
+            + "set resolvePomProperties or inlinePomVersions",
+        pom + "POM version '1.1' does not match bundle path '1.0'"), messages(validate(false).getViolations()));
+  }
+
+  @Test
+  void metadataIsInheritedFromParentsInTheBundle() throws IOException {
+    String parent = "<parent><groupId>org.example</groupId><artifactId>parent</artifactId>"
+        + "<version>1.0</version></parent>";
+    addComponent(DIRECTORY, pom(null, "app", null, parent + "<name>App</name>"));
+    entries.remove(DIRECTORY + "app-1.0.jar");
+    addComponent("org/example/parent/1.0/", pom("org.example", "parent", "1.0", METADATA));
+    entries.remove("org/example/parent/1.0/parent-1.0.jar");
+
+    ValidationReport report = validate(false);
+    assertEquals(2, report.getComponentCount());
+    assertEquals(List.of(), messages(report.getViolations()));
+
+    // Without the parent, inherited metadata can only be checked by Central
+    entries.keySet().removeIf(name -> name.startsWith("org/example/parent/"));
+    report = validate(false);
+    assertEquals(List.of(), messages(report.getViolations()));
+    assertEquals(5, report.getWarnings().size());
+    assertTrue(report.getWarnings().get(0).getMessage().endsWith(
+        "parent org.example:parent:1.0, which is not in the bundle"), report.getWarnings().get(0).getMessage());
+  }
+
+  @Test
+  void filesOutsideTheCoordinatesAreReported() throws IOException {
+    addComponent(DIRECTORY, pom("org.example", "app", "1.0", METADATA));
+    addFile(DIRECTORY + "other-1.0.jar", ascii("other"));
+    entries.put("app-1.0.pom", entries.get(DIRECTORY + "app-1.0.pom"));
+
+    assertEquals(List.of(
+        ": Path is not a groupId/artifactId/version repository path",
+        DIRECTORY + "other-1.0.jar: File name does not match coordinates org.example:app:1.0",
+        DIRECTORY + "other-1.0.jar.asc: File name does not match coordinates org.example:app:1.0",
+        DIRECTORY + "other-1.0.jar.md5: File name does not match coordinates org.example:app:1.0",
+        DIRECTORY + "other-1.0.jar.sha1: File name does not match coordinates org.example:app:1.0"),
+        messages(validate(false).getViolations()));
+  }
+
+  /**
+   * Validates the entries as a bundle file and in memory, expecting the same report from both.
+   */
+  private ValidationReport validate(boolean requireSignatures) throws IOException {
+    byte[] bundle = zip();
+    Path bundleFile = Files.write(directory.resolve("bundle.zip"), bundle);
+    BundleValidator validator = new BundleValidator(requireSignatures, null, executor, 2);
+
+    ValidationReport report = validator.validate(bundleFile.toFile());
+    ValidationReport inMemory = validator.validate(bundle);
+    assertEquals(messages(report.getViolations()), messages(inMemory.getViolations()));
+    assertEquals(messages(report.getWarnings()), messages(inMemory.getWarnings()));
+    return report;
+  }
+
+  private void addComponent(String path, String pom) {
+    String[] segments = path.split("/");
+    String baseName = segments[segments.length - 2] + '-' + segments[segments.length - 1];
+    addFile(path + baseName + ".pom", pom.getBytes(StandardCharsets.UTF_8));
+    addFile(path + baseName + ".jar", ascii("jar content of " + baseName));
+  }
+
+  /**
+   * Adds a file with its MD5 and SHA-1 checksums and a stand-in signature, which is only checked for presence.
+   */
+  private void addFile(String path, byte[] content) {
+    entries.put(path, content);
+    entries.put(path + ".md5", ascii(checksum("MD5", content)));
+    entries.put(path + ".sha1", ascii(checksum("SHA-1", content)));
+    entries.put(path + ".asc", ascii("-----BEGIN PGP SIGNATURE-----"));
+  }
+
+  private byte[] zip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey()));
+        zip.write(entry.getValue());
+        zip.closeEntry();
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private static String pom(String groupId, String artifactId, String version, String content) {
+    return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"><modelVersion>4.0.0</modelVersion>"
+        + (groupId != null ? "<groupId>" + groupId + "</groupId>" : "")
+        + "<artifactId>" + artifactId + "</artifactId>"
+        + (version != null ? "<version>" + version + "</version>" : "")
+        + content + "</project>\n";
+  }
+
+  private static List<String> messages(List<Violation> violations) {
+    List<String> messages = new ArrayList<>();
+    for (Violation violation : violations) {
+      messages.add(violation.getPath() + ": " + violation.getMessage());
+    }
+    return messages;
+  }
+
+  private static String checksum(String algorithm, byte[] content) {
+    try {
+      return Hex.encode(MessageDigest.getInstance(algorithm).digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,235 @@
+/*-
+ * #%L
+ * custom-central-publishing-maven-plugin
+ * %%
+ * Copyright (C) 2026 Ashish Thakur
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.github.agnistack.publishing.validation;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies signatures made by gpg with a throwaway gpg home, in the JVM and through {@link GpgSignatureVerifier}.
+ * Skipped without gpg.
+ */
+class OpenPgpVerifierTest {
+
+  private static final byte[] DATA = "<project/>\n".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] TAMPERED = "<project></project>\n".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir
+  static Path directory;
+
+  private static Path home;
+  private static String gpg;
+  private static Path dataFile;
+  private static Path tamperedFile;
+
+  @BeforeAll
+  static void createKeys() throws IOException, InterruptedException {
+    assumeTrue(exec(null, "gpg", "--version") == 0, "gpg is not installed");
+
+    home = Files.createDirectory(directory.resolve("home"));
+    Files.setPosixFilePermissions(home, PosixFilePermissions.fromString("rwx------"));
+    Path wrapper = directory.resolve("gpg");
+    Files.write(wrapper, ("#!/bin/sh\nexec gpg --homedir '" + home + "' \"$@\"\n").getBytes(StandardCharsets.UTF_8));
+    wrapper.toFile().setExecutable(true);
+    gpg = wrapper.toString();
+
+    for (String[] key : new String[][]{{"rsa@example.com", "rsa2048"}, {"other@example.com", "rsa2048"},
+        {"ecdsa@example.com", "nistp256"}, {"ed25519@example.com", "ed25519"}, {"dsa@example.com", "dsa2048"}}) {
+      assertEquals(0, exec(null, gpg, "--batch", "--pinentry-mode", "loopback", "--passphrase", "",
+          "--quick-gen-key", key[0], key[1], "sign", "never"), "cannot generate " + key[1] + " key");
+    }
+    dataFile = Files.write(directory.resolve("data.pom"), DATA);
+    tamperedFile = Files.write(directory.resolve("tampered.pom"), TAMPERED);
+  }
+
+  @AfterAll
+  static void stopAgent() throws IOException, InterruptedException {
+    if (home != null) {
+      exec(null, "gpgconf", "--homedir", home.toString(), "--kill", "gpg-agent");
+    }
+  }
+
+  @Test
+  void goodSignaturesVerifyInTheJvm() throws IOException, InterruptedException {
+    List<String> keys = new ArrayList<>(Arrays.asList("rsa@example.com", "ecdsa@example.com"));
+    if (Runtime.version().feature() >= 15) {
+      keys.add("ed25519@example.com");
+    }
+    GpgSignatureVerifier verifier = new GpgSignatureVerifier(gpg);
+    for (String key : keys) {
+      for (boolean armor : new boolean[]{true, false}) {
+        OpenPgpVerifier.Verdict verdict = verifier.verifyInProcess(sign(key, armor), () -> stream(DATA));
+
+        assertTrue(verdict.isDecided(), key);
+        assertNull(verdict.getFailure(), key);
+      }
+    }
+  }
+
+  @Test
+  void tamperedDataIsBad() throws IOException, InterruptedException {
+    GpgSignatureVerifier verifier = new GpgSignatureVerifier(gpg);
+    for (String key : Arrays.asList("rsa@example.com", "ecdsa@example.com")) {
+      OpenPgpVerifier.Verdict verdict = verifier.verifyInProcess(sign(key, true), () -> stream(TAMPERED));
+
+      assertTrue(verdict.isDecided(), key);
+      assertTrue(verdict.getFailure().startsWith("BAD signature from key "), verdict.getFailure());
+    }
+  }
+
+  @Test
+  void signatureIsBadWithAnotherKeyOfTheSameAlgorithm() throws IOException, InterruptedException {
+    OpenPgpVerifier.SignaturePacket signature = OpenPgpVerifier.parseSignature(sign("rsa@example.com", true));
+    OpenPgpVerifier.KeyPacket signingKey = publicKey("rsa@example.com");
+    OpenPgpVerifier.KeyPacket otherKey = publicKey("other@example.com");
+
+    assertTrue(signature.isIssuedBy(signingKey));
+    assertFalse(signature.isIssuedBy(otherKey));
+    assertNull(OpenPgpVerifier.verify(signature, signingKey, () -> stream(DATA)).getFailure());
+    OpenPgpVerifier.Verdict verdict = OpenPgpVerifier.verify(signature, otherKey, () -> stream(DATA));
+    assertTrue(verdict.isDecided());
+    assertEquals("BAD signature from key " + otherKey.getFingerprint(), verdict.getFailure());
+  }
+
+  @Test
+  void keyOfAnotherAlgorithmLeavesTheSignatureUndecided() throws IOException, InterruptedException {
+    OpenPgpVerifier.SignaturePacket signature = OpenPgpVerifier.parseSignature(sign("rsa@example.com", true));
+
+    assertFalse(OpenPgpVerifier.verify(signature, publicKey("ecdsa@example.com"), () -> stream(DATA)).isDecided());
+  }
+
+  @Test
+  void armoredAndBinarySignaturesParseAlike() throws IOException, InterruptedException {
+    byte[] binary = sign("ecdsa@example.com", false);
+    byte[] armored = armor(binary);
+
+    assertArrayEquals(binary, OpenPgpVerifier.dearmor(armored));
+    assertArrayEquals(binary, OpenPgpVerifier.dearmor(binary));
+    OpenPgpVerifier.SignaturePacket signature = OpenPgpVerifier.parseSignature(armored);
+    assertTrue(signature.isSupported());
+    assertTrue(signature.isIssuedBy(publicKey("ecdsa@example.com")));
+    assertEquals(signature.getIssuer(), OpenPgpVerifier.parseSignature(binary).getIssuer());
+
+    assertThrows(IOException.class, () -> OpenPgpVerifier.dearmor("not a signature".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void truncatedPacketIsRejectedAndLeftToGpg() throws IOException, InterruptedException {
+    byte[] binary = sign("rsa@example.com", false);
+    byte[] truncated = Arrays.copyOf(binary, binary.length - 10);
+
+    IOException e = assertThrows(IOException.class, () -> OpenPgpVerifier.parseSignature(truncated));
+    assertEquals("Truncated OpenPGP packet", e.getMessage());
+
+    GpgSignatureVerifier verifier = new GpgSignatureVerifier(gpg);
+    assertFalse(verifier.verifyInProcess(truncated, () -> stream(DATA)).isDecided());
+    Path signatureFile = Files.write(directory.resolve("truncated.sig"), truncated);
+    assertNotNull(verifier.verify(signatureFile.toFile(), dataFile.toFile()));
+  }
+
+  @Test
+  void unsupportedAlgorithmFallsBackToGpg() throws IOException, InterruptedException {
+    byte[] signature = sign("dsa@example.com", true);
+    GpgSignatureVerifier verifier = new GpgSignatureVerifier(gpg);
+
+    assertFalse(verifier.verifyInProcess(signature, () -> stream(DATA)).isDecided());
+    File signatureFile = Files.write(directory.resolve("dsa.asc"), signature).toFile();
+    assertNull(verifier.verify(signatureFile, dataFile.toFile()));
+    String failure = verifier.verify(signatureFile, tamperedFile.toFile());
+    assertTrue(failure != null && failure.contains("BAD signature"), failure);
+  }
+
+  /**
+   * Signs the data file with the key of an exact user ID; {@code dsa@} alone would also match {@code ecdsa@}.
+   */
+  private static byte[] sign(String key, boolean armor) throws IOException, InterruptedException {
+    Path signature = Files.createTempFile(directory, "signature", armor ? ".asc" : ".sig");
+    Files.delete(signature);
+    List<String> command = new ArrayList<>(Arrays.asList(gpg, "--batch", "--local-user", '=' + key, "--detach-sign",
+        "--output", signature.toString()));
+    if (armor) {
+      command.add("--armor");
+    }
+    command.add(dataFile.toString());
+    assertEquals(0, exec(null, command.toArray(new String[0])));
+    return Files.readAllBytes(signature);
+  }
+
+  private static byte[] armor(byte[] binary) throws IOException, InterruptedException {
+    Path in = Files.write(Files.createTempFile(directory, "binary", ".sig"), binary);
+    Path out = directory.resolve(in.getFileName() + ".asc");
+    assertEquals(0, exec(null, gpg, "--batch", "--enarmor", "--output", out.toString(), in.toString()));
+    return Files.readAllBytes(out);
+  }
+
+  private static OpenPgpVerifier.KeyPacket publicKey(String key) throws IOException, InterruptedException {
+    Path export = directory.resolve(key + ".gpg");
+    assertEquals(0, exec(null, gpg, "--batch", "--yes", "--export", "--output", export.toString(),
+        '=' + key));
+    List<OpenPgpVerifier.KeyPacket> keys = OpenPgpVerifier.parseKeys(Files.readAllBytes(export));
+    assertEquals(1, keys.size());
+    return keys.get(0);
+  }
+
+  private static InputStream stream(byte[] content) {
+    return new ByteArrayInputStream(content);
+  }
+
+  private static int exec(List<String> output, String... command) throws IOException, InterruptedException {
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+    Process process;
+    try {
+      process = pb.start();
+    } catch (IOException e) {
+      return -1;
+    }
+    try (InputStream in = process.getInputStream()) {
+      String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      if (output != null) {
+        output.addAll(Arrays.asList(text.split("\\R")));
+      }
+    }
+    return process.waitFor();
+  }
+}